@@ -296,16 +296,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
-import org.dataloader.BatchLoaderContextProvider;
 import org.dataloader.DataLoader;
-import org.dataloader.DataLoaderOptions;
 
 /**
  * A {@link GraphQLEngine} configured to provide access to the entities and aspects on the the GMS
@@ -406,6 +403,10 @@ public class GmsGraphQLEngine {
 
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
+  private final int graphQLPreparsedDocumentCacheSize;
+  private final double graphQLQueryTracingSampleRate;
+
+  private final LoadableTypeDataLoaders dataLoaders;
 
   /** A list of GraphQL Plugins that extend the core engine */
   private final List<GmsGraphQLPlugin> graphQLPlugins;
@@ -523,6 +524,14 @@ public class GmsGraphQLEngine {
 
     this.graphQLQueryComplexityLimit = args.graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = args.graphQLQueryDepthLimit;
+    this.graphQLPreparsedDocumentCacheSize = args.graphQLPreparsedDocumentCacheSize;
+    this.graphQLQueryTracingSampleRate = args.graphQLQueryTracingSampleRate;
+    this.dataLoaders =
+        new LoadableTypeDataLoaders(
+            args.dataLoaderExecutor,
+            args.dataLoaderMaxBatchSize,
+            args.dataLoaderMaxBatchSizes,
+            args.dataLoaderCachingEnabled);
 
     // Init Lists
     this.entityTypes =
@@ -733,7 +742,9 @@ public class GmsGraphQLEngine {
         .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
         .configureRuntimeWiring(this::configureRuntimeWiring)
         .setGraphQLQueryComplexityLimit(graphQLQueryComplexityLimit)
-        .setGraphQLQueryDepthLimit(graphQLQueryDepthLimit);
+        .setGraphQLQueryDepthLimit(graphQLQueryDepthLimit)
+        .setGraphQLPreparsedDocumentCacheSize(graphQLPreparsedDocumentCacheSize)
+        .setGraphQLQueryTracingSampleRate(graphQLQueryTracingSampleRate);
     return builder;
   }
 
@@ -2893,32 +2904,7 @@ public class GmsGraphQLEngine {
 
   private <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(
       final LoadableType<T, K> graphType, final QueryContext queryContext) {
-    BatchLoaderContextProvider contextProvider = () -> queryContext;
-    DataLoaderOptions loaderOptions =
-        DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
-    return DataLoader.newDataLoader(
-        (keys, context) ->
-            CompletableFuture.supplyAsync(
-                () -> {
-                  try {
-                    log.debug(
-                        String.format(
-                            "Batch loading entities of type: %s, keys: %s",
-                            graphType.name(), keys));
-                    return graphType.batchLoad(keys, context.getContext());
-                  } catch (Exception e) {
-                    log.error(
-                        String.format(
-                                "Failed to load Entities of type: %s, keys: %s",
-                                graphType.name(), keys)
-                            + " "
-                            + e.getMessage());
-                    throw new RuntimeException(
-                        String.format("Failed to retrieve entities of type %s", graphType.name()),
-                        e);
-                  }
-                }),
-        loaderOptions);
+    return dataLoaders.create(graphType, queryContext);
   }
 
   private void configureIngestionSourceResolvers(final RuntimeWiring.Builder builder) {
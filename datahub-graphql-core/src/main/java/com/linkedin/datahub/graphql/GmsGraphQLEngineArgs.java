@@ -37,6 +37,8 @@ import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.UsageClient;
 import io.datahubproject.metadata.services.RestrictedService;
 import io.datahubproject.metadata.services.SecretService;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import lombok.Data;
 
 @Data
@@ -81,6 +83,12 @@ public class GmsGraphQLEngineArgs {
   RestrictedService restrictedService;
   int graphQLQueryComplexityLimit;
   int graphQLQueryDepthLimit;
+  int graphQLPreparsedDocumentCacheSize;
+  double graphQLQueryTracingSampleRate = 1.0;
+  Executor dataLoaderExecutor;
+  int dataLoaderMaxBatchSize;
+  Map<String, Integer> dataLoaderMaxBatchSizes;
+  boolean dataLoaderCachingEnabled = true;
 
   // any fork specific args should go below this line
 }
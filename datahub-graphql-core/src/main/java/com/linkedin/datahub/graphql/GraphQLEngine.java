@@ -11,6 +11,8 @@ import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
@@ -20,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -37,22 +40,30 @@ import org.dataloader.DataLoaderRegistry;
  *
  * <p>In addition, it provides a simplified 'execute' API that accepts a 1) query string and 2) set
  * of variables.
+ *
+ * <p>Parsed & validated documents are cached across executions of the same query text, and only a
+ * sample of the executions is traced.
  */
 public class GraphQLEngine {
 
   private final GraphQL _graphQL;
+  private final GraphQL _untracedGraphQL;
   private final Map<String, Function<QueryContext, DataLoader<?, ?>>> _dataLoaderSuppliers;
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
+  private final double graphQLQueryTracingSampleRate;
 
   private GraphQLEngine(
       @Nonnull final List<String> schemas,
       @Nonnull final RuntimeWiring runtimeWiring,
       @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
       @Nonnull final int graphQLQueryComplexityLimit,
-      @Nonnull final int graphQLQueryDepthLimit) {
+      @Nonnull final int graphQLQueryDepthLimit,
+      final int graphQLPreparsedDocumentCacheSize,
+      final double graphQLQueryTracingSampleRate) {
     this.graphQLQueryComplexityLimit = graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = graphQLQueryDepthLimit;
+    this.graphQLQueryTracingSampleRate = graphQLQueryTracingSampleRate;
 
     _dataLoaderSuppliers = dataLoaderSuppliers;
 
@@ -71,18 +82,32 @@ public class GraphQLEngine {
         schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
 
     /*
-     * Instantiate engine
+     * Instantiate engines, with & without tracing, sharing the cache of parsed documents
      */
+    PreparsedDocumentProvider preparsedDocumentProvider =
+        graphQLPreparsedDocumentCacheSize > 0
+            ? new PreparsedDocumentCache(graphQLPreparsedDocumentCacheSize)
+            : NoOpPreparsedDocumentProvider.INSTANCE;
+    _graphQL = buildGraphQL(graphQLSchema, preparsedDocumentProvider, true);
+    _untracedGraphQL = buildGraphQL(graphQLSchema, preparsedDocumentProvider, false);
+  }
+
+  private GraphQL buildGraphQL(
+      @Nonnull final GraphQLSchema graphQLSchema,
+      @Nonnull final PreparsedDocumentProvider preparsedDocumentProvider,
+      final boolean tracing) {
     List<Instrumentation> instrumentations = new ArrayList<>(3);
-    instrumentations.add(new TracingInstrumentation());
+    if (tracing) {
+      instrumentations.add(new TracingInstrumentation());
+    }
     instrumentations.add(new MaxQueryDepthInstrumentation(graphQLQueryDepthLimit));
     instrumentations.add(new MaxQueryComplexityInstrumentation(graphQLQueryComplexityLimit));
     ChainedInstrumentation chainedInstrumentation = new ChainedInstrumentation(instrumentations);
-    _graphQL =
-        new GraphQL.Builder(graphQLSchema)
-            .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(chainedInstrumentation)
-            .build();
+    return new GraphQL.Builder(graphQLSchema)
+        .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
+        .instrumentation(chainedInstrumentation)
+        .preparsedDocumentProvider(preparsedDocumentProvider)
+        .build();
   }
 
   public ExecutionResult execute(
@@ -106,9 +131,15 @@ public class GraphQLEngine {
             .build();
 
     /*
-     * Execute GraphQL Query
+     * Execute GraphQL Query, traced if sampled
      */
-    return _graphQL.execute(executionInput);
+    return isTraced() ? _graphQL.execute(executionInput) : _untracedGraphQL.execute(executionInput);
+  }
+
+  private boolean isTraced() {
+    return graphQLQueryTracingSampleRate >= 1.0
+        || (graphQLQueryTracingSampleRate > 0.0
+            && ThreadLocalRandom.current().nextDouble() < graphQLQueryTracingSampleRate);
   }
 
   public GraphQL getGraphQL() {
@@ -128,6 +159,8 @@ public class GraphQLEngine {
     private final RuntimeWiring.Builder _runtimeWiringBuilder = newRuntimeWiring();
     private int graphQLQueryComplexityLimit = 2000;
     private int graphQLQueryDepthLimit = 50;
+    private int graphQLPreparsedDocumentCacheSize = 0;
+    private double graphQLQueryTracingSampleRate = 1.0;
 
     /**
      * Used to add a schema file containing the GQL types resolved by the engine.
@@ -189,6 +222,24 @@ public class GraphQLEngine {
       return this;
     }
 
+    /**
+     * Used to configure the maximum number of parsed & validated documents cached by query text, 0
+     * disables the cache.
+     */
+    public Builder setGraphQLPreparsedDocumentCacheSize(final int preparsedDocumentCacheSize) {
+      this.graphQLPreparsedDocumentCacheSize = preparsedDocumentCacheSize;
+      return this;
+    }
+
+    /**
+     * Used to configure the fraction of executions traced, between 0 (never) and 1 (always).
+     * Traced executions report their timings in the "tracing" extension of the result.
+     */
+    public Builder setGraphQLQueryTracingSampleRate(final double queryTracingSampleRate) {
+      this.graphQLQueryTracingSampleRate = queryTracingSampleRate;
+      return this;
+    }
+
     /** Builds a {@link GraphQLEngine}. */
     public GraphQLEngine build() {
       return new GraphQLEngine(
@@ -196,7 +247,9 @@ public class GraphQLEngine {
           _runtimeWiringBuilder.build(),
           _loaderSuppliers,
           graphQLQueryComplexityLimit,
-          graphQLQueryDepthLimit);
+          graphQLQueryDepthLimit,
+          graphQLPreparsedDocumentCacheSize,
+          graphQLQueryTracingSampleRate);
     }
   }
 
@@ -0,0 +1,155 @@
+package com.linkedin.datahub.graphql;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.execution.DataFetcherResult;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.BatchLoaderContextProvider;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+
+/**
+ * Creates the {@link DataLoader}s of {@link LoadableType}s, batch loading on a dedicated executor.
+ *
+ * <p>Batches are limited to a maximum size, configurable per type, and the loaded values are cached
+ * by key for the duration of a request. The queue time, size & latency of the batches are reported
+ * per type.
+ */
+@Slf4j
+public class LoadableTypeDataLoaders {
+
+  public static final String EXECUTOR_FIXED = "fixed";
+  public static final String EXECUTOR_VIRTUAL = "virtual";
+  public static final String EXECUTOR_COMMON = "common";
+
+  private final Executor _executor;
+  private final int _maxBatchSize;
+  private final Map<String, Integer> _maxBatchSizes;
+  private final boolean _cachingEnabled;
+
+  /**
+   * @param executor the executor of batch loads, the common {@link ForkJoinPool} if null
+   * @param maxBatchSize the maximum number of keys loaded per batch, unlimited if not positive
+   * @param maxBatchSizes the maximum number of keys loaded per batch by name of {@link
+   *     LoadableType}, overriding maxBatchSize
+   * @param cachingEnabled whether loaded values are cached by key for the duration of a request
+   */
+  public LoadableTypeDataLoaders(
+      @Nullable final Executor executor,
+      final int maxBatchSize,
+      @Nullable final Map<String, Integer> maxBatchSizes,
+      final boolean cachingEnabled) {
+    _executor = executor != null ? executor : ForkJoinPool.commonPool();
+    _maxBatchSize = maxBatchSize;
+    _maxBatchSizes = maxBatchSizes != null ? maxBatchSizes : Collections.emptyMap();
+    _cachingEnabled = cachingEnabled;
+  }
+
+  /** Creates a new {@link DataLoader} of the type for a request. */
+  public <T, K> DataLoader<K, DataFetcherResult<T>> create(
+      @Nonnull final LoadableType<T, K> graphType, @Nonnull final QueryContext queryContext) {
+    BatchLoaderContextProvider contextProvider = () -> queryContext;
+    DataLoaderOptions loaderOptions =
+        DataLoaderOptions.newOptions()
+            .setBatchLoaderContextProvider(contextProvider)
+            .setCachingEnabled(_cachingEnabled);
+    int maxBatchSize = _maxBatchSizes.getOrDefault(graphType.name(), _maxBatchSize);
+    if (maxBatchSize > 0) {
+      loaderOptions.setMaxBatchSize(maxBatchSize);
+    }
+    return DataLoader.newDataLoader(
+        (keys, context) -> {
+          final Timer.Context queueTimer = timer(graphType, "queueTime").time();
+          return CompletableFuture.supplyAsync(
+              () -> {
+                queueTimer.stop();
+                MetricUtils.get().histogram(metricName(graphType, "batchSize")).update(keys.size());
+                try (Timer.Context ignored = timer(graphType, "latency").time()) {
+                  return batchLoad(graphType, keys, context.getContext());
+                }
+              },
+              _executor);
+        },
+        loaderOptions);
+  }
+
+  private static <T, K> List<DataFetcherResult<T>> batchLoad(
+      @Nonnull final LoadableType<T, K> graphType,
+      @Nonnull final List<K> keys,
+      @Nonnull final QueryContext context) {
+    try {
+      log.debug(
+          String.format("Batch loading entities of type: %s, keys: %s", graphType.name(), keys));
+      return graphType.batchLoad(keys, context);
+    } catch (Exception e) {
+      log.error(
+          String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys)
+              + " "
+              + e.getMessage());
+      throw new RuntimeException(
+          String.format("Failed to retrieve entities of type %s", graphType.name()), e);
+    }
+  }
+
+  private static Timer timer(@Nonnull final LoadableType<?, ?> graphType, final String metric) {
+    return MetricUtils.get().timer(metricName(graphType, metric));
+  }
+
+  private static String metricName(
+      @Nonnull final LoadableType<?, ?> graphType, final String metric) {
+    return MetricRegistry.name(LoadableTypeDataLoaders.class, graphType.name(), metric);
+  }
+
+  /**
+   * Builds the executor of batch loads.
+   *
+   * <p>A "fixed" executor has a bounded number of threads and a bounded queue, the caller runs the
+   * batch load once the queue is full. A "virtual" executor runs every batch load on a new virtual
+   * thread, it requires a JVM supporting virtual threads and falls back to a "fixed" executor
+   * otherwise. A "common" executor is the common {@link ForkJoinPool}, shared with the rest of the
+   * JVM.
+   *
+   * @return the executor, null for the common {@link ForkJoinPool}
+   */
+  @Nullable
+  public static ExecutorService buildExecutor(
+      @Nonnull final String type, final int threadCount, final int queueSize) {
+    if (EXECUTOR_COMMON.equalsIgnoreCase(type)) {
+      return null;
+    }
+    if (EXECUTOR_VIRTUAL.equalsIgnoreCase(type)) {
+      try {
+        return (ExecutorService)
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (ReflectiveOperationException e) {
+        log.warn("Virtual threads are not supported, using a fixed executor for data loaders");
+      }
+    } else if (!EXECUTOR_FIXED.equalsIgnoreCase(type)) {
+      throw new IllegalArgumentException(String.format("Unknown data loader executor %s", type));
+    }
+    return new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueSize),
+        new ThreadFactoryBuilder().setNameFormat("graphql-data-loader-%d").setDaemon(true).build(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+}
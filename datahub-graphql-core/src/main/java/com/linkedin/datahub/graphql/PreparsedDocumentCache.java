@@ -0,0 +1,57 @@
+package com.linkedin.datahub.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Bounded cache of parsed & validated GQL documents, keyed by the hash of the query text.
+ *
+ * <p>The UI sends the same queries over and over, so the result of parsing & validating a query is
+ * reused by the following executions of the same query text. Only valid documents are cached. Hits
+ * and misses are counted for the whole cache, operation names are chosen by clients and would let
+ * them create any number of metrics.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+
+  private final Cache<String, PreparsedDocumentEntry> _cache;
+
+  public PreparsedDocumentCache(final long maximumSize) {
+    _cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(
+      @Nonnull final ExecutionInput executionInput,
+      @Nonnull final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    final String key = hash(executionInput.getQuery());
+    final PreparsedDocumentEntry cached = _cache.getIfPresent(key);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "hit").inc();
+      return cached;
+    }
+
+    final PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+    MetricUtils.counter(this.getClass(), "miss").inc();
+    if (!entry.hasErrors()) {
+      _cache.put(key, entry);
+    }
+    return entry;
+  }
+
+  public long size() {
+    return _cache.size();
+  }
+
+  @Nonnull
+  private static String hash(@Nonnull final String query) {
+    return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+  }
+}
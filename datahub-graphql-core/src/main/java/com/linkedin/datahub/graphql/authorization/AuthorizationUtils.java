@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.authorization;
 
 import static com.datahub.authorization.AuthUtil.VIEW_RESTRICTED_ENTITY_TYPES;
 import static com.datahub.authorization.AuthUtil.canViewEntity;
+import static com.datahub.authorization.AuthUtil.getViewableEntityUrns;
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.authorization.ApiOperation.DELETE;
 import static com.linkedin.metadata.authorization.ApiOperation.MANAGE;
@@ -19,8 +20,10 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
@@ -274,6 +277,36 @@ public class AuthorizationUtils {
     return true;
   }
 
+  /*
+   * Checks the view permissions of many urns at once, for instance the entities of a search
+   * result page, so that the following canView checks of the request on these urns are cached
+   */
+  public static void checkViewable(
+      @Nonnull OperationContext opContext, @Nonnull Collection<Urn> urns) {
+    if (!opContext.getOperationContextConfig().getViewAuthorizationConfiguration().isEnabled()
+        || opContext.isSystemAuth()) {
+      return;
+    }
+    opContext
+        .getViewAuthorizationContext()
+        .ifPresent(
+            viewAuthContext -> {
+              final List<Urn> uncheckedUrns =
+                  urns.stream()
+                      .filter(urn -> VIEW_RESTRICTED_ENTITY_TYPES.contains(urn.getEntityType()))
+                      .filter(urn -> !viewAuthContext.canView(Set.of(urn)))
+                      .distinct()
+                      .collect(Collectors.toList());
+              if (!uncheckedUrns.isEmpty()) {
+                viewAuthContext.addViewableUrns(
+                    getViewableEntityUrns(
+                        opContext.getSessionAuthentication().getActor().toUrnStr(),
+                        opContext.getAuthorizerContext().getAuthorizer(),
+                        uncheckedUrns));
+              }
+            });
+  }
+
   public static <T> T restrictEntity(@Nonnull Object entity, Class<T> clazz) {
     List<Field> allFields = FieldUtils.getAllFieldsList(entity.getClass());
     try {
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.search;
 
+import static com.linkedin.datahub.graphql.authorization.AuthorizationUtils.checkViewable;
 import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.bindArgument;
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.search.utils.SearchUtils.applyDefaultSearchFlags;
@@ -16,10 +17,13 @@ import com.linkedin.metadata.query.GroupingCriterion;
 import com.linkedin.metadata.query.GroupingCriterionArray;
 import com.linkedin.metadata.query.GroupingSpec;
 import com.linkedin.metadata.query.SearchFlags;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchResult;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -78,8 +82,7 @@ public class SearchResolver implements DataFetcher<CompletableFuture<SearchResul
                 count,
                 searchFlags);
 
-            return UrnSearchResultsMapper.map(
-                context,
+            final SearchResult searchResult =
                 _entityClient.search(
                     context.getOperationContext().withSearchFlags(flags -> searchFlags),
                     entityName,
@@ -87,7 +90,14 @@ public class SearchResolver implements DataFetcher<CompletableFuture<SearchResul
                     ResolverUtils.buildFilter(input.getFilters(), input.getOrFilters()),
                     null,
                     start,
-                    count));
+                    count);
+            // Check the view permissions of the page at once, instead of entity by entity
+            checkViewable(
+                context.getOperationContext(),
+                searchResult.getEntities().stream()
+                    .map(SearchEntity::getEntity)
+                    .collect(Collectors.toList()));
+            return UrnSearchResultsMapper.map(context, searchResult);
           } catch (Exception e) {
             log.error(
                 "Failed to execute search: entity type {}, query {}, filters: {}, orFilters: {}, start: {}, count: {}, searchFlags: {}",
@@ -0,0 +1,72 @@
+package com.linkedin.datahub.graphql;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import com.linkedin.datahub.graphql.types.LoadableType;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.testng.annotations.Test;
+
+public class LoadableTypeDataLoadersTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMaxBatchSizeAndExecutor() throws Exception {
+    LoadableType<String, String> loadableType = mock(LoadableType.class);
+    when(loadableType.name()).thenReturn("Dataset");
+    when(loadableType.batchLoad(anyList(), any(QueryContext.class)))
+        .thenAnswer(
+            invocation -> {
+              List<String> keys = invocation.getArgument(0);
+              return keys.stream()
+                  .map(key -> DataFetcherResult.<String>newResult().data(key).build())
+                  .collect(Collectors.toList());
+            });
+    AtomicInteger executions = new AtomicInteger();
+    LoadableTypeDataLoaders dataLoaders =
+        new LoadableTypeDataLoaders(
+            command -> {
+              executions.incrementAndGet();
+              command.run();
+            },
+            10,
+            Map.of("Dataset", 2),
+            true);
+
+    DataLoader<String, DataFetcherResult<String>> loader =
+        dataLoaders.create(loadableType, mock(QueryContext.class));
+    CompletableFuture<DataFetcherResult<String>> first = loader.load("a");
+    loader.load("b");
+    loader.load("c");
+    // Cached within the loader
+    CompletableFuture<DataFetcherResult<String>> repeated = loader.load("a");
+    loader.dispatchAndJoin();
+
+    assertEquals(first.get().getData(), "a");
+    assertSame(repeated, first);
+    assertEquals(executions.get(), 2);
+    verify(loadableType, times(2)).batchLoad(anyList(), any(QueryContext.class));
+  }
+
+  @Test
+  public void testBuildExecutor() {
+    assertNull(LoadableTypeDataLoaders.buildExecutor("common", 4, 10));
+    ExecutorService fixed = LoadableTypeDataLoaders.buildExecutor("fixed", 4, 10);
+    assertNotNull(fixed);
+    fixed.shutdown();
+    // Falls back to a fixed executor without virtual threads
+    ExecutorService virtual = LoadableTypeDataLoaders.buildExecutor("virtual", 4, 10);
+    assertNotNull(virtual);
+    virtual.shutdown();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LoadableTypeDataLoaders.buildExecutor("unknown", 4, 10));
+  }
+}
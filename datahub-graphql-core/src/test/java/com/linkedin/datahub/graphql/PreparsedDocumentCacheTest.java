@@ -0,0 +1,69 @@
+package com.linkedin.datahub.graphql;
+
+import static org.testng.Assert.*;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import graphql.validation.ValidationError;
+import graphql.validation.ValidationErrorType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+public class PreparsedDocumentCacheTest {
+
+  private static final String QUERY = "query getMe { me { corpUser { urn } } }";
+
+  @Test
+  public void testCachesValidDocuments() {
+    PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<ExecutionInput, PreparsedDocumentEntry> parse =
+        input -> {
+          parseCount.incrementAndGet();
+          return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+        };
+
+    PreparsedDocumentEntry first =
+        cache.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parse);
+    PreparsedDocumentEntry second =
+        cache.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parse);
+
+    assertSame(second, first);
+    assertEquals(parseCount.get(), 1);
+    assertEquals(cache.size(), 1);
+
+    cache.getDocument(
+        ExecutionInput.newExecutionInput("{ me { corpUser { urn } } }").build(), parse);
+    assertEquals(parseCount.get(), 2);
+    assertEquals(cache.size(), 2);
+  }
+
+  @Test
+  public void testDoesNotCacheInvalidDocuments() {
+    PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+    AtomicInteger parseCount = new AtomicInteger();
+    List<GraphQLError> errors =
+        List.of(
+            ValidationError.newValidationError()
+                .validationErrorType(ValidationErrorType.FieldUndefined)
+                .description("Field undefined")
+                .build());
+    Function<ExecutionInput, PreparsedDocumentEntry> parse =
+        input -> {
+          parseCount.incrementAndGet();
+          return new PreparsedDocumentEntry(errors);
+        };
+
+    cache.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parse);
+    PreparsedDocumentEntry entry =
+        cache.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parse);
+
+    assertTrue(entry.hasErrors());
+    assertEquals(parseCount.get(), 2);
+    assertEquals(cache.size(), 0);
+  }
+}
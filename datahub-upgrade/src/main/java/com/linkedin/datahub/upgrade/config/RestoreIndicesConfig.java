@@ -4,6 +4,7 @@ import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import io.ebean.Database;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +30,11 @@ public class RestoreIndicesConfig {
     final EntitySearchService entitySearchService =
         applicationContext.getBean(EntitySearchService.class);
     final GraphService graphService = applicationContext.getBean(GraphService.class);
+    final ESBulkProcessor bulkProcessor =
+        applicationContext.getBean("elasticSearchBulkProcessor", ESBulkProcessor.class);
 
-    return new RestoreIndices(ebeanServer, entityService, entitySearchService, graphService);
+    return new RestoreIndices(
+        ebeanServer, entityService, entitySearchService, graphService, bulkProcessor);
   }
 
   @Bean(name = "restoreIndices")
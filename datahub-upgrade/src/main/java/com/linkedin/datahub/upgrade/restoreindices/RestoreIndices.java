@@ -9,6 +9,7 @@ import com.linkedin.datahub.upgrade.common.steps.ClearSearchServiceStep;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import io.ebean.Database;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +25,9 @@ public class RestoreIndices implements Upgrade {
   public static final String URN_ARG_NAME = "urn";
   public static final String URN_LIKE_ARG_NAME = "urnLike";
   public static final String URN_BASED_PAGINATION_ARG_NAME = "urnBasedPagination";
+  public static final String DIRECT_ARG_NAME = "direct";
+  public static final String LAST_URN_ARG_NAME = "lastUrn";
+  public static final String LAST_ASPECT_ARG_NAME = "lastAspect";
 
   public static final String STARTING_OFFSET_ARG_NAME = "startingOffset";
 
@@ -34,8 +38,17 @@ public class RestoreIndices implements Upgrade {
       final EntityService<?> entityService,
       final EntitySearchService entitySearchService,
       final GraphService graphService) {
+    this(server, entityService, entitySearchService, graphService, null);
+  }
+
+  public RestoreIndices(
+      @Nullable final Database server,
+      final EntityService<?> entityService,
+      final EntitySearchService entitySearchService,
+      final GraphService graphService,
+      @Nullable final ESBulkProcessor bulkProcessor) {
     if (server != null) {
-      _steps = buildSteps(server, entityService, entitySearchService, graphService);
+      _steps = buildSteps(server, entityService, entitySearchService, graphService, bulkProcessor);
     } else {
       _steps = List.of();
     }
@@ -55,11 +68,12 @@ public class RestoreIndices implements Upgrade {
       final Database server,
       final EntityService<?> entityService,
       final EntitySearchService entitySearchService,
-      final GraphService graphService) {
+      final GraphService graphService,
+      @Nullable final ESBulkProcessor bulkProcessor) {
     final List<UpgradeStep> steps = new ArrayList<>();
     steps.add(new ClearSearchServiceStep(entitySearchService, false));
     steps.add(new ClearGraphServiceStep(graphService, false));
-    steps.add(new SendMAEStep(server, entityService));
+    steps.add(new SendMAEStep(server, entityService, bulkProcessor));
     return steps;
   }
 
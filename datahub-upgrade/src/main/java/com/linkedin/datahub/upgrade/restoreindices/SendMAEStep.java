@@ -10,6 +10,7 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import io.ebean.Database;
 import io.ebean.ExpressionList;
 import java.util.ArrayList;
@@ -22,6 +23,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -33,9 +35,11 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_STARTING_OFFSET = 0;
   private static final int DEFAULT_THREADS = 1;
   private static final boolean DEFAULT_URN_BASED_PAGINATION = false;
+  private static final boolean DEFAULT_DIRECT = false;
 
   private final Database _server;
   private final EntityService<?> _entityService;
+  @Nullable private final ESBulkProcessor _bulkProcessor;
 
   public class KafkaJob implements Callable<RestoreIndicesResult> {
     UpgradeContext context;
@@ -53,8 +57,16 @@ public class SendMAEStep implements UpgradeStep {
   }
 
   public SendMAEStep(final Database server, final EntityService<?> entityService) {
+    this(server, entityService, null);
+  }
+
+  public SendMAEStep(
+      final Database server,
+      final EntityService<?> entityService,
+      @Nullable final ESBulkProcessor bulkProcessor) {
     _server = server;
     _entityService = entityService;
+    _bulkProcessor = bulkProcessor;
   }
 
   @Override
@@ -94,6 +106,25 @@ public class SendMAEStep implements UpgradeStep {
     result.batchDelayMs = getBatchDelayMs(context.parsedArgs());
     result.start = getStartingOffset(context.parsedArgs());
     result.urnBasedPagination = getUrnBasedPagination(context.parsedArgs());
+    result.direct = getDirect(context.parsedArgs());
+    context.report().addLine(String.format("direct is %s", result.direct));
+    if (result.direct && result.urnBasedPagination) {
+      // Batches are read one after the other, so the workers index each batch instead
+      result.indexingThreads = result.numThreads;
+      context.report().addLine(String.format("indexingThreads is %d", result.indexingThreads));
+    }
+    if (containsKey(context.parsedArgs(), RestoreIndices.LAST_URN_ARG_NAME)) {
+      result.lastUrn = context.parsedArgs().get(RestoreIndices.LAST_URN_ARG_NAME).get();
+      result.lastAspect =
+          containsKey(context.parsedArgs(), RestoreIndices.LAST_ASPECT_ARG_NAME)
+              ? context.parsedArgs().get(RestoreIndices.LAST_ASPECT_ARG_NAME).get()
+              : "";
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Resuming after urn %s, aspect %s", result.lastUrn, result.lastAspect));
+    }
     if (containsKey(context.parsedArgs(), RestoreIndices.ASPECT_NAME_ARG_NAME)) {
       result.aspectName = context.parsedArgs().get(RestoreIndices.ASPECT_NAME_ARG_NAME).get();
       context.report().addLine(String.format("aspect is %s", result.aspectName));
@@ -146,7 +177,11 @@ public class SendMAEStep implements UpgradeStep {
       ThreadPoolExecutor executor =
           (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
 
-      context.report().addLine("Sending MAE from local DB");
+      if (args.direct) {
+        context.report().addLine("Restoring indices directly from local DB");
+      } else {
+        context.report().addLine("Sending MAE from local DB");
+      }
       long startTime = System.currentTimeMillis();
       final int rowCount = getRowCount(args);
       context
@@ -182,6 +217,18 @@ public class SendMAEStep implements UpgradeStep {
             previousResult = result;
             rowsProcessed = result.rowsMigrated + result.ignored;
             context.report().addLine(String.format("Rows processed this loop %d", rowsProcessed));
+            if (rowsProcessed > 0) {
+              context
+                  .report()
+                  .addLine(
+                      String.format(
+                          "Checkpoint: resume with -a %s=true -a %s=%s -a %s=%s",
+                          RestoreIndices.URN_BASED_PAGINATION_ARG_NAME,
+                          RestoreIndices.LAST_URN_ARG_NAME,
+                          result.lastUrn,
+                          RestoreIndices.LAST_ASPECT_ARG_NAME,
+                          result.lastAspect));
+            }
             start += args.batchSize;
           } catch (InterruptedException | ExecutionException e) {
             return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
@@ -203,6 +250,9 @@ public class SendMAEStep implements UpgradeStep {
       }
 
       executor.shutdown();
+      if (args.direct && _bulkProcessor != null) {
+        _bulkProcessor.flush();
+      }
       if (finalJobResult.rowsMigrated != rowCount) {
         float percentFailed = 0.0f;
         if (rowCount > 0) {
@@ -260,6 +310,16 @@ public class SendMAEStep implements UpgradeStep {
             String.format(
                 "%.2f mins taken. %.2f est. mins to completion. Total mins est. = %.2f.",
                 timeSoFarMinutes, estimatedTimeMinutesComplete, totalTimeComplete));
+    if (currentTime > startTime) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Throughput %.2f rows/sec.",
+                  (float) (finalResult.rowsMigrated + finalResult.ignored)
+                      * 1000
+                      / (currentTime - startTime)));
+    }
   }
 
   private int getBatchSize(final Map<String, Optional<String>> parsedArgs) {
@@ -292,6 +352,14 @@ public class SendMAEStep implements UpgradeStep {
     return urnBasedPagination;
   }
 
+  private boolean getDirect(final Map<String, Optional<String>> parsedArgs) {
+    boolean direct = DEFAULT_DIRECT;
+    if (containsKey(parsedArgs, RestoreIndices.DIRECT_ARG_NAME)) {
+      direct = Boolean.parseBoolean(parsedArgs.get(RestoreIndices.DIRECT_ARG_NAME).get());
+    }
+    return direct;
+  }
+
   private int getInt(
       final Map<String, Optional<String>> parsedArgs, int defaultVal, String argKey) {
     int result = defaultVal;
@@ -15,6 +15,13 @@ public abstract class CompoundKeyTemplate<T extends RecordTemplate>
   @Override
   public T applyPatch(RecordTemplate recordTemplate, Patch jsonPatch)
       throws JsonProcessingException, JsonPatchException {
+    T patched = DataMapPatchEngine.applyPatch(this, recordTemplate, jsonPatch);
+    return patched != null ? patched : applyPatchOnJson(recordTemplate, jsonPatch);
+  }
+
+  @Override
+  public T applyPatchOnJson(RecordTemplate recordTemplate, Patch jsonPatch)
+      throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     JsonNode patched = jsonPatch.apply(transformed);
     JsonNode postProcessed = rebaseFields(patched);
@@ -0,0 +1,326 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.linkedin.metadata.aspect.patch.template.TemplateUtil.OBJECT_MAPPER;
+
+import com.datahub.util.RecordUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.Patch;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies JSON patches directly on the {@link DataMap} of an aspect, without serializing the aspect
+ * to JSON, patching the JSON tree and parsing the result again.
+ *
+ * <p>The keyed array fields of the template are transformed into maps of their elements, the same
+ * way the templates transform the JSON representation, so a patch produces the same aspect with
+ * either engine. Add, remove and replace operations are applied natively. Anything else, such as
+ * move, copy or test operations, escaped path segments or a patch that does not apply, falls back
+ * to the JSON templates, which then report the error as before.
+ */
+@Slf4j
+public final class DataMapPatchEngine {
+
+  private static final String ADD = "add";
+  private static final String REMOVE = "remove";
+  private static final String REPLACE = "replace";
+
+  private DataMapPatchEngine() {}
+
+  /**
+   * Applies the patch to the record on its {@link DataMap}.
+   *
+   * @param template the template of the aspect
+   * @param recordTemplate the record to patch, it is not modified
+   * @param jsonPatch the patch to apply
+   * @return the patched record, null if the patch must be applied on the JSON representation
+   */
+  @Nullable
+  public static <T extends RecordTemplate> T applyPatch(
+      @Nonnull Template<T> template,
+      @Nonnull RecordTemplate recordTemplate,
+      @Nonnull Patch jsonPatch) {
+    final List<KeyedArrayField> keyedArrayFields = template.getKeyedArrayFields();
+    if (keyedArrayFields == null) {
+      return null;
+    }
+    final T subtype = template.getSubtype(recordTemplate);
+    final List<Operation> operations = getOperations(jsonPatch);
+    if (operations == null) {
+      return null;
+    }
+
+    try {
+      final DataMap patched = new Patcher(subtype.data(), keyedArrayFields).apply(operations);
+      return RecordUtils.toRecordTemplate(template.getTemplateType(), patched);
+    } catch (RuntimeException | CloneNotSupportedException e) {
+      log.debug(
+          "Unable to patch {} natively, falling back to JSON patch: {}",
+          template.getTemplateType().getSimpleName(),
+          e.toString());
+      return null;
+    }
+  }
+
+  /** The operations of the patch, null if an operation is not supported natively */
+  @Nullable
+  private static List<Operation> getOperations(@Nonnull Patch jsonPatch) {
+    final JsonNode patchNode = OBJECT_MAPPER.valueToTree(jsonPatch);
+    if (!patchNode.isArray()) {
+      return null;
+    }
+    final List<Operation> operations = new ArrayList<>(patchNode.size());
+    for (JsonNode node : patchNode) {
+      final String op = node.path("op").asText();
+      final String path = node.path("path").asText(null);
+      if (!(ADD.equals(op) || REMOVE.equals(op) || REPLACE.equals(op))
+          || path == null
+          || !path.startsWith("/")
+          || path.indexOf('~') >= 0) {
+        return null;
+      }
+      operations.add(new Operation(op, path, node.get("value")));
+    }
+    return operations;
+  }
+
+  private static final class Operation {
+    private final String op;
+    private final String path;
+    @Nullable private final JsonNode value;
+
+    private Operation(String op, String path, @Nullable JsonNode value) {
+      this.op = op;
+      this.path = path;
+      this.value = value;
+    }
+  }
+
+  /** Applies operations to a copy of the aspect, the keyed arrays transformed into maps */
+  private static final class Patcher {
+    private final Map<String, KeyedArrayField> keyedArrayFields;
+    private final Map<String, Object> root;
+
+    private Patcher(@Nonnull DataMap data, @Nonnull List<KeyedArrayField> keyedArrayFields)
+        throws CloneNotSupportedException {
+      this.keyedArrayFields =
+          keyedArrayFields.stream()
+              .collect(Collectors.toMap(KeyedArrayField::getFieldName, Function.identity()));
+      this.root = new LinkedHashMap<>(data.copy());
+      for (KeyedArrayField field : keyedArrayFields) {
+        root.put(field.getFieldName(), field.toMap(root.get(field.getFieldName())));
+      }
+    }
+
+    private DataMap apply(@Nonnull List<Operation> operations) {
+      for (Operation operation : operations) {
+        populateTopLevelKeys(operation);
+      }
+      for (Operation operation : operations) {
+        final String[] tokens = operation.path.substring(1).split("/", -1);
+        switch (operation.op) {
+          case ADD:
+            add(tokens, toData(tokens, operation.value));
+            break;
+          case REMOVE:
+            remove(tokens);
+            break;
+          default:
+            replace(tokens, toData(tokens, operation.value));
+            break;
+        }
+      }
+      return rebase();
+    }
+
+    /** Mirrors {@link TemplateUtil#populateTopLevelKeys}, including its path splitting */
+    private void populateTopLevelKeys(@Nonnull Operation operation) {
+      final String[] keys = operation.path.split("/");
+      final int endIdx = REMOVE.equals(operation.op) ? keys.length : keys.length - 1;
+      final KeyedArrayField field = keys.length > 1 ? keyedArrayFields.get(keys[1]) : null;
+
+      Object parent = root;
+      for (int i = 1; i < endIdx; i++) {
+        final Map<String, Object> parentMap = asMap(parent);
+        Object child = parentMap.get(keys[i]);
+        if (child == null) {
+          // Maps keyed by path segments within keyed arrays, records everywhere else
+          child =
+              field != null && i - 1 < field.getDepth()
+                  ? new LinkedHashMap<String, Object>()
+                  : new DataMap();
+          parentMap.put(keys[i], child);
+        }
+        parent = child;
+      }
+    }
+
+    private void add(@Nonnull String[] tokens, @Nonnull Object value) {
+      final Object parent = resolve(tokens, tokens.length - 1);
+      final String last = tokens[tokens.length - 1];
+      if (parent instanceof Map) {
+        asMap(parent).put(last, value);
+      } else if (parent instanceof DataList) {
+        final DataList list = (DataList) parent;
+        if ("-".equals(last)) {
+          list.add(value);
+        } else {
+          final int index = toIndex(last);
+          if (index > list.size()) {
+            throw new IllegalArgumentException("No such index " + last);
+          }
+          list.add(index, value);
+        }
+      } else {
+        throw new IllegalArgumentException("Parent of node to add does not exist");
+      }
+    }
+
+    private void remove(@Nonnull String[] tokens) {
+      final Object parent = resolve(tokens, tokens.length - 1);
+      final String last = tokens[tokens.length - 1];
+      if (child(parent, last) == null) {
+        throw new IllegalArgumentException("No such path " + String.join("/", tokens));
+      }
+      if (parent instanceof Map) {
+        asMap(parent).remove(last);
+      } else {
+        ((DataList) parent).remove(toIndex(last));
+      }
+    }
+
+    private void replace(@Nonnull String[] tokens, @Nonnull Object value) {
+      final Object parent = resolve(tokens, tokens.length - 1);
+      final String last = tokens[tokens.length - 1];
+      if (child(parent, last) == null) {
+        throw new IllegalArgumentException("No such path " + String.join("/", tokens));
+      }
+      if (parent instanceof Map) {
+        asMap(parent).put(last, value);
+      } else {
+        ((DataList) parent).set(toIndex(last), value);
+      }
+    }
+
+    @Nullable
+    private Object resolve(@Nonnull String[] tokens, int count) {
+      Object node = root;
+      for (int i = 0; i < count && node != null; i++) {
+        node = child(node, tokens[i]);
+      }
+      return node;
+    }
+
+    @Nullable
+    private static Object child(@Nullable Object node, @Nonnull String token) {
+      if (node instanceof Map) {
+        return ((Map<?, ?>) node).get(token);
+      }
+      if (node instanceof DataList) {
+        final DataList list = (DataList) node;
+        final int index = toIndex(token);
+        return index < list.size() ? list.get(index) : null;
+      }
+      return null;
+    }
+
+    /** Converts the patch value, keeping the order of objects at the levels of a keyed array */
+    @Nonnull
+    private Object toData(@Nonnull String[] tokens, @Nullable JsonNode value) {
+      if (value == null) {
+        throw new IllegalArgumentException("Missing value for " + String.join("/", tokens));
+      }
+      final KeyedArrayField field = keyedArrayFields.get(tokens[0]);
+      final int levels = field != null ? field.getDepth() - (tokens.length - 1) : 0;
+      return toData(value, levels);
+    }
+
+    @Nonnull
+    private static Object toData(@Nonnull JsonNode node, int levels) {
+      if (node.isObject()) {
+        final Map<String, Object> map = levels > 0 ? new LinkedHashMap<>() : new DataMap();
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Map.Entry<String, JsonNode> entry = fields.next();
+          map.put(entry.getKey(), toData(entry.getValue(), levels - 1));
+        }
+        return map;
+      }
+      if (node.isArray()) {
+        final DataList list = new DataList();
+        for (JsonNode element : node) {
+          list.add(toData(element, 0));
+        }
+        return list;
+      }
+      if (node.isTextual()) {
+        return node.textValue();
+      }
+      if (node.isBoolean()) {
+        return node.booleanValue();
+      }
+      if (node.isNull()) {
+        return Data.NULL;
+      }
+      // Numbers are typed as parsing their JSON text would
+      if (node.isIntegralNumber()) {
+        if (node.canConvertToInt()) {
+          return node.intValue();
+        }
+        if (node.canConvertToLong()) {
+          return node.longValue();
+        }
+      } else if (node.isFloatingPointNumber()) {
+        return Double.parseDouble(node.asText());
+      }
+      throw new IllegalArgumentException("Unsupported patch value " + node);
+    }
+
+    /** Mirrors the rebase of the templates, keyed array fields back to arrays */
+    @Nonnull
+    private DataMap rebase() {
+      final DataMap result = new DataMap();
+      for (Map.Entry<String, Object> entry : root.entrySet()) {
+        final KeyedArrayField field = keyedArrayFields.get(entry.getKey());
+        result.put(
+            entry.getKey(), field != null ? field.toArray(entry.getValue()) : entry.getValue());
+      }
+      for (String fieldName : keyedArrayFields.keySet()) {
+        if (!result.containsKey(fieldName)) {
+          throw new IllegalArgumentException("Keyed array field removed " + fieldName);
+        }
+      }
+      return result;
+    }
+
+    private static int toIndex(@Nonnull String token) {
+      if (token.isEmpty()
+          || token.length() > 9
+          || (token.length() > 1 && token.charAt(0) == '0')
+          || !token.chars().allMatch(Character::isDigit)) {
+        throw new IllegalArgumentException("Unsupported array index " + token);
+      }
+      return Integer.parseInt(token);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(@Nullable Object node) {
+      if (!(node instanceof Map)) {
+        throw new IllegalArgumentException("Expected an object, found " + node);
+      }
+      return (Map<String, Object>) node;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import com.linkedin.data.DataList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An array field of an aspect which is patched as a map of its elements, the {@link
+ * com.linkedin.data.DataMap} counterpart of the field transformations done by the templates. Used
+ * by {@link DataMapPatchEngine} to apply patches without the JSON representation of the aspect.
+ *
+ * <p>The transformed field is a tree of {@link LinkedHashMap}s, {@link #getDepth()} levels deep,
+ * keyed by the segments of the patch paths. The values of the last level are the array elements.
+ * Implementations must produce the same structure, in the same order, as their JSON counterpart.
+ */
+public interface KeyedArrayField {
+
+  /** Name of the top level array field */
+  @Nonnull
+  String getFieldName();
+
+  /** Number of map levels keyed by patch path segments above the array elements */
+  int getDepth();
+
+  /**
+   * Transforms the array value of the field into its map representation.
+   *
+   * @param array the current value of the field, null if the field is not set
+   * @return the transformed field
+   */
+  @Nonnull
+  LinkedHashMap<String, Object> toMap(@Nullable Object array);
+
+  /**
+   * Rebases the patched value of the field to the array defined by the schema.
+   *
+   * @param transformed the patched value of the transformed field
+   * @return the array value of the field
+   */
+  @Nonnull
+  DataList toArray(@Nonnull Object transformed);
+
+  /**
+   * An array field merged by key fields, see {@link ArrayMergingTemplate#arrayFieldToMap}
+   *
+   * @param fieldName name of the array field
+   * @param keyFields subfields of the array elements used as keys, empty for arrays of strings
+   */
+  static KeyedArrayField of(@Nonnull String fieldName, @Nonnull List<String> keyFields) {
+    return new MergedArrayField(fieldName, keyFields);
+  }
+
+  /**
+   * Text of a data value as used in a patch path, mirrors {@link
+   * com.fasterxml.jackson.databind.JsonNode#asText()} for the types it can be given.
+   */
+  @Nonnull
+  static String asText(@Nullable Object value) {
+    if (value instanceof String) {
+      return (String) value;
+    }
+    if (value instanceof Integer || value instanceof Long || value instanceof Boolean) {
+      return value.toString();
+    }
+    throw new IllegalArgumentException("Unsupported key value " + value);
+  }
+
+  /** Adds the elements of the transformed map, flattening the given number of levels */
+  static void flatten(@Nullable Object node, int levels, @Nonnull DataList array) {
+    if (levels == 0) {
+      array.add(node);
+    } else if (node instanceof Map) {
+      for (Object child : ((Map<?, ?>) node).values()) {
+        flatten(child, levels - 1, array);
+      }
+    } else if (node instanceof List) {
+      throw new IllegalArgumentException("Unsupported array within transformed map");
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * {@link KeyedArrayField} for arrays merged by key fields, the {@link DataMap} counterpart of
+ * {@link ArrayMergingTemplate#arrayFieldToMap} and {@link
+ * ArrayMergingTemplate#transformedMapToArray}.
+ */
+final class MergedArrayField implements KeyedArrayField {
+
+  private final String fieldName;
+  private final List<String> keyFields;
+
+  MergedArrayField(@Nonnull String fieldName, @Nonnull List<String> keyFields) {
+    this.fieldName = fieldName;
+    this.keyFields = List.copyOf(keyFields);
+  }
+
+  @Nonnull
+  @Override
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  @Override
+  public int getDepth() {
+    // No key fields, the strings are the keys
+    return Math.max(keyFields.size(), 1);
+  }
+
+  @Nonnull
+  @Override
+  public LinkedHashMap<String, Object> toMap(@Nullable Object array) {
+    final LinkedHashMap<String, Object> mapNode = new LinkedHashMap<>();
+    if (!(array instanceof DataList)) {
+      return mapNode;
+    }
+
+    for (Object element : (DataList) array) {
+      if (keyFields.isEmpty()) {
+        // No key fields, assume String array
+        if (!(element instanceof String)) {
+          throw new IllegalArgumentException("Expected an array of strings for " + fieldName);
+        }
+        mapNode.put((String) element, element);
+        continue;
+      }
+      if (!(element instanceof DataMap)) {
+        throw new IllegalArgumentException("Expected an array of records for " + fieldName);
+      }
+
+      // Creates nested maps of keys with final value being the full value of the element
+      final DataMap elementMap = (DataMap) element;
+      Map<String, Object> keyValue = mapNode;
+      for (int i = 0; i < keyFields.size() - 1; i++) {
+        keyValue =
+            castMap(
+                keyValue.computeIfAbsent(
+                    KeyedArrayField.asText(elementMap.get(keyFields.get(i))),
+                    key -> new LinkedHashMap<String, Object>()));
+      }
+      final String leafKey =
+          KeyedArrayField.asText(elementMap.get(keyFields.get(keyFields.size() - 1)));
+      final Object leaf = keyValue.get(leafKey);
+      if (leaf == null) {
+        keyValue.put(leafKey, elementMap);
+      } else {
+        // Repeated keys are merged into the first element
+        castMap(leaf).putAll(elementMap);
+      }
+    }
+    return mapNode;
+  }
+
+  @Nonnull
+  @Override
+  public DataList toArray(@Nonnull Object transformed) {
+    if (transformed instanceof DataList) {
+      // The whole array was replaced, no need to transform
+      return (DataList) transformed;
+    }
+    if (!(transformed instanceof Map)) {
+      throw new IllegalArgumentException("Unexpected value for " + fieldName);
+    }
+    final DataList array = new DataList();
+    KeyedArrayField.flatten(transformed, getDepth(), array);
+    return array;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> castMap(Object node) {
+    return (Map<String, Object>) node;
+  }
+}
@@ -9,7 +9,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.Patch;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.List;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public interface Template<T extends RecordTemplate> {
 
@@ -51,6 +53,21 @@ public interface Template<T extends RecordTemplate> {
       throws JsonProcessingException, JsonPatchException {
 
     TemplateUtil.validatePatch(jsonPatch);
+    T patched = DataMapPatchEngine.applyPatch(this, recordTemplate, jsonPatch);
+    return patched != null ? patched : applyPatchOnJson(recordTemplate, jsonPatch);
+  }
+
+  /**
+   * Applies a specified {@link Patch} to the JSON representation of an aspect
+   *
+   * @param recordTemplate original {@link RecordTemplate} to be patched
+   * @param jsonPatch patch to apply
+   * @return patched value
+   * @throws JsonProcessingException if there is an issue converting the input to JSON
+   * @throws JsonPatchException if there is an issue applying the patch
+   */
+  default T applyPatchOnJson(RecordTemplate recordTemplate, Patch jsonPatch)
+      throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     try {
       JsonNode patched = jsonPatch.apply(transformed);
@@ -65,6 +82,18 @@ public interface Template<T extends RecordTemplate> {
     }
   }
 
+  /**
+   * Keyed array fields of the aspect, which allow patches to be applied directly on its {@link
+   * com.linkedin.data.DataMap}. Must match the fields transformed by {@link #transformFields} and
+   * {@link #rebaseFields}.
+   *
+   * @return the keyed array fields, null if the template can only patch the JSON representation
+   */
+  @Nullable
+  default List<KeyedArrayField> getKeyedArrayFields() {
+    return null;
+  }
+
   /**
    * Returns a json representation of the template, modified for template based operations to be
    * compatible with patch semantics.
@@ -11,7 +11,9 @@ import com.linkedin.common.EdgeArray;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
@@ -20,6 +22,12 @@ public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
   private static final String INPUTS_FIELD_NAME = "inputs";
   private static final String DESTINATION_URN_FIELD_NAME = "destinationUrn";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(
+              INPUT_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(INPUTS_FIELD_NAME, Collections.emptyList()));
+
   @Override
   public ChartInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof ChartInfo) {
@@ -79,4 +87,9 @@ public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
 
     return rebasedNode;
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
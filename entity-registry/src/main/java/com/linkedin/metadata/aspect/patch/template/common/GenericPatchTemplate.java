@@ -5,9 +5,11 @@ import com.github.fge.jsonpatch.JsonPatchException;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.GenericJsonPatch;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.Builder;
 
@@ -53,6 +55,13 @@ public class GenericPatchTemplate<T extends RecordTemplate> extends CompoundKeyT
     return transformedNode;
   }
 
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return genericJsonPatch.getArrayPrimaryKeys().entrySet().stream()
+        .map(composite -> KeyedArrayField.of(composite.getKey(), composite.getValue()))
+        .collect(Collectors.toList());
+  }
+
   public T applyPatch(RecordTemplate recordTemplate) throws IOException, JsonPatchException {
     return super.applyPatch(recordTemplate, genericJsonPatch.getJsonPatch());
   }
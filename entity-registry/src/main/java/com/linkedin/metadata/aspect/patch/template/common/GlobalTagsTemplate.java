@@ -5,7 +5,9 @@ import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
@@ -13,6 +15,9 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
   private static final String TAGS_FIELD_NAME = "tags";
   private static final String TAG_FIELD_NAME = "tag";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(KeyedArrayField.of(TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME)));
+
   @Override
   public GlobalTags getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof GlobalTags) {
@@ -47,4 +52,9 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
     return transformedMapToArray(
         patched, TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
@@ -9,7 +9,9 @@ import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Arrays;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
@@ -18,6 +20,10 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
   private static final String OWNER_FIELD_NAME = "owner";
   private static final String TYPE_FIELD_NAME = "type";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME)));
+
   @Override
   public Ownership getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof Ownership) {
@@ -57,4 +63,9 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
     return transformedMapToArray(
         patched, OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME));
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
@@ -3,9 +3,11 @@ package com.linkedin.metadata.aspect.patch.template.common;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import com.linkedin.structured.StructuredProperties;
 import com.linkedin.structured.StructuredPropertyValueAssignmentArray;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class StructuredPropertiesTemplate implements ArrayMergingTemplate<StructuredProperties> {
@@ -17,6 +19,10 @@ public class StructuredPropertiesTemplate implements ArrayMergingTemplate<Struct
   //  private static final String TIME_FIELD = "time";
   //  private static final String ACTOR_FIELD = "actor";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(PROPERTIES_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME)));
+
   @Override
   public StructuredProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof StructuredProperties) {
@@ -53,4 +59,9 @@ public class StructuredPropertiesTemplate implements ArrayMergingTemplate<Struct
     return transformedMapToArray(
         patched, PROPERTIES_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
@@ -12,7 +12,9 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.dashboard.DashboardInfo;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo> {
@@ -23,6 +25,15 @@ public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo
   private static final String CHARTS_FIELD_NAME = "charts";
   private static final String DESTINATION_URN_FIELD_NAME = "destinationUrn";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(
+              CHART_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(
+              DATASET_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(DATASETS_FIELD_NAME, Collections.emptyList()),
+          KeyedArrayField.of(CHARTS_FIELD_NAME, Collections.emptyList()));
+
   @Override
   public DashboardInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DashboardInfo) {
@@ -102,4 +113,9 @@ public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo
 
     return rebasedNode;
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datajob.DataJobInfo;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import com.linkedin.metadata.aspect.patch.template.Template;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DataJobInfoTemplate implements Template<DataJobInfo> {
@@ -42,4 +45,9 @@ public class DataJobInfoTemplate implements Template<DataJobInfo> {
   public JsonNode rebaseFields(JsonNode patched) {
     return patched;
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return Collections.emptyList();
+  }
 }
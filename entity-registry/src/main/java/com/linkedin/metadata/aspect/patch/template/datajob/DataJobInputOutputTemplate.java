@@ -9,7 +9,9 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.datajob.DataJobInputOutput;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobInputOutput> {
@@ -23,6 +25,20 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
   private static final String INPUT_DATASET_FIELDS_FIELD_NAME = "inputDatasetFields";
   private static final String OUTPUT_DATASET_FIELDS_FIELD_NAME = "outputDatasetFields";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(
+              INPUT_DATA_JOB_EDGES_FIELD_NAME,
+              Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(
+              INPUT_DATASET_EDGES_FIELD_NAME,
+              Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(
+              OUTPUT_DATASET_EDGES_FIELD_NAME,
+              Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+          KeyedArrayField.of(INPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList()),
+          KeyedArrayField.of(OUTPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList()));
+
   @Override
   public DataJobInputOutput getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataJobInputOutput) {
@@ -114,4 +130,9 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
 
     return rebasedNode;
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
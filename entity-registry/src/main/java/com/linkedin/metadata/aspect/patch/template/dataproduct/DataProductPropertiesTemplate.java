@@ -5,7 +5,9 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataproduct.DataProductAssociationArray;
 import com.linkedin.dataproduct.DataProductProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataProductProperties> {
@@ -13,6 +15,10 @@ public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataP
   private static final String ASSETS_FIELD_NAME = "assets";
   private static final String KEY_FIELD_NAME = "destinationUrn";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(ASSETS_FIELD_NAME, Collections.singletonList(KEY_FIELD_NAME)));
+
   @Override
   public DataProductProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataProductProperties) {
@@ -46,4 +52,9 @@ public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataP
     return transformedMapToArray(
         patched, ASSETS_FIELD_NAME, Collections.singletonList(KEY_FIELD_NAME));
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
@@ -6,13 +6,18 @@ import com.linkedin.data.template.StringArray;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetProperties> {
 
   private static final String TAGS_FIELD_NAME = "tags";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(KeyedArrayField.of(TAGS_FIELD_NAME, Collections.emptyList()));
+
   @Override
   public DatasetProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DatasetProperties) {
@@ -47,4 +52,9 @@ public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetPr
   public JsonNode rebaseFields(JsonNode patched) {
     return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.emptyList());
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
 }
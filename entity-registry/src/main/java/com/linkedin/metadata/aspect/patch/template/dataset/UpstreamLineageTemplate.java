@@ -9,12 +9,18 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.dataset.UpstreamArray;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.KeyedArrayField;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -40,6 +46,12 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
   private static final Float DEFAULT_CONFIDENCE_SCORE = 1.0f;
   private static final String DEFAULT_QUERY_ID = "NONE";
 
+  private static final List<KeyedArrayField> KEYED_ARRAY_FIELDS =
+      List.of(
+          KeyedArrayField.of(
+              UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME)),
+          new FineGrainedLineagesField());
+
   @Override
   public UpstreamLineage getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof UpstreamLineage) {
@@ -340,4 +352,195 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     }
     upstreams.add(instance.textNode(upstream));
   }
+
+  @Override
+  public List<KeyedArrayField> getKeyedArrayFields() {
+    return KEYED_ARRAY_FIELDS;
+  }
+
+  /**
+   * {@link DataMap} counterpart of {@link #combineAndTransformFineGrainedLineages} and {@link
+   * #reconstructFineGrainedLineages}, keyed by transformation operation, downstream, query and
+   * upstream. Confidence scores are kept as floats, as on the JSON tree.
+   */
+  private static final class FineGrainedLineagesField implements KeyedArrayField {
+
+    @Nonnull
+    @Override
+    public String getFieldName() {
+      return FINE_GRAINED_LINEAGES_FIELD_NAME;
+    }
+
+    @Override
+    public int getDepth() {
+      return 4;
+    }
+
+    @Nonnull
+    @Override
+    public LinkedHashMap<String, Object> toMap(@Nullable Object array) {
+      final LinkedHashMap<String, Object> mapNode = new LinkedHashMap<>();
+      if (!(array instanceof DataList)) {
+        return mapNode;
+      }
+
+      for (Object element : (DataList) array) {
+        final DataMap lineage = (DataMap) element;
+        final String transformationOperation =
+            lineage.containsKey(FINE_GRAINED_TRANSFORMATION_OPERATION)
+                ? KeyedArrayField.asText(lineage.get(FINE_GRAINED_TRANSFORMATION_OPERATION))
+                : NONE_TRANSFORMATION_TYPE;
+        final Map<String, Object> transformationOperationNode =
+            childMap(mapNode, transformationOperation);
+
+        final DataList downstreams = lineage.getDataList(FINE_GRAINED_DOWNSTREAMS);
+        if (downstreams == null || downstreams.size() != 1) {
+          throw new UnsupportedOperationException(
+              "Patching not supported on fine grained lineages with not exactly one downstream.");
+        }
+
+        final Float confidenceScore =
+            lineage.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)
+                ? toFloat(lineage.get(FINE_GRAINED_CONFIDENCE_SCORE))
+                : DEFAULT_CONFIDENCE_SCORE;
+        String upstreamType =
+            lineage.containsKey(FINE_GRAINED_UPSTREAM_TYPE)
+                ? KeyedArrayField.asText(lineage.get(FINE_GRAINED_UPSTREAM_TYPE))
+                : null;
+        String downstreamType =
+            lineage.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)
+                ? KeyedArrayField.asText(lineage.get(FINE_GRAINED_DOWNSTREAM_TYPE))
+                : null;
+        final DataList upstreams = lineage.getDataList(FINE_GRAINED_UPSTREAMS);
+        final String queryId =
+            lineage.containsKey(FINE_GRAINED_QUERY_ID)
+                ? KeyedArrayField.asText(lineage.get(FINE_GRAINED_QUERY_ID))
+                : DEFAULT_QUERY_ID;
+
+        if (upstreamType == null) {
+          // Determine default type
+          Urn upstreamUrn =
+              upstreams != null ? UrnUtils.getUrn(KeyedArrayField.asText(upstreams.get(0))) : null;
+          if (upstreamUrn != null && DATASET_ENTITY_NAME.equals(upstreamUrn.getEntityType())) {
+            upstreamType = FINE_GRAINED_LINEAGE_DATASET_TYPE;
+          } else {
+            upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+          }
+        }
+        if (downstreamType == null) {
+          downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+        }
+
+        final Map<String, Object> queryNode =
+            childMap(
+                childMap(transformationOperationNode, KeyedArrayField.asText(downstreams.get(0))),
+                queryId);
+        if (upstreams != null) {
+          final String finalUpstreamType = upstreamType;
+          final String finalDownstreamType = downstreamType;
+          // Same collector as the JSON transformation, so upstreams keep the same order
+          queryNode.putAll(
+              upstreams.stream()
+                  .map(KeyedArrayField::asText)
+                  .distinct()
+                  .collect(
+                      Collectors.toMap(
+                          urn -> urn,
+                          urn -> {
+                            DataMap value = new DataMap();
+                            value.put(FINE_GRAINED_CONFIDENCE_SCORE, confidenceScore);
+                            value.put(FINE_GRAINED_UPSTREAM_TYPE, finalUpstreamType);
+                            value.put(FINE_GRAINED_DOWNSTREAM_TYPE, finalDownstreamType);
+                            return value;
+                          })));
+        }
+      }
+      return mapNode;
+    }
+
+    @Nonnull
+    @Override
+    public DataList toArray(@Nonnull Object transformed) {
+      if (transformed instanceof DataList) {
+        // Replaced as a whole
+        return (DataList) transformed;
+      }
+      final DataList fineGrainedLineages = new DataList();
+      for (Map.Entry<String, Object> operation : castMap(transformed).entrySet()) {
+        for (Map.Entry<String, Object> downstream : castMap(operation.getValue()).entrySet()) {
+          for (Map.Entry<String, Object> query : castMap(downstream.getValue()).entrySet()) {
+            final DataMap fineGrainedLineage =
+                buildFineGrainedLineage(
+                    downstream.getKey(), query.getKey(), castMap(query.getValue()));
+            if (fineGrainedLineage != null) {
+              fineGrainedLineage.put(FINE_GRAINED_TRANSFORMATION_OPERATION, operation.getKey());
+              fineGrainedLineages.add(fineGrainedLineage);
+            }
+          }
+        }
+      }
+      return fineGrainedLineages;
+    }
+
+    @Nullable
+    private static DataMap buildFineGrainedLineage(
+        String downstreamName, String queryId, Map<String, Object> queryNode) {
+      if (queryNode.isEmpty()) {
+        // Short circuit if no upstreams left
+        return null;
+      }
+      float minimumConfidenceScore = DEFAULT_CONFIDENCE_SCORE;
+      String upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+      String downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+      final DataList upstreams = new DataList();
+      for (Map.Entry<String, Object> upstream : queryNode.entrySet()) {
+        final Map<String, Object> upstreamNode = castMap(upstream.getValue());
+        if (upstreamNode.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)) {
+          float scoreValue = toFloat(upstreamNode.get(FINE_GRAINED_CONFIDENCE_SCORE));
+          if (scoreValue <= minimumConfidenceScore) {
+            minimumConfidenceScore = scoreValue;
+          }
+        }
+        if (upstreamNode.containsKey(FINE_GRAINED_UPSTREAM_TYPE)) {
+          upstreamType = KeyedArrayField.asText(upstreamNode.get(FINE_GRAINED_UPSTREAM_TYPE));
+        }
+        if (upstreamNode.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)) {
+          downstreamType = KeyedArrayField.asText(upstreamNode.get(FINE_GRAINED_DOWNSTREAM_TYPE));
+        }
+        upstreams.add(upstream.getKey());
+      }
+
+      final DataMap fineGrainedLineage = new DataMap();
+      fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAMS, new DataList(List.of(downstreamName)));
+      fineGrainedLineage.put(FINE_GRAINED_UPSTREAMS, upstreams);
+      if (StringUtils.isNotBlank(queryId) && !DEFAULT_QUERY_ID.equals(queryId)) {
+        fineGrainedLineage.put(FINE_GRAINED_QUERY_ID, queryId);
+      }
+      fineGrainedLineage.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+      fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+      // The JSON tree holds a float, read back as the double of its text
+      final String confidenceScore = Float.toString(minimumConfidenceScore);
+      fineGrainedLineage.put(FINE_GRAINED_CONFIDENCE_SCORE, Double.parseDouble(confidenceScore));
+      return fineGrainedLineage;
+    }
+
+    private static float toFloat(@Nullable Object value) {
+      if (!(value instanceof Number)) {
+        throw new IllegalArgumentException("Unsupported confidence score " + value);
+      }
+      return ((Number) value).floatValue();
+    }
+
+    private static Map<String, Object> childMap(Map<String, Object> parent, String key) {
+      return castMap(parent.computeIfAbsent(key, k -> new LinkedHashMap<String, Object>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object node) {
+      if (!(node instanceof Map)) {
+        throw new IllegalArgumentException("Expected an object, found " + node);
+      }
+      return (Map<String, Object>) node;
+    }
+  }
 }
@@ -4,10 +4,13 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -24,6 +27,9 @@ public class AspectSpec {
   private final Map<String, TimeseriesFieldSpec> _timeseriesFieldSpecs;
   private final Map<String, TimeseriesFieldCollectionSpec> _timeseriesFieldCollectionSpecs;
 
+  // Derived from the field specs above
+  @EqualsAndHashCode.Exclude private final FieldExtractionPlan _fieldExtractionPlan;
+
   // Classpath & Pegasus-specific: Temporary.
   private final RecordDataSchema _schema;
   private final Class<RecordTemplate> _aspectClass;
@@ -69,6 +75,16 @@ public class AspectSpec {
                     spec -> spec.getTimeseriesFieldCollectionAnnotation().getCollectionName(),
                     spec -> spec,
                     (val1, val2) -> val1));
+    _fieldExtractionPlan =
+        new FieldExtractionPlan(
+            Stream.of(
+                    _searchableFieldSpecs.values(),
+                    _searchScoreFieldSpecs.values(),
+                    _relationshipFieldSpecs.values(),
+                    _timeseriesFieldSpecs.values(),
+                    _timeseriesFieldCollectionSpecs.values())
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList()));
     _schema = schema;
     _aspectClass = aspectClass;
   }
@@ -129,6 +145,11 @@ public class AspectSpec {
     return new ArrayList<>(_timeseriesFieldCollectionSpecs.values());
   }
 
+  /** Extracts the values of the field specs of the aspect in a single pass */
+  public FieldExtractionPlan getFieldExtractionPlan() {
+    return _fieldExtractionPlan;
+  }
+
   public RecordDataSchema getPegasusSchema() {
     return _schema;
   }
@@ -0,0 +1,211 @@
+package com.linkedin.metadata.models.extractor;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.template.AbstractArrayTemplate;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.FieldSpec;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Extraction plan of the field specs of an aspect, compiled once from their paths.
+ *
+ * <p>The paths are merged into a trie, so the values of all the field specs of an aspect are
+ * extracted with a single traversal of the record: shared prefixes, such as the elements of an
+ * array, are resolved once for every field below them. Each value is resolved as {@link
+ * RecordUtils#getFieldValue(Object, PathSpec)} resolves the path of its field spec.
+ */
+public final class FieldExtractionPlan {
+
+  private static final String ARRAY_WILDCARD = "*";
+
+  private final Node root = new Node(null);
+  private final List<FieldSpec> fieldSpecs = new ArrayList<>();
+  private final Map<FieldSpec, Integer> indexes = new IdentityHashMap<>();
+
+  public FieldExtractionPlan(@Nonnull Collection<? extends FieldSpec> fieldSpecs) {
+    for (FieldSpec fieldSpec : fieldSpecs) {
+      final List<String> pathComponents = fieldSpec.getPath().getPathComponents();
+      // Array indexes are rejected by RecordUtils, such fields are left to it
+      if (indexes.containsKey(fieldSpec)
+          || pathComponents.isEmpty()
+          || pathComponents.stream().anyMatch(FieldExtractionPlan::isArrayIndex)) {
+        continue;
+      }
+      final int index = this.fieldSpecs.size();
+      this.fieldSpecs.add(fieldSpec);
+      indexes.put(fieldSpec, index);
+
+      Node node = root;
+      node.addBelow(index, fieldSpec);
+      for (String pathComponent : pathComponents) {
+        if (ARRAY_WILDCARD.equals(pathComponent)) {
+          // Wildcards are skipped when resolving, they only define how values are flattened
+          continue;
+        }
+        node = node.children.computeIfAbsent(pathComponent, Node::new);
+        node.addBelow(index, fieldSpec);
+      }
+      node.fieldSpecIndexes.add(index);
+    }
+  }
+
+  /**
+   * Extracts the values of the field specs of the given types from the record.
+   *
+   * @param record the aspect to extract values from
+   * @param fieldSpecTypes the types of field specs to extract, the other fields are skipped
+   * @return the extracted values
+   */
+  @Nonnull
+  public ExtractedValues extract(
+      @Nonnull RecordTemplate record,
+      @Nonnull Collection<Class<? extends FieldSpec>> fieldSpecTypes) {
+    final Object[] values = new Object[fieldSpecs.size()];
+    if (root.includesAny(fieldSpecTypes)) {
+      resolveChildren(record, root, fieldSpecTypes, values);
+    }
+    return new ExtractedValues(record, values);
+  }
+
+  private void resolveChildren(
+      @Nonnull Object reference,
+      @Nonnull Node node,
+      @Nonnull Collection<Class<? extends FieldSpec>> fieldSpecTypes,
+      @Nonnull Object[] values) {
+    for (Node child : node.children.values()) {
+      if (child.includesAny(fieldSpecTypes)) {
+        resolve(reference, child, fieldSpecTypes, values);
+      }
+    }
+  }
+
+  /** Resolves the path component of the node on the reference, the value of its parent node */
+  private void resolve(
+      @Nonnull Object reference,
+      @Nonnull Node node,
+      @Nonnull Collection<Class<? extends FieldSpec>> fieldSpecTypes,
+      @Nonnull Object[] values) {
+    if (reference instanceof AbstractArrayTemplate) {
+      // Every field below gets the list of its values in the elements, as RecordUtils does
+      final List<Integer> indexesBelow = node.indexesBelow(fieldSpecTypes);
+      final List<List<Object>> lists = new ArrayList<>(indexesBelow.size());
+      for (int i = 0; i < indexesBelow.size(); i++) {
+        lists.add(new ArrayList<>());
+      }
+      final Object[] elementValues = new Object[fieldSpecs.size()];
+      for (Object element : (AbstractArrayTemplate<?>) reference) {
+        resolve(element, node, fieldSpecTypes, elementValues);
+        for (int i = 0; i < indexesBelow.size(); i++) {
+          final int index = indexesBelow.get(i);
+          final Optional<?> value = (Optional<?>) elementValues[index];
+          if (value != null && value.isPresent()) {
+            lists.get(i).add(value.get());
+          }
+          elementValues[index] = null;
+        }
+      }
+      for (int i = 0; i < indexesBelow.size(); i++) {
+        values[indexesBelow.get(i)] = Optional.of(lists.get(i));
+      }
+      return;
+    }
+
+    final Optional<Object> value = RecordUtils.getFieldValue(reference, node.pathSpec);
+    if (!value.isPresent()) {
+      for (int index : node.indexesBelow(fieldSpecTypes)) {
+        values[index] = Optional.empty();
+      }
+      return;
+    }
+    for (int index : node.fieldSpecIndexes) {
+      values[index] = value;
+    }
+    resolveChildren(value.get(), node, fieldSpecTypes, values);
+  }
+
+  private static boolean isArrayIndex(@Nonnull String pathComponent) {
+    return !pathComponent.isEmpty() && pathComponent.chars().allMatch(Character::isDigit);
+  }
+
+  /** Values extracted by the plan */
+  public final class ExtractedValues {
+    private final RecordTemplate record;
+    private final Object[] values;
+
+    private ExtractedValues(@Nonnull RecordTemplate record, @Nonnull Object[] values) {
+      this.record = record;
+      this.values = values;
+    }
+
+    /** The record the values were extracted from */
+    @Nonnull
+    public RecordTemplate getRecord() {
+      return record;
+    }
+
+    /**
+     * The value of the field spec, as returned by {@link RecordUtils#getFieldValue(Object,
+     * PathSpec)}.
+     *
+     * @return the value, null if the field spec was not extracted by the plan
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Optional<Object> get(@Nonnull FieldSpec fieldSpec) {
+      final Integer index = indexes.get(fieldSpec);
+      return index != null ? (Optional<Object>) values[index] : null;
+    }
+  }
+
+  private static final class Node {
+    /** The path component of the node, null for the root */
+    @Nullable private final PathSpec pathSpec;
+
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private final List<Integer> fieldSpecIndexes = new ArrayList<>();
+    private final List<Integer> indexesBelow = new ArrayList<>();
+    private final List<Class<? extends FieldSpec>> typesBelow = new ArrayList<>();
+    private final Set<Class<? extends FieldSpec>> distinctTypesBelow = new HashSet<>();
+
+    private Node(@Nullable String pathComponent) {
+      this.pathSpec = pathComponent != null ? new PathSpec(pathComponent) : null;
+    }
+
+    private void addBelow(int index, @Nonnull FieldSpec fieldSpec) {
+      indexesBelow.add(index);
+      typesBelow.add(fieldSpec.getClass());
+      distinctTypesBelow.add(fieldSpec.getClass());
+    }
+
+    private boolean includesAny(@Nonnull Collection<Class<? extends FieldSpec>> fieldSpecTypes) {
+      return !Collections.disjoint(distinctTypesBelow, fieldSpecTypes);
+    }
+
+    @Nonnull
+    private List<Integer> indexesBelow(
+        @Nonnull Collection<Class<? extends FieldSpec>> fieldSpecTypes) {
+      if (fieldSpecTypes.containsAll(distinctTypesBelow)) {
+        return indexesBelow;
+      }
+      final List<Integer> result = new ArrayList<>();
+      for (int i = 0; i < indexesBelow.size(); i++) {
+        if (fieldSpecTypes.contains(typesBelow.get(i))) {
+          result.add(indexesBelow.get(i));
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -39,43 +39,64 @@ public class FieldExtractor {
     final Map<T, List<Object>> extractedFields = new HashMap<>();
     for (T fieldSpec : fieldSpecs) {
       Optional<Object> value = RecordUtils.getFieldValue(record, fieldSpec.getPath());
-      if (!value.isPresent()) {
-        extractedFields.put(fieldSpec, Collections.emptyList());
-      } else {
-        long numArrayWildcards = getNumArrayWildcards(fieldSpec.getPath());
-        // Not an array field
-        if (numArrayWildcards == 0) {
-          // For maps, convert it into a list of the form key=value (Filter out long values)
-          if (value.get() instanceof Map) {
-            extractedFields.put(
-                fieldSpec,
-                ((Map<?, ?>) value.get())
-                    .entrySet().stream()
-                        .map(
-                            entry ->
-                                new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
-                        .filter(entry -> entry.getValue().length() < maxValueLength)
-                        .map(entry -> entry.getKey() + "=" + entry.getValue())
-                        .collect(Collectors.toList()));
-          } else {
-            extractedFields.put(fieldSpec, Collections.singletonList(value.get()));
-          }
-        } else {
-          List<Object> valueList = (List<Object>) value.get();
-          // If the field is a nested list of values, flatten it
-          for (int i = 0; i < numArrayWildcards - 1; i++) {
-            valueList =
-                valueList.stream()
-                    .flatMap(v -> ((List<Object>) v).stream())
-                    .collect(Collectors.toList());
-          }
-          extractedFields.put(fieldSpec, valueList);
-        }
+      extractedFields.put(fieldSpec, toValueList(fieldSpec, value, maxValueLength));
+    }
+    return extractedFields;
+  }
+
+  /**
+   * Extract the value of each field in the field specs from values extracted by a {@link
+   * FieldExtractionPlan}, which resolves the fields of several field spec types in a single pass.
+   */
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nonnull FieldExtractionPlan.ExtractedValues extractedValues, List<T> fieldSpecs) {
+    return extractFields(extractedValues, fieldSpecs, MAX_VALUE_LENGTH);
+  }
+
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nonnull FieldExtractionPlan.ExtractedValues extractedValues,
+      List<T> fieldSpecs,
+      int maxValueLength) {
+    final Map<T, List<Object>> extractedFields = new HashMap<>();
+    for (T fieldSpec : fieldSpecs) {
+      Optional<Object> value = extractedValues.get(fieldSpec);
+      if (value == null) {
+        // Not part of the plan
+        value = RecordUtils.getFieldValue(extractedValues.getRecord(), fieldSpec.getPath());
       }
+      extractedFields.put(fieldSpec, toValueList(fieldSpec, value, maxValueLength));
     }
     return extractedFields;
   }
 
+  private static List<Object> toValueList(
+      @Nonnull FieldSpec fieldSpec, @Nonnull Optional<Object> value, int maxValueLength) {
+    if (!value.isPresent()) {
+      return Collections.emptyList();
+    }
+    long numArrayWildcards = getNumArrayWildcards(fieldSpec.getPath());
+    // Not an array field
+    if (numArrayWildcards == 0) {
+      // For maps, convert it into a list of the form key=value (Filter out long values)
+      if (value.get() instanceof Map) {
+        return ((Map<?, ?>) value.get())
+            .entrySet().stream()
+                .map(entry -> new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
+                .filter(entry -> entry.getValue().length() < maxValueLength)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.toList());
+      }
+      return Collections.singletonList(value.get());
+    }
+    List<Object> valueList = (List<Object>) value.get();
+    // If the field is a nested list of values, flatten it
+    for (int i = 0; i < numArrayWildcards - 1; i++) {
+      valueList =
+          valueList.stream().flatMap(v -> ((List<Object>) v).stream()).collect(Collectors.toList());
+    }
+    return valueList;
+  }
+
   public static <T extends FieldSpec> Map<T, List<Object>> extractFieldsFromSnapshot(
       RecordTemplate snapshot,
       EntitySpec entitySpec,
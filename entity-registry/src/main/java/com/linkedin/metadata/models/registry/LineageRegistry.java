@@ -137,6 +137,19 @@ public class LineageRegistry {
     return spec.getDownstreamEdges();
   }
 
+  /** Returns the names of the relationship types denoting lineage between any entities. */
+  public Set<String> getLineageRelationshipTypes() {
+    return Stream.concat(
+            _lineageSpecMap.values().stream()
+                .flatMap(
+                    spec ->
+                        Stream.concat(
+                            spec.getUpstreamEdges().stream(), spec.getDownstreamEdges().stream())),
+            getSchemaFieldRelationships(LineageDirection.UPSTREAM).stream())
+        .map(EdgeInfo::getType)
+        .collect(Collectors.toSet());
+  }
+
   private List<EdgeInfo> getSchemaFieldRelationships(LineageDirection direction) {
     List<EdgeInfo> schemaFieldEdges = new ArrayList<>();
     if (direction == LineageDirection.UPSTREAM) {
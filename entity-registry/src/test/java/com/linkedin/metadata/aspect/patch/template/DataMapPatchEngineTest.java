@@ -0,0 +1,147 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.jsonpointer.JsonPointer;
+import com.github.fge.jsonpatch.AddOperation;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.MoveOperation;
+import com.github.fge.jsonpatch.RemoveOperation;
+import com.github.fge.jsonpatch.ReplaceOperation;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.FineGrainedLineage;
+import com.linkedin.dataset.FineGrainedLineageArray;
+import com.linkedin.dataset.FineGrainedLineageDownstreamType;
+import com.linkedin.dataset.FineGrainedLineageUpstreamType;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class DataMapPatchEngineTest {
+
+  private static final String DATASET_1 =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)";
+  private static final String DATASET_2 =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,OtherHiveDataset,PROD)";
+  private static final String FIELD_1 = "urn:li:schemaField:(" + DATASET_1 + ",c1)";
+  private static final String FIELD_2 = "urn:li:schemaField:(" + DATASET_2 + ",c1)";
+  private static final String FIELD_3 = "urn:li:schemaField:(" + DATASET_2 + ",c2)";
+
+  @Test
+  public void testGlobalTagsMatchesJsonPatch() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    GlobalTags globalTags =
+        new GlobalTags()
+            .setTags(
+                new TagAssociationArray(
+                    new TagAssociation().setTag(new TagUrn("first")),
+                    new TagAssociation().setTag(new TagUrn("second"))));
+
+    ObjectNode tagNode = instance.objectNode();
+    tagNode.put("tag", "urn:li:tag:third");
+    tagNode.put("context", "test");
+    JsonPatch patch =
+        new JsonPatch(
+            List.of(
+                new AddOperation(new JsonPointer("/tags/urn:li:tag:third"), tagNode),
+                new RemoveOperation(new JsonPointer("/tags/urn:li:tag:first"))));
+
+    GlobalTags result = DataMapPatchEngine.applyPatch(template, globalTags, patch);
+    Assert.assertNotNull(result);
+    Assert.assertEquals(result, template.applyPatchOnJson(globalTags, patch));
+    Assert.assertEquals(result.getTags().size(), 2);
+    Assert.assertEquals(result.getTags().get(1).getContext(), "test");
+    // The patched aspect is not modified
+    Assert.assertEquals(globalTags.getTags().size(), 2);
+  }
+
+  @Test
+  public void testUpstreamLineageMatchesJsonPatch() throws Exception {
+    UpstreamLineageTemplate template = new UpstreamLineageTemplate();
+    UpstreamLineage upstreamLineage =
+        new UpstreamLineage()
+            .setUpstreams(
+                new UpstreamArray(
+                    new Upstream()
+                        .setDataset(DatasetUrn.createFromString(DATASET_1))
+                        .setType(DatasetLineageType.TRANSFORMED)))
+            .setFineGrainedLineages(
+                new FineGrainedLineageArray(
+                    new FineGrainedLineage()
+                        .setUpstreamType(FineGrainedLineageUpstreamType.FIELD_SET)
+                        .setUpstreams(
+                            new UrnArray(UrnUtils.getUrn(FIELD_2), UrnUtils.getUrn(FIELD_3)))
+                        .setDownstreamType(FineGrainedLineageDownstreamType.FIELD)
+                        .setDownstreams(new UrnArray(UrnUtils.getUrn(FIELD_1)))
+                        .setConfidenceScore(0.5f)));
+
+    ObjectNode upstreamNode = instance.objectNode();
+    upstreamNode.put("dataset", DATASET_2);
+    upstreamNode.put("type", "COPY");
+    ObjectNode fineGrainedLineageNode = instance.objectNode();
+    fineGrainedLineageNode.set("confidenceScore", instance.numberNode(0.3f));
+    JsonPatch patch =
+        new JsonPatch(
+            List.of(
+                new AddOperation(new JsonPointer("/upstreams/" + DATASET_2), upstreamNode),
+                new AddOperation(
+                    new JsonPointer(
+                        "/fineGrainedLineages/CREATE/" + FIELD_1 + "/urn:li:query:q/" + FIELD_2),
+                    fineGrainedLineageNode),
+                new RemoveOperation(
+                    new JsonPointer("/fineGrainedLineages/NONE/" + FIELD_1 + "/NONE/" + FIELD_3))));
+
+    UpstreamLineage result = DataMapPatchEngine.applyPatch(template, upstreamLineage, patch);
+    Assert.assertNotNull(result);
+    Assert.assertEquals(result, template.applyPatchOnJson(upstreamLineage, patch));
+    Assert.assertEquals(result.getUpstreams().size(), 2);
+    Assert.assertEquals(result.getFineGrainedLineages().size(), 2);
+  }
+
+  @Test
+  public void testUnsupportedOperationFallsBack() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    GlobalTags globalTags =
+        new GlobalTags()
+            .setTags(new TagAssociationArray(new TagAssociation().setTag(new TagUrn("first"))));
+    JsonPatch patch =
+        new JsonPatch(
+            List.of(
+                new MoveOperation(
+                    new JsonPointer("/tags/urn:li:tag:first"),
+                    new JsonPointer("/tags/urn:li:tag:second"))));
+
+    Assert.assertNull(DataMapPatchEngine.applyPatch(template, globalTags, patch));
+    Assert.assertEquals(
+        template.applyPatchOnJson(globalTags, patch).getTags().get(0).getTag(),
+        new TagUrn("first"));
+  }
+
+  @Test
+  public void testInvalidPatchFallsBack() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    GlobalTags globalTags = template.getDefault();
+    JsonPatch patch =
+        new JsonPatch(
+            List.of(
+                new ReplaceOperation(
+                    new JsonPointer("/tags/urn:li:tag:missing"), instance.objectNode())));
+
+    Assert.assertNull(DataMapPatchEngine.applyPatch(template, globalTags, patch));
+    Assert.assertThrows(
+        RuntimeException.class, () -> template.applyPatchOnJson(globalTags, patch));
+  }
+}
@@ -37,6 +37,9 @@ public class Constants {
   // Indicates an event source from an application with hooks that have already been processed and
   // should not be reprocessed
   public static final String APP_SOURCE = "appSource";
+  // Set on the previous system metadata of a hard deleted key aspect when the entity was soft
+  // deleted, its status is gone by the time the change log is processed
+  public static final String SOFT_DELETED_KEY = "softDeleted";
 
   // App sources
   public static final String UI_SOURCE = "ui";
@@ -231,6 +234,7 @@ public class Constants {
 
   // Policy
   public static final String DATAHUB_POLICY_INFO_ASPECT_NAME = "dataHubPolicyInfo";
+  public static final String DATAHUB_POLICY_KEY_ASPECT_NAME = "dataHubPolicyKey";
 
   // Role
   public static final String DATAHUB_ROLE_INFO_ASPECT_NAME = "dataHubRoleInfo";
@@ -47,7 +47,9 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.util.Pair;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -384,6 +386,61 @@ public class AuthUtil {
     return isAuthorizedEntityUrns(authorizer, actor, READ, urns);
   }
 
+  /**
+   * Returns the urns the actor can view, for instance among the entities of a search result page.
+   * All the checks are made with a single {@link Authorizer#batchAuthorize(List)} call, so the
+   * resources are resolved in batch.
+   */
+  public static Set<Urn> getViewableEntityUrns(
+      @Nonnull final String actor,
+      @Nonnull final Authorizer authorizer,
+      @Nonnull final Collection<Urn> urns) {
+    final Map<String, DisjunctivePrivilegeGroup> privilegeGroups =
+        lookupEntityAPIPrivilege(
+                READ, urns.stream().map(Urn::getEntityType).collect(Collectors.toSet()))
+            .entrySet()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey, entry -> buildDisjunctivePrivilegeGroup(entry.getValue())));
+
+    final Set<AuthorizationRequest> requests = new LinkedHashSet<>();
+    for (Urn urn : urns) {
+      for (ConjunctivePrivilegeGroup conjunctive :
+          privilegeGroups.get(urn.getEntityType()).getAuthorizedPrivilegeGroups()) {
+        for (String privilege : conjunctive.getRequiredPrivileges()) {
+          requests.add(buildViewRequest(actor, privilege, urn));
+        }
+      }
+    }
+    final Set<AuthorizationRequest> allowedRequests =
+        authorizer.batchAuthorize(new ArrayList<>(requests)).stream()
+            .filter(result -> !AuthorizationResult.Type.DENY.equals(result.getType()))
+            .map(AuthorizationResult::getRequest)
+            .collect(Collectors.toSet());
+
+    // Same semantics as isAuthorized: any group of privileges which are all granted
+    return urns.stream()
+        .filter(
+            urn ->
+                privilegeGroups.get(urn.getEntityType()).getAuthorizedPrivilegeGroups().stream()
+                    .anyMatch(
+                        conjunctive ->
+                            !conjunctive.getRequiredPrivileges().isEmpty()
+                                && conjunctive.getRequiredPrivileges().stream()
+                                    .allMatch(
+                                        privilege ->
+                                            allowedRequests.contains(
+                                                buildViewRequest(actor, privilege, urn)))))
+        .collect(Collectors.toSet());
+  }
+
+  private static AuthorizationRequest buildViewRequest(
+      @Nonnull final String actor, @Nonnull final String privilege, @Nonnull final Urn urn) {
+    return new AuthorizationRequest(
+        actor, privilege, Optional.of(new EntitySpec(urn.getEntityType(), urn.toString())));
+  }
+
   public static boolean isAuthorized(
       @Nonnull final String actor,
       @Nonnull final Authorizer authorizer,
@@ -10,9 +10,11 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.policy.DataHubPolicyInfo;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 /**
@@ -36,6 +38,23 @@ public interface Authorizer extends Plugin {
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, "Not Implemented.");
   }
 
+  /**
+   * Authorizes many actions at once, for instance the actions on the entities of a list view. The
+   * results are in the order of the requests.
+   */
+  default List<AuthorizationResult> batchAuthorize(
+      @Nonnull final List<AuthorizationRequest> requests) {
+    return requests.stream().map(this::authorize).collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the authorizer to use for the checks of a single request. It may memoize what it
+   * resolves across these checks, so it must not outlive the request. By default, this authorizer.
+   */
+  default Authorizer forRequest() {
+    return this;
+  }
+
   /**
    * Retrieves the current list of actors authorized to for a particular privilege against an
    * optional resource
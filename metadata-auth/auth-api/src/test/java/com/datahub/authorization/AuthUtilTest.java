@@ -8,6 +8,8 @@ import static com.linkedin.metadata.authorization.PoliciesConfig.API_ENTITY_PRIV
 import static com.linkedin.metadata.authorization.PoliciesConfig.API_PRIVILEGE_MAP;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -177,6 +179,27 @@ public class AuthUtilTest {
         "Expected deny on delete for all entities");
   }
 
+  @Test
+  public void testGetViewableEntityUrns() {
+    Authorizer mockAuthorizer =
+        mockAuthorizer(
+            Map.of(
+                TEST_AUTH_A.getActor().toUrnStr(),
+                Map.of(
+                    "EDIT_ENTITY", Set.of(TEST_ENTITY_1),
+                    "VIEW_ENTITY_PAGE", Set.of(TEST_ENTITY_3))));
+    when(mockAuthorizer.batchAuthorize(any())).thenCallRealMethod();
+
+    assertEquals(
+        AuthUtil.getViewableEntityUrns(
+            TEST_AUTH_A.getActor().toUrnStr(),
+            mockAuthorizer,
+            List.of(TEST_ENTITY_1, TEST_ENTITY_2, TEST_ENTITY_3)),
+        Set.of(TEST_ENTITY_1, TEST_ENTITY_3));
+    // All the urns are checked in a single batch
+    verify(mockAuthorizer, times(1)).batchAuthorize(any());
+  }
+
   @Test
   public void testReadInheritance() {
     assertTrue(
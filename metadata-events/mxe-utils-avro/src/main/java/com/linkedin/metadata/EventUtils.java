@@ -1,7 +1,10 @@
 package com.linkedin.metadata;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.avro.DataTranslator;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
@@ -18,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
@@ -30,8 +34,12 @@ import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificRecord;
 
+@Slf4j
 public class EventUtils {
 
+  // The registry of MetricUtils, which this module cannot depend on
+  private static final MetricRegistry METRICS = SharedMetricRegistries.getOrCreate("default");
+
   private static final RecordDataSchema MCE_PEGASUS_SCHEMA = new MetadataChangeEvent().schema();
 
   private static final RecordDataSchema MAE_PEGASUS_SCHEMA = new MetadataAuditEvent().schema();
@@ -93,6 +101,24 @@ public class EventUtils {
   private static final Schema RENAMED_DUHE_AVRO_SCHEMA =
       com.linkedin.pegasus2avro.mxe.DataHubUpgradeHistoryEvent.SCHEMA$;
 
+  private static final RenamedAvroTranslator MCE_TRANSLATOR =
+      new RenamedAvroTranslator(MCE_PEGASUS_SCHEMA, RENAMED_MCE_AVRO_SCHEMA);
+
+  private static final RenamedAvroTranslator MAE_TRANSLATOR =
+      new RenamedAvroTranslator(MAE_PEGASUS_SCHEMA, RENAMED_MAE_AVRO_SCHEMA);
+
+  private static final RenamedAvroTranslator MCP_TRANSLATOR =
+      new RenamedAvroTranslator(MCP_PEGASUS_SCHEMA, RENAMED_MCP_AVRO_SCHEMA);
+
+  private static final RenamedAvroTranslator MCL_TRANSLATOR =
+      new RenamedAvroTranslator(MCL_PEGASUS_SCHEMA, RENAMED_MCL_AVRO_SCHEMA);
+
+  private static final RenamedAvroTranslator PE_TRANSLATOR =
+      new RenamedAvroTranslator(PE_PEGASUS_SCHEMA, RENAMED_PE_AVRO_SCHEMA);
+
+  private static final RenamedAvroTranslator DUHE_TRANSLATOR =
+      new RenamedAvroTranslator(DUHE_PEGASUS_SCHEMA, RENAMED_DUHE_AVRO_SCHEMA);
+
   private EventUtils() {
     // Util class
   }
@@ -118,10 +144,12 @@ public class EventUtils {
   public static MetadataAuditEvent avroToPegasusMAE(@Nonnull GenericRecord record)
       throws IOException {
     return new MetadataAuditEvent(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MAE_AVRO_SCHEMA, ORIGINAL_MAE_AVRO_SCHEMA),
-            MAE_PEGASUS_SCHEMA,
-            ORIGINAL_MAE_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            MAE_TRANSLATOR,
+            RENAMED_MAE_AVRO_SCHEMA,
+            ORIGINAL_MAE_AVRO_SCHEMA,
+            MAE_PEGASUS_SCHEMA));
   }
 
   /**
@@ -135,10 +163,12 @@ public class EventUtils {
   public static MetadataChangeEvent avroToPegasusMCE(@Nonnull GenericRecord record)
       throws IOException {
     return new MetadataChangeEvent(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCE_AVRO_SCHEMA, ORIGINAL_MCE_AVRO_SCHEMA),
-            MCE_PEGASUS_SCHEMA,
-            ORIGINAL_MCE_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            MCE_TRANSLATOR,
+            RENAMED_MCE_AVRO_SCHEMA,
+            ORIGINAL_MCE_AVRO_SCHEMA,
+            MCE_PEGASUS_SCHEMA));
   }
 
   /**
@@ -152,10 +182,12 @@ public class EventUtils {
   public static MetadataChangeLog avroToPegasusMCL(@Nonnull GenericRecord record)
       throws IOException {
     return new MetadataChangeLog(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCL_AVRO_SCHEMA, ORIGINAL_MCL_AVRO_SCHEMA),
-            MCL_PEGASUS_SCHEMA,
-            ORIGINAL_MCL_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            MCL_TRANSLATOR,
+            RENAMED_MCL_AVRO_SCHEMA,
+            ORIGINAL_MCL_AVRO_SCHEMA,
+            MCL_PEGASUS_SCHEMA));
   }
 
   /**
@@ -169,10 +201,12 @@ public class EventUtils {
   public static MetadataChangeProposal avroToPegasusMCP(@Nonnull GenericRecord record)
       throws IOException {
     return new MetadataChangeProposal(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_MCP_AVRO_SCHEMA, ORIGINAL_MCP_AVRO_SCHEMA),
-            MCP_PEGASUS_SCHEMA,
-            ORIGINAL_MCP_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            MCP_TRANSLATOR,
+            RENAMED_MCP_AVRO_SCHEMA,
+            ORIGINAL_MCP_AVRO_SCHEMA,
+            MCP_PEGASUS_SCHEMA));
   }
 
   /**
@@ -185,10 +219,12 @@ public class EventUtils {
   @Nonnull
   public static PlatformEvent avroToPegasusPE(@Nonnull GenericRecord record) throws IOException {
     return new PlatformEvent(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_PE_AVRO_SCHEMA, ORIGINAL_PE_AVRO_SCHEMA),
-            PE_PEGASUS_SCHEMA,
-            ORIGINAL_PE_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            PE_TRANSLATOR,
+            RENAMED_PE_AVRO_SCHEMA,
+            ORIGINAL_PE_AVRO_SCHEMA,
+            PE_PEGASUS_SCHEMA));
   }
 
   /**
@@ -202,10 +238,12 @@ public class EventUtils {
   public static DataHubUpgradeHistoryEvent avroToPegasusDUHE(@Nonnull GenericRecord record)
       throws IOException {
     return new DataHubUpgradeHistoryEvent(
-        DataTranslator.genericRecordToDataMap(
-            renameSchemaNamespace(record, RENAMED_DUHE_AVRO_SCHEMA, ORIGINAL_DUHE_AVRO_SCHEMA),
-            DUHE_PEGASUS_SCHEMA,
-            ORIGINAL_DUHE_AVRO_SCHEMA));
+        avroToDataMap(
+            record,
+            DUHE_TRANSLATOR,
+            RENAMED_DUHE_AVRO_SCHEMA,
+            ORIGINAL_DUHE_AVRO_SCHEMA,
+            DUHE_PEGASUS_SCHEMA));
   }
 
   /**
@@ -359,6 +397,45 @@ public class EventUtils {
     return renameSchemaNamespace(original, RENAMED_DUHE_AVRO_SCHEMA);
   }
 
+  /**
+   * Translates a {@link GenericRecord} in com.linkedin.pegasus2avro namespace into the {@link
+   * DataMap} of its Pegasus model, without converting it to the original namespace first.
+   */
+  @Nonnull
+  private static DataMap avroToDataMap(
+      @Nonnull GenericRecord record,
+      @Nonnull RenamedAvroTranslator translator,
+      @Nonnull Schema renamedSchema,
+      @Nonnull Schema originalSchema,
+      @Nonnull RecordDataSchema pegasusSchema)
+      throws IOException {
+    try {
+      return translator.translate(record);
+    } catch (IOException | RuntimeException e) {
+      // Anything unexpected goes through the original schema, which reports the actual error
+      log.debug("Translating {} through its original schema", renamedSchema.getFullName(), e);
+      METRICS
+          .counter(
+              MetricRegistry.name(EventUtils.class, "translate_fallback", renamedSchema.getName()))
+          .inc();
+      return avroToDataMapViaOriginalSchema(record, renamedSchema, originalSchema, pegasusSchema);
+    }
+  }
+
+  /** Translates a {@link GenericRecord} after converting it to the original namespace */
+  @Nonnull
+  static DataMap avroToDataMapViaOriginalSchema(
+      @Nonnull GenericRecord record,
+      @Nonnull Schema renamedSchema,
+      @Nonnull Schema originalSchema,
+      @Nonnull RecordDataSchema pegasusSchema)
+      throws IOException {
+    return DataTranslator.genericRecordToDataMap(
+        renameSchemaNamespace(record, renamedSchema, originalSchema),
+        pegasusSchema,
+        originalSchema);
+  }
+
   /**
    * Converts original MXE into a renamed namespace Does a double convert that should not be
    * necessary since we're already converting prior to calling this method in most spots
@@ -0,0 +1,242 @@
+package com.linkedin.metadata;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.EnumDataSchema;
+import com.linkedin.data.schema.FixedDataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+
+/**
+ * Translates an Avro {@link GenericRecord} in the com.linkedin.pegasus2avro namespace directly into
+ * a Pegasus {@link DataMap}, mirroring {@link
+ * com.linkedin.data.avro.DataTranslator#genericRecordToDataMap}.
+ *
+ * <p>Union members are matched by mapping the renamed Avro names back to the original namespace, so
+ * the record does not need to be serialized and deserialized with the original schema first.
+ * Records written with a different schema are resolved to the renamed schema in a single pass,
+ * using a reader cached per writer schema.
+ */
+final class RenamedAvroTranslator {
+
+  private static final String RENAMED_NAMESPACE_PREFIX = "com.linkedin.pegasus2avro.";
+  private static final String ORIGINAL_NAMESPACE_PREFIX = "com.linkedin.";
+
+  private final RecordDataSchema pegasusSchema;
+  private final Schema renamedSchema;
+  private final ConcurrentMap<Schema, GenericDatumReader<GenericRecord>> resolvers =
+      new ConcurrentHashMap<>();
+
+  RenamedAvroTranslator(@Nonnull RecordDataSchema pegasusSchema, @Nonnull Schema renamedSchema) {
+    this.pegasusSchema = pegasusSchema;
+    this.renamedSchema = renamedSchema;
+  }
+
+  /**
+   * Translates the record into a {@link DataMap}.
+   *
+   * @param record the record in com.linkedin.pegasus2avro namespace
+   * @return the {@link DataMap} of the Pegasus model
+   * @throws IOException if the record can not be translated
+   */
+  @Nonnull
+  DataMap translate(@Nonnull GenericRecord record) throws IOException {
+    final Schema writerSchema = record.getSchema();
+    final GenericRecord renamed =
+        writerSchema == renamedSchema || writerSchema.equals(renamedSchema)
+            ? record
+            : resolve(record);
+    return (DataMap) translate(renamed, pegasusSchema, renamedSchema);
+  }
+
+  /** Reads the record with the renamed schema, resolving the differences with its own schema */
+  @Nonnull
+  private GenericRecord resolve(@Nonnull GenericRecord record) throws IOException {
+    final Schema writerSchema = record.getSchema();
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(os, null);
+    new GenericDatumWriter<GenericRecord>(writerSchema).write(record, encoder);
+    encoder.flush();
+
+    final GenericDatumReader<GenericRecord> reader =
+        resolvers.computeIfAbsent(
+            writerSchema, schema -> new GenericDatumReader<>(schema, renamedSchema));
+    return reader.read(null, DecoderFactory.get().binaryDecoder(os.toByteArray(), null));
+  }
+
+  @Nullable
+  private Object translate(
+      @Nullable Object value, @Nonnull DataSchema dataSchema, @Nonnull Schema avroSchema)
+      throws IOException {
+    final DataSchema dereferencedDataSchema = dataSchema.getDereferencedDataSchema();
+    switch (dereferencedDataSchema.getType()) {
+      case NULL:
+        if (value != null) {
+          throw new IOException("Unexpected value for null schema: " + value);
+        }
+        return Data.NULL;
+      case ENUM:
+        final String symbol = value.toString();
+        if (!((EnumDataSchema) dereferencedDataSchema).getSymbols().contains(symbol)) {
+          throw new IOException("Unknown enum symbol " + symbol);
+        }
+        return symbol;
+      case MAP:
+        final DataSchema valueDataSchema = ((MapDataSchema) dereferencedDataSchema).getValues();
+        final Map<?, ?> map = (Map<?, ?>) value;
+        final DataMap dataMap = new DataMap(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          dataMap.put(
+              entry.getKey().toString(),
+              translate(entry.getValue(), valueDataSchema, avroSchema.getValueType()));
+        }
+        return dataMap;
+      case ARRAY:
+        final DataSchema itemsDataSchema = ((ArrayDataSchema) dereferencedDataSchema).getItems();
+        final List<?> list = (List<?>) value;
+        final DataList dataList = new DataList(list.size());
+        for (Object item : list) {
+          dataList.add(translate(item, itemsDataSchema, avroSchema.getElementType()));
+        }
+        return dataList;
+      case RECORD:
+        return translateRecord(
+            (GenericRecord) value, (RecordDataSchema) dereferencedDataSchema, avroSchema);
+      case UNION:
+        return translateUnion(value, (UnionDataSchema) dereferencedDataSchema, avroSchema);
+      case BYTES:
+        final ByteBuffer byteBuffer = ((ByteBuffer) value).duplicate();
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return ByteString.unsafeWrap(bytes);
+      case FIXED:
+        final byte[] fixedBytes = ((GenericFixed) value).bytes();
+        if (((FixedDataSchema) dereferencedDataSchema).getSize() != fixedBytes.length) {
+          throw new IOException("Unexpected size of fixed value: " + fixedBytes.length);
+        }
+        return ByteString.copy(fixedBytes);
+      case STRING:
+        return value.toString();
+      case BOOLEAN:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return value;
+      default:
+        throw new IOException("Unsupported schema type " + dereferencedDataSchema.getType());
+    }
+  }
+
+  @Nonnull
+  private DataMap translateRecord(
+      @Nonnull GenericRecord record,
+      @Nonnull RecordDataSchema recordDataSchema,
+      @Nonnull Schema avroSchema)
+      throws IOException {
+    final DataMap dataMap = new DataMap(avroSchema.getFields().size());
+    for (RecordDataSchema.Field field : recordDataSchema.getFields()) {
+      final Schema.Field avroField = avroSchema.getField(field.getName());
+      if (avroField == null) {
+        throw new IOException("Avro schema does not have field " + field.getName());
+      }
+      // Absent and null fields are left out, as in the DataTranslator
+      final Object fieldValue = record.get(avroField.pos());
+      if (fieldValue == null) {
+        continue;
+      }
+      final DataSchema fieldDataSchema = field.getType();
+      dataMap.put(
+          field.getName(),
+          translate(fieldValue, fieldDataSchema, nonNullSchema(fieldDataSchema, avroField)));
+    }
+    return dataMap;
+  }
+
+  /**
+   * Optional fields are unions with null in Avro. Unions are kept whole since resolving a non null
+   * value against them never picks the null member.
+   */
+  @Nonnull
+  private static Schema nonNullSchema(
+      @Nonnull DataSchema fieldDataSchema, @Nonnull Schema.Field avroField) throws IOException {
+    final Schema avroSchema = avroField.schema();
+    if (avroSchema.getType() != Schema.Type.UNION
+        || fieldDataSchema.getDereferencedType() == DataSchema.Type.UNION) {
+      return avroSchema;
+    }
+    Schema nonNullSchema = null;
+    for (Schema member : avroSchema.getTypes()) {
+      if (member.getType() != Schema.Type.NULL) {
+        if (nonNullSchema != null) {
+          throw new IOException("Unexpected union for field " + avroField.name());
+        }
+        nonNullSchema = member;
+      }
+    }
+    if (nonNullSchema == null) {
+      throw new IOException("Unexpected null schema for field " + avroField.name());
+    }
+    return nonNullSchema;
+  }
+
+  @Nullable
+  private Object translateUnion(
+      @Nullable Object value, @Nonnull UnionDataSchema unionDataSchema, @Nonnull Schema avroSchema)
+      throws IOException {
+    final int index = SpecificData.get().resolveUnion(avroSchema, value);
+    final Schema memberAvroSchema = avroSchema.getTypes().get(index);
+    final DataSchema memberDataSchema =
+        unionDataSchema.getTypeByMemberKey(unionMemberKey(memberAvroSchema));
+    if (memberDataSchema == null) {
+      throw new IOException("Cannot find " + memberAvroSchema.getFullName() + " in union");
+    }
+    if (value == null) {
+      return Data.NULL;
+    }
+    final DataMap dataMap = new DataMap(1);
+    dataMap.put(
+        memberDataSchema.getUnionMemberKey(),
+        translate(value, memberDataSchema, memberAvroSchema));
+    return dataMap;
+  }
+
+  /** The Pegasus member key of an Avro union member, named members mapped to their original name */
+  @Nonnull
+  private static String unionMemberKey(@Nonnull Schema memberAvroSchema) {
+    switch (memberAvroSchema.getType()) {
+      case ENUM:
+      case FIXED:
+      case RECORD:
+        final String fullName = memberAvroSchema.getFullName();
+        return fullName.startsWith(RENAMED_NAMESPACE_PREFIX)
+            ? ORIGINAL_NAMESPACE_PREFIX + fullName.substring(RENAMED_NAMESPACE_PREFIX.length())
+            : fullName;
+      default:
+        return memberAvroSchema.getType().getName();
+    }
+  }
+}
@@ -5,12 +5,21 @@ import static org.testng.Assert.*;
 
 import com.datahub.util.RecordUtils;
 import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.mxe.FailedMetadataChangeEvent;
+import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataAuditEvent;
 import com.linkedin.mxe.MetadataChangeEvent;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
@@ -97,6 +106,61 @@ public class EventUtilsTests {
     assertNotNull(record.get("metadataChangeEvent"));
   }
 
+  @Test
+  public void testDirectTranslationMatchesOriginalSchema() throws IOException {
+    GenericRecord mae =
+        genericRecordFromResource(
+            "test-avro2pegasus-mae.json", com.linkedin.pegasus2avro.mxe.MetadataAuditEvent.SCHEMA$);
+    assertDirectTranslation(
+        mae,
+        new MetadataAuditEvent().schema(),
+        "avro/com/linkedin/mxe/MetadataAuditEvent.avsc");
+
+    GenericRecord mce =
+        genericRecordFromResource(
+            "test-avro2pegasus-mce.json",
+            com.linkedin.pegasus2avro.mxe.MetadataChangeEvent.SCHEMA$);
+    assertDirectTranslation(
+        mce,
+        new MetadataChangeEvent().schema(),
+        "avro/com/linkedin/mxe/MetadataChangeEvent.avsc");
+  }
+
+  @Test
+  public void testAvroToPegasusMCL() throws IOException {
+    MetadataChangeLog mcl =
+        new MetadataChangeLog()
+            .setEntityType("dataset")
+            .setEntityUrn(
+                UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)"))
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName("status")
+            .setAspect(
+                new GenericAspect()
+                    .setContentType("application/json")
+                    .setValue(ByteString.copyString("{\"removed\":false}", StandardCharsets.UTF_8)))
+            .setSystemMetadata(new SystemMetadata().setRunId("run").setLastObserved(1L));
+
+    GenericRecord record = EventUtils.pegasusToAvroMCL(mcl);
+
+    assertEquals(EventUtils.avroToPegasusMCL(record).getAspect(), mcl.getAspect());
+    assertDirectTranslation(record, mcl.schema(), "avro/com/linkedin/mxe/MetadataChangeLog.avsc");
+  }
+
+  private void assertDirectTranslation(
+      GenericRecord record, RecordDataSchema pegasusSchema, String originalSchemaPath)
+      throws IOException {
+    Schema originalSchema =
+        new Schema.Parser()
+            .parse(getClass().getClassLoader().getResourceAsStream(originalSchemaPath));
+    DataMap expected =
+        EventUtils.avroToDataMapViaOriginalSchema(
+            record, record.getSchema(), originalSchema, pegasusSchema);
+
+    assertEquals(
+        new RenamedAvroTranslator(pegasusSchema, record.getSchema()).translate(record), expected);
+  }
+
   private GenericRecord genericRecordFromResource(String resourcePath, Schema schema)
       throws IOException {
     InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
@@ -15,15 +15,19 @@ import datahub.client.MetadataWriteResponse;
 import datahub.event.EventFormatter;
 import datahub.event.MetadataChangeProposalWrapper;
 import datahub.event.UpsertAspectRequest;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -34,11 +38,15 @@ public class FileEmitter implements Emitter {
   private final ObjectMapper objectMapper;
   private final JacksonDataTemplateCodec dataTemplateCodec;
 
-  private final BufferedWriter writer;
+  private final RotatingFileWriter writer;
   private final Future<MetadataWriteResponse> cachedSuccessFuture;
   private final AtomicBoolean closed;
-  private boolean wroteSomething;
+  @Nullable private final BlockingQueue<PendingWrite> writeQueue;
+  @Nullable private final Thread writerThread;
+  // Only accessed by the writer thread
+  @Nullable private IOException writeFailure;
   private static final String INDENT_4 = "    ";
+  private static final PendingWrite CLOSE = new PendingWrite(null, null, null);
 
   /**
    * The default constructor
@@ -59,22 +67,29 @@ public class FileEmitter implements Emitter {
     this.config = config;
     this.eventFormatter = this.config.getEventFormatter();
 
-    DefaultPrettyPrinter pp =
-        new DefaultPrettyPrinter()
-            .withObjectIndenter(new DefaultIndenter(FileEmitter.INDENT_4, DefaultIndenter.SYS_LF))
-            .withArrayIndenter(new DefaultIndenter(FileEmitter.INDENT_4, DefaultIndenter.SYS_LF));
-    this.dataTemplateCodec.setPrettyPrinter(pp);
+    if (config.getFormat() == FileEmitterConfig.Format.JSON) {
+      DefaultPrettyPrinter pp =
+          new DefaultPrettyPrinter()
+              .withObjectIndenter(new DefaultIndenter(FileEmitter.INDENT_4, DefaultIndenter.SYS_LF))
+              .withArrayIndenter(new DefaultIndenter(FileEmitter.INDENT_4, DefaultIndenter.SYS_LF));
+      this.dataTemplateCodec.setPrettyPrinter(pp);
+    }
 
     try {
-      FileWriter fw = new FileWriter(config.getFileName(), false);
-      this.writer = new BufferedWriter(fw);
-      this.writer.append("[");
-      this.writer.newLine();
+      this.writer = new RotatingFileWriter(config);
       this.closed = new AtomicBoolean(false);
     } catch (IOException e) {
       throw new RuntimeException("Error while creating file", e);
     }
-    this.wroteSomething = false;
+    if (config.getWriteQueueSize() > 0) {
+      this.writeQueue = new ArrayBlockingQueue<>(config.getWriteQueueSize());
+      this.writerThread = new Thread(this::writeQueued, "datahub-file-emitter-writer");
+      this.writerThread.setDaemon(true);
+      this.writerThread.start();
+    } else {
+      this.writeQueue = null;
+      this.writerThread = null;
+    }
     log.debug("Emitter created successfully for " + this.config.getFileName());
 
     this.cachedSuccessFuture =
@@ -112,10 +127,27 @@ public class FileEmitter implements Emitter {
 
   @Override
   public void close() throws IOException {
-    this.writer.newLine();
-    this.writer.append("]");
+    if (writeQueue != null) {
+      synchronized (writeQueue) {
+        if (!this.closed.compareAndSet(false, true)) {
+          return;
+        }
+        putUninterruptibly(CLOSE);
+      }
+      try {
+        writerThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while writing the queued proposals", e);
+      }
+    } else {
+      synchronized (writer) {
+        if (!this.closed.compareAndSet(false, true)) {
+          return;
+        }
+      }
+    }
     this.writer.close();
-    this.closed.set(true);
     log.debug("Emitter closed for {}", this.config.getFileName());
   }
 
@@ -130,22 +162,19 @@ public class FileEmitter implements Emitter {
   public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback callback)
       throws IOException {
     if (this.closed.get()) {
-      String errorMsg = "File Emitter is already closed.";
-      log.error(errorMsg);
-      Future<MetadataWriteResponse> response = createFailureFuture(errorMsg);
-      if (callback != null) {
-        callback.onFailure(new Exception(errorMsg));
-      }
-      return response;
+      return closedFailure(callback);
     }
     try {
       String serializedMCP = this.dataTemplateCodec.mapToString(mcp.data());
-      if (wroteSomething) {
-        this.writer.append(",");
-        this.writer.newLine();
+      if (writeQueue != null) {
+        return enqueue(serializedMCP, callback);
+      }
+      synchronized (writer) {
+        if (this.closed.get()) {
+          return closedFailure(callback);
+        }
+        this.writer.write(serializedMCP);
       }
-      this.writer.append(serializedMCP);
-      wroteSomething = true;
       log.debug("MCP written successfully: {}", serializedMCP);
       Future<MetadataWriteResponse> response = this.cachedSuccessFuture;
       if (callback != null) {
@@ -169,6 +198,102 @@ public class FileEmitter implements Emitter {
     }
   }
 
+  private Future<MetadataWriteResponse> closedFailure(Callback callback) {
+    String errorMsg = "File Emitter is already closed.";
+    log.error(errorMsg);
+    Future<MetadataWriteResponse> response = createFailureFuture(errorMsg);
+    if (callback != null) {
+      callback.onFailure(new Exception(errorMsg));
+    }
+    return response;
+  }
+
+  private Future<MetadataWriteResponse> enqueue(String serializedMCP, Callback callback) {
+    PendingWrite pending =
+        new PendingWrite(serializedMCP, callback, new CompletableFuture<MetadataWriteResponse>());
+    // Blocks while the queue is full, and keeps close from overtaking the proposal
+    synchronized (writeQueue) {
+      if (this.closed.get()) {
+        return closedFailure(callback);
+      }
+      putUninterruptibly(pending);
+    }
+    return pending.getFuture();
+  }
+
+  private void putUninterruptibly(PendingWrite pending) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        writeQueue.put(pending);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Writes the queued proposals until the emitter is closed, on the writer thread. */
+  private void writeQueued() {
+    List<PendingWrite> batch = new ArrayList<>();
+    while (true) {
+      try {
+        batch.add(writeQueue.take());
+      } catch (InterruptedException e) {
+        continue;
+      }
+      writeQueue.drainTo(batch);
+      for (PendingWrite pending : batch) {
+        if (pending == CLOSE) {
+          return;
+        }
+        write(pending);
+      }
+      batch.clear();
+    }
+  }
+
+  private void write(PendingWrite pending) {
+    Throwable failure = null;
+    if (writeFailure != null) {
+      // Later proposals would follow a gap in the file
+      failure = writeFailure;
+    } else {
+      try {
+        this.writer.write(pending.getSerializedMCP());
+      } catch (IOException e) {
+        log.error("Failed to write to {}", this.config.getFileName(), e);
+        writeFailure = e;
+        failure = e;
+      }
+    }
+    MetadataWriteResponse response =
+        failure == null
+            ? MetadataWriteResponse.builder()
+                .success(true)
+                .responseContent("MCP witten to File")
+                .build()
+            : MetadataWriteResponse.builder()
+                .success(false)
+                .responseContent(failure.getMessage())
+                .build();
+    pending.getFuture().complete(response);
+    if (pending.getCallback() != null) {
+      try {
+        if (failure == null) {
+          pending.getCallback().onCompletion(response);
+        } else {
+          pending.getCallback().onFailure(failure);
+        }
+      } catch (Exception e) {
+        log.warn("Callback could not be executed.", e);
+      }
+    }
+  }
+
   @Override
   public boolean testConnection() throws IOException, ExecutionException, InterruptedException {
     throw new UnsupportedOperationException("testConnection not relevant for File Emitter");
@@ -210,4 +335,11 @@ public class FileEmitter implements Emitter {
       }
     };
   }
+
+  @Value
+  private static class PendingWrite {
+    String serializedMCP;
+    Callback callback;
+    CompletableFuture<MetadataWriteResponse> future;
+  }
 }
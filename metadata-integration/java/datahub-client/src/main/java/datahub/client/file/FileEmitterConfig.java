@@ -12,4 +12,33 @@ public class FileEmitterConfig {
   @Builder.Default
   private final EventFormatter eventFormatter =
       new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
+
+  @Builder.Default private final Format format = Format.JSON;
+
+  @Builder.Default private final Compression compression = Compression.NONE;
+
+  /**
+   * Approximate size of each file in bytes, after compression. When set, the proposals are written
+   * to numbered files, e.g. {@code mcps.00000.json.gz} and {@code mcps.00001.json.gz} for a file
+   * name of {@code mcps.json.gz}. With 0, they are all written to the file name.
+   */
+  @Builder.Default private final long maxFileBytes = 0;
+
+  /**
+   * Proposals waiting to be written by a background thread, beyond which emit blocks. With 0, the
+   * proposals are written on the thread calling emit.
+   */
+  @Builder.Default private final int writeQueueSize = 0;
+
+  public enum Format {
+    /** A pretty printed JSON array, as read by the file source of the Python ingestion. */
+    JSON,
+    /** One compact JSON proposal per line. */
+    NDJSON,
+  }
+
+  public enum Compression {
+    NONE,
+    GZIP,
+  }
 }
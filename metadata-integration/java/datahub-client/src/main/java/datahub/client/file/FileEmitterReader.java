@@ -0,0 +1,139 @@
+package datahub.client.file;
+
+import static com.linkedin.metadata.Constants.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.data.template.JacksonDataTemplateCodec;
+import com.linkedin.mxe.MetadataChangeProposal;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Streams the proposals written by a {@link FileEmitter} back, one at a time, for instance to emit
+ * them through a batching {@link datahub.client.rest.RestEmitter}. Reads both formats, compressed
+ * or not, and the files of a rotated output in order.
+ */
+@NotThreadSafe
+public class FileEmitterReader implements Iterator<MetadataChangeProposal>, Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Iterator<String> fileNames;
+  private final ObjectMapper objectMapper;
+  private final JacksonDataTemplateCodec dataTemplateCodec;
+  @Nullable private JsonParser parser;
+  @Nullable private MetadataChangeProposal next;
+
+  public FileEmitterReader(@Nonnull List<String> fileNames) {
+    this.fileNames = fileNames.iterator();
+    objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    int maxSize =
+        Integer.parseInt(
+            System.getenv()
+                .getOrDefault(INGESTION_MAX_SERIALIZED_STRING_LENGTH, MAX_JACKSON_STRING_SIZE));
+    objectMapper
+        .getFactory()
+        .setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(maxSize).build());
+    dataTemplateCodec = new JacksonDataTemplateCodec(objectMapper.getFactory());
+  }
+
+  /** Reads the files written by a {@link FileEmitter} with the config. */
+  @Nonnull
+  public static FileEmitterReader of(@Nonnull FileEmitterConfig config) {
+    if (config.getMaxFileBytes() <= 0) {
+      return new FileEmitterReader(Collections.singletonList(config.getFileName()));
+    }
+    List<String> fileNames = new ArrayList<>();
+    for (int part = 0; ; part++) {
+      String fileName = RotatingFileWriter.partFileName(config, part);
+      if (!Files.exists(Paths.get(fileName))) {
+        break;
+      }
+      fileNames.add(fileName);
+    }
+    return new FileEmitterReader(fileNames);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public MetadataChangeProposal next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    MetadataChangeProposal mcp = next;
+    next = null;
+    return mcp;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (parser != null) {
+      parser.close();
+      parser = null;
+    }
+  }
+
+  @Nullable
+  private MetadataChangeProposal readNext() throws IOException {
+    while (true) {
+      if (parser == null) {
+        if (!fileNames.hasNext()) {
+          return null;
+        }
+        parser = open(fileNames.next());
+      }
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        close();
+      } else if (token == JsonToken.START_OBJECT) {
+        String json = objectMapper.readTree(parser).toString();
+        return new MetadataChangeProposal(dataTemplateCodec.stringToMap(json));
+      } else if (token != JsonToken.START_ARRAY && token != JsonToken.END_ARRAY) {
+        // JSON files hold an array of proposals, NDJSON files a sequence of them
+        throw new IOException(
+            String.format("Unexpected %s at %s", token, parser.getCurrentLocation()));
+      }
+    }
+  }
+
+  private JsonParser open(String fileName) throws IOException {
+    InputStream in = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+    in.mark(2);
+    int magic = in.read() | (in.read() << 8);
+    in.reset();
+    if (magic == GZIPInputStream.GZIP_MAGIC) {
+      in = new GZIPInputStream(in, BUFFER_SIZE);
+    }
+    return objectMapper.getFactory().createParser(in);
+  }
+}
@@ -0,0 +1,130 @@
+package datahub.client.file;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes serialized proposals in the format and compression of a {@link FileEmitterConfig},
+ * starting a new file once the current one reaches {@link FileEmitterConfig#getMaxFileBytes()}.
+ * Each file is complete on its own.
+ */
+@NotThreadSafe
+@Slf4j
+class RotatingFileWriter {
+
+  private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+  private final FileEmitterConfig config;
+  private int part = 0;
+  private Writer writer;
+  private CountingOutputStream fileStream;
+  private boolean wroteSomething;
+
+  RotatingFileWriter(@Nonnull FileEmitterConfig config) throws IOException {
+    this.config = config;
+    open();
+  }
+
+  /**
+   * Name of the file a part of the output is written to. Parts are numbered before the first
+   * extension of the file name.
+   */
+  @Nonnull
+  static String partFileName(@Nonnull FileEmitterConfig config, int part) {
+    if (config.getMaxFileBytes() <= 0) {
+      return config.getFileName();
+    }
+    Path path = Paths.get(config.getFileName());
+    String name = path.getFileName().toString();
+    int extension = name.indexOf('.', 1);
+    String partName =
+        extension < 0
+            ? String.format("%s.%05d", name, part)
+            : String.format(
+                "%s.%05d%s", name.substring(0, extension), part, name.substring(extension));
+    return path.resolveSibling(partName).toString();
+  }
+
+  void write(@Nonnull String serializedProposal) throws IOException {
+    if (wroteSomething
+        && config.getMaxFileBytes() > 0
+        && fileStream.getCount() >= config.getMaxFileBytes()) {
+      finish();
+      part++;
+      open();
+    }
+    if (config.getFormat() == FileEmitterConfig.Format.JSON) {
+      if (wroteSomething) {
+        writer.write(",\n");
+      }
+      writer.write(serializedProposal);
+    } else {
+      writer.write(serializedProposal);
+      writer.write('\n');
+    }
+    wroteSomething = true;
+  }
+
+  void close() throws IOException {
+    finish();
+  }
+
+  private void open() throws IOException {
+    String fileName = partFileName(config, part);
+    fileStream = new CountingOutputStream(new FileOutputStream(fileName, false));
+    OutputStream out = fileStream;
+    if (config.getCompression() == FileEmitterConfig.Compression.GZIP) {
+      out = new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+    }
+    writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    if (config.getFormat() == FileEmitterConfig.Format.JSON) {
+      writer.write("[\n");
+    }
+    wroteSomething = false;
+    log.debug("Writing to {}", fileName);
+  }
+
+  private void finish() throws IOException {
+    if (config.getFormat() == FileEmitterConfig.Format.JSON) {
+      writer.write("\n]");
+    }
+    writer.close();
+  }
+
+  /** Counts the bytes written to the file, so after compression. */
+  private static class CountingOutputStream extends FilterOutputStream {
+    private long count = 0;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    long getCount() {
+      return count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
@@ -7,12 +7,23 @@ import datahub.client.MetadataWriteResponse;
 import datahub.event.MetadataChangeProposalWrapper;
 import datahub.event.UpsertAspectRequest;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -30,6 +41,9 @@ public class KafkaEmitter implements Emitter {
   private final KafkaProducer<Object, Object> producer;
   private final Properties kafkaConfigProperties;
   private AvroSerializer _avroSerializer;
+  // Single thread executors, the proposals of an entity are always sent by the same one, in order.
+  @Nullable private final ThreadPoolExecutor[] serializerLanes;
+  @Nullable private final ScheduledExecutorService metricsScheduler;
   private static final int ADMIN_CLIENT_TIMEOUT_MS = 5000;
 
   /**
@@ -53,10 +67,85 @@ public class KafkaEmitter implements Emitter {
     kafkaConfigProperties.putAll(config.getProducerConfig());
     producer = new KafkaProducer<>(kafkaConfigProperties);
     _avroSerializer = new AvroSerializer();
+    serializerLanes = config.getSerializerThreads() > 0 ? createSerializerLanes(config) : null;
+    if (config.getMetricsReporter() != null) {
+      metricsScheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "datahub-kafka-emitter-metrics");
+                thread.setDaemon(true);
+                return thread;
+              });
+      metricsScheduler.scheduleAtFixedRate(
+          this::reportMetrics,
+          config.getMetricsIntervalMs(),
+          config.getMetricsIntervalMs(),
+          TimeUnit.MILLISECONDS);
+    } else {
+      metricsScheduler = null;
+    }
+  }
+
+  private static ThreadPoolExecutor[] createSerializerLanes(KafkaEmitterConfig config) {
+    ThreadPoolExecutor[] lanes = new ThreadPoolExecutor[config.getSerializerThreads()];
+    for (int i = 0; i < lanes.length; i++) {
+      String threadName = "datahub-kafka-emitter-serializer-" + (i + 1);
+      lanes[i] =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(config.getSerializerQueueSize()),
+              runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+              },
+              KafkaEmitter::awaitLane);
+    }
+    return lanes;
+  }
+
+  /**
+   * Pushes back on the callers when a lane is full by blocking them until it has room. Running the
+   * task on the calling thread instead would send it ahead of the proposals queued in the lane.
+   */
+  private static void awaitLane(Runnable task, ThreadPoolExecutor lane) {
+    if (lane.isShutdown()) {
+      throw new RejectedExecutionException("Cannot emit through a closed emitter");
+    }
+    try {
+      lane.getQueue().put(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for a serializer thread", e);
+    }
+    // The lane may have stopped while the caller was waiting, leaving the task unexecuted
+    if (lane.isShutdown() && lane.remove(task)) {
+      throw new RejectedExecutionException("Cannot emit through a closed emitter");
+    }
   }
 
   @Override
   public void close() throws IOException {
+    if (serializerLanes != null) {
+      for (ThreadPoolExecutor lane : serializerLanes) {
+        lane.shutdown();
+      }
+      try {
+        for (ThreadPoolExecutor lane : serializerLanes) {
+          lane.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (metricsScheduler != null) {
+      producer.flush();
+      metricsScheduler.shutdownNow();
+      reportMetrics();
+    }
     producer.close();
   }
 
@@ -64,23 +153,31 @@ public class KafkaEmitter implements Emitter {
   public Future<MetadataWriteResponse> emit(
       @SuppressWarnings("rawtypes") MetadataChangeProposalWrapper mcpw, Callback datahubCallback)
       throws IOException {
+    if (serializerLanes != null) {
+      return submit(
+          mcpw.getEntityUrn(),
+          () -> this.config.getEventFormatter().convert(mcpw),
+          datahubCallback);
+    }
     return emit(this.config.getEventFormatter().convert(mcpw), datahubCallback);
   }
 
   @Override
   public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback datahubCallback)
       throws IOException {
-    GenericRecord genricRecord = _avroSerializer.serialize(mcp);
-    ProducerRecord<Object, Object> record =
-        new ProducerRecord<>(
-            KafkaEmitter.DEFAULT_MCP_KAFKA_TOPIC, mcp.getEntityUrn().toString(), genricRecord);
+    if (serializerLanes != null) {
+      return submit(String.valueOf(mcp.getEntityUrn()), () -> mcp, datahubCallback);
+    }
+    ProducerRecord<Object, Object> record = toRecord(mcp);
     org.apache.kafka.clients.producer.Callback callback =
         new org.apache.kafka.clients.producer.Callback() {
 
           @Override
           public void onCompletion(RecordMetadata metadata, Exception exception) {
             MetadataWriteResponse response = mapResponse(metadata, exception);
-            datahubCallback.onCompletion(response);
+            if (datahubCallback != null) {
+              datahubCallback.onCompletion(response);
+            }
           }
         };
     log.debug("Emit: topic: {} \n record: {}", KafkaEmitter.DEFAULT_MCP_KAFKA_TOPIC, record);
@@ -88,6 +185,90 @@ public class KafkaEmitter implements Emitter {
     return mapFuture(future);
   }
 
+  /**
+   * Asynchronously emit several {@link MetadataChangeProposal} events. With serializer threads, the
+   * proposals of different entities are converted and sent concurrently, otherwise all of them are
+   * sent in order on the calling thread. The proposals of an entity are always sent in order.
+   *
+   * @return a {@link Future} completed with the responses in the order of the proposals once all of
+   *     them are sent, or exceptionally as soon as one of them fails
+   */
+  public Future<List<MetadataWriteResponse>> emitAll(
+      @Nonnull Iterable<MetadataChangeProposal> mcps) {
+    List<CompletableFuture<MetadataWriteResponse>> futures = new ArrayList<>();
+    for (MetadataChangeProposal mcp : mcps) {
+      if (serializerLanes != null) {
+        futures.add(submit(String.valueOf(mcp.getEntityUrn()), () -> mcp, null));
+      } else {
+        CompletableFuture<MetadataWriteResponse> future = new CompletableFuture<>();
+        send(() -> mcp, null, future);
+        futures.add(future);
+      }
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .thenApply(
+            ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  }
+
+  /**
+   * Sends the proposal from the serializer lane of its entity, so that the proposals of an entity
+   * keep their order, like the records of a key within a partition.
+   */
+  private CompletableFuture<MetadataWriteResponse> submit(
+      @Nullable String entityUrn,
+      @Nonnull ProposalSupplier proposal,
+      @Nullable Callback datahubCallback) {
+    CompletableFuture<MetadataWriteResponse> future = new CompletableFuture<>();
+    ThreadPoolExecutor lane =
+        serializerLanes[Math.floorMod(Objects.hashCode(entityUrn), serializerLanes.length)];
+    lane.execute(() -> send(proposal, datahubCallback, future));
+    return future;
+  }
+
+  /** Converts and sends the proposal, completing the future with the response of the broker. */
+  private void send(
+      @Nonnull ProposalSupplier proposal,
+      @Nullable Callback datahubCallback,
+      @Nonnull CompletableFuture<MetadataWriteResponse> future) {
+    try {
+      ProducerRecord<Object, Object> record = toRecord(proposal.get());
+      log.debug("Emit: topic: {} \n record: {}", KafkaEmitter.DEFAULT_MCP_KAFKA_TOPIC, record);
+      // The producer Avro encodes the value within send, so on this thread as well
+      this.producer.send(
+          record,
+          (metadata, exception) -> {
+            MetadataWriteResponse response = mapResponse(metadata, exception);
+            if (exception == null) {
+              future.complete(response);
+            } else {
+              future.completeExceptionally(exception);
+            }
+            if (datahubCallback != null) {
+              datahubCallback.onCompletion(response);
+            }
+          });
+    } catch (IOException | RuntimeException e) {
+      future.completeExceptionally(e);
+      if (datahubCallback != null) {
+        datahubCallback.onFailure(e);
+      }
+    }
+  }
+
+  private ProducerRecord<Object, Object> toRecord(MetadataChangeProposal mcp) throws IOException {
+    GenericRecord genricRecord = _avroSerializer.serialize(mcp);
+    return new ProducerRecord<>(
+        KafkaEmitter.DEFAULT_MCP_KAFKA_TOPIC, mcp.getEntityUrn().toString(), genricRecord);
+  }
+
+  private void reportMetrics() {
+    try {
+      config.getMetricsReporter().report(ProducerMetrics.from(producer.metrics()));
+    } catch (Exception e) {
+      log.error("Error reporting the producer metrics.", e);
+    }
+  }
+
   private Future<MetadataWriteResponse> mapFuture(Future<RecordMetadata> future) {
     return new Future<MetadataWriteResponse>() {
 
@@ -162,4 +343,9 @@ public class KafkaEmitter implements Emitter {
   public Properties getKafkaConfgiProperties() {
     return kafkaConfigProperties;
   }
+
+  @FunctionalInterface
+  private interface ProposalSupplier {
+    MetadataChangeProposal get() throws IOException;
+  }
 }
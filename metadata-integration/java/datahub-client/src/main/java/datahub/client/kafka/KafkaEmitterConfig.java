@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 public class KafkaEmitterConfig {
 
   public static final String CLIENT_VERSION_PROPERTY = "clientVersion";
+  public static final int DEFAULT_SERIALIZER_QUEUE_SIZE = 10000;
+  public static final long DEFAULT_METRICS_INTERVAL_MS = 10000;
 
   @Builder.Default private final String bootstrap = "localhost:9092";
   @Builder.Default private final String schemaRegistryUrl = "http://localhost:8081";
@@ -27,6 +30,20 @@ public class KafkaEmitterConfig {
   private final EventFormatter eventFormatter =
       new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
 
+  /**
+   * Number of threads converting and sending proposals. The proposals of an entity are always sent
+   * by the same thread, in order. With 0, they are converted on the thread calling emit.
+   */
+  @Builder.Default private final int serializerThreads = 0;
+
+  /** Proposals waiting for each serializer thread, beyond which emit blocks until there is room. */
+  @Builder.Default private final int serializerQueueSize = DEFAULT_SERIALIZER_QUEUE_SIZE;
+
+  /** If not null, periodically receives the batching metrics of the producer. */
+  @Nullable private final ProducerMetricsReporter metricsReporter;
+
+  @Builder.Default private final long metricsIntervalMs = DEFAULT_METRICS_INTERVAL_MS;
+
   public static class KafkaEmitterConfigBuilder {
 
     @SuppressWarnings("unused")
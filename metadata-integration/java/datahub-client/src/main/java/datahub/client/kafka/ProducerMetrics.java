@@ -0,0 +1,62 @@
+package datahub.client.kafka;
+
+import java.util.Map;
+import javax.annotation.Nonnull;
+import lombok.Builder;
+import lombok.Value;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+/**
+ * Snapshot of the batching metrics of a Kafka producer. Rates are averaged over the sample window
+ * of the producer, and are NaN until a record has been sent.
+ */
+@Value
+@Builder
+public class ProducerMetrics {
+
+  private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+
+  /** Records sent per second. */
+  double recordSendRate;
+
+  /** Bytes sent to the brokers per second. */
+  double outgoingByteRate;
+
+  /** Average time records spent in the send buffer, in milliseconds. */
+  double recordQueueTimeAvg;
+
+  /** Maximum time records spent in the send buffer, in milliseconds. */
+  double recordQueueTimeMax;
+
+  /** Average size of the batches sent, in bytes. */
+  double batchSizeAvg;
+
+  /** Average number of records per request. */
+  double recordsPerRequestAvg;
+
+  @Nonnull
+  static ProducerMetrics from(@Nonnull Map<MetricName, ? extends Metric> metrics) {
+    return ProducerMetrics.builder()
+        .recordSendRate(value(metrics, "record-send-rate"))
+        .outgoingByteRate(value(metrics, "outgoing-byte-rate"))
+        .recordQueueTimeAvg(value(metrics, "record-queue-time-avg"))
+        .recordQueueTimeMax(value(metrics, "record-queue-time-max"))
+        .batchSizeAvg(value(metrics, "batch-size-avg"))
+        .recordsPerRequestAvg(value(metrics, "records-per-request-avg"))
+        .build();
+  }
+
+  private static double value(Map<MetricName, ? extends Metric> metrics, String name) {
+    return metrics.entrySet().stream()
+        .filter(
+            entry ->
+                PRODUCER_METRICS_GROUP.equals(entry.getKey().group())
+                    && name.equals(entry.getKey().name()))
+        .map(entry -> entry.getValue().metricValue())
+        .filter(Number.class::isInstance)
+        .mapToDouble(value -> ((Number) value).doubleValue())
+        .findFirst()
+        .orElse(Double.NaN);
+  }
+}
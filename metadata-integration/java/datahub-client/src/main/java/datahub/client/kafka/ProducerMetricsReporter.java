@@ -0,0 +1,14 @@
+package datahub.client.kafka;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the batching metrics of the producer of a {@link KafkaEmitter}, every {@link
+ * KafkaEmitterConfig#getMetricsIntervalMs()} and once more when the emitter is closed. Called from
+ * a single background thread.
+ */
+@FunctionalInterface
+public interface ProducerMetricsReporter {
+
+  void report(@Nonnull ProducerMetrics metrics);
+}
@@ -0,0 +1,209 @@
+package datahub.client.rest;
+
+import datahub.client.Callback;
+import datahub.client.MetadataWriteResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.concurrent.FutureCallback;
+
+/**
+ * Groups serialized proposals into batches bounded by count, size and linger time. At most
+ * maxInFlight batches are sent without a response, further sends block the calling thread.
+ */
+@ThreadSafe
+@Slf4j
+class ProposalBatcher implements Closeable {
+
+  @FunctionalInterface
+  interface Sender {
+    /** Sends the proposals as one request and reports its response to the callback. */
+    void send(
+        @Nonnull List<String> proposals, @Nonnull FutureCallback<MetadataWriteResponse> callback)
+        throws IOException;
+  }
+
+  private final Sender sender;
+  private final int maxProposals;
+  private final long maxBytes;
+  private final long lingerMs;
+  private final int maxInFlight;
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService lingerScheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "datahub-rest-emitter-linger");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private List<PendingProposal> buffer = new ArrayList<>();
+  private long bufferBytes = 0;
+  @Nullable private ScheduledFuture<?> lingerFlush;
+  private boolean closed = false;
+
+  ProposalBatcher(
+      @Nonnull Sender sender, int maxProposals, long maxBytes, long lingerMs, int maxInFlight) {
+    this.sender = sender;
+    this.maxProposals = maxProposals;
+    this.maxBytes = maxBytes;
+    this.lingerMs = lingerMs;
+    this.maxInFlight = maxInFlight;
+    this.inFlight = new Semaphore(maxInFlight);
+  }
+
+  /**
+   * Adds the proposal to the current batch, sending it if full.
+   *
+   * @return a future completed with the response to the batch of the proposal
+   */
+  Future<MetadataWriteResponse> add(@Nonnull String proposal, @Nullable Callback callback) {
+    PendingProposal pending = new PendingProposal(proposal, callback);
+    List<List<PendingProposal>> ready = new ArrayList<>(2);
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("Cannot emit through a closed emitter");
+      }
+      if (!buffer.isEmpty() && bufferBytes + proposal.length() > maxBytes) {
+        ready.add(drain());
+      }
+      buffer.add(pending);
+      bufferBytes += proposal.length();
+      if (buffer.size() >= maxProposals || bufferBytes >= maxBytes) {
+        ready.add(drain());
+      } else if (lingerFlush == null) {
+        lingerFlush = lingerScheduler.schedule(this::sendBuffer, lingerMs, TimeUnit.MILLISECONDS);
+      }
+    }
+    ready.forEach(this::send);
+    return pending.getFuture();
+  }
+
+  /** Sends the current batch and waits for the responses to every batch in flight. */
+  void flush() throws InterruptedException {
+    sendBuffer();
+    inFlight.acquire(maxInFlight);
+    inFlight.release(maxInFlight);
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      closed = true;
+    }
+    try {
+      flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lingerScheduler.shutdownNow();
+    }
+  }
+
+  private synchronized List<PendingProposal> drain() {
+    List<PendingProposal> batch = buffer;
+    buffer = new ArrayList<>();
+    bufferBytes = 0;
+    if (lingerFlush != null) {
+      lingerFlush.cancel(false);
+      lingerFlush = null;
+    }
+    return batch;
+  }
+
+  private void sendBuffer() {
+    List<PendingProposal> batch = drain();
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  private void send(List<PendingProposal> batch) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      batch.forEach(pending -> pending.fail(e));
+      return;
+    }
+    FutureCallback<MetadataWriteResponse> callback =
+        new FutureCallback<MetadataWriteResponse>() {
+          @Override
+          public void completed(MetadataWriteResponse response) {
+            inFlight.release();
+            batch.forEach(pending -> pending.complete(response));
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            inFlight.release();
+            batch.forEach(pending -> pending.fail(ex));
+          }
+
+          @Override
+          public void cancelled() {
+            failed(new RuntimeException("Cancelled"));
+          }
+        };
+    try {
+      sender.send(
+          batch.stream().map(PendingProposal::getProposal).collect(Collectors.toList()), callback);
+    } catch (IOException | RuntimeException e) {
+      callback.failed(e);
+    }
+  }
+
+  private static class PendingProposal {
+    private final String proposal;
+    @Nullable private final Callback callback;
+    private final CompletableFuture<MetadataWriteResponse> future = new CompletableFuture<>();
+
+    PendingProposal(String proposal, @Nullable Callback callback) {
+      this.proposal = proposal;
+      this.callback = callback;
+    }
+
+    String getProposal() {
+      return proposal;
+    }
+
+    CompletableFuture<MetadataWriteResponse> getFuture() {
+      return future;
+    }
+
+    void complete(MetadataWriteResponse response) {
+      future.complete(response);
+      if (callback != null) {
+        try {
+          callback.onCompletion(response);
+        } catch (Exception e) {
+          log.error("Error executing user callback on completion.", e);
+        }
+      }
+    }
+
+    void fail(Exception exception) {
+      future.completeExceptionally(exception);
+      if (callback != null) {
+        try {
+          callback.onFailure(exception);
+        } catch (Exception e) {
+          log.error("Error executing user callback on failure.", e);
+        }
+      }
+    }
+  }
+}
@@ -19,6 +19,7 @@ import datahub.event.UpsertAspectRequest;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -28,6 +29,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpResponse;
@@ -38,6 +41,7 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
@@ -64,6 +68,7 @@ public class RestEmitter implements Emitter {
 
   private final RestEmitterConfig config;
   private final String ingestProposalUrl;
+  private final String ingestProposalBatchUrl;
   private final String ingestOpenApiUrl;
   private final String configUrl;
 
@@ -71,6 +76,7 @@ public class RestEmitter implements Emitter {
   private final JacksonDataTemplateCodec dataTemplateCodec;
   private final CloseableHttpAsyncClient httpClient;
   private final EventFormatter eventFormatter;
+  @Nullable private final ProposalBatcher batcher;
 
   /**
    * The default constructor, prefer using the `create` factory method.
@@ -113,9 +119,19 @@ public class RestEmitter implements Emitter {
     this.httpClient = this.config.getAsyncHttpClientBuilder().build();
     this.httpClient.start();
     this.ingestProposalUrl = this.config.getServer() + "/aspects?action=ingestProposal";
+    this.ingestProposalBatchUrl = this.config.getServer() + "/aspects?action=ingestProposalBatch";
     this.ingestOpenApiUrl = config.getServer() + "/openapi/entities/v1/";
     this.configUrl = this.config.getServer() + "/config";
     this.eventFormatter = this.config.getEventFormatter();
+    this.batcher =
+        config.isBatchingEnabled()
+            ? new ProposalBatcher(
+                this::postBatch,
+                config.getBatchMaxProposals(),
+                config.getBatchMaxBytes(),
+                config.getBatchLingerMs(),
+                config.getMaxInFlightBatches())
+            : null;
   }
 
   private static MetadataWriteResponse mapResponse(HttpResponse response) {
@@ -188,6 +204,9 @@ public class RestEmitter implements Emitter {
   @Override
   public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback callback)
       throws IOException {
+    if (batcher != null) {
+      return batcher.add(dataTemplateCodec.mapToString(mcp.data()), callback);
+    }
     DataMap map = new DataMap();
     map.put("proposal", mcp.data());
     String serializedMCP = dataTemplateCodec.mapToString(map);
@@ -256,6 +275,45 @@ public class RestEmitter implements Emitter {
     return new MetadataResponseFuture(requestFuture, responseAtomicReference, responseLatch);
   }
 
+  private void postBatch(List<String> proposals, FutureCallback<MetadataWriteResponse> callback)
+      throws IOException {
+    // The proposals are serialized already, only the action parameters are left to add
+    String payloadJson = "{\"proposals\":[" + String.join(",", proposals) + "]}";
+    log.debug("Emit: URL: {}, Proposals: {}\n", this.ingestProposalBatchUrl, proposals.size());
+    HttpPost httpPost = new HttpPost(this.ingestProposalBatchUrl);
+    httpPost.setHeader("Content-Type", "application/json");
+    httpPost.setHeader("Content-Encoding", "gzip");
+    httpPost.setHeader("X-RestLi-Protocol-Version", "2.0.0");
+    httpPost.setHeader("Accept", "application/json");
+    this.config.getExtraHeaders().forEach((k, v) -> httpPost.setHeader(k, v));
+    if (this.config.getToken() != null) {
+      httpPost.setHeader("Authorization", "Bearer " + this.config.getToken());
+    }
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(payloadJson.getBytes(StandardCharsets.UTF_8));
+    }
+    httpPost.setEntity(new ByteArrayEntity(compressed.toByteArray()));
+    httpClient.execute(
+        httpPost,
+        new FutureCallback<HttpResponse>() {
+          @Override
+          public void completed(HttpResponse response) {
+            callback.completed(mapResponse(response));
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            callback.failed(ex);
+          }
+
+          @Override
+          public void cancelled() {
+            callback.cancelled();
+          }
+        });
+  }
+
   private Future<MetadataWriteResponse> getGeneric(String urlStr) throws IOException {
     HttpGet httpGet = new HttpGet(urlStr);
     httpGet.setHeader("Content-Type", "application/json");
@@ -270,8 +328,21 @@ public class RestEmitter implements Emitter {
     return this.getGeneric(this.configUrl).get().isSuccess();
   }
 
+  /**
+   * Sends the proposals buffered in batching mode and waits for the responses to every batch. Does
+   * nothing otherwise.
+   */
+  public void flush() throws InterruptedException {
+    if (batcher != null) {
+      batcher.flush();
+    }
+  }
+
   @Override
   public void close() throws IOException {
+    if (batcher != null) {
+      batcher.close();
+    }
     this.httpClient.close();
   }
 
@@ -22,6 +22,10 @@ public class RestEmitterConfig {
   public static final int DEFAULT_READ_TIMEOUT_SEC = 10;
   public static final String DEFAULT_AUTH_TOKEN = null;
   public static final String CLIENT_VERSION_PROPERTY = "clientVersion";
+  public static final int DEFAULT_BATCH_MAX_PROPOSALS = 500;
+  public static final int DEFAULT_BATCH_MAX_BYTES = 4 * 1024 * 1024;
+  public static final long DEFAULT_BATCH_LINGER_MS = 100;
+  public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
 
   @Builder.Default private final String server = "http://localhost:8080";
 
@@ -34,6 +38,19 @@ public class RestEmitterConfig {
 
   private final HttpAsyncClientBuilder asyncHttpClientBuilder;
 
+  /**
+   * Buffers the emitted proposals and sends them gzip compressed to the ingestProposalBatch action,
+   * which the server must support. A batch is sent once it holds batchMaxProposals proposals or
+   * batchMaxBytes of them, or batchLingerMs after its first proposal. Emitting blocks while
+   * maxInFlightBatches batches are awaiting a response.
+   */
+  @Builder.Default private final boolean batchingEnabled = false;
+
+  @Builder.Default private final int batchMaxProposals = DEFAULT_BATCH_MAX_PROPOSALS;
+  @Builder.Default private final int batchMaxBytes = DEFAULT_BATCH_MAX_BYTES;
+  @Builder.Default private final long batchLingerMs = DEFAULT_BATCH_LINGER_MS;
+  @Builder.Default private final int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+
   @Builder.Default
   private final EventFormatter eventFormatter =
       new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
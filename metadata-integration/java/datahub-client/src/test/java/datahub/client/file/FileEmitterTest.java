@@ -63,6 +63,66 @@ public class FileEmitterTest {
     this.assertEqualJsonFile(goldenFileStream, outputFile);
   }
 
+  @Test
+  public void testReadBack() throws IOException {
+    InputStream goldenFileStream =
+        ClassLoader.getSystemResourceAsStream("golden_files/mcps_golden.json");
+    List<MetadataChangeProposal> mcps = this.getMCPs(goldenFileStream);
+
+    String outputFile = tempFolder.getRoot().toString() + "/test.json";
+    FileEmitterConfig config = FileEmitterConfig.builder().fileName(outputFile).build();
+    FileEmitter emitter = new FileEmitter(config);
+    for (MetadataChangeProposal mcp : mcps) {
+      emitter.emit(mcp);
+    }
+    emitter.close();
+
+    Assert.assertEquals(mcps, this.readAll(FileEmitterReader.of(config)));
+  }
+
+  @Test
+  public void testCompressedRotatingNdjson() throws Exception {
+    InputStream goldenFileStream =
+        ClassLoader.getSystemResourceAsStream("golden_files/mcps_golden.json");
+    List<MetadataChangeProposal> mcps = this.getMCPs(goldenFileStream);
+
+    String outputFile = tempFolder.getRoot().toString() + "/mcps.ndjson.gz";
+    FileEmitterConfig config =
+        FileEmitterConfig.builder()
+            .fileName(outputFile)
+            .format(FileEmitterConfig.Format.NDJSON)
+            .compression(FileEmitterConfig.Compression.GZIP)
+            .maxFileBytes(1)
+            .writeQueueSize(4)
+            .build();
+    FileEmitter emitter = new FileEmitter(config);
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>();
+    for (MetadataChangeProposal mcp : mcps) {
+      futures.add(emitter.emit(mcp));
+    }
+    emitter.close();
+    for (Future<MetadataWriteResponse> future : futures) {
+      Assert.assertTrue(future.get().isSuccess());
+    }
+
+    // Every proposal fills up a file
+    Assert.assertTrue(new File(tempFolder.getRoot(), "mcps.00000.ndjson.gz").exists());
+    Assert.assertTrue(
+        new File(tempFolder.getRoot(), String.format("mcps.%05d.ndjson.gz", mcps.size() - 1))
+            .exists());
+    Assert.assertEquals(mcps, this.readAll(FileEmitterReader.of(config)));
+  }
+
+  private List<MetadataChangeProposal> readAll(FileEmitterReader reader) throws IOException {
+    List<MetadataChangeProposal> mcps = new ArrayList<>();
+    try {
+      reader.forEachRemaining(mcps::add);
+    } finally {
+      reader.close();
+    }
+    return mcps;
+  }
+
   private void assertEqualJsonFile(InputStream file1, String file2)
       throws StreamReadException, DatabindException, IOException {
     TypeReference<List<Map<String, Object>>> typeRef =
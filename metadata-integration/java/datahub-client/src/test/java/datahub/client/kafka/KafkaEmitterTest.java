@@ -4,6 +4,8 @@ import static datahub.client.kafka.KafkaEmitter.DEFAULT_MCP_KAFKA_TOPIC;
 import static java.util.Collections.singletonList;
 
 import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.mxe.MetadataChangeProposal;
+import datahub.client.Callback;
 import datahub.client.MetadataWriteResponse;
 import datahub.client.kafka.containers.KafkaContainer;
 import datahub.client.kafka.containers.SchemaRegistryContainer;
@@ -12,10 +14,17 @@ import datahub.event.MetadataChangeProposalWrapper;
 import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.avro.Schema;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -86,6 +95,81 @@ public class KafkaEmitterTest {
     Assert.assertTrue(response.isSuccess());
   }
 
+  @Test
+  public void testEmitAllWithSerializerThreads() throws Exception {
+    List<ProducerMetrics> reported = new CopyOnWriteArrayList<>();
+    KafkaEmitterConfig poolConfig =
+        KafkaEmitterConfig.builder()
+            .bootstrap(config.getBootstrap())
+            .schemaRegistryUrl(config.getSchemaRegistryUrl())
+            .serializerThreads(2)
+            .metricsReporter(reported::add)
+            .build();
+    List<MetadataChangeProposal> mcps = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      mcps.add(
+          config
+              .getEventFormatter()
+              .convert(
+                  getMetadataChangeProposalWrapper(
+                      "Test Dataset " + i,
+                      "urn:li:dataset:(urn:li:dataPlatform:spark,foo.bar" + i + ",PROD)")));
+    }
+
+    try (KafkaEmitter poolEmitter = new KafkaEmitter(poolConfig)) {
+      List<MetadataWriteResponse> responses = poolEmitter.emitAll(mcps).get();
+      Assert.assertEquals(responses.size(), mcps.size());
+      responses.forEach(response -> Assert.assertTrue(response.isSuccess()));
+    }
+    Assert.assertFalse(reported.isEmpty());
+    Assert.assertTrue(reported.get(reported.size() - 1).getRecordSendRate() > 0);
+  }
+
+  @Test
+  public void testSerializerThreadsKeepEntityOrder() throws Exception {
+    KafkaEmitterConfig poolConfig =
+        KafkaEmitterConfig.builder()
+            .bootstrap(config.getBootstrap())
+            .schemaRegistryUrl(config.getSchemaRegistryUrl())
+            .serializerThreads(4)
+            .serializerQueueSize(2)
+            .build();
+    int entities = 8;
+    int proposalsPerEntity = 25;
+    Map<String, List<Integer>> sent = new ConcurrentHashMap<>();
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>();
+
+    try (KafkaEmitter poolEmitter = new KafkaEmitter(poolConfig)) {
+      for (int i = 0; i < proposalsPerEntity; i++) {
+        for (int e = 0; e < entities; e++) {
+          String urn = "urn:li:dataset:(urn:li:dataPlatform:spark,ordered" + e + ",PROD)";
+          int index = i;
+          // The producer completes the records of a key in the order they were sent
+          futures.add(
+              poolEmitter.emit(
+                  getMetadataChangeProposalWrapper("Version " + i, urn),
+                  new Callback() {
+                    @Override
+                    public void onCompletion(MetadataWriteResponse response) {
+                      sent.computeIfAbsent(urn, key -> new CopyOnWriteArrayList<>()).add(index);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable exception) {}
+                  }));
+        }
+      }
+      for (Future<MetadataWriteResponse> future : futures) {
+        Assert.assertTrue(future.get().isSuccess());
+      }
+    }
+
+    Assert.assertEquals(sent.size(), entities);
+    List<Integer> expected =
+        IntStream.range(0, proposalsPerEntity).boxed().collect(Collectors.toList());
+    sent.values().forEach(indexes -> Assert.assertEquals(indexes, expected));
+  }
+
   private static AdminClient createAdminClient(String bootstrap) {
     // Fail fast
     Properties props = new Properties();
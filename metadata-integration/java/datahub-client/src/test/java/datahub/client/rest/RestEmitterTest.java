@@ -386,6 +386,66 @@ public class RestEmitterTest {
     Assert.assertEquals(callbackResponse.get(), future.get());
   }
 
+  @Test
+  public void testBatching() throws Exception {
+    TestDataHubServer testDataHubServer = new TestDataHubServer();
+    Integer port = testDataHubServer.getMockServer().getPort();
+    RestEmitter emitter =
+        RestEmitter.create(
+            b ->
+                b.server("http://localhost:" + port)
+                    .batchingEnabled(true)
+                    .batchMaxProposals(10)
+                    .maxInFlightBatches(2));
+
+    testDataHubServer
+        .getMockServer()
+        .when(
+            request()
+                .withMethod("POST")
+                .withPath("/aspects")
+                .withQueryStringParameter("action", "ingestProposalBatch")
+                .withHeader("Content-Encoding", "gzip"),
+            Times.unlimited())
+        .respond(org.mockserver.model.HttpResponse.response().withStatusCode(200));
+
+    int numRequests = 25;
+    CountDownLatch latch = new CountDownLatch(numRequests);
+    List<Future<MetadataWriteResponse>> results = new ArrayList<>();
+    for (int i = 0; i < numRequests; ++i) {
+      MetadataChangeProposalWrapper mcpw =
+          getMetadataChangeProposalWrapper(
+              "Test Dataset",
+              String.format("urn:li:dataset:(urn:li:dataPlatform:hive,foo-%d,PROD)", i));
+      results.add(
+          emitter.emit(
+              mcpw,
+              new Callback() {
+                @Override
+                public void onCompletion(MetadataWriteResponse response) {
+                  latch.countDown();
+                }
+
+                @Override
+                public void onFailure(Throwable exception) {
+                  Assert.fail("Should not be called");
+                }
+              }));
+    }
+    // The last 5 proposals are sent once the linger time is over
+    for (Future<MetadataWriteResponse> result : results) {
+      Assert.assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+    }
+    Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    emitter.close();
+
+    RequestDefinition[] recordedRequests =
+        testDataHubServer
+            .getMockServer()
+            .retrieveRecordedRequests(request().withPath("/aspects").withMethod("POST"));
+    Assert.assertEquals(3, recordedRequests.length);
+  }
+
   @Test
   public void testTimeoutOnGet() {
     TestDataHubServer testDataHubServer = new TestDataHubServer();
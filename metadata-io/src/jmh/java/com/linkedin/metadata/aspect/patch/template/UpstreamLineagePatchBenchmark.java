@@ -0,0 +1,96 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.fasterxml.jackson.databind.node.JsonNodeFactory.instance;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.jsonpointer.JsonPointer;
+import com.github.fge.jackson.jsonpointer.JsonPointerException;
+import com.github.fge.jsonpatch.AddOperation;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.RemoveOperation;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares applying a small patch to a large {@link UpstreamLineage} on its {@link
+ * com.linkedin.data.DataMap} with applying it on the JSON representation of the aspect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpstreamLineagePatchBenchmark {
+
+  @Param({"100", "5000"})
+  private int upstreamCount;
+
+  private final UpstreamLineageTemplate template = new UpstreamLineageTemplate();
+  private UpstreamLineage upstreamLineage;
+  private JsonPatch patch;
+
+  @Setup(Level.Trial)
+  public void setup() throws JsonPointerException {
+    upstreamLineage =
+        new UpstreamLineage()
+            .setUpstreams(
+                IntStream.range(0, upstreamCount)
+                    .mapToObj(
+                        i ->
+                            new Upstream()
+                                .setDataset(
+                                    new DatasetUrn(
+                                        new DataPlatformUrn("hive"),
+                                        "db.table_" + i,
+                                        FabricType.PROD))
+                                .setType(DatasetLineageType.TRANSFORMED))
+                    .collect(Collectors.toCollection(UpstreamArray::new)));
+
+    final ObjectNode upstreamNode = instance.objectNode();
+    upstreamNode.put("dataset", datasetUrn(upstreamCount));
+    upstreamNode.put("type", "COPY");
+    patch =
+        new JsonPatch(
+            List.of(
+                new AddOperation(
+                    new JsonPointer("/upstreams/" + datasetUrn(upstreamCount)), upstreamNode),
+                new RemoveOperation(new JsonPointer("/upstreams/" + datasetUrn(0)))));
+  }
+
+  @Benchmark
+  public UpstreamLineage dataMap() {
+    return DataMapPatchEngine.applyPatch(template, upstreamLineage, patch);
+  }
+
+  @Benchmark
+  public UpstreamLineage json() throws Exception {
+    return template.applyPatchOnJson(upstreamLineage, patch);
+  }
+
+  private static String datasetUrn(int i) {
+    return String.format("urn:li:dataset:(urn:li:dataPlatform:hive,db.table_%d,PROD)", i);
+  }
+}
@@ -0,0 +1,104 @@
+package com.linkedin.metadata.graph.neo4j;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lineage edges written per second by {@link Neo4jGraphService#addEdges} against an
+ * embedded Neo4j, writing the edges one by one ({@code writeBatchSize} 0) or in UNWIND batches.
+ * The graph is wiped before each iteration only, so most invocations merge existing edges, as
+ * restating lineage does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Neo4jGraphWriteBenchmark {
+
+  private static final int EDGE_COUNT = 1000;
+
+  @Param({"0", "100", "1000"})
+  private int writeBatchSize;
+
+  private Neo4j neo4j;
+  private Driver driver;
+  private Neo4jGraphService graphService;
+  private List<Edge> edges;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    neo4j = Neo4jBuilders.newInProcessBuilder().build();
+    driver = GraphDatabase.driver(neo4j.boltURI());
+    graphService =
+        new Neo4jGraphService(
+            new LineageRegistry(SnapshotEntityRegistry.getInstance()),
+            driver,
+            SessionConfig.defaultConfig(),
+            writeBatchSize);
+    // A chain of datasets, each one downstream of the previous one
+    edges =
+        IntStream.range(0, EDGE_COUNT)
+            .mapToObj(
+                i ->
+                    new Edge(
+                        dataset(i + 1),
+                        dataset(i),
+                        "DownstreamOf",
+                        (long) i,
+                        null,
+                        (long) i,
+                        null,
+                        null))
+            .collect(Collectors.toList());
+  }
+
+  @Setup(Level.Iteration)
+  public void wipe() {
+    graphService.wipe();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    driver.close();
+    neo4j.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EDGE_COUNT)
+  public void addEdges() {
+    graphService.addEdges(edges);
+  }
+
+  private static Urn dataset(int i) {
+    return UrnUtils.getUrn(
+        String.format("urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.table_%d,PROD)", i));
+  }
+}
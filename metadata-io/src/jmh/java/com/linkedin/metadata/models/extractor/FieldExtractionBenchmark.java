@@ -0,0 +1,136 @@
+package com.linkedin.metadata.models.extractor;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.GlossaryTermAssociation;
+import com.linkedin.common.GlossaryTermAssociationArray;
+import com.linkedin.common.GlossaryTerms;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.GlossaryTermUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.metadata.models.FieldSpec;
+import com.linkedin.metadata.models.SearchScoreFieldSpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.schema.MySqlDDL;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares extracting the searchable and search score fields of a {@link SchemaMetadata} aspect
+ * with the {@link FieldExtractionPlan} of its aspect spec against resolving each field spec on its
+ * own with {@link FieldExtractor#extractFields(RecordTemplate, List, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldExtractionBenchmark {
+
+  private static final int MAX_VALUE_LENGTH = 200;
+  private static final List<Class<? extends FieldSpec>> SEARCH_FIELD_SPEC_TYPES =
+      List.of(SearchableFieldSpec.class, SearchScoreFieldSpec.class);
+
+  @Param({"100", "2000"})
+  private int fieldCount;
+
+  private AspectSpec aspectSpec;
+  private SchemaMetadata schemaMetadata;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    aspectSpec =
+        new EntitySpecBuilder()
+            .buildAspectSpec(
+                new SchemaMetadata().schema(),
+                (Class<RecordTemplate>) (Class<?>) SchemaMetadata.class);
+    schemaMetadata =
+        new SchemaMetadata()
+            .setSchemaName("table")
+            .setPlatform(new DataPlatformUrn("hive"))
+            .setVersion(0L)
+            .setHash("")
+            .setPlatformSchema(
+                SchemaMetadata.PlatformSchema.create(new MySqlDDL().setTableSchema("")))
+            .setFields(
+                IntStream.range(0, fieldCount)
+                    .mapToObj(FieldExtractionBenchmark::schemaField)
+                    .collect(Collectors.toCollection(SchemaFieldArray::new)));
+  }
+
+  @Benchmark
+  public void perFieldSpec(Blackhole blackhole) {
+    blackhole.consume(
+        FieldExtractor.extractFields(
+            schemaMetadata, aspectSpec.getSearchableFieldSpecs(), MAX_VALUE_LENGTH));
+    blackhole.consume(
+        FieldExtractor.extractFields(
+            schemaMetadata, aspectSpec.getSearchScoreFieldSpecs(), MAX_VALUE_LENGTH));
+  }
+
+  @Benchmark
+  public void extractionPlan(Blackhole blackhole) {
+    final FieldExtractionPlan.ExtractedValues extractedValues =
+        aspectSpec.getFieldExtractionPlan().extract(schemaMetadata, SEARCH_FIELD_SPEC_TYPES);
+    blackhole.consume(
+        FieldExtractor.extractFields(
+            extractedValues, aspectSpec.getSearchableFieldSpecs(), MAX_VALUE_LENGTH));
+    blackhole.consume(
+        FieldExtractor.extractFields(
+            extractedValues, aspectSpec.getSearchScoreFieldSpecs(), MAX_VALUE_LENGTH));
+  }
+
+  private static SchemaField schemaField(int i) {
+    return new SchemaField()
+        .setFieldPath("field_" + i)
+        .setDescription("Description of field " + i)
+        .setNativeDataType("string")
+        .setType(
+            new SchemaFieldDataType()
+                .setType(SchemaFieldDataType.Type.create(new StringType())))
+        .setGlobalTags(
+            new GlobalTags()
+                .setTags(
+                    new TagAssociationArray(
+                        new TagAssociation().setTag(new TagUrn("pii")),
+                        new TagAssociation().setTag(new TagUrn("tag_" + (i % 10))))))
+        .setGlossaryTerms(
+            new GlossaryTerms()
+                .setTerms(
+                    new GlossaryTermAssociationArray(
+                        new GlossaryTermAssociation()
+                            .setUrn(new GlossaryTermUrn("term_" + (i % 20)))))
+                .setAuditStamp(
+                    new AuditStamp()
+                        .setTime(0L)
+                        .setActor(UrnUtils.getUrn("urn:li:corpuser:datahub"))));
+  }
+}
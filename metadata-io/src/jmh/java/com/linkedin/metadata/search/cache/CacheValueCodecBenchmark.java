@@ -0,0 +1,123 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.DoubleMap;
+import com.linkedin.data.template.LongMap;
+import com.linkedin.metadata.search.AggregationMetadata;
+import com.linkedin.metadata.search.AggregationMetadataArray;
+import com.linkedin.metadata.search.FilterValue;
+import com.linkedin.metadata.search.FilterValueArray;
+import com.linkedin.metadata.search.MatchedField;
+import com.linkedin.metadata.search.MatchedFieldArray;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the encoding and decoding cost of the search cache codecs on a {@link SearchResult}
+ * shaped like a cached search batch. The encoded size of each codec is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+
+  @Param({"JSON", "BINARY"})
+  private CacheValueCodec codec;
+
+  @Param({"10", "100"})
+  private int entityCount;
+
+  private SearchResult searchResult;
+  private Object encoded;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    searchResult = searchResult(entityCount);
+    encoded = codec.encode(searchResult);
+    final int size =
+        encoded instanceof byte[] ? ((byte[]) encoded).length : ((String) encoded).length();
+    System.out.printf("%n%s encoded size for %d entities: %d%n", codec, entityCount, size);
+  }
+
+  @Benchmark
+  public Object encode() {
+    return codec.encode(searchResult);
+  }
+
+  @Benchmark
+  public SearchResult decode() {
+    return CacheValueCodec.decode(encoded, SearchResult.class);
+  }
+
+  private static SearchResult searchResult(int entityCount) {
+    final SearchEntityArray entities =
+        IntStream.range(0, entityCount)
+            .mapToObj(
+                i ->
+                    new SearchEntity()
+                        .setEntity(
+                            UrnUtils.getUrn(
+                                String.format(
+                                    "urn:li:dataset:(urn:li:dataPlatform:hive,db.table_%d,PROD)",
+                                    i)))
+                        .setMatchedFields(
+                            new MatchedFieldArray(
+                                new MatchedField().setName("name").setValue("table_" + i),
+                                new MatchedField()
+                                    .setName("description")
+                                    .setValue("Table number " + i + " of the sample database")))
+                        .setFeatures(new DoubleMap(Map.of("SEARCH_BACKEND_SCORE", 12.5 + i)))
+                        .setScore(12.5 + i))
+            .collect(Collectors.toCollection(SearchEntityArray::new));
+
+    final AggregationMetadataArray aggregations =
+        IntStream.range(0, 5)
+            .mapToObj(
+                facet ->
+                    new AggregationMetadata()
+                        .setName("facet" + facet)
+                        .setAggregations(
+                            new LongMap(
+                                IntStream.range(0, 10)
+                                    .boxed()
+                                    .collect(
+                                        Collectors.toMap(value -> "value" + value, Long::valueOf))))
+                        .setFilterValues(
+                            IntStream.range(0, 10)
+                                .mapToObj(
+                                    value ->
+                                        new FilterValue()
+                                            .setValue("value" + value)
+                                            .setFacetCount(value))
+                                .collect(Collectors.toCollection(FilterValueArray::new))))
+            .collect(Collectors.toCollection(AggregationMetadataArray::new));
+
+    return new SearchResult()
+        .setEntities(entities)
+        .setMetadata(new SearchResultMetadata().setAggregations(aggregations))
+        .setFrom(0)
+        .setPageSize(entityCount)
+        .setNumEntities(10000);
+  }
+}
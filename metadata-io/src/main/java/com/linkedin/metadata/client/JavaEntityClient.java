@@ -25,11 +25,13 @@ import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.MCPItem;
 import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.browse.BrowseResultV2;
 import com.linkedin.metadata.entity.DeleteEntityService;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.IngestResult;
+import com.linkedin.metadata.entity.MCLEmissionException;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.entity.validation.ValidationUtils;
 import com.linkedin.metadata.event.EventProducer;
@@ -61,12 +63,16 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -722,6 +728,92 @@ public class JavaEntityClient implements EntityClient {
     return urn.toString();
   }
 
+  /**
+   * Ingests the proposals of database aspects as a single {@link AspectsBatch}, sharing one
+   * transaction and one set of read-before-write queries, and those of timeseries aspects one at a
+   * time. If the batch fails before it is committed, its proposals are ingested one at a time
+   * instead. Once committed, the proposals whose change log could not be produced are reported as
+   * failed rather than ingested again.
+   */
+  @Override
+  public Map<Integer, Exception> ingestProposalBatch(
+      @Nonnull final List<MetadataChangeProposal> metadataChangeProposals,
+      @Nonnull final Authentication authentication) {
+    String actorUrnStr =
+        authentication.getActor() != null
+            ? authentication.getActor().toUrnStr()
+            : Constants.UNKNOWN_ACTOR;
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(_clock.millis()).setActor(UrnUtils.getUrn(actorUrnStr));
+
+    final List<? extends MCPItem> items;
+    try {
+      // One item per proposal, in order
+      items =
+          AspectsBatchImpl.builder()
+              .mcps(metadataChangeProposals, auditStamp, entityService)
+              .build()
+              .getMCPItems();
+    } catch (RuntimeException e) {
+      log.warn(
+          "Failed to validate batch of {} proposals, ingesting them one at a time",
+          metadataChangeProposals.size(),
+          e);
+      return EntityClient.super.ingestProposalBatch(metadataChangeProposals, authentication);
+    }
+
+    final List<Integer> batched = new ArrayList<>();
+    final List<Integer> individual = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (items.get(i).getAspectSpec().isTimeseries()) {
+        individual.add(i);
+      } else {
+        batched.add(i);
+      }
+    }
+
+    final Map<Integer, Exception> failures = new TreeMap<>();
+    if (!batched.isEmpty()) {
+      try {
+        entityService.ingestProposal(
+            AspectsBatchImpl.builder()
+                .aspectRetriever(entityService)
+                .items(batched.stream().map(items::get).collect(Collectors.toList()))
+                .build(),
+            false);
+      } catch (MCLEmissionException e) {
+        final Set<MetadataChangeProposal> failed =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(e.getFailedProposals());
+        batched.stream()
+            .filter(i -> failed.contains(metadataChangeProposals.get(i)))
+            .forEach(i -> failures.put(i, e));
+      } catch (RuntimeException e) {
+        // Nothing was committed
+        log.warn(
+            "Failed to ingest batch of {} proposals, ingesting them one at a time",
+            batched.size(),
+            e);
+        individual.addAll(batched);
+        Collections.sort(individual);
+        batched.clear();
+      }
+    }
+    for (int i : batched) {
+      if (!failures.containsKey(i)) {
+        tryIndexRunId(items.get(i).getUrn(), metadataChangeProposals.get(i).getSystemMetadata());
+      }
+    }
+    for (int i : individual) {
+      try {
+        ingestProposal(metadataChangeProposals.get(i), authentication, false);
+      } catch (Exception e) {
+        failures.put(i, e);
+      }
+    }
+    return failures;
+  }
+
   @SneakyThrows
   @Override
   @Deprecated
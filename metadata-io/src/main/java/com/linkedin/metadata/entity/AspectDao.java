@@ -5,6 +5,7 @@ import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.util.Pair;
 import io.ebean.Transaction;
 import java.sql.Timestamp;
 import java.util.List;
@@ -129,6 +130,20 @@ public interface AspectDao {
 
   Map<String, Map<String, Long>> getNextVersions(@Nonnull Map<String, Set<String>> urnAspectMap);
 
+  /**
+   * Combines {@link #getLatestAspects(Map)} and {@link #getNextVersions(Map)}, used on the write
+   * path which needs both for every aspect it is about to write. Implementations should fetch both
+   * in a single round trip.
+   *
+   * @param urnAspects urn to aspect names
+   * @return pair of the latest aspects and the next versions, keyed by urn and aspect name
+   */
+  @Nonnull
+  default Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+      getLatestAspectsAndNextVersions(@Nonnull Map<String, Set<String>> urnAspects) {
+    return Pair.of(getLatestAspects(urnAspects), getNextVersions(urnAspects));
+  }
+
   default long getNextVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     return getNextVersions(urn, Set.of(aspectName)).get(aspectName);
   }
@@ -0,0 +1,539 @@
+package com.linkedin.metadata.entity;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.util.Pair;
+import io.ebean.Transaction;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link AspectDao} decorator keeping a local cache of the latest (version 0) aspects, grouped
+ * by urn so that all aspects of an entity are dropped at once. Absent aspects are cached as well
+ * since most reads ask for aspects an entity does not have.
+ *
+ * <p>Writes through this dao invalidate the touched aspects immediately and once more after the
+ * enclosing transaction completes. Every invalidation also bumps a version of the urn, and a read
+ * only fills the cache when that version did not change while it queried the storage, so a
+ * concurrent read cannot repopulate the cache with the state from before the write. Writes made by
+ * other instances are only visible after {@link #invalidate(String, String)} is called for them,
+ * which is driven by the MetadataChangeLog stream, or after the entries expire.
+ *
+ * <p>All reads issued from within {@link #runInTransactionWithRetry(Function, int)} go to the
+ * underlying storage, as do reads wrapped in {@link #bypassCache(Supplier)}.
+ */
+@Slf4j
+public class CachingAspectDao implements AspectDao, Closeable {
+
+  private static final ThreadLocal<Boolean> BYPASS = ThreadLocal.withInitial(() -> false);
+
+  private static final int VERSION_STRIPES = 4096;
+
+  private final AspectDao aspectDao;
+  // Cached aspects by urn and aspect name
+  private final Cache<String, Map<String, CachedAspect>> cache;
+  private final long ttlNanos;
+  // Invalidation counters of the urns, striped by hash
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+  // Writes of the transaction running on the current thread
+  private final ThreadLocal<TransactionWrites> transactionWrites = new ThreadLocal<>();
+
+  /**
+   * @param aspectDao the underlying dao
+   * @param maxEntries maximum number of cached aspects
+   * @param maxWeightBytes maximum size of the cached metadata in bytes
+   * @param ttlSeconds time after which an entry is reloaded from the underlying dao
+   */
+  public CachingAspectDao(
+      @Nonnull AspectDao aspectDao, long maxEntries, long maxWeightBytes, long ttlSeconds) {
+    this.aspectDao = aspectDao;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    // Every aspect weighs at least maxWeightBytes / maxEntries, which bounds both the aspect count
+    // and the total weight with a single weigher
+    final int minWeight = (int) Math.max(1, maxWeightBytes / Math.max(1, maxEntries));
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .<String, Map<String, CachedAspect>>weigher(
+                (urn, aspects) -> Math.max(minWeight * aspects.size(), weigh(urn, aspects)))
+            // Adding aspects of an urn restarts its expiry, the aspects also expire individually
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    log.info(
+        "Aspect cache enabled with max entries {}, max weight {} bytes and ttl {} seconds",
+        maxEntries,
+        maxWeightBytes,
+        ttlSeconds);
+  }
+
+  /** Runs the given read against the underlying storage, skipping the cache. */
+  public static <T> T bypassCache(@Nonnull Supplier<T> read) {
+    final boolean previous = BYPASS.get();
+    BYPASS.set(true);
+    try {
+      return read.get();
+    } finally {
+      BYPASS.set(previous);
+    }
+  }
+
+  public void invalidate(@Nonnull String urn, @Nonnull String aspectName) {
+    evict(urn, aspectName);
+    final TransactionWrites writes = transactionWrites.get();
+    if (writes != null) {
+      writes.keys.add(latestKey(urn, aspectName));
+    }
+  }
+
+  public void invalidateUrn(@Nonnull String urn) {
+    evictUrn(urn);
+    final TransactionWrites writes = transactionWrites.get();
+    if (writes != null) {
+      writes.urns.add(urn);
+    }
+  }
+
+  /** Closes the underlying storage DAO, this DAO is the bean closed by Spring. */
+  @Override
+  public void close() throws IOException {
+    if (aspectDao instanceof Closeable) {
+      ((Closeable) aspectDao).close();
+    }
+  }
+
+  /** Number of cached aspects, including the ones cached as absent. */
+  public long size() {
+    return cache.asMap().values().stream().mapToLong(Map::size).sum();
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
+    return getAspect(new EntityAspectIdentifier(urn, aspectName, version));
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull EntityAspectIdentifier key) {
+    if (key.getVersion() != ASPECT_LATEST_VERSION || !useCache()) {
+      return aspectDao.getAspect(key);
+    }
+    return getLatestAspect(key.getUrn(), key.getAspect());
+  }
+
+  @Nonnull
+  @Override
+  public Map<EntityAspectIdentifier, EntityAspect> batchGet(
+      @Nonnull Set<EntityAspectIdentifier> keys) {
+    if (!useCache()) {
+      return aspectDao.batchGet(keys);
+    }
+
+    final Map<Boolean, Set<EntityAspectIdentifier>> byLatest =
+        keys.stream()
+            .collect(
+                Collectors.partitioningBy(
+                    key -> key.getVersion() == ASPECT_LATEST_VERSION, Collectors.toSet()));
+
+    final Map<EntityAspectIdentifier, EntityAspect> results = new HashMap<>();
+    if (!byLatest.get(false).isEmpty()) {
+      results.putAll(aspectDao.batchGet(byLatest.get(false)));
+    }
+    final Map<String, Set<String>> urnAspects =
+        byLatest.get(true).stream()
+            .collect(
+                Collectors.groupingBy(
+                    EntityAspectIdentifier::getUrn,
+                    Collectors.mapping(EntityAspectIdentifier::getAspect, Collectors.toSet())));
+    getLatestAspects(urnAspects).values().stream()
+        .flatMap(aspects -> aspects.values().stream())
+        .forEach(aspect -> results.put(aspect.getAspectIdentifier(), aspect));
+    return results;
+  }
+
+  @Nonnull
+  @Override
+  public List<EntityAspect> getAspectsInRange(
+      @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
+    return aspectDao.getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Map<String, EntityAspect>> getLatestAspects(
+      Map<String, Set<String>> urnAspects) {
+    if (!useCache()) {
+      return aspectDao.getLatestAspects(urnAspects);
+    }
+
+    final Map<String, Map<String, EntityAspect>> results = new HashMap<>();
+    final Map<String, Set<String>> misses = new HashMap<>();
+    final long now = System.nanoTime();
+    int hitCount = 0;
+    for (Map.Entry<String, Set<String>> entry : urnAspects.entrySet()) {
+      final Map<String, CachedAspect> cachedAspects =
+          Optional.ofNullable(cache.getIfPresent(entry.getKey())).orElse(Map.of());
+      for (String aspectName : entry.getValue()) {
+        final CachedAspect cached = cachedAspects.get(aspectName);
+        if (cached == null || isExpired(cached, now)) {
+          misses.computeIfAbsent(entry.getKey(), urn -> new HashSet<>()).add(aspectName);
+        } else {
+          hitCount++;
+          if (cached.getAspect() != null) {
+            results
+                .computeIfAbsent(entry.getKey(), urn -> new HashMap<>())
+                .put(aspectName, copy(cached.getAspect()));
+          }
+        }
+      }
+    }
+    MetricUtils.counter(this.getClass(), "hit").inc(hitCount);
+
+    if (!misses.isEmpty()) {
+      MetricUtils.counter(this.getClass(), "miss")
+          .inc(misses.values().stream().mapToInt(Set::size).sum());
+      // Read the versions before the storage, an invalidation racing with the read bumps them
+      final Map<String, Long> missVersions = new HashMap<>();
+      misses.keySet().forEach(urn -> missVersions.put(urn, versions.get(stripe(urn))));
+      final Map<String, Map<String, EntityAspect>> fetched = aspectDao.getLatestAspects(misses);
+      final long loadedNanos = System.nanoTime();
+      misses.forEach(
+          (urn, aspectNames) -> {
+            final Map<String, CachedAspect> loaded = new HashMap<>();
+            for (String aspectName : aspectNames) {
+              final EntityAspect aspect = fetched.getOrDefault(urn, Map.of()).get(aspectName);
+              loaded.put(
+                  aspectName,
+                  new CachedAspect(aspect == null ? null : copy(aspect), loadedNanos));
+              if (aspect != null) {
+                results.computeIfAbsent(urn, key -> new HashMap<>()).put(aspectName, aspect);
+              }
+            }
+            fill(urn, missVersions.get(urn), loaded);
+          });
+    }
+    return results;
+  }
+
+  /** Always read from the underlying storage, this is the read before write of ingestion. */
+  @Nonnull
+  @Override
+  public Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+      getLatestAspectsAndNextVersions(@Nonnull Map<String, Set<String>> urnAspects) {
+    return aspectDao.getLatestAspectsAndNextVersions(urnAspects);
+  }
+
+  @Override
+  public void saveAspect(
+      @Nullable Transaction tx,
+      @Nonnull String urn,
+      @Nonnull String aspectName,
+      @Nonnull String aspectMetadata,
+      @Nonnull String actor,
+      @Nullable String impersonator,
+      @Nonnull Timestamp timestamp,
+      @Nonnull String systemMetadata,
+      long version,
+      boolean insert) {
+    aspectDao.saveAspect(
+        tx,
+        urn,
+        aspectName,
+        aspectMetadata,
+        actor,
+        impersonator,
+        timestamp,
+        systemMetadata,
+        version,
+        insert);
+    invalidate(urn, aspectName);
+  }
+
+  @Override
+  public void saveAspect(@Nullable Transaction tx, @Nonnull EntityAspect aspect, boolean insert) {
+    aspectDao.saveAspect(tx, aspect, insert);
+    invalidate(aspect.getUrn(), aspect.getAspect());
+  }
+
+  @Override
+  public long saveLatestAspect(
+      @Nullable Transaction tx,
+      @Nonnull String urn,
+      @Nonnull String aspectName,
+      @Nullable String oldAspectMetadata,
+      @Nullable String oldActor,
+      @Nullable String oldImpersonator,
+      @Nullable Timestamp oldTime,
+      @Nullable String oldSystemMetadata,
+      @Nonnull String newAspectMetadata,
+      @Nonnull String newActor,
+      @Nullable String newImpersonator,
+      @Nonnull Timestamp newTime,
+      @Nullable String newSystemMetadata,
+      Long nextVersion) {
+    final long result =
+        aspectDao.saveLatestAspect(
+            tx,
+            urn,
+            aspectName,
+            oldAspectMetadata,
+            oldActor,
+            oldImpersonator,
+            oldTime,
+            oldSystemMetadata,
+            newAspectMetadata,
+            newActor,
+            newImpersonator,
+            newTime,
+            newSystemMetadata,
+            nextVersion);
+    invalidate(urn, aspectName);
+    return result;
+  }
+
+  @Override
+  public void deleteAspect(@Nullable Transaction tx, @Nonnull EntityAspect aspect) {
+    aspectDao.deleteAspect(tx, aspect);
+    invalidate(aspect.getUrn(), aspect.getAspect());
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listUrns(
+      @Nonnull String entityName, @Nonnull String aspectName, int start, int pageSize) {
+    return aspectDao.listUrns(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
+    return aspectDao.countAspect(aspectName, urnLike);
+  }
+
+  @Nonnull
+  @Override
+  public Stream<Stream<EbeanAspectV2>> streamAspectBatches(RestoreIndicesArgs args) {
+    return aspectDao.streamAspectBatches(args);
+  }
+
+  @Nonnull
+  @Override
+  public Stream<EntityAspect> streamAspects(String entityName, String aspectName) {
+    return aspectDao.streamAspects(entityName, aspectName);
+  }
+
+  @Override
+  public int deleteUrn(@Nullable Transaction tx, @Nonnull String urn) {
+    final int result = aspectDao.deleteUrn(tx, urn);
+    invalidateUrn(urn);
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listLatestAspectMetadata(
+      @Nonnull String entityName, @Nonnull String aspectName, int start, int pageSize) {
+    return aspectDao.listLatestAspectMetadata(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listAspectMetadata(
+      @Nonnull String entityName,
+      @Nonnull String aspectName,
+      long version,
+      int start,
+      int pageSize) {
+    return aspectDao.listAspectMetadata(entityName, aspectName, version, start, pageSize);
+  }
+
+  @Override
+  public Map<String, Map<String, Long>> getNextVersions(
+      @Nonnull Map<String, Set<String>> urnAspectMap) {
+    return aspectDao.getNextVersions(urnAspectMap);
+  }
+
+  @Override
+  public long getMaxVersion(@Nonnull String urn, @Nonnull String aspectName) {
+    return aspectDao.getMaxVersion(urn, aspectName);
+  }
+
+  @Override
+  public void setWritable(boolean canWrite) {
+    aspectDao.setWritable(canWrite);
+  }
+
+  @Nonnull
+  @Override
+  public <T> T runInTransactionWithRetry(
+      @Nonnull Function<Transaction, T> block, int maxTransactionRetry) {
+    return inTransaction(() -> aspectDao.runInTransactionWithRetry(block, maxTransactionRetry));
+  }
+
+  @Nonnull
+  @Override
+  public <T> List<T> runInTransactionWithRetry(
+      @Nonnull Function<Transaction, T> block, AspectsBatch batch, int maxTransactionRetry) {
+    return inTransaction(
+        () -> aspectDao.runInTransactionWithRetry(block, batch, maxTransactionRetry));
+  }
+
+  @Override
+  public void incrementWriteMetrics(String aspectName, long count, long bytes) {
+    aspectDao.incrementWriteMetrics(aspectName, count, bytes);
+  }
+
+  private <T> T inTransaction(@Nonnull Supplier<T> transaction) {
+    if (transactionWrites.get() != null) {
+      // Nested, the outermost transaction invalidates
+      return transaction.get();
+    }
+
+    final TransactionWrites writes = new TransactionWrites();
+    transactionWrites.set(writes);
+    try {
+      return transaction.get();
+    } finally {
+      transactionWrites.remove();
+      writes.keys.forEach(key -> evict(key.getUrn(), key.getAspect()));
+      writes.urns.forEach(this::evictUrn);
+    }
+  }
+
+  /**
+   * Adds the loaded aspects of the urn unless it was invalidated since the given version was read.
+   * The check runs under the lock of the cache entry, so an invalidation either bumps the version
+   * before it or removes the aspects after it.
+   */
+  private void fill(@Nonnull String urn, long version, @Nonnull Map<String, CachedAspect> loaded) {
+    cache
+        .asMap()
+        .compute(
+            urn,
+            (key, cached) -> {
+              if (versions.get(stripe(urn)) != version) {
+                return cached;
+              }
+              final long now = System.nanoTime();
+              final Map<String, CachedAspect> aspects = new HashMap<>();
+              if (cached != null) {
+                cached.forEach(
+                    (aspectName, aspect) -> {
+                      if (!isExpired(aspect, now)) {
+                        aspects.put(aspectName, aspect);
+                      }
+                    });
+              }
+              aspects.putAll(loaded);
+              return Collections.unmodifiableMap(aspects);
+            });
+  }
+
+  private void evict(@Nonnull String urn, @Nonnull String aspectName) {
+    versions.incrementAndGet(stripe(urn));
+    cache
+        .asMap()
+        .computeIfPresent(
+            urn,
+            (key, cached) -> {
+              if (!cached.containsKey(aspectName)) {
+                return cached;
+              }
+              if (cached.size() == 1) {
+                return null;
+              }
+              final Map<String, CachedAspect> aspects = new HashMap<>(cached);
+              aspects.remove(aspectName);
+              return Collections.unmodifiableMap(aspects);
+            });
+  }
+
+  private void evictUrn(@Nonnull String urn) {
+    versions.incrementAndGet(stripe(urn));
+    cache.invalidate(urn);
+  }
+
+  private boolean isExpired(@Nonnull CachedAspect cached, long now) {
+    return now - cached.getLoadedNanos() >= ttlNanos;
+  }
+
+  private static int stripe(@Nonnull String urn) {
+    return Math.floorMod(urn.hashCode(), VERSION_STRIPES);
+  }
+
+  private boolean useCache() {
+    return !BYPASS.get() && transactionWrites.get() == null;
+  }
+
+  @Nonnull
+  private EntityAspect copy(@Nonnull EntityAspect aspect) {
+    return new EntityAspect(
+        aspect.getUrn(),
+        aspect.getAspect(),
+        aspect.getVersion(),
+        aspect.getMetadata(),
+        aspect.getSystemMetadata(),
+        aspect.getCreatedOn(),
+        aspect.getCreatedBy(),
+        aspect.getCreatedFor());
+  }
+
+  @Nonnull
+  private static EntityAspectIdentifier latestKey(
+      @Nonnull String urn, @Nonnull String aspectName) {
+    return new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+  }
+
+  private static class TransactionWrites {
+    private final Set<EntityAspectIdentifier> keys = new HashSet<>();
+    private final Set<String> urns = new HashSet<>();
+  }
+
+  /** A cached aspect, null when the entity does not have it. */
+  @Value
+  private static class CachedAspect {
+    @Nullable EntityAspect aspect;
+    long loadedNanos;
+  }
+
+  private static int weigh(@Nonnull String urn, @Nonnull Map<String, CachedAspect> aspects) {
+    int weight = urn.length();
+    for (Map.Entry<String, CachedAspect> entry : aspects.entrySet()) {
+      weight += entry.getKey().length();
+      final EntityAspect aspect = entry.getValue().getAspect();
+      if (aspect != null) {
+        weight +=
+            Optional.ofNullable(aspect.getMetadata()).map(String::length).orElse(0)
+                + Optional.ofNullable(aspect.getSystemMetadata()).map(String::length).orElse(0);
+      }
+    }
+    return weight;
+  }
+}
@@ -4,6 +4,7 @@ import static com.linkedin.metadata.Constants.APP_SOURCE;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 import static com.linkedin.metadata.Constants.DEFAULT_RUN_ID;
 import static com.linkedin.metadata.Constants.FORCE_INDEXING_KEY;
+import static com.linkedin.metadata.Constants.SOFT_DELETED_KEY;
 import static com.linkedin.metadata.Constants.STATUS_ASPECT_NAME;
 import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
 import static com.linkedin.metadata.Constants.UI_SOURCE;
@@ -20,6 +21,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.Status;
 import com.linkedin.common.UrnArray;
@@ -92,7 +94,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -670,12 +675,15 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
               // Read before write is unfortunate, however batch it
               final Map<String, Set<String>> urnAspects = batchWithDefaults.getUrnAspectsMap();
-              // read #1
+              // latest aspects and next versions in a single read, never served from a cache
+              final Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+                  latestAndNextVersions =
+                      CachingAspectDao.bypassCache(
+                          () -> aspectDao.getLatestAspectsAndNextVersions(urnAspects));
               final Map<String, Map<String, SystemAspect>> latestAspects =
-                  EntityUtils.toSystemAspects(aspectDao.getLatestAspects(urnAspects), this);
-              // read #2
+                  EntityUtils.toSystemAspects(latestAndNextVersions.getFirst(), this);
               final Map<String, Map<String, Long>> nextVersions =
-                  aspectDao.getNextVersions(urnAspects);
+                  latestAndNextVersions.getSecond();
 
               // 1. Convert patches to full upserts
               // 2. Run any entity/aspect level hooks
@@ -686,11 +694,15 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
               final Map<String, Map<String, SystemAspect>> updatedLatestAspects;
               final Map<String, Map<String, Long>> updatedNextVersions;
               if (!updatedItems.getFirst().isEmpty()) {
+                Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+                    newLatestAndNextVersions =
+                        CachingAspectDao.bypassCache(
+                            () ->
+                                aspectDao.getLatestAspectsAndNextVersions(updatedItems.getFirst()));
                 Map<String, Map<String, SystemAspect>> newLatestAspects =
-                    EntityUtils.toSystemAspects(
-                        aspectDao.getLatestAspects(updatedItems.getFirst()), this);
+                    EntityUtils.toSystemAspects(newLatestAndNextVersions.getFirst(), this);
                 Map<String, Map<String, Long>> newNextVersions =
-                    aspectDao.getNextVersions(updatedItems.getFirst());
+                    newLatestAndNextVersions.getSecond();
                 // merge
                 updatedLatestAspects = AspectsBatch.merge(latestAspects, newLatestAspects);
                 updatedNextVersions = AspectsBatch.merge(nextVersions, newNextVersions);
@@ -831,10 +843,21 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
   @Nonnull
   private List<UpdateAspectResult> emitMCL(List<UpdateAspectResult> sqlResults, boolean emitMCL) {
-    List<UpdateAspectResult> withEmitMCL =
-        sqlResults.stream()
-            .map(result -> emitMCL ? conditionallyProduceMCLAsync(result) : result)
-            .collect(Collectors.toList());
+    List<UpdateAspectResult> withEmitMCL;
+    try {
+      withEmitMCL =
+          sqlResults.stream()
+              .map(result -> emitMCL ? conditionallyProduceMCLAsync(result) : result)
+              .collect(Collectors.toList());
+    } catch (RuntimeException e) {
+      throw new MCLEmissionException(
+          "Failed to produce MCLs",
+          sqlResults.stream()
+              .map(result -> result.getRequest().getMetadataChangeProposal())
+              .filter(Objects::nonNull)
+              .collect(Collectors.toList()),
+          e);
+    }
 
     // join futures messages, capture error state
     List<Pair<Boolean, UpdateAspectResult>> statusPairs =
@@ -860,7 +883,14 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
               .map(v -> v.getRequest().toString())
               .collect(Collectors.toList()));
       // TODO restoreIndices?
-      throw new RuntimeException("Failed to produce MCLs");
+      throw new MCLEmissionException(
+          "Failed to produce MCLs",
+          statusPairs.stream()
+              .filter(p -> !p.getFirst())
+              .map(p -> p.getValue().getRequest().getMetadataChangeProposal())
+              .filter(Objects::nonNull)
+              .collect(Collectors.toList()),
+          null);
     }
 
     return withEmitMCL;
@@ -1195,7 +1225,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                   EntityUtils.toSystemAspectFromEbeanAspects(
                       batchStream.collect(Collectors.toList()), this);
 
-              RestoreIndicesResult result = restoreIndices(systemAspects, logger);
+              RestoreIndicesResult result = restoreIndices(systemAspects, args, logger);
               result.timeSqlQueryMs = timeSqlQueryMs;
 
               logger.accept("Batch completed.");
@@ -1255,6 +1285,26 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
    */
   private RestoreIndicesResult restoreIndices(
       List<SystemAspect> systemAspects, @Nonnull Consumer<String> logger) {
+    return restoreIndices(systemAspects, null, logger);
+  }
+
+  /**
+   * Restores the indices for the given aspects. By default a RESTATE MCL is produced for every
+   * aspect, in direct mode the change logs are applied to the indices on a pool of workers instead.
+   *
+   * @param systemAspects the latest aspects to restore
+   * @param args the restore arguments, null to produce MCLs
+   * @param logger progress logger
+   * @return the restore result of the batch
+   */
+  private RestoreIndicesResult restoreIndices(
+      List<SystemAspect> systemAspects,
+      @Nullable RestoreIndicesArgs args,
+      @Nonnull Consumer<String> logger) {
+    final boolean direct = args != null && args.direct;
+    if (direct && updateIndicesService == null) {
+      throw new IllegalStateException("Direct restore indices requires an update indices service");
+    }
     RestoreIndicesResult result = new RestoreIndicesResult();
     long startTime = System.currentTimeMillis();
     int ignored = 0;
@@ -1262,6 +1312,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     long defaultAspectsCreated = 0;
 
     LinkedList<Future<?>> futures = new LinkedList<>();
+    List<MetadataChangeLog> changeLogs = new ArrayList<>();
+    Map<Urn, ChangeItemImpl> keyAspects = new HashMap<>();
 
     for (SystemAspect aspect : systemAspects) {
       // 1. Extract an Entity type from the entity Urn
@@ -1340,6 +1392,24 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
       // 5. Produce MAE events for the aspect record
       AuditStamp auditStamp = AuditStampUtils.createDefaultAuditStamp();
+      if (direct) {
+        changeLogs.add(
+            constructMCL(
+                null,
+                entityName,
+                urn,
+                ChangeType.RESTATE,
+                aspectName,
+                auditStamp,
+                aspectRecord,
+                latestSystemMetadata,
+                null,
+                null));
+        keyAspects.computeIfAbsent(
+            urn, key -> buildKeyAspectItem(key, entitySpec, auditStamp, latestSystemMetadata));
+        rowsMigrated++;
+        continue;
+      }
       futures.add(
           alwaysProduceMCLAsync(
                   urn,
@@ -1356,17 +1426,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
       // 6. Ensure default aspects are in existence in SQL
       List<MCPItem> keyAspect =
-          List.of(
-              ChangeItemImpl.builder()
-                  .urn(urn)
-                  .aspectName(entitySpec.getKeyAspectName())
-                  .changeType(ChangeType.UPSERT)
-                  .entitySpec(entitySpec)
-                  .aspectSpec(entitySpec.getKeyAspectSpec())
-                  .auditStamp(auditStamp)
-                  .systemMetadata(latestSystemMetadata)
-                  .recordTemplate(EntityUtils.buildKeyAspect(getEntityRegistry(), urn))
-                  .build(this));
+          List.of(buildKeyAspectItem(urn, entitySpec, auditStamp, latestSystemMetadata));
       Stream<IngestResult> defaultAspectsResult =
           ingestProposalSync(
               AspectsBatchImpl.builder().aspectRetriever(this).items(keyAspect).build());
@@ -1387,12 +1447,134 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
               }
             });
 
+    if (direct) {
+      // Applied once for the whole batch, the per row work above only builds the change logs
+      startTime = System.currentTimeMillis();
+      int failed = applyChangeLogs(changeLogs, Math.max(1, args.indexingThreads), logger);
+      rowsMigrated -= failed;
+      ignored += failed;
+      defaultAspectsCreated += ingestMissingKeyAspects(keyAspects);
+      result.sendMessageMs += System.currentTimeMillis() - startTime;
+    }
+
     result.ignored = ignored;
     result.rowsMigrated = rowsMigrated;
     result.defaultAspectsCreated = defaultAspectsCreated;
     return result;
   }
 
+  private ChangeItemImpl buildKeyAspectItem(
+      @Nonnull Urn urn,
+      @Nonnull EntitySpec entitySpec,
+      @Nonnull AuditStamp auditStamp,
+      @Nonnull SystemMetadata systemMetadata) {
+    return ChangeItemImpl.builder()
+        .urn(urn)
+        .aspectName(entitySpec.getKeyAspectName())
+        .changeType(ChangeType.UPSERT)
+        .entitySpec(entitySpec)
+        .aspectSpec(entitySpec.getKeyAspectSpec())
+        .auditStamp(auditStamp)
+        .systemMetadata(systemMetadata)
+        .recordTemplate(EntityUtils.buildKeyAspect(getEntityRegistry(), urn))
+        .build(this);
+  }
+
+  /**
+   * Applies the change logs to the indices without going through Kafka. Change logs are
+   * partitioned by urn, so the aspects of an entity are applied in order by a single worker.
+   *
+   * @return the number of change logs which failed to apply
+   */
+  private int applyChangeLogs(
+      @Nonnull List<MetadataChangeLog> changeLogs,
+      int numThreads,
+      @Nonnull Consumer<String> logger) {
+    final List<List<MetadataChangeLog>> partitions = new ArrayList<>(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (MetadataChangeLog changeLog : changeLogs) {
+      partitions
+          .get(Math.floorMod(changeLog.getEntityUrn().hashCode(), numThreads))
+          .add(changeLog);
+    }
+
+    final AtomicInteger failed = new AtomicInteger();
+    final Consumer<List<MetadataChangeLog>> worker =
+        partition -> {
+          for (MetadataChangeLog changeLog : partition) {
+            try {
+              updateIndicesService.handleChangeEvent(changeLog);
+            } catch (RuntimeException e) {
+              failed.incrementAndGet();
+              logger.accept(
+                  String.format(
+                      "Failed to restore indices for urn %s, aspect %s: %s. Ignoring row.",
+                      changeLog.getEntityUrn(), changeLog.getAspectName(), e));
+            }
+          }
+        };
+
+    if (numThreads == 1) {
+      worker.accept(partitions.get(0));
+    } else {
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(
+              numThreads,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("restore-indices-%d")
+                  .setDaemon(true)
+                  .build());
+      try {
+        partitions.stream()
+            .filter(partition -> !partition.isEmpty())
+            .map(partition -> CompletableFuture.runAsync(() -> worker.accept(partition), executor))
+            .collect(Collectors.toList())
+            .forEach(CompletableFuture::join);
+      } finally {
+        executor.shutdown();
+      }
+    }
+    MetricUtils.counter(this.getClass(), "restore_indices_direct")
+        .inc(changeLogs.size() - failed.get());
+    return failed.get();
+  }
+
+  /**
+   * Creates the key aspects which do not exist yet with a single batch, instead of a transaction
+   * per restored row.
+   */
+  private long ingestMissingKeyAspects(@Nonnull Map<Urn, ChangeItemImpl> keyAspects) {
+    if (keyAspects.isEmpty()) {
+      return 0;
+    }
+    final Map<String, Set<String>> keyAspectNames =
+        keyAspects.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    entry -> entry.getKey().toString(),
+                    entry -> Set.of(entry.getValue().getAspectName())));
+    final Map<String, Map<String, EntityAspect>> existing =
+        CachingAspectDao.bypassCache(() -> aspectDao.getLatestAspects(keyAspectNames));
+
+    final List<MCPItem> missing =
+        keyAspects.entrySet().stream()
+            .filter(
+                entry ->
+                    !existing
+                        .getOrDefault(entry.getKey().toString(), Map.of())
+                        .containsKey(entry.getValue().getAspectName()))
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toList());
+    if (missing.isEmpty()) {
+      return 0;
+    }
+    return ingestProposalSync(
+            AspectsBatchImpl.builder().aspectRetriever(this).items(missing).build())
+        .count();
+  }
+
   /**
    * Lists the entity URNs found in storage.
    *
@@ -1815,7 +1997,9 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
     EntityAspect latestKey = null;
     try {
-      latestKey = aspectDao.getLatestAspect(urn.toString(), keyAspectName);
+      latestKey =
+          CachingAspectDao.bypassCache(
+              () -> aspectDao.getLatestAspect(urn.toString(), keyAspectName));
     } catch (EntityNotFoundException e) {
       log.warn("Entity to delete does not exist. {}", urn.toString());
     }
@@ -1952,7 +2136,10 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
               // 1. Fetch the latest existing version of the aspect.
               final EntityAspect.EntitySystemAspect latest =
                   (EntityAspect.EntitySystemAspect)
-                      EntityUtils.toSystemAspect(aspectDao.getLatestAspect(urn, aspectName), this)
+                      EntityUtils.toSystemAspect(
+                              CachingAspectDao.bypassCache(
+                                  () -> aspectDao.getLatestAspect(urn, aspectName)),
+                              this)
                           .orElse(null);
 
               // 1.1 If no latest exists, skip this aspect
@@ -2039,6 +2226,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                 if (isKeyAspect) {
                   if (hardDelete) {
                     // If this is the key aspect, delete the entity entirely.
+                    markSoftDeleted(urn, latestSystemMetadata);
                     additionalRowsDeleted = aspectDao.deleteUrn(tx, urn);
                   } else if (deleteItem.getEntitySpec().hasAspect(Constants.STATUS_ASPECT_NAME)) {
                     // soft delete by setting status.removed=true (if applicable)
@@ -2099,6 +2287,29 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     return result;
   }
 
+  /**
+   * Flags the system metadata of a key aspect about to be hard deleted when the entity is soft
+   * deleted, since its status is deleted along with it.
+   */
+  private void markSoftDeleted(@Nonnull String urn, @Nonnull SystemMetadata keySystemMetadata) {
+    final boolean softDeleted =
+        EntityUtils.toSystemAspect(
+                CachingAspectDao.bypassCache(
+                    () -> aspectDao.getLatestAspect(urn, STATUS_ASPECT_NAME)),
+                this)
+            .map(status -> status.getAspect(Status.class))
+            .map(Status::isRemoved)
+            .orElse(false);
+    if (softDeleted) {
+      final StringMap properties =
+          keySystemMetadata.hasProperties()
+              ? new StringMap(keySystemMetadata.getProperties())
+              : new StringMap();
+      properties.put(SOFT_DELETED_KEY, Boolean.TRUE.toString());
+      keySystemMetadata.setProperties(properties);
+    }
+  }
+
   protected boolean filterMatch(
       @Nonnull SystemMetadata systemMetadata, Map<String, String> conditions) {
     String runIdCondition = conditions.getOrDefault("runId", null);
@@ -7,19 +7,19 @@ import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.paging.OffsetPager;
 import com.datastax.oss.driver.api.core.paging.OffsetPager.Page;
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
-import com.datastax.oss.driver.api.querybuilder.term.Term;
-import com.datastax.oss.driver.api.querybuilder.update.Update;
-import com.datastax.oss.driver.api.querybuilder.update.UpdateWithAssignments;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.AuditStamp;
@@ -34,31 +34,63 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
+import com.linkedin.util.Pair;
 import io.ebean.Transaction;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Aspect DAO backed by a Cassandra table partitioned by urn.
+ *
+ * <p>Every query is prepared once and then bound. Multi-key reads are issued concurrently, with at
+ * most {@code maxConcurrentReads} requests in flight. The writes made inside {@link
+ * #runInTransactionWithRetry(Function, int)} are buffered and sent as one unlogged batch per urn
+ * when the block completes, or before any other statement is run.
+ */
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  private static final String MAX_VERSION_COLUMN = "maxversion";
+  public static final int DEFAULT_MAX_CONCURRENT_READS = 64;
+  // Stays well below the default batch_size_fail_threshold of Cassandra
+  private static final int MAX_BATCH_BYTES = 32 * 1024;
+
   private final CqlSession _cqlSession;
+  private final int _maxConcurrentReads;
+  private final Map<String, PreparedStatement> _preparedStatements = new ConcurrentHashMap<>();
+  // Writes of the runInTransactionWithRetry block running on this thread, null outside of one
+  private final ThreadLocal<List<PendingWrite>> _pendingWrites = new ThreadLocal<>();
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
+    this(cqlSession, DEFAULT_MAX_CONCURRENT_READS);
+  }
+
+  public CassandraAspectDao(@Nonnull final CqlSession cqlSession, final int maxConcurrentReads) {
     _cqlSession = cqlSession;
+    _maxConcurrentReads = maxConcurrentReads;
   }
 
   public void setConnectionValidated(boolean validated) {
@@ -88,20 +120,87 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public Map<String, Map<String, EntityAspect>> getLatestAspects(
       Map<String, Set<String>> urnAspects) {
-    return urnAspects.entrySet().stream()
-        .map(
-            entry ->
-                Map.entry(
-                    entry.getKey(),
+    final Set<EntityAspectIdentifier> keys =
+        urnAspects.entrySet().stream()
+            .flatMap(
+                entry ->
                     entry.getValue().stream()
                         .map(
-                            aspectName -> {
-                              EntityAspect aspect = getLatestAspect(entry.getKey(), aspectName);
-                              return aspect != null ? Map.entry(aspectName, aspect) : null;
-                            })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            aspectName ->
+                                new EntityAspectIdentifier(
+                                    entry.getKey(), aspectName, ASPECT_LATEST_VERSION)))
+            .collect(Collectors.toSet());
+    final Map<EntityAspectIdentifier, EntityAspect> aspects = batchGet(keys);
+
+    final Map<String, Map<String, EntityAspect>> latestAspects = new HashMap<>();
+    urnAspects.keySet().forEach(urn -> latestAspects.put(urn, new HashMap<>()));
+    aspects.forEach((key, aspect) -> latestAspects.get(key.getUrn()).put(key.getAspect(), aspect));
+    return latestAspects;
+  }
+
+  /**
+   * Issues one statement per urn, all of them concurrently. Rows are grouped by aspect, with
+   * version being a clustering column in ascending order the non aggregated columns of each group
+   * hold the version 0 row while max(version) yields the latest version number.
+   */
+  @Override
+  @Nonnull
+  public Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+      getLatestAspectsAndNextVersions(@Nonnull Map<String, Set<String>> urnAspects) {
+    validateConnection();
+
+    final PreparedStatement prepared =
+        prepare(
+            "getLatestAspectsAndNextVersions",
+            () ->
+                selectFrom(CassandraAspect.TABLE_NAME)
+                    .selectors(
+                        Selector.column(CassandraAspect.URN_COLUMN),
+                        Selector.column(CassandraAspect.ASPECT_COLUMN),
+                        Selector.column(CassandraAspect.VERSION_COLUMN),
+                        Selector.column(CassandraAspect.METADATA_COLUMN),
+                        Selector.column(CassandraAspect.SYSTEM_METADATA_COLUMN),
+                        Selector.column(CassandraAspect.CREATED_ON_COLUMN),
+                        Selector.column(CassandraAspect.CREATED_BY_COLUMN),
+                        Selector.column(CassandraAspect.CREATED_FOR_COLUMN),
+                        Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN))
+                            .as(MAX_VERSION_COLUMN))
+                    .whereColumn(CassandraAspect.URN_COLUMN)
+                    .isEqualTo(bindMarker())
+                    .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                    .in(bindMarker())
+                    .groupBy(
+                        ImmutableList.of(
+                            Selector.column(CassandraAspect.URN_COLUMN),
+                            Selector.column(CassandraAspect.ASPECT_COLUMN)))
+                    .build());
+    final Map<String, CompletableFuture<AsyncResultSet>> futures =
+        executeAllAsync(
+            urnAspects.keySet(),
+            urn -> prepared.bind(urn, new ArrayList<>(urnAspects.get(urn))));
+
+    final Map<String, Map<String, EntityAspect>> latestAspects = new HashMap<>();
+    final Map<String, Map<String, Long>> nextVersions = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : urnAspects.entrySet()) {
+      final Map<String, EntityAspect> urnLatest = new HashMap<>();
+      final Map<String, Long> urnNextVersions = new HashMap<>();
+      entry
+          .getValue()
+          .forEach(aspectName -> urnNextVersions.put(aspectName, ASPECT_LATEST_VERSION));
+
+      for (Row row : join(futures.get(entry.getKey())).currentPage()) {
+        EntityAspect aspect = CassandraAspect.rowToEntityAspect(row);
+        if (aspect.getVersion() == ASPECT_LATEST_VERSION) {
+          urnLatest.put(aspect.getAspect(), aspect);
+        }
+        urnNextVersions.put(aspect.getAspect(), row.getLong(MAX_VERSION_COLUMN) + 1L);
+      }
+
+      latestAspects.put(entry.getKey(), urnLatest);
+      nextVersions.put(entry.getKey(), urnNextVersions);
+    }
+
+    return Pair.of(latestAspects, nextVersions);
   }
 
   @Override
@@ -114,13 +213,16 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public long countEntities() {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .distinct()
-            .column(CassandraAspect.URN_COLUMN)
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "countEntities",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .distinct()
+                            .column(CassandraAspect.URN_COLUMN)
+                            .build())
+                .bind());
     // TODO: make sure it doesn't blow up on a large database
     //  Getting a count of distinct values in a Cassandra query doesn't seem to be feasible, but
     // counting them in the app is dangerous
@@ -132,45 +234,60 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public boolean checkIfAspectExists(@Nonnull String aspectName) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .column(CassandraAspect.URN_COLUMN)
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .limit(1)
-            .allowFiltering()
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "checkIfAspectExists",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .column(CassandraAspect.URN_COLUMN)
+                            .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .limit(1)
+                            .allowFiltering()
+                            .build())
+                .bind(aspectName));
     return rs.one() != null;
   }
 
   private Map<String, Long> getMaxVersions(
       @Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .selectors(
-                Selector.column(CassandraAspect.URN_COLUMN),
-                Selector.column(CassandraAspect.ASPECT_COLUMN),
-                Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN))
-                    .as(CassandraAspect.VERSION_COLUMN))
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .in(aspectNamesToLiterals(aspectNames))
-            .groupBy(
-                ImmutableList.of(
-                    Selector.column(CassandraAspect.URN_COLUMN),
-                    Selector.column(CassandraAspect.ASPECT_COLUMN)))
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
-    Map<String, Long> aspectVersions =
-        rs.all().stream()
-            .collect(
-                Collectors.toMap(
-                    row -> row.getString(CassandraAspect.ASPECT_COLUMN),
-                    row -> row.getLong(CassandraAspect.VERSION_COLUMN)));
+    return toMaxVersions(execute(bindGetMaxVersions(urn, aspectNames)).all(), aspectNames);
+  }
+
+  @Nonnull
+  private BoundStatement bindGetMaxVersions(
+      @Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
+    return prepare(
+            "getMaxVersions",
+            () ->
+                selectFrom(CassandraAspect.TABLE_NAME)
+                    .selectors(
+                        Selector.column(CassandraAspect.URN_COLUMN),
+                        Selector.column(CassandraAspect.ASPECT_COLUMN),
+                        Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN))
+                            .as(CassandraAspect.VERSION_COLUMN))
+                    .whereColumn(CassandraAspect.URN_COLUMN)
+                    .isEqualTo(bindMarker())
+                    .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                    .in(bindMarker())
+                    .groupBy(
+                        ImmutableList.of(
+                            Selector.column(CassandraAspect.URN_COLUMN),
+                            Selector.column(CassandraAspect.ASPECT_COLUMN)))
+                    .build())
+        .bind(urn, new ArrayList<>(aspectNames));
+  }
+
+  @Nonnull
+  private static Map<String, Long> toMaxVersions(
+      @Nonnull final Iterable<Row> rows, @Nonnull final Set<String> aspectNames) {
+    Map<String, Long> aspectVersions = new HashMap<>();
+    for (Row row : rows) {
+      aspectVersions.put(
+          row.getString(CassandraAspect.ASPECT_COLUMN),
+          row.getLong(CassandraAspect.VERSION_COLUMN));
+    }
 
     // For each requested aspect that didn't come back from DB, add a version -1
     for (String aspect : aspectNames) {
@@ -186,21 +303,27 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   public void saveAspect(
       @Nullable Transaction tx, @Nonnull EntityAspect aspect, final boolean insert) {
     validateConnection();
-    SimpleStatement statement = generateSaveStatement(aspect, insert);
-    _cqlSession.execute(statement);
+    write(aspect.getUrn(), List.of(generateSaveStatement(aspect, insert)), estimateSize(aspect));
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  /** Reads the aspects concurrently, one query per key. */
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(
       @Nonnull final Set<EntityAspectIdentifier> keys) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toMap(EntityAspect::getAspectIdentifier, aspect -> aspect));
+    final Map<EntityAspectIdentifier, CompletableFuture<AsyncResultSet>> futures =
+        executeAllAsync(
+            keys, key -> bindGetAspect(key.getUrn(), key.getAspect(), key.getVersion()));
+    final Map<EntityAspectIdentifier, EntityAspect> aspects = new HashMap<>();
+    futures.forEach(
+        (key, future) -> {
+          final Row row = join(future).one();
+          if (row != null) {
+            aspects.put(key, CassandraAspect.rowToEntityAspect(row));
+          }
+        });
+    return aspects;
   }
 
   @Override
@@ -231,19 +354,22 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
       final int pageSize) {
 
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(version))
-            .whereColumn(CassandraAspect.ENTITY_COLUMN)
-            .isEqualTo(literal(entityName))
-            .allowFiltering()
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "listAspectMetadata",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .all()
+                            .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .whereColumn(CassandraAspect.VERSION_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .whereColumn(CassandraAspect.ENTITY_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .allowFiltering()
+                            .build())
+                .bind(aspectName, version, entityName));
 
     int pageNumber = start / pageSize + 1;
     OffsetPager offsetPager = new OffsetPager(pageSize);
@@ -256,19 +382,23 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
     // TODO: address performance issue for getting total count
     //  https://www.datastax.com/blog/running-count-expensive-cassandra
-    SimpleStatement ssCount =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .countAll()
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(version))
-            .whereColumn(CassandraAspect.ENTITY_COLUMN)
-            .isEqualTo(literal(entityName))
-            .allowFiltering()
-            .build();
-
-    long totalCount = _cqlSession.execute(ssCount).one().getLong(0);
+    BoundStatement ssCount =
+        prepare(
+                "countAspectMetadata",
+                () ->
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .countAll()
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.VERSION_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.ENTITY_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .allowFiltering()
+                        .build())
+            .bind(aspectName, version, entityName);
+
+    long totalCount = execute(ssCount).one().getLong(0);
 
     final List<String> aspectMetadatas =
         aspects.stream().map(EntityAspect::getMetadata).collect(Collectors.toList());
@@ -288,14 +418,25 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     validateConnection();
     int retryCount = 0;
     Exception lastException;
+    // Nested blocks leave the writes to the outermost one
+    final boolean outermost = _pendingWrites.get() == null;
 
     do {
+      if (outermost) {
+        _pendingWrites.set(new ArrayList<>());
+      }
       try {
-        // TODO: Try to bend this code to make use of Cassandra batches. This method is called from
-        // single-urn operations, so perf should not suffer much
-        return block.apply(null);
+        final T result = block.apply(null);
+        if (outermost) {
+          flushPendingWrites();
+        }
+        return result;
       } catch (DriverException exception) {
         lastException = exception;
+      } finally {
+        if (outermost) {
+          _pendingWrites.remove();
+        }
       }
     } while (++retryCount <= maxTransactionRetry);
 
@@ -367,45 +508,54 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void deleteAspect(@Nullable Transaction tx, @Nonnull final EntityAspect aspect) {
     validateConnection();
-    SimpleStatement ss =
-        deleteFrom(CassandraAspect.TABLE_NAME)
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(aspect.getUrn()))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspect.getAspect()))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(aspect.getVersion()))
-            .ifExists()
-            .build();
-
-    _cqlSession.execute(ss);
+    execute(
+        prepare(
+                "deleteAspect",
+                () ->
+                    deleteFrom(CassandraAspect.TABLE_NAME)
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.VERSION_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .ifExists()
+                        .build())
+            .bind(aspect.getUrn(), aspect.getAspect(), aspect.getVersion()));
   }
 
   @Override
   public int deleteUrn(@Nullable Transaction tx, @Nonnull final String urn) {
     validateConnection();
-    SimpleStatement ss =
-        deleteFrom(CassandraAspect.TABLE_NAME)
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .build();
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "deleteUrn",
+                    () ->
+                        deleteFrom(CassandraAspect.TABLE_NAME)
+                            .whereColumn(CassandraAspect.URN_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .build())
+                .bind(urn));
     // TODO: look into how to get around this for counts in Cassandra
     // https://stackoverflow.com/questions/28611459/how-to-know-affected-rows-in-cassandracql
     return rs.getExecutionInfo().getErrors().size() == 0 ? -1 : 0;
   }
 
   public List<EntityAspect> getAllAspects(String urn, String aspectName) {
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "getAllAspects",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .all()
+                            .whereColumn(CassandraAspect.URN_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .build())
+                .bind(urn, aspectName));
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect).collect(Collectors.toList());
   }
 
@@ -413,23 +563,30 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nullable
   public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(version))
-            .limit(1)
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = execute(bindGetAspect(urn, aspectName, version));
     Row row = rs.one();
     return row == null ? null : CassandraAspect.rowToEntityAspect(row);
   }
 
+  @Nonnull
+  private BoundStatement bindGetAspect(
+      @Nonnull String urn, @Nonnull String aspectName, long version) {
+    return prepare(
+            "getAspect",
+            () ->
+                selectFrom(CassandraAspect.TABLE_NAME)
+                    .all()
+                    .whereColumn(CassandraAspect.URN_COLUMN)
+                    .isEqualTo(bindMarker())
+                    .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                    .isEqualTo(bindMarker())
+                    .whereColumn(CassandraAspect.VERSION_COLUMN)
+                    .isEqualTo(bindMarker())
+                    .limit(1)
+                    .build())
+        .bind(urn, aspectName, version);
+  }
+
   @Override
   @Nonnull
   public ListResult<String> listUrns(
@@ -439,22 +596,25 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
       final int pageSize) {
 
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .columns(
-                CassandraAspect.URN_COLUMN,
-                CassandraAspect.ASPECT_COLUMN,
-                CassandraAspect.VERSION_COLUMN)
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(ASPECT_LATEST_VERSION))
-            .whereColumn(CassandraAspect.ENTITY_COLUMN)
-            .isEqualTo(literal(entityName))
-            .allowFiltering()
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "listUrns",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .columns(
+                                CassandraAspect.URN_COLUMN,
+                                CassandraAspect.ASPECT_COLUMN,
+                                CassandraAspect.VERSION_COLUMN)
+                            .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .whereColumn(CassandraAspect.VERSION_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .whereColumn(CassandraAspect.ENTITY_COLUMN)
+                            .isEqualTo(bindMarker())
+                            .allowFiltering()
+                            .build())
+                .bind(aspectName, ASPECT_LATEST_VERSION, entityName));
 
     OffsetPager offsetPager = new OffsetPager(pageSize);
     int pageNumber = start / pageSize + 1;
@@ -468,17 +628,21 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
     // TODO: address performance issue for getting total count
     // https://www.datastax.com/blog/running-count-expensive-cassandra
-    SimpleStatement ssCount =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .countAll()
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(ASPECT_LATEST_VERSION))
-            .allowFiltering()
-            .build();
-
-    long totalCount = _cqlSession.execute(ssCount).one().getLong(0);
+    BoundStatement ssCount =
+        prepare(
+                "countUrns",
+                () ->
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .countAll()
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.VERSION_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .allowFiltering()
+                        .build())
+            .bind(aspectName, ASPECT_LATEST_VERSION);
+
+    long totalCount = execute(ssCount).one().getLong(0);
 
     return toListResult(urns, null, start, pageNumber, pageSize, totalCount);
   }
@@ -499,29 +663,29 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nonnull
   @Override
   public Stream<EntityAspect> streamAspects(String entityName, String aspectName) {
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            // assumes alpha characters after the entityType prefix
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isGreaterThan(literal(String.join(":", List.of("urn", "li", entityName, ""))))
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isLessThan(
-                literal(
-                    String.join(
-                        ":",
-                        List.of(
-                            "urn",
-                            "li",
-                            entityName,
-                            "|")))) // this is used for slicing prefixes with alpha characters
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .allowFiltering() // performance impact, however # of properties expected to be
-            // relatively small
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    BoundStatement ss =
+        prepare(
+                "streamAspects",
+                () ->
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .all()
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isGreaterThan(bindMarker())
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isLessThan(bindMarker())
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .allowFiltering() // performance impact, however # of properties expected
+                        // to be relatively small
+                        .build())
+            .bind(
+                // assumes alpha characters after the entityType prefix
+                String.join(":", List.of("urn", "li", entityName, "")),
+                // this is used for slicing prefixes with alpha characters
+                String.join(":", List.of("urn", "li", entityName, "|")),
+                aspectName);
+
+    ResultSet rs = execute(ss);
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect);
   }
 
@@ -529,10 +693,15 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nonnull
   public Iterable<String> listAllUrns(int start, int pageSize) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME).column(CassandraAspect.URN_COLUMN).build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs =
+        execute(
+            prepare(
+                    "listAllUrns",
+                    () ->
+                        selectFrom(CassandraAspect.TABLE_NAME)
+                            .column(CassandraAspect.URN_COLUMN)
+                            .build())
+                .bind());
 
     int pageNumber = start / pageSize + 1;
     OffsetPager offsetPager = new OffsetPager(pageSize);
@@ -547,9 +716,14 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   public Map<String, Map<String, Long>> getNextVersions(Map<String, Set<String>> urnAspectMap) {
     validateConnection();
     Map<String, Map<String, Long>> result = new HashMap<>();
+    Map<String, CompletableFuture<AsyncResultSet>> futures =
+        executeAllAsync(
+            urnAspectMap.keySet(), urn -> bindGetMaxVersions(urn, urnAspectMap.get(urn)));
 
     for (Map.Entry<String, Set<String>> aspectNames : urnAspectMap.entrySet()) {
-      Map<String, Long> maxVersions = getMaxVersions(aspectNames.getKey(), aspectNames.getValue());
+      Map<String, Long> maxVersions =
+          toMaxVersions(
+              join(futures.get(aspectNames.getKey())).currentPage(), aspectNames.getValue());
       Map<String, Long> nextVersions = new HashMap<>();
 
       for (String aspectName : aspectNames.getValue()) {
@@ -587,7 +761,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     }
     // Save oldValue as the largest version + 1
     long largestVersion = ASPECT_LATEST_VERSION;
-    BatchStatement batch = BatchStatement.newInstance(BatchType.UNLOGGED);
+    final List<BatchableStatement<?>> statements = new ArrayList<>(2);
+    long size = 0;
     if (oldAspectMetadata != null && oldTime != null) {
       largestVersion = nextVersion;
       final EntityAspect aspect =
@@ -600,7 +775,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
               oldTime,
               oldActor,
               oldImpersonator);
-      batch = batch.add(generateSaveStatement(aspect, true));
+      statements.add(generateSaveStatement(aspect, true));
+      size += estimateSize(aspect);
     }
 
     // Save newValue as the latest version (v0)
@@ -614,54 +790,74 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
             newTime,
             newActor,
             newImpersonator);
-    batch = batch.add(generateSaveStatement(aspect, oldAspectMetadata == null));
-    _cqlSession.execute(batch);
+    statements.add(generateSaveStatement(aspect, oldAspectMetadata == null));
+    size += estimateSize(aspect);
+    // Both versions live in the urn's partition, so they are written as one unlogged batch
+    write(urn, statements, size);
     return largestVersion;
   }
 
-  private SimpleStatement generateSaveStatement(EntityAspect aspect, boolean insert) {
+  private BoundStatement generateSaveStatement(EntityAspect aspect, boolean insert) {
     String entity;
     try {
       entity = (new Urn(aspect.getUrn())).getEntityType();
     } catch (URISyntaxException e) {
       throw new RuntimeException(e);
     }
+    final Instant createdOn = Instant.ofEpochMilli(aspect.getCreatedOn().getTime());
     if (insert) {
-      Insert ri =
-          insertInto(CassandraAspect.TABLE_NAME)
-              .value(CassandraAspect.URN_COLUMN, literal(aspect.getUrn()))
-              .value(CassandraAspect.ASPECT_COLUMN, literal(aspect.getAspect()))
-              .value(CassandraAspect.VERSION_COLUMN, literal(aspect.getVersion()))
-              .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .value(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
-              .value(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
-              .value(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()))
-              .value(CassandraAspect.ENTITY_COLUMN, literal(entity))
-              .value(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
-              .ifNotExists();
-      return ri.build();
+      return prepare(
+              "insertAspect",
+              () ->
+                  insertInto(CassandraAspect.TABLE_NAME)
+                      .value(CassandraAspect.URN_COLUMN, bindMarker())
+                      .value(CassandraAspect.ASPECT_COLUMN, bindMarker())
+                      .value(CassandraAspect.VERSION_COLUMN, bindMarker())
+                      .value(CassandraAspect.SYSTEM_METADATA_COLUMN, bindMarker())
+                      .value(CassandraAspect.METADATA_COLUMN, bindMarker())
+                      .value(CassandraAspect.CREATED_ON_COLUMN, bindMarker())
+                      .value(CassandraAspect.CREATED_FOR_COLUMN, bindMarker())
+                      .value(CassandraAspect.ENTITY_COLUMN, bindMarker())
+                      .value(CassandraAspect.CREATED_BY_COLUMN, bindMarker())
+                      .ifNotExists()
+                      .build())
+          .bind(
+              aspect.getUrn(),
+              aspect.getAspect(),
+              aspect.getVersion(),
+              aspect.getSystemMetadata(),
+              aspect.getMetadata(),
+              createdOn,
+              aspect.getCreatedFor(),
+              entity,
+              aspect.getCreatedBy());
     } else {
-
-      UpdateWithAssignments uwa =
-          update(CassandraAspect.TABLE_NAME)
-              .setColumn(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
-              .setColumn(
-                  CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .setColumn(
-                  CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
-              .setColumn(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
-              .setColumn(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()));
-
-      Update u =
-          uwa.whereColumn(CassandraAspect.URN_COLUMN)
-              .isEqualTo(literal(aspect.getUrn()))
-              .whereColumn(CassandraAspect.ASPECT_COLUMN)
-              .isEqualTo(literal(aspect.getAspect()))
-              .whereColumn(CassandraAspect.VERSION_COLUMN)
-              .isEqualTo(literal(aspect.getVersion()))
-              .ifExists();
-
-      return u.build();
+      return prepare(
+              "updateAspect",
+              () ->
+                  update(CassandraAspect.TABLE_NAME)
+                      .setColumn(CassandraAspect.METADATA_COLUMN, bindMarker())
+                      .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, bindMarker())
+                      .setColumn(CassandraAspect.CREATED_ON_COLUMN, bindMarker())
+                      .setColumn(CassandraAspect.CREATED_BY_COLUMN, bindMarker())
+                      .setColumn(CassandraAspect.CREATED_FOR_COLUMN, bindMarker())
+                      .whereColumn(CassandraAspect.URN_COLUMN)
+                      .isEqualTo(bindMarker())
+                      .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                      .isEqualTo(bindMarker())
+                      .whereColumn(CassandraAspect.VERSION_COLUMN)
+                      .isEqualTo(bindMarker())
+                      .ifExists()
+                      .build())
+          .bind(
+              aspect.getMetadata(),
+              aspect.getSystemMetadata(),
+              createdOn,
+              aspect.getCreatedBy(),
+              aspect.getCreatedFor(),
+              aspect.getUrn(),
+              aspect.getAspect(),
+              aspect.getVersion());
     }
   }
 
@@ -706,26 +902,160 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   public List<EntityAspect> getAspectsInRange(
       @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn.toString()))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .in(aspectNamesToLiterals(aspectNames))
-            .whereColumn(CassandraAspect.CREATED_ON_COLUMN)
-            .isLessThanOrEqualTo(literal(startTimeMillis))
-            .whereColumn(CassandraAspect.CREATED_ON_COLUMN)
-            .isGreaterThan(literal(endTimeMillis))
-            .allowFiltering()
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    BoundStatement ss =
+        prepare(
+                "getAspectsInRange",
+                () ->
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .all()
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .in(bindMarker())
+                        .whereColumn(CassandraAspect.CREATED_ON_COLUMN)
+                        .isLessThanOrEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.CREATED_ON_COLUMN)
+                        .isGreaterThan(bindMarker())
+                        .allowFiltering()
+                        .build())
+            .bind(
+                urn.toString(),
+                new ArrayList<>(aspectNames),
+                Instant.ofEpochMilli(startTimeMillis),
+                Instant.ofEpochMilli(endTimeMillis));
+
+    ResultSet rs = execute(ss);
 
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect).collect(Collectors.toList());
   }
 
-  private Iterable<Term> aspectNamesToLiterals(Set<String> aspectNames) {
-    return aspectNames.stream().map(QueryBuilder::literal).collect(Collectors.toSet());
+  @Nonnull
+  private PreparedStatement prepare(
+      @Nonnull final String name, @Nonnull final Supplier<SimpleStatement> statement) {
+    return _preparedStatements.computeIfAbsent(name, key -> _cqlSession.prepare(statement.get()));
+  }
+
+  /** Runs the statement once the writes buffered so far have been applied. */
+  @Nonnull
+  private ResultSet execute(@Nonnull final Statement<?> statement) {
+    flushPendingWrites();
+    return _cqlSession.execute(statement);
+  }
+
+  /**
+   * Runs one statement per key concurrently, with at most {@code maxConcurrentReads} of them in
+   * flight. The futures are returned in the iteration order of the keys.
+   */
+  @Nonnull
+  private <K> Map<K, CompletableFuture<AsyncResultSet>> executeAllAsync(
+      @Nonnull final Collection<K> keys, @Nonnull final Function<K, Statement<?>> statement) {
+    flushPendingWrites();
+    final Semaphore permits = new Semaphore(_maxConcurrentReads);
+    final Map<K, CompletableFuture<AsyncResultSet>> futures = new LinkedHashMap<>();
+    try {
+      for (K key : keys) {
+        final Statement<?> bound = statement.apply(key);
+        permits.acquire();
+        final CompletableFuture<AsyncResultSet> future =
+            _cqlSession.executeAsync(bound).toCompletableFuture();
+        future.whenComplete((rs, e) -> permits.release());
+        futures.put(key, future);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while reading from Cassandra", e);
+    }
+    return futures;
+  }
+
+  @Nonnull
+  private static AsyncResultSet join(@Nonnull final CompletableFuture<AsyncResultSet> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Applies the statements, which all target the partition of the urn, at once. Within a
+   * transaction they are buffered until it completes instead.
+   */
+  private void write(
+      @Nonnull final String urn,
+      @Nonnull final List<BatchableStatement<?>> statements,
+      final long size) {
+    final List<PendingWrite> pendingWrites = _pendingWrites.get();
+    if (pendingWrites != null) {
+      pendingWrites.add(new PendingWrite(urn, statements, size));
+    } else if (statements.size() == 1) {
+      _cqlSession.execute(statements.get(0));
+    } else {
+      _cqlSession.execute(BatchStatement.newInstance(BatchType.UNLOGGED).addAll(statements));
+    }
+  }
+
+  /**
+   * Applies the buffered writes as one unlogged batch per urn, split to stay below {@link
+   * #MAX_BATCH_BYTES}. A batch holding conditional statements is applied only if all of their
+   * conditions hold, so when it isn't, its writes are retried one by one to keep the outcome of
+   * writing them separately.
+   */
+  private void flushPendingWrites() {
+    final List<PendingWrite> pendingWrites = _pendingWrites.get();
+    if (pendingWrites == null || pendingWrites.isEmpty()) {
+      return;
+    }
+    final List<PendingWrite> writes = new ArrayList<>(pendingWrites);
+    pendingWrites.clear();
+
+    final Map<String, List<List<PendingWrite>>> batchesByUrn = new LinkedHashMap<>();
+    for (PendingWrite write : writes) {
+      final List<List<PendingWrite>> batches =
+          batchesByUrn.computeIfAbsent(write.getUrn(), key -> new ArrayList<>());
+      final List<PendingWrite> last = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+      if (last == null
+          || last.stream().mapToLong(PendingWrite::getSize).sum() + write.getSize()
+              > MAX_BATCH_BYTES) {
+        batches.add(new ArrayList<>(List.of(write)));
+      } else {
+        last.add(write);
+      }
+    }
+
+    for (List<List<PendingWrite>> batches : batchesByUrn.values()) {
+      for (List<PendingWrite> batch : batches) {
+        final ResultSet rs =
+            _cqlSession.execute(
+                BatchStatement.newInstance(BatchType.UNLOGGED)
+                    .addAll(
+                        batch.stream()
+                            .flatMap(write -> write.getStatements().stream())
+                            .collect(Collectors.toList())));
+        if (!rs.wasApplied() && batch.size() > 1) {
+          batch.forEach(
+              write ->
+                  _cqlSession.execute(
+                      BatchStatement.newInstance(BatchType.UNLOGGED)
+                          .addAll(write.getStatements())));
+        }
+      }
+    }
+  }
+
+  private static long estimateSize(@Nonnull final EntityAspect aspect) {
+    return (aspect.getMetadata() == null ? 0 : aspect.getMetadata().length())
+        + (aspect.getSystemMetadata() == null ? 0 : aspect.getSystemMetadata().length());
+  }
+
+  /** Statements writing to the partition of one urn, which must be applied together. */
+  @Value
+  private static class PendingWrite {
+    String urn;
+    List<BatchableStatement<?>> statements;
+    long size;
   }
 }
@@ -3,12 +3,14 @@ package com.linkedin.metadata.entity.ebean;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.AspectRetriever;
@@ -38,9 +40,12 @@ import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
+import java.io.Closeable;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.time.Clock;
@@ -54,11 +59,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -69,7 +78,7 @@ import javax.persistence.Table;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
+public class EbeanAspectDao implements AspectDao, AspectMigrationsDao, Closeable {
 
   private final Database _server;
   private boolean _connectionValidated = false;
@@ -86,14 +95,23 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // more testing.
   private int _queryKeysCount = 375; // 0 means no pagination on keys
 
+  private static final String MAX_VERSION_ALIAS = "maxVersion";
+
   /**
    * Used to control write concurrency when an entity key aspect is present. If a batch contains an
    * entity key aspect, only allow a single execution per URN
    */
   private final LoadingCache<String, Lock> locks;
 
+  /**
+   * Runs the paged sub queries of batch reads concurrently, null when parallel batch get is
+   * disabled. Sized against the connection pool so batch reads cannot starve writers.
+   */
+  @Nullable private final ExecutorService _batchGetExecutor;
+
   public EbeanAspectDao(@Nonnull final Database server, EbeanConfiguration ebeanConfiguration) {
     _server = server;
+    _batchGetExecutor = buildBatchGetExecutor(ebeanConfiguration);
     if (ebeanConfiguration.getLocking().isEnabled()) {
       this.locks =
           CacheBuilder.newBuilder()
@@ -111,6 +129,37 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     }
   }
 
+  @Nullable
+  private static ExecutorService buildBatchGetExecutor(
+      @Nonnull EbeanConfiguration ebeanConfiguration) {
+    final EbeanConfiguration.BatchGetConfiguration batchGet = ebeanConfiguration.getBatchGet();
+    if (batchGet == null || !batchGet.isParallelEnabled()) {
+      return null;
+    }
+
+    int threads = Math.max(1, batchGet.getMaxThreads());
+    if (ebeanConfiguration.getMaxConnections() > 0) {
+      threads = (int) Math.min(threads, Math.max(1, ebeanConfiguration.getMaxConnections() / 2));
+    }
+    log.info("Parallel batch get enabled with {} threads", threads);
+    return Executors.newFixedThreadPool(
+        threads,
+        new ThreadFactoryBuilder().setNameFormat("ebean-batch-get-%d").setDaemon(true).build());
+  }
+
+  /** Overrides the number of keys per sub query. Only used in tests. */
+  public void setQueryKeysCount(int queryKeysCount) {
+    _queryKeysCount = queryKeysCount;
+  }
+
+  /** Stops the batch get threads, the batch reads already running complete. */
+  @Override
+  public void close() {
+    if (_batchGetExecutor != null) {
+      _batchGetExecutor.shutdown();
+    }
+  }
+
   @Override
   public void setWritable(boolean canWrite) {
     _canWrite = canWrite;
@@ -259,11 +308,129 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
                                     entry.getKey(), aspect, ASPECT_LATEST_VERSION)))
             .collect(Collectors.toList());
 
-    List<EbeanAspectV2> results = _server.find(EbeanAspectV2.class).where().idIn(keys).findList();
+    final List<EbeanAspectV2> results;
+    if (_batchGetExecutor == null || _queryKeysCount == 0) {
+      results = _server.find(EbeanAspectV2.class).where().idIn(keys).findList();
+    } else {
+      final int keysCount = _queryKeysCount;
+      results =
+          queryPages(
+              keys.size(),
+              keysCount,
+              "getLatestAspects",
+              position ->
+                  _server
+                      .find(EbeanAspectV2.class)
+                      .where()
+                      .idIn(keys.subList(position, Math.min(keys.size(), position + keysCount)))
+                      .findList());
+    }
 
     return toUrnAspectMap(results);
   }
 
+  /**
+   * Fetches the version 0 row together with the max version of every requested aspect in one
+   * statement. Each key is a SELECT on the primary key with a correlated max(version) sub query,
+   * the SELECTs are UNION ALL'd like in {@link #batchGet(Set)}.
+   */
+  @Override
+  @Nonnull
+  public Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>>
+      getLatestAspectsAndNextVersions(@Nonnull Map<String, Set<String>> urnAspects) {
+    validateConnection();
+
+    final Map<String, Map<String, EntityAspect>> latestAspects = new HashMap<>();
+    // Default next version 0
+    final Map<String, Map<String, Long>> nextVersions = new HashMap<>();
+    urnAspects.forEach(
+        (urn, aspectNames) -> {
+          Map<String, Long> defaultNextVersion = new HashMap<>();
+          aspectNames.forEach(aspectName -> defaultNextVersion.put(aspectName, 0L));
+          nextVersions.put(urn, defaultNextVersion);
+        });
+
+    final List<Pair<String, String>> keys =
+        urnAspects.entrySet().stream()
+            .flatMap(
+                entry -> entry.getValue().stream().map(aspect -> Pair.of(entry.getKey(), aspect)))
+            .collect(Collectors.toList());
+    if (keys.isEmpty()) {
+      return Pair.of(latestAspects, nextVersions);
+    }
+
+    final int keysCount = _queryKeysCount == 0 ? keys.size() : _queryKeysCount;
+    final List<SqlRow> rows =
+        queryPages(
+            keys.size(),
+            keysCount,
+            "getLatestAspectsAndNextVersions",
+            position -> latestAndMaxVersionUnion(keys, keysCount, position));
+    for (SqlRow row : rows) {
+      final EntityAspect latest = toEntityAspect(row);
+      latestAspects
+          .computeIfAbsent(latest.getUrn(), urn -> new HashMap<>())
+          .put(latest.getAspect(), latest);
+      nextVersions
+          .get(latest.getUrn())
+          .put(latest.getAspect(), row.getLong(MAX_VERSION_ALIAS) + 1L);
+    }
+
+    return Pair.of(latestAspects, nextVersions);
+  }
+
+  @Nonnull
+  private List<SqlRow> latestAndMaxVersionUnion(
+      @Nonnull final List<Pair<String, String>> keys, final int keysCount, final int position) {
+    final String tableName = EbeanAspectV2.class.getAnnotation(Table.class).name();
+    final StringBuilder sb = new StringBuilder();
+    final int end = Math.min(keys.size(), position + keysCount);
+    final Map<String, Object> params = new HashMap<>();
+    for (int index = position; index < end; index++) {
+      final String urnArg = "urn" + (index - position);
+      final String aspectArg = "aspect" + (index - position);
+      params.put(urnArg, keys.get(index).getFirst());
+      params.put(aspectArg, keys.get(index).getSecond());
+
+      // The latest version is always stored as version 0, it exists whenever any version does
+      sb.append(
+          String.format(
+              "SELECT t.urn, t.aspect, t.version, t.metadata, t.systemMetadata, t.createdOn, "
+                  + "t.createdBy, t.createdFor, (SELECT MAX(v.version) FROM %s v "
+                  + "WHERE v.urn = t.urn AND v.aspect = t.aspect) AS %s "
+                  + "FROM %s t WHERE t.urn = :%s AND t.aspect = :%s AND t.version = %s",
+              tableName,
+              MAX_VERSION_ALIAS,
+              tableName,
+              urnArg,
+              aspectArg,
+              ASPECT_LATEST_VERSION));
+
+      if (index != end - 1) {
+        sb.append(" UNION ALL ");
+      }
+    }
+
+    final SqlQuery query = _server.sqlQuery(sb.toString());
+    for (Map.Entry<String, Object> param : params.entrySet()) {
+      query.setParameter(param.getKey(), param.getValue());
+    }
+    return query.findList();
+  }
+
+  @Nonnull
+  private static EntityAspect toEntityAspect(@Nonnull final SqlRow row) {
+    return new EntityAspect(
+        row.getString(EbeanAspectV2.URN_COLUMN),
+        row.getString(EbeanAspectV2.ASPECT_COLUMN),
+        row.getLong(EbeanAspectV2.VERSION_COLUMN),
+        row.getString(EbeanAspectV2.METADATA_COLUMN),
+        row.getString(EbeanAspectV2.SYSTEM_METADATA_COLUMN),
+        row.getTimestamp(EbeanAspectV2.CREATED_ON_COLUMN),
+        row.getString(EbeanAspectV2.CREATED_BY_COLUMN),
+        row.getString(EbeanAspectV2.CREATED_FOR_COLUMN));
+  }
+
   @Override
   public long countEntities() {
     validateConnection();
@@ -344,8 +511,8 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   }
 
   /**
-   * BatchGet that allows pagination on keys to avoid large queries. TODO: can further improve by
-   * running the sub queries in parallel
+   * BatchGet that allows pagination on keys to avoid large queries. The sub queries run in parallel
+   * when parallel batch get is enabled.
    *
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
@@ -355,19 +522,55 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       @Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
     validateConnection();
 
-    int position = 0;
+    final List<EbeanAspectV2.PrimaryKey> keyList = new ArrayList<>(keys);
+    return queryPages(
+        keyList.size(),
+        keysCount,
+        "batchGet",
+        position -> batchGetUnion(keyList, keysCount, position));
+  }
 
-    final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult =
-        batchGetUnion(new ArrayList<>(keys), keysCount, position);
+  /**
+   * Runs one query per page of keys and concatenates the results. Pages are fetched concurrently on
+   * the batch get executor, unless it is disabled, there is a single page, or the calling thread
+   * has an open transaction whose view of the data must not be bypassed by other connections.
+   *
+   * @param keyCount the total number of keys
+   * @param keysCount the max number of keys for each page
+   * @param metricName prefix of the per page timer
+   * @param pageQuery runs the query for the page starting at the given position
+   */
+  @Nonnull
+  private <T> List<T> queryPages(
+      final int keyCount,
+      final int keysCount,
+      @Nonnull final String metricName,
+      @Nonnull final IntFunction<List<T>> pageQuery) {
+    final int totalPageCount = QueryUtils.getTotalPageCount(keyCount, keysCount);
+    final IntFunction<List<T>> timedPageQuery =
+        position -> {
+          try (Timer.Context ignored =
+              MetricUtils.timer(this.getClass(), metricName + "_page").time()) {
+            return pageQuery.apply(position);
+          }
+        };
 
-    while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
-      position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult =
-          batchGetUnion(new ArrayList<>(keys), keysCount, position);
-      finalResult.addAll(oneStatementResult);
+    final List<T> finalResult = new ArrayList<>();
+    if (_batchGetExecutor == null || totalPageCount <= 1 || _server.currentTransaction() != null) {
+      for (int position = 0; position < keyCount; position += keysCount) {
+        finalResult.addAll(timedPageQuery.apply(position));
+      }
+      return finalResult;
     }
 
+    final List<CompletableFuture<List<T>>> futures = new ArrayList<>(totalPageCount);
+    for (int position = 0; position < keyCount; position += keysCount) {
+      final int pagePosition = position;
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> timedPageQuery.apply(pagePosition), _batchGetExecutor));
+    }
+    futures.forEach(future -> finalResult.addAll(future.join()));
     return finalResult;
   }
 
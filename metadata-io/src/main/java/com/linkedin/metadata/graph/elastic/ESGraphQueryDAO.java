@@ -3,11 +3,14 @@ package com.linkedin.metadata.graph.elastic;
 import static com.linkedin.metadata.graph.Edge.*;
 import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.*;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ESQueryException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.UrnArrayMap;
@@ -15,6 +18,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.IntegerArray;
 import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphFilters;
 import com.linkedin.metadata.graph.LineageDirection;
 import com.linkedin.metadata.graph.LineageRelationship;
@@ -30,29 +34,35 @@ import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchAfterWrapper;
 import com.linkedin.metadata.search.utils.ESUtils;
-import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.DataPlatformInstanceUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -71,7 +81,6 @@ import org.opensearch.search.rescore.QueryRescorerBuilder;
 
 /** A search DAO for Elasticsearch backend. */
 @Slf4j
-@RequiredArgsConstructor
 public class ESGraphQueryDAO {
 
   private final RestHighLevelClient client;
@@ -79,6 +88,14 @@ public class ESGraphQueryDAO {
   private final IndexConvention indexConvention;
 
   private final GraphQueryConfiguration graphQueryConfiguration;
+  // Runs the lineage searches of a hop, bounded so a large walk cannot starve the common pool
+  private final ExecutorService lineageExecutor;
+  // Answers lineage searches from memory once built, null when disabled
+  @Nullable private final LineageAdjacencyIndex lineageIndex;
+  private final Histogram hopFrontierHistogram =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "lineage_hop_frontier"));
+  private final Histogram hopEdgesHistogram =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "lineage_hop_edges"));
 
   static final String SOURCE = "source";
   static final String DESTINATION = "destination";
@@ -91,6 +108,44 @@ public class ESGraphQueryDAO {
   static final String PROPERTIES = "properties";
   static final String UI = "UI";
 
+  public ESGraphQueryDAO(
+      RestHighLevelClient client,
+      LineageRegistry lineageRegistry,
+      IndexConvention indexConvention,
+      GraphQueryConfiguration graphQueryConfiguration) {
+    this(client, lineageRegistry, indexConvention, graphQueryConfiguration, null);
+  }
+
+  public ESGraphQueryDAO(
+      RestHighLevelClient client,
+      LineageRegistry lineageRegistry,
+      IndexConvention indexConvention,
+      GraphQueryConfiguration graphQueryConfiguration,
+      @Nullable LineageAdjacencyIndex lineageIndex) {
+    this.client = client;
+    this.lineageRegistry = lineageRegistry;
+    this.indexConvention = indexConvention;
+    this.graphQueryConfiguration = graphQueryConfiguration;
+    this.lineageExecutor = buildLineageExecutor(graphQueryConfiguration);
+    this.lineageIndex = lineageIndex;
+  }
+
+  @Nonnull
+  private static ExecutorService buildLineageExecutor(
+      @Nonnull GraphQueryConfiguration graphQueryConfiguration) {
+    if (graphQueryConfiguration.getQueryThreads() <= 0) {
+      return ForkJoinPool.commonPool();
+    }
+    return Executors.newFixedThreadPool(
+        graphQueryConfiguration.getQueryThreads(),
+        new ThreadFactoryBuilder().setNameFormat("graph-lineage-query-%d").setDaemon(true).build());
+  }
+
+  /** Stops the lineage query threads, shutting down the common pool has no effect. */
+  public void close() {
+    lineageExecutor.shutdownNow();
+  }
+
   @Nonnull
   public static void addFilterToQueryBuilder(
       @Nonnull Filter filter, @Nullable String node, BoolQueryBuilder rootQuery) {
@@ -268,13 +323,20 @@ public class ESGraphQueryDAO {
       int count,
       int maxHops,
       @Nullable LineageFlags lineageFlags) {
-    Map<Urn, LineageRelationship> result = new HashMap<>();
+    // Kept in discovery order, so the page of a walk stopped early is the one of the full walk
+    Map<Urn, LineageRelationship> result = new LinkedHashMap<>();
     long currentTime = System.currentTimeMillis();
     long remainingTime = graphQueryConfiguration.getTimeoutSeconds() * 1000;
     boolean exploreMultiplePaths = graphQueryConfiguration.isEnableMultiPathSearch();
     long timeoutTime = currentTime + remainingTime;
 
-    // Do a Level-order BFS
+    // Do a Level-order BFS, each level is searched in parallel and extracted in order. With early
+    // termination the walk stops once the requested page is found, callers filtering the whole
+    // lineage, such as search across lineage, ask for all of it and always walk every hop
+    final long requestedResults =
+        graphQueryConfiguration.isEarlyTermination() && (long) offset + count > 0
+            ? (long) offset + count
+            : Long.MAX_VALUE;
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
     visitedEntities.add(entityUrn);
     Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
@@ -296,23 +358,42 @@ public class ESGraphQueryDAO {
       }
 
       // Do one hop on the lineage graph
-      Stream<Urn> intermediateStream =
-          processOneHopLineage(
-              currentLevel,
-              remainingTime,
-              direction,
-              maxHops,
-              graphFilters,
-              visitedEntities,
-              viaEntities,
-              existingPaths,
-              exploreMultiplePaths,
-              result,
-              lineageFlags,
-              i);
-      currentLevel = intermediateStream.collect(Collectors.toList());
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "lineage_hop").time()) {
+        Stream<Urn> intermediateStream =
+            processOneHopLineage(
+                currentLevel,
+                remainingTime,
+                direction,
+                maxHops,
+                graphFilters,
+                visitedEntities,
+                viaEntities,
+                existingPaths,
+                exploreMultiplePaths,
+                result,
+                requestedResults,
+                lineageFlags,
+                i);
+        // Entities reached through several parents of the level are only explored once
+        currentLevel = intermediateStream.distinct().collect(Collectors.toList());
+      }
       currentTime = System.currentTimeMillis();
       remainingTime = timeoutTime - currentTime;
+
+      if (result.size() >= requestedResults && i + 1 < maxHops && !currentLevel.isEmpty()) {
+        log.debug(
+            "Found {} lineage relationships for {} after {} hops, skipping the remaining hops",
+            result.size(),
+            entityUrn,
+            i + 1);
+        MetricUtils.counter(this.getClass(), "lineage_early_termination").inc();
+        // The next level will not be explored after all
+        currentLevel.stream()
+            .map(result::get)
+            .filter(relationship -> relationship != null && relationship.hasExplored())
+            .forEach(relationship -> relationship.setExplored(false));
+        break;
+      }
     }
     List<LineageRelationship> resultList = new ArrayList<>(result.values());
     LineageResponse response = new LineageResponse(resultList.size(), resultList);
@@ -341,6 +422,7 @@ public class ESGraphQueryDAO {
       Map<Urn, UrnArrayArray> existingPaths,
       boolean exploreMultiplePaths,
       Map<Urn, LineageRelationship> result,
+      long requestedResults,
       LineageFlags lineageFlags,
       int i) {
 
@@ -359,6 +441,8 @@ public class ESGraphQueryDAO {
             remainingTime,
             existingPaths,
             exploreMultiplePaths,
+            result.keySet(),
+            requestedResults - result.size(),
             lineageFlags);
     for (LineageRelationship oneHopRelnship : oneHopRelationships) {
       if (result.containsKey(oneHopRelnship.getEntity())) {
@@ -405,6 +489,7 @@ public class ESGraphQueryDAO {
                   existingPaths,
                   exploreMultiplePaths,
                   result,
+                  requestedResults,
                   lineageFlags,
                   i);
           intermediateStream = Stream.concat(intermediateStream, ignoreAsHopUrns);
@@ -474,7 +559,8 @@ public class ESGraphQueryDAO {
     }
   }
 
-  // Get 1-hop lineage relationships asynchronously in batches with timeout
+  // Get 1-hop lineage relationships asynchronously in batches with timeout, stops once the
+  // relationships of entitiesNeeded entities not in foundEntities are extracted
   @WithSpan
   public List<LineageRelationship> getLineageRelationshipsInBatches(
       @Nonnull List<Urn> entityUrns,
@@ -487,46 +573,102 @@ public class ESGraphQueryDAO {
       long remainingTime,
       Map<Urn, UrnArrayArray> existingPaths,
       boolean exploreMultiplePaths,
+      Set<Urn> foundEntities,
+      long entitiesNeeded,
       @Nullable LineageFlags lineageFlags) {
+    if (entitiesNeeded <= 0) {
+      return Collections.emptyList();
+    }
     List<List<Urn>> batches = Lists.partition(entityUrns, graphQueryConfiguration.getBatchSize());
-    return ConcurrencyUtils.getAllCompleted(
-            batches.stream()
-                .map(
-                    batchUrns ->
-                        CompletableFuture.supplyAsync(
-                            () ->
-                                getLineageRelationships(
-                                    batchUrns,
-                                    direction,
-                                    graphFilters,
-                                    visitedEntities,
-                                    viaEntities,
-                                    numHops,
-                                    remainingHops,
-                                    existingPaths,
-                                    exploreMultiplePaths,
-                                    lineageFlags)))
-                .collect(Collectors.toList()),
-            remainingTime,
-            TimeUnit.MILLISECONDS)
-        .stream()
-        .flatMap(List::stream)
-        .collect(Collectors.toList());
+    final List<CompletableFuture<LineageBatchResponse>> searches;
+    if (lineageIndex != null && lineageIndex.isReady()) {
+      // The in-memory index answers without a round trip, no need to fan out
+      MetricUtils.counter(this.getClass(), "lineage_index_hop").inc();
+      searches = null;
+    } else {
+      // Only the searches run concurrently, the responses are extracted in batch order on this
+      // thread since extraction updates the shared visited entities and paths
+      searches =
+          batches.stream()
+              .map(
+                  batchUrns ->
+                      CompletableFuture.supplyAsync(
+                          () ->
+                              searchLineageRelationships(
+                                  batchUrns, direction, graphFilters, lineageFlags, false),
+                          lineageExecutor))
+              .collect(Collectors.toList());
+    }
+    final long timeoutTime = System.currentTimeMillis() + remainingTime;
+
+    hopFrontierHistogram.update(entityUrns.size());
+    List<LineageRelationship> relationships = new ArrayList<>();
+    Set<Urn> newEntities = new HashSet<>();
+    for (int batch = 0; batch < batches.size(); batch++) {
+      if (newEntities.size() >= entitiesNeeded) {
+        // Cancelled searches that did not start yet are skipped by the executor
+        if (searches != null) {
+          searches.subList(batch, searches.size()).forEach(search -> search.cancel(false));
+        }
+        MetricUtils.counter(this.getClass(), "lineage_hop_early_termination").inc();
+        break;
+      }
+      final LineageBatchResponse batchResponse =
+          searches == null
+              ? searchLineageRelationships(
+                  batches.get(batch), direction, graphFilters, lineageFlags, true)
+              : awaitLineageSearch(searches.get(batch), timeoutTime);
+      if (batchResponse == null) {
+        continue;
+      }
+      hopEdgesHistogram.update(batchResponse.getLineageEdges().size());
+      List<LineageRelationship> batchRelationships =
+          extractRelationships(
+              batchResponse.getEntityUrns(),
+              batchResponse.getLineageEdges(),
+              batchResponse.getValidEdges(),
+              visitedEntities,
+              viaEntities,
+              numHops,
+              remainingHops,
+              existingPaths,
+              exploreMultiplePaths);
+      batchRelationships.stream()
+          .map(LineageRelationship::getEntity)
+          .filter(entity -> !foundEntities.contains(entity))
+          .forEach(newEntities::add);
+      relationships.addAll(batchRelationships);
+    }
+    return relationships;
+  }
+
+  // Waits for the search of a batch until the hop times out, null when it failed or timed out
+  @Nullable
+  private static LineageBatchResponse awaitLineageSearch(
+      @Nonnull CompletableFuture<LineageBatchResponse> search, long timeoutTime) {
+    try {
+      return search.get(
+          Math.max(0, timeoutTime - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      log.info("Timed out while waiting for a lineage search to complete");
+      return null;
+    } catch (ExecutionException e) {
+      log.warn("Lineage search failed", e.getCause());
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
   }
 
-  // Get 1-hop lineage relationships
+  // Search the 1-hop lineage edges of a batch of urns, in the graph index or the in-memory index
   @WithSpan
-  private List<LineageRelationship> getLineageRelationships(
+  private LineageBatchResponse searchLineageRelationships(
       @Nonnull List<Urn> entityUrns,
       @Nonnull LineageDirection direction,
       GraphFilters graphFilters,
-      Set<Urn> visitedEntities,
-      Set<Urn> viaEntities,
-      int numHops,
-      int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
-      boolean exploreMultiplePaths,
-      @Nullable LineageFlags lineageFlags) {
+      @Nullable LineageFlags lineageFlags,
+      boolean fromLineageIndex) {
     Map<String, List<Urn>> urnsPerEntityType =
         entityUrns.stream().collect(Collectors.groupingBy(Urn::getEntityType));
     Map<String, List<EdgeInfo>> edgesPerEntityType =
@@ -536,11 +678,23 @@ public class ESGraphQueryDAO {
                     Function.identity(),
                     entityType -> lineageRegistry.getLineageRelationships(entityType, direction)));
 
-    QueryBuilder finalQuery =
-        getLineageQuery(urnsPerEntityType, edgesPerEntityType, graphFilters, lineageFlags);
-    SearchResponse response =
-        executeLineageSearchQuery(finalQuery, 0, graphQueryConfiguration.getMaxResult());
-    Set<Urn> entityUrnSet = new HashSet<>(entityUrns);
+    final List<LineageEdge> lineageEdges;
+    if (fromLineageIndex) {
+      lineageEdges =
+          lineageIndex.getLineageEdges(
+              urnsPerEntityType,
+              edgesPerEntityType,
+              graphFilters,
+              lineageFlags,
+              graphQueryConfiguration.getMaxResult(),
+              graphQueryConfiguration.isBoostViaNodes());
+    } else {
+      QueryBuilder finalQuery =
+          getLineageQuery(urnsPerEntityType, edgesPerEntityType, graphFilters, lineageFlags);
+      lineageEdges =
+          toLineageEdges(
+              executeLineageSearchQuery(finalQuery, 0, graphQueryConfiguration.getMaxResult()));
+    }
     // Get all valid edges given the set of urns to hop from
     Set<Pair<String, EdgeInfo>> validEdges =
         edgesPerEntityType.entrySet().stream()
@@ -548,16 +702,7 @@ public class ESGraphQueryDAO {
                 entry ->
                     entry.getValue().stream().map(edgeInfo -> Pair.of(entry.getKey(), edgeInfo)))
             .collect(Collectors.toSet());
-    return extractRelationships(
-        entityUrnSet,
-        response,
-        validEdges,
-        visitedEntities,
-        viaEntities,
-        numHops,
-        remainingHops,
-        existingPaths,
-        exploreMultiplePaths);
+    return new LineageBatchResponse(new HashSet<>(entityUrns), validEdges, lineageEdges);
   }
 
   @VisibleForTesting
@@ -735,12 +880,102 @@ public class ESGraphQueryDAO {
     return edgeAdded;
   }
 
-  // Given set of edges and the search response, extract all valid edges that originate from the
-  // input entityUrns
+  // Converts the graph index hits of a lineage search into lineage edges
+  private static List<LineageEdge> toLineageEdges(@Nonnull SearchResponse searchResponse) {
+    return Arrays.stream(searchResponse.getHits().getHits())
+        .map(hit -> LineageEdge.fromEdge(toEdge(hit.getSourceAsMap())))
+        .collect(Collectors.toList());
+  }
+
+  private static Edge toEdge(@Nonnull Map<String, Object> document) {
+    final Urn sourceUrn =
+        UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
+    final Urn destinationUrn =
+        UrnUtils.getUrn(((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
+    final String type = document.get(RELATIONSHIP_TYPE).toString();
+    final Number createdOnNumber = (Number) document.getOrDefault(CREATED_ON, null);
+    final Long createdOn = createdOnNumber != null ? createdOnNumber.longValue() : null;
+    final Number updatedOnNumber = (Number) document.getOrDefault(UPDATED_ON, null);
+    final Long updatedOn = updatedOnNumber != null ? updatedOnNumber.longValue() : null;
+    final String createdActorString = (String) document.getOrDefault(CREATED_ACTOR, null);
+    final Urn createdActor =
+        createdActorString == null ? null : UrnUtils.getUrn(createdActorString);
+    final String updatedActorString = (String) document.getOrDefault(UPDATED_ACTOR, null);
+    final Urn updatedActor =
+        updatedActorString == null ? null : UrnUtils.getUrn(updatedActorString);
+    final Map<String, Object> properties;
+    if (document.containsKey(PROPERTIES) && document.get(PROPERTIES) instanceof Map) {
+      properties = (Map<String, Object>) document.get(PROPERTIES);
+    } else {
+      properties = Collections.emptyMap();
+    }
+    final String lifecycleOwnerString =
+        (String) document.getOrDefault(EDGE_FIELD_LIFECYCLE_OWNER, null);
+    final Urn lifecycleOwner =
+        lifecycleOwnerString == null ? null : UrnUtils.getUrn(lifecycleOwnerString);
+    Urn viaEntity = null;
+    String viaContent = (String) document.getOrDefault(EDGE_FIELD_VIA, null);
+    if (viaContent != null) {
+      try {
+        viaEntity = Urn.createFromString(viaContent);
+      } catch (Exception e) {
+        log.warn(
+            "Failed to parse urn from via entity {}, will swallow exception and continue...",
+            viaContent);
+      }
+    }
+    return new Edge(
+        sourceUrn,
+        destinationUrn,
+        type,
+        createdOn,
+        createdActor,
+        updatedOn,
+        updatedActor,
+        properties,
+        lifecycleOwner,
+        viaEntity);
+  }
+
+  /**
+   * Reads all the edges of the given relationship types from the graph index, used to build the
+   * lineage adjacency index.
+   */
+  public void scrollEdges(
+      @Nonnull List<String> relationshipTypes, int batchSize, @Nonnull Consumer<Edge> consumer) {
+    final RelationshipFilter outgoing =
+        new RelationshipFilter().setDirection(RelationshipDirection.OUTGOING);
+    String scrollId = null;
+    do {
+      final SearchHit[] hits =
+          getSearchResponse(
+                  null,
+                  null,
+                  null,
+                  null,
+                  relationshipTypes,
+                  outgoing,
+                  EDGE_SORT_CRITERION,
+                  scrollId,
+                  batchSize)
+              .getHits()
+              .getHits();
+      for (SearchHit hit : hits) {
+        consumer.accept(toEdge(hit.getSourceAsMap()));
+      }
+      scrollId =
+          hits.length == batchSize
+              ? new SearchAfterWrapper(hits[hits.length - 1].getSortValues(), null, 0L)
+                  .toScrollId()
+              : null;
+    } while (scrollId != null);
+  }
+
+  // Given set of edges, extract all valid edges that originate from the input entityUrns
   @WithSpan
   private static List<LineageRelationship> extractRelationships(
       @Nonnull Set<Urn> entityUrns,
-      @Nonnull SearchResponse searchResponse,
+      @Nonnull List<LineageEdge> lineageEdges,
       Set<Pair<String, EdgeInfo>> validEdges,
       Set<Urn> visitedEntities,
       Set<Urn> viaEntities,
@@ -750,50 +985,27 @@ public class ESGraphQueryDAO {
       boolean exploreMultiplePaths) {
     try {
       Map<Urn, LineageRelationship> lineageRelationshipMap = new HashMap<>();
-      final SearchHit[] hits = searchResponse.getHits().getHits();
-      log.debug("numHits: {}, numHops {}, remainingHops {}", hits.length, numHops, remainingHops);
+      log.debug(
+          "numHits: {}, numHops {}, remainingHops {}",
+          lineageEdges.size(),
+          numHops,
+          remainingHops);
       int index = -1;
-      for (SearchHit hit : hits) {
+      for (LineageEdge lineageEdge : lineageEdges) {
         index++;
-        final Map<String, Object> document = hit.getSourceAsMap();
-        final Urn sourceUrn =
-            UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
-        final Urn destinationUrn =
-            UrnUtils.getUrn(
-                ((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
-        final String type = document.get(RELATIONSHIP_TYPE).toString();
+        final Urn sourceUrn = lineageEdge.getSource();
+        final Urn destinationUrn = lineageEdge.getDestination();
+        final String type = lineageEdge.getType();
         if (sourceUrn.equals(destinationUrn)) {
           log.debug("Skipping a self-edge of type {} on {}", type, sourceUrn);
           continue;
         }
-        final Number createdOnNumber = (Number) document.getOrDefault(CREATED_ON, null);
-        final Long createdOn = createdOnNumber != null ? createdOnNumber.longValue() : null;
-        final Number updatedOnNumber = (Number) document.getOrDefault(UPDATED_ON, null);
-        final Long updatedOn = updatedOnNumber != null ? updatedOnNumber.longValue() : null;
-        final String createdActorString = (String) document.getOrDefault(CREATED_ACTOR, null);
-        final Urn createdActor =
-            createdActorString == null ? null : UrnUtils.getUrn(createdActorString);
-        final String updatedActorString = (String) document.getOrDefault(UPDATED_ACTOR, null);
-        final Urn updatedActor =
-            updatedActorString == null ? null : UrnUtils.getUrn(updatedActorString);
-        final Map<String, Object> properties;
-        if (document.containsKey(PROPERTIES) && document.get(PROPERTIES) instanceof Map) {
-          properties = (Map<String, Object>) document.get(PROPERTIES);
-        } else {
-          properties = Collections.emptyMap();
-        }
-        boolean isManual = properties.containsKey(SOURCE) && properties.get(SOURCE).equals("UI");
-        Urn viaEntity = null;
-        String viaContent = (String) document.getOrDefault(EDGE_FIELD_VIA, null);
-        if (viaContent != null) {
-          try {
-            viaEntity = Urn.createFromString(viaContent);
-          } catch (Exception e) {
-            log.warn(
-                "Failed to parse urn from via entity {}, will swallow exception and continue...",
-                viaContent);
-          }
-        }
+        final Long createdOn = lineageEdge.getCreatedOn();
+        final Urn createdActor = lineageEdge.getCreatedActor();
+        final Long updatedOn = lineageEdge.getUpdatedOn();
+        final Urn updatedActor = lineageEdge.getUpdatedActor();
+        final boolean isManual = lineageEdge.isManual();
+        final Urn viaEntity = lineageEdge.getVia();
         log.debug("{}: viaEntity {}", index, viaEntity);
 
         // Potential outgoing edge
@@ -1020,6 +1232,40 @@ public class ESGraphQueryDAO {
     List<LineageRelationship> lineageRelationships;
   }
 
+  /** A lineage edge of the graph index, as read by a lineage search. */
+  @Value
+  public static class LineageEdge {
+    Urn source;
+    Urn destination;
+    String type;
+    Long createdOn;
+    Urn createdActor;
+    Long updatedOn;
+    Urn updatedActor;
+    boolean manual;
+    Urn via;
+
+    static LineageEdge fromEdge(@Nonnull Edge edge) {
+      return new LineageEdge(
+          edge.getSource(),
+          edge.getDestination(),
+          edge.getRelationshipType(),
+          edge.getCreatedOn(),
+          edge.getCreatedActor(),
+          edge.getUpdatedOn(),
+          edge.getUpdatedActor(),
+          edge.getProperties() != null && UI.equals(edge.getProperties().get(SOURCE)),
+          edge.getVia());
+    }
+  }
+
+  @Value
+  private static class LineageBatchResponse {
+    Set<Urn> entityUrns;
+    Set<Pair<String, EdgeInfo>> validEdges;
+    List<LineageEdge> lineageEdges;
+  }
+
   public SearchResponse getSearchResponse(
       @Nullable final List<String> sourceTypes,
       @Nullable final Filter sourceEntityFilter,
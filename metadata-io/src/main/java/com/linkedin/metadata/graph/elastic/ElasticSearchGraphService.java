@@ -36,6 +36,7 @@ import com.linkedin.metadata.shared.ElasticSearchIndexed;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.structured.StructuredPropertyDefinition;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,15 +49,13 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 
 @Slf4j
-@RequiredArgsConstructor
-public class ElasticSearchGraphService implements GraphService, ElasticSearchIndexed {
+public class ElasticSearchGraphService implements GraphService, ElasticSearchIndexed, Closeable {
 
   private final LineageRegistry _lineageRegistry;
   private final ESBulkProcessor _esBulkProcessor;
@@ -64,9 +63,50 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   private final ESGraphWriteDAO _graphWriteDAO;
   private final ESGraphQueryDAO _graphReadDAO;
   private final ESIndexBuilder _indexBuilder;
+  // Kept current with the writes of this instance, also given to the read DAO
+  @Nullable private final LineageAdjacencyIndex _lineageIndex;
   public static final String INDEX_NAME = "graph_service_v1";
   private static final Map<String, Object> EMPTY_HASH = new HashMap<>();
 
+  public ElasticSearchGraphService(
+      LineageRegistry lineageRegistry,
+      ESBulkProcessor esBulkProcessor,
+      IndexConvention indexConvention,
+      ESGraphWriteDAO graphWriteDAO,
+      ESGraphQueryDAO graphReadDAO,
+      ESIndexBuilder indexBuilder) {
+    this(
+        lineageRegistry,
+        esBulkProcessor,
+        indexConvention,
+        graphWriteDAO,
+        graphReadDAO,
+        indexBuilder,
+        null);
+  }
+
+  public ElasticSearchGraphService(
+      LineageRegistry lineageRegistry,
+      ESBulkProcessor esBulkProcessor,
+      IndexConvention indexConvention,
+      ESGraphWriteDAO graphWriteDAO,
+      ESGraphQueryDAO graphReadDAO,
+      ESIndexBuilder indexBuilder,
+      @Nullable LineageAdjacencyIndex lineageIndex) {
+    _lineageRegistry = lineageRegistry;
+    _esBulkProcessor = esBulkProcessor;
+    _indexConvention = indexConvention;
+    _graphWriteDAO = graphWriteDAO;
+    _graphReadDAO = graphReadDAO;
+    _indexBuilder = indexBuilder;
+    _lineageIndex = lineageIndex;
+  }
+
+  @Override
+  public void close() {
+    _graphReadDAO.close();
+  }
+
   private String toDocument(@Nonnull final Edge edge) {
     final ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
 
@@ -128,6 +168,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     String docId = edge.toDocId();
     String edgeDocument = toDocument(edge);
     _graphWriteDAO.upsertDocument(docId, edgeDocument);
+    if (_lineageIndex != null) {
+      _lineageIndex.upsertEdge(edge);
+    }
   }
 
   @Override
@@ -139,6 +182,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   public void removeEdge(@Nonnull final Edge edge) {
     String docId = edge.toDocId();
     _graphWriteDAO.deleteDocument(docId);
+    if (_lineageIndex != null) {
+      _lineageIndex.removeEdge(edge);
+    }
   }
 
   @Nonnull
@@ -258,6 +304,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     _graphWriteDAO.deleteByQuery(
         null, emptyFilter, null, emptyFilter, relationshipTypes, incomingFilter, urn.toString());
 
+    if (_lineageIndex != null) {
+      _lineageIndex.removeNode(urn);
+    }
     return;
   }
 
@@ -271,6 +320,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
 
     _graphWriteDAO.deleteByQuery(
         null, urnFilter, null, emptyFilter, relationshipTypes, relationshipFilter);
+    if (_lineageIndex != null) {
+      _lineageIndex.removeEdgesFromNode(urn, relationshipTypes, relationshipFilter);
+    }
   }
 
   @Override
@@ -310,6 +362,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   public void clear() {
     _esBulkProcessor.deleteByQuery(
         QueryBuilders.matchAllQuery(), true, _indexConvention.getIndexName(INDEX_NAME));
+    if (_lineageIndex != null) {
+      _lineageIndex.clear();
+    }
   }
 
   @Override
@@ -0,0 +1,777 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration.LineageIndexConfiguration;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
+import com.linkedin.metadata.query.LineageFlags;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.query.filter.RelationshipFilter;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory adjacency index of the lineage edges of the graph index, answering the searches of a
+ * lineage walk without a round trip to Elasticsearch.
+ *
+ * <p>Urns are mapped to int ids and the edges are kept in primitive columns, with a compressed
+ * sparse row (CSR) adjacency in both directions. Edges written since the last compaction are kept
+ * in a small delta adjacency until the next compaction.
+ *
+ * <p>The index is built from the graph index and then kept current with the writes made through
+ * this instance, which include the edges written by its MCL hooks when the MCL consumer runs
+ * within it. The edges written by other instances, such as a standalone MCL consumer, are only
+ * picked up by the periodic rebuilds, so lineage walks may miss them for up to the refresh
+ * interval. Until the first build completes, or when a write could not be applied, the index is
+ * not ready and lineage searches go to Elasticsearch.
+ *
+ * <p>Compactions also reclaim the ids of the urns no edge refers to anymore.
+ */
+@Slf4j
+public class LineageAdjacencyIndex {
+
+  /** Reads all the lineage edges from the source of truth, used to build the index. */
+  @FunctionalInterface
+  public interface EdgeLoader {
+    void load(@Nonnull Consumer<Edge> consumer);
+  }
+
+  private static final long RETRY_SECONDS = 30;
+
+  private final Set<String> relationshipTypes;
+  private final LineageIndexConfiguration config;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @Nullable private AdjacencyGraph graph;
+  // Writes made while a rebuild is loading, replayed on the new graph before it is swapped in
+  @Nullable private List<Consumer<AdjacencyGraph>> pendingWrites;
+  // Writes that could not be applied make the index stale until a rebuild started after them
+  private long staleGeneration;
+  private long builtGeneration;
+  private long generation;
+
+  @Nullable private ScheduledExecutorService scheduler;
+  @Nullable private EdgeLoader loader;
+
+  public LineageAdjacencyIndex(
+      @Nonnull LineageRegistry lineageRegistry, @Nonnull LineageIndexConfiguration config) {
+    this.relationshipTypes = lineageRegistry.getLineageRelationshipTypes();
+    this.config = config;
+    MetricUtils.gauge(this.getClass(), "nodes", () -> (Gauge<Integer>) this::getNodeCount);
+    MetricUtils.gauge(this.getClass(), "edges", () -> (Gauge<Integer>) this::getEdgeCount);
+  }
+
+  /** Lineage relationship types kept in the index. */
+  @Nonnull
+  public Set<String> getRelationshipTypes() {
+    return relationshipTypes;
+  }
+
+  /** Builds the index in the background, then rebuilds it every refresh interval. */
+  public synchronized void start(@Nonnull EdgeLoader loader) {
+    if (scheduler != null) {
+      return;
+    }
+    this.loader = loader;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("lineage-adjacency-index-%d")
+                .setDaemon(true)
+                .build());
+    scheduler.execute(this::refresh);
+  }
+
+  private void refresh() {
+    try {
+      rebuild(loader);
+    } catch (Exception e) {
+      log.error("Failed to build the lineage adjacency index", e);
+    }
+    final long delaySeconds = isReady() ? config.getRefreshIntervalSeconds() : RETRY_SECONDS;
+    if (delaySeconds > 0) {
+      scheduler.schedule(this::refresh, delaySeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  /** Replaces the index with a new one loaded from the loader. */
+  public void rebuild(@Nonnull EdgeLoader edgeLoader) {
+    final long startGeneration;
+    lock.writeLock().lock();
+    try {
+      startGeneration = ++generation;
+      pendingWrites = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    final AdjacencyGraph newGraph = new AdjacencyGraph();
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "rebuild").time()) {
+      edgeLoader.load(
+          edge -> {
+            if (isLineage(edge)) {
+              newGraph.upsert(edge);
+            }
+          });
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        pendingWrites = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw e;
+    }
+
+    lock.writeLock().lock();
+    try {
+      pendingWrites.forEach(write -> write.accept(newGraph));
+      pendingWrites = null;
+      newGraph.compact();
+      graph = newGraph;
+      builtGeneration = startGeneration;
+      log.info(
+          "Built the lineage adjacency index with {} nodes and {} edges",
+          newGraph.getNodeCount(),
+          newGraph.getEdgeCount());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Whether lineage searches can be answered from the index. */
+  public boolean isReady() {
+    lock.readLock().lock();
+    try {
+      return graph != null && staleGeneration < builtGeneration;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void upsertEdge(@Nonnull Edge edge) {
+    if (isLineage(edge)) {
+      write(graph -> graph.upsert(edge));
+    }
+  }
+
+  public void removeEdge(@Nonnull Edge edge) {
+    if (isLineage(edge)) {
+      write(graph -> graph.remove(edge));
+    }
+  }
+
+  /** Removes the edges from and to the urn, and the edges it owns. */
+  public void removeNode(@Nonnull Urn urn) {
+    write(graph -> graph.removeNode(urn));
+  }
+
+  public void removeEdgesFromNode(
+      @Nonnull Urn urn,
+      @Nonnull List<String> relationshipTypes,
+      @Nonnull RelationshipFilter relationshipFilter) {
+    if (relationshipFilter.getOr() != null && !relationshipFilter.getOr().isEmpty()) {
+      // Only the graph index evaluates these filters
+      markStale();
+      return;
+    }
+    final boolean outgoing = relationshipFilter.getDirection() == RelationshipDirection.OUTGOING;
+    write(graph -> graph.removeEdgesFromNode(urn, relationshipTypes, outgoing));
+  }
+
+  public void clear() {
+    write(AdjacencyGraph::clear);
+  }
+
+  private void write(@Nonnull Consumer<AdjacencyGraph> write) {
+    lock.writeLock().lock();
+    try {
+      if (graph != null) {
+        write.accept(graph);
+      }
+      if (pendingWrites != null) {
+        pendingWrites.add(write);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void markStale() {
+    lock.writeLock().lock();
+    try {
+      staleGeneration = ++generation;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    MetricUtils.counter(this.getClass(), "stale").inc();
+    if (scheduler != null) {
+      scheduler.execute(
+          () -> {
+            try {
+              rebuild(loader);
+            } catch (Exception e) {
+              log.error("Failed to rebuild the stale lineage adjacency index", e);
+            }
+          });
+    }
+  }
+
+  private boolean isLineage(@Nonnull Edge edge) {
+    return relationshipTypes.contains(edge.getRelationshipType());
+  }
+
+  /**
+   * Returns the edges a lineage search of the graph index would return: the edges of the valid
+   * relationship types from or to the given urns, between allowed entity types, within the time
+   * window of the lineage flags.
+   *
+   * @param maxEdges maximum number of edges returned, as the size of the search
+   * @param viaFirst whether edges with a via node are returned first, as the via node boost
+   */
+  @Nonnull
+  List<ESGraphQueryDAO.LineageEdge> getLineageEdges(
+      @Nonnull Map<String, List<Urn>> urnsPerEntityType,
+      @Nonnull Map<String, List<EdgeInfo>> edgesPerEntityType,
+      @Nonnull GraphFilters graphFilters,
+      @Nullable LineageFlags lineageFlags,
+      int maxEdges,
+      boolean viaFirst) {
+    lock.readLock().lock();
+    try {
+      if (graph == null) {
+        throw new IllegalStateException("The lineage adjacency index is not built");
+      }
+      return graph.getLineageEdges(
+          urnsPerEntityType, edgesPerEntityType, graphFilters, lineageFlags, maxEdges, viaFirst);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int getNodeCount() {
+    lock.readLock().lock();
+    try {
+      return graph == null ? 0 : graph.getNodeCount();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int getEdgeCount() {
+    lock.readLock().lock();
+    try {
+      return graph == null ? 0 : graph.getEdgeCount();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** The adjacency structure, guarded by the lock of the index. */
+  private static final class AdjacencyGraph {
+    private static final int NO_ID = -1;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION_DELTA = 4096;
+
+    private final Map<Urn, Integer> nodeIds = new HashMap<>();
+    private final List<Urn> nodes = new ArrayList<>();
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final List<String> types = new ArrayList<>();
+
+    // Edge columns, indexed by edge id
+    private int edgeCount;
+    private int removedCount;
+    private int[] sources = new int[16];
+    private int[] destinations = new int[16];
+    private int[] edgeTypes = new int[16];
+    private int[] owners = new int[16];
+    private int[] vias = new int[16];
+    private int[] createdActors = new int[16];
+    private int[] updatedActors = new int[16];
+    private long[] createdOns = new long[16];
+    private long[] updatedOns = new long[16];
+    private final BitSet manual = new BitSet();
+    private final BitSet removed = new BitSet();
+    // Ids of the edges which are not removed, by their identity in the graph index
+    private final Map<EdgeKey, Integer> edgeIds = new HashMap<>();
+    // Nodes owning edges, the lifecycle owner is rarely set
+    private final BitSet ownerNodes = new BitSet();
+
+    // CSR adjacency of the edges below compactedEdgeCount, for the nodes below compactedNodeCount
+    private int compactedNodeCount;
+    private int compactedEdgeCount;
+    private int[] outOffsets = {0};
+    private int[] outEdges = new int[0];
+    private int[] inOffsets = {0};
+    private int[] inEdges = new int[0];
+
+    // Adjacency of the edges added since the last compaction
+    private final Map<Integer, List<Integer>> deltaOut = new HashMap<>();
+    private final Map<Integer, List<Integer>> deltaIn = new HashMap<>();
+
+    int getNodeCount() {
+      return nodes.size();
+    }
+
+    int getEdgeCount() {
+      return edgeCount - removedCount;
+    }
+
+    void clear() {
+      nodeIds.clear();
+      nodes.clear();
+      typeIds.clear();
+      types.clear();
+      edgeCount = 0;
+      removedCount = 0;
+      manual.clear();
+      removed.clear();
+      edgeIds.clear();
+      ownerNodes.clear();
+      compactedNodeCount = 0;
+      compactedEdgeCount = 0;
+      outOffsets = new int[] {0};
+      outEdges = new int[0];
+      inOffsets = new int[] {0};
+      inEdges = new int[0];
+      deltaOut.clear();
+      deltaIn.clear();
+    }
+
+    private int nodeId(@Nullable Urn urn) {
+      if (urn == null) {
+        return NO_ID;
+      }
+      return nodeIds.computeIfAbsent(
+          urn,
+          key -> {
+            nodes.add(key);
+            return nodes.size() - 1;
+          });
+    }
+
+    private int findNode(@Nullable Urn urn) {
+      return urn == null ? NO_ID : nodeIds.getOrDefault(urn, NO_ID);
+    }
+
+    private int typeId(@Nonnull String type) {
+      return typeIds.computeIfAbsent(
+          type,
+          key -> {
+            types.add(key);
+            return types.size() - 1;
+          });
+    }
+
+    private void forEachEdge(int node, boolean outgoing, @Nonnull IntConsumer consumer) {
+      if (node < compactedNodeCount) {
+        final int[] offsets = outgoing ? outOffsets : inOffsets;
+        final int[] edges = outgoing ? outEdges : inEdges;
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+          if (!removed.get(edges[i])) {
+            consumer.accept(edges[i]);
+          }
+        }
+      }
+      final List<Integer> delta = (outgoing ? deltaOut : deltaIn).get(node);
+      if (delta != null) {
+        for (int edge : delta) {
+          if (!removed.get(edge)) {
+            consumer.accept(edge);
+          }
+        }
+      }
+    }
+
+    private int findEdge(int source, int destination, int type, int owner) {
+      return edgeIds.getOrDefault(new EdgeKey(source, destination, type, owner), NO_ID);
+    }
+
+    void upsert(@Nonnull Edge edge) {
+      final int source = nodeId(edge.getSource());
+      final int destination = nodeId(edge.getDestination());
+      final int type = typeId(edge.getRelationshipType());
+      final int owner = nodeId(edge.getLifecycleOwner());
+      int id = findEdge(source, destination, type, owner);
+      if (id == NO_ID) {
+        id = edgeCount++;
+        ensureEdgeCapacity(edgeCount);
+        sources[id] = source;
+        destinations[id] = destination;
+        edgeTypes[id] = type;
+        owners[id] = owner;
+        edgeIds.put(new EdgeKey(source, destination, type, owner), id);
+        if (owner != NO_ID) {
+          ownerNodes.set(owner);
+        }
+        deltaOut.computeIfAbsent(source, key -> new ArrayList<>()).add(id);
+        deltaIn.computeIfAbsent(destination, key -> new ArrayList<>()).add(id);
+      }
+      vias[id] = nodeId(edge.getVia());
+      createdActors[id] = nodeId(edge.getCreatedActor());
+      updatedActors[id] = nodeId(edge.getUpdatedActor());
+      createdOns[id] = edge.getCreatedOn() != null ? edge.getCreatedOn() : NO_TIME;
+      updatedOns[id] = edge.getUpdatedOn() != null ? edge.getUpdatedOn() : NO_TIME;
+      manual.set(
+          id,
+          edge.getProperties() != null
+              && ESGraphQueryDAO.UI.equals(edge.getProperties().get(ESGraphQueryDAO.SOURCE)));
+      maybeCompact();
+    }
+
+    void remove(@Nonnull Edge edge) {
+      final int source = findNode(edge.getSource());
+      final int destination = findNode(edge.getDestination());
+      final Integer type = typeIds.get(edge.getRelationshipType());
+      if (source == NO_ID || destination == NO_ID || type == null) {
+        return;
+      }
+      final int owner = findNode(edge.getLifecycleOwner());
+      if (edge.getLifecycleOwner() != null && owner == NO_ID) {
+        return;
+      }
+      final int id = findEdge(source, destination, type, owner);
+      if (id != NO_ID) {
+        markRemoved(id);
+      }
+      maybeCompact();
+    }
+
+    void removeNode(@Nonnull Urn urn) {
+      final int node = findNode(urn);
+      if (node == NO_ID) {
+        return;
+      }
+      forEachEdge(node, true, this::markRemoved);
+      forEachEdge(node, false, this::markRemoved);
+      if (ownerNodes.get(node)) {
+        for (int edge = 0; edge < edgeCount; edge++) {
+          if (owners[edge] == node) {
+            markRemoved(edge);
+          }
+        }
+        ownerNodes.clear(node);
+      }
+      maybeCompact();
+    }
+
+    void removeEdgesFromNode(
+        @Nonnull Urn urn, @Nonnull Collection<String> relationshipTypes, boolean outgoing) {
+      final int node = findNode(urn);
+      if (node == NO_ID) {
+        return;
+      }
+      final Set<Integer> typeFilter = new HashSet<>();
+      relationshipTypes.forEach(
+          type -> {
+            if (typeIds.containsKey(type)) {
+              typeFilter.add(typeIds.get(type));
+            }
+          });
+      if (!relationshipTypes.isEmpty() && typeFilter.isEmpty()) {
+        return;
+      }
+      // The graph index matches the urn as the source of outgoing edges, the destination otherwise
+      forEachEdge(
+          node,
+          outgoing,
+          edge -> {
+            if (typeFilter.isEmpty() || typeFilter.contains(edgeTypes[edge])) {
+              markRemoved(edge);
+            }
+          });
+      maybeCompact();
+    }
+
+    private void markRemoved(int edge) {
+      if (!removed.get(edge)) {
+        removed.set(edge);
+        removedCount++;
+        edgeIds.remove(
+            new EdgeKey(sources[edge], destinations[edge], edgeTypes[edge], owners[edge]));
+      }
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+      if (capacity <= sources.length) {
+        return;
+      }
+      final int newCapacity = Math.max(capacity, sources.length + (sources.length >> 1));
+      sources = Arrays.copyOf(sources, newCapacity);
+      destinations = Arrays.copyOf(destinations, newCapacity);
+      edgeTypes = Arrays.copyOf(edgeTypes, newCapacity);
+      owners = Arrays.copyOf(owners, newCapacity);
+      vias = Arrays.copyOf(vias, newCapacity);
+      createdActors = Arrays.copyOf(createdActors, newCapacity);
+      updatedActors = Arrays.copyOf(updatedActors, newCapacity);
+      createdOns = Arrays.copyOf(createdOns, newCapacity);
+      updatedOns = Arrays.copyOf(updatedOns, newCapacity);
+    }
+
+    private void maybeCompact() {
+      final int threshold = Math.max(MIN_COMPACTION_DELTA, compactedEdgeCount / 8);
+      if (edgeCount - compactedEdgeCount > threshold || removedCount > threshold) {
+        compact();
+      }
+    }
+
+    /**
+     * Drops the removed edges and the nodes no edge refers to, then folds the delta adjacency into
+     * the CSR arrays.
+     */
+    void compact() {
+      if (removedCount > 0) {
+        int alive = 0;
+        for (int edge = 0; edge < edgeCount; edge++) {
+          if (removed.get(edge)) {
+            continue;
+          }
+          sources[alive] = sources[edge];
+          destinations[alive] = destinations[edge];
+          edgeTypes[alive] = edgeTypes[edge];
+          owners[alive] = owners[edge];
+          vias[alive] = vias[edge];
+          createdActors[alive] = createdActors[edge];
+          updatedActors[alive] = updatedActors[edge];
+          createdOns[alive] = createdOns[edge];
+          updatedOns[alive] = updatedOns[edge];
+          manual.set(alive, manual.get(edge));
+          alive++;
+        }
+        manual.clear(alive, edgeCount);
+        removed.clear();
+        removedCount = 0;
+        edgeCount = alive;
+      }
+      reclaimNodes();
+
+      // Edge ids and node ids may have changed
+      edgeIds.clear();
+      ownerNodes.clear();
+      for (int edge = 0; edge < edgeCount; edge++) {
+        edgeIds.put(
+            new EdgeKey(sources[edge], destinations[edge], edgeTypes[edge], owners[edge]), edge);
+        if (owners[edge] != NO_ID) {
+          ownerNodes.set(owners[edge]);
+        }
+      }
+
+      final int nodeCount = nodes.size();
+      outOffsets = new int[nodeCount + 1];
+      inOffsets = new int[nodeCount + 1];
+      for (int edge = 0; edge < edgeCount; edge++) {
+        outOffsets[sources[edge] + 1]++;
+        inOffsets[destinations[edge] + 1]++;
+      }
+      for (int node = 0; node < nodeCount; node++) {
+        outOffsets[node + 1] += outOffsets[node];
+        inOffsets[node + 1] += inOffsets[node];
+      }
+      outEdges = new int[edgeCount];
+      inEdges = new int[edgeCount];
+      final int[] outPositions = Arrays.copyOf(outOffsets, nodeCount);
+      final int[] inPositions = Arrays.copyOf(inOffsets, nodeCount);
+      for (int edge = 0; edge < edgeCount; edge++) {
+        outEdges[outPositions[sources[edge]]++] = edge;
+        inEdges[inPositions[destinations[edge]]++] = edge;
+      }
+      compactedNodeCount = nodeCount;
+      compactedEdgeCount = edgeCount;
+      deltaOut.clear();
+      deltaIn.clear();
+    }
+
+    /** Renumbers the nodes referred to by the edges, dropping the others. */
+    private void reclaimNodes() {
+      final BitSet referenced = new BitSet(nodes.size());
+      for (int edge = 0; edge < edgeCount; edge++) {
+        referenced.set(sources[edge]);
+        referenced.set(destinations[edge]);
+        setIfPresent(referenced, owners[edge]);
+        setIfPresent(referenced, vias[edge]);
+        setIfPresent(referenced, createdActors[edge]);
+        setIfPresent(referenced, updatedActors[edge]);
+      }
+      if (referenced.cardinality() == nodes.size()) {
+        return;
+      }
+
+      final int[] newIds = new int[nodes.size()];
+      final List<Urn> referencedNodes = new ArrayList<>(referenced.cardinality());
+      nodeIds.clear();
+      for (int node = 0; node < nodes.size(); node++) {
+        if (referenced.get(node)) {
+          newIds[node] = referencedNodes.size();
+          nodeIds.put(nodes.get(node), referencedNodes.size());
+          referencedNodes.add(nodes.get(node));
+        } else {
+          newIds[node] = NO_ID;
+        }
+      }
+      nodes.clear();
+      nodes.addAll(referencedNodes);
+
+      for (int edge = 0; edge < edgeCount; edge++) {
+        sources[edge] = newIds[sources[edge]];
+        destinations[edge] = newIds[destinations[edge]];
+        owners[edge] = owners[edge] != NO_ID ? newIds[owners[edge]] : NO_ID;
+        vias[edge] = vias[edge] != NO_ID ? newIds[vias[edge]] : NO_ID;
+        createdActors[edge] = createdActors[edge] != NO_ID ? newIds[createdActors[edge]] : NO_ID;
+        updatedActors[edge] = updatedActors[edge] != NO_ID ? newIds[updatedActors[edge]] : NO_ID;
+      }
+    }
+
+    private static void setIfPresent(@Nonnull BitSet bits, int id) {
+      if (id != NO_ID) {
+        bits.set(id);
+      }
+    }
+
+    @Nonnull
+    List<ESGraphQueryDAO.LineageEdge> getLineageEdges(
+        @Nonnull Map<String, List<Urn>> urnsPerEntityType,
+        @Nonnull Map<String, List<EdgeInfo>> edgesPerEntityType,
+        @Nonnull GraphFilters graphFilters,
+        @Nullable LineageFlags lineageFlags,
+        int maxEdges,
+        boolean viaFirst) {
+      final Set<String> allowedEntityTypes = new HashSet<>(graphFilters.getAllowedEntityTypes());
+      final boolean timeFiltered =
+          lineageFlags != null
+              && lineageFlags.getStartTimeMillis() != null
+              && lineageFlags.getEndTimeMillis() != null;
+      final long startTime = timeFiltered ? lineageFlags.getStartTimeMillis() : 0;
+      final long endTime = timeFiltered ? lineageFlags.getEndTimeMillis() : 0;
+
+      // An edge matching from both ends is returned once, as a search hit
+      final BitSet matched = new BitSet();
+      final List<Integer> viaEdges = new ArrayList<>();
+      final List<Integer> otherEdges = new ArrayList<>();
+      final IntConsumer collector =
+          edge -> {
+            if (matched.get(edge)
+                || !allowedEntityTypes.contains(nodes.get(sources[edge]).getEntityType())
+                || !allowedEntityTypes.contains(nodes.get(destinations[edge]).getEntityType())
+                || (timeFiltered && !inTimeWindow(edge, startTime, endTime))) {
+              return;
+            }
+            matched.set(edge);
+            (viaFirst && vias[edge] != NO_ID ? viaEdges : otherEdges).add(edge);
+          };
+
+      urnsPerEntityType.forEach(
+          (entityType, urns) -> {
+            final List<EdgeInfo> edgeInfos = edgesPerEntityType.get(entityType);
+            if (edgeInfos == null || edgeInfos.isEmpty()) {
+              return;
+            }
+            final Set<Integer> outgoingTypes = new HashSet<>();
+            final Set<Integer> incomingTypes = new HashSet<>();
+            for (EdgeInfo edgeInfo : edgeInfos) {
+              final Integer type = typeIds.get(edgeInfo.getType());
+              if (type != null) {
+                (edgeInfo.getDirection() == RelationshipDirection.OUTGOING
+                        ? outgoingTypes
+                        : incomingTypes)
+                    .add(type);
+              }
+            }
+            for (Urn urn : urns) {
+              final int node = findNode(urn);
+              if (node == NO_ID) {
+                continue;
+              }
+              if (!outgoingTypes.isEmpty()) {
+                forEachEdge(
+                    node,
+                    true,
+                    edge -> {
+                      if (outgoingTypes.contains(edgeTypes[edge])) {
+                        collector.accept(edge);
+                      }
+                    });
+              }
+              if (!incomingTypes.isEmpty()) {
+                forEachEdge(
+                    node,
+                    false,
+                    edge -> {
+                      if (incomingTypes.contains(edgeTypes[edge])) {
+                        collector.accept(edge);
+                      }
+                    });
+              }
+            }
+          });
+
+      final List<ESGraphQueryDAO.LineageEdge> lineageEdges =
+          new ArrayList<>(Math.min(maxEdges, viaEdges.size() + otherEdges.size()));
+      for (List<Integer> edges : List.of(viaEdges, otherEdges)) {
+        for (int edge : edges) {
+          if (lineageEdges.size() >= maxEdges) {
+            return lineageEdges;
+          }
+          lineageEdges.add(toLineageEdge(edge));
+        }
+      }
+      return lineageEdges;
+    }
+
+    /** Same window overlap as {@link TimeFilterUtils#getEdgeTimeFilterQuery(long, long)}. */
+    private boolean inTimeWindow(int edge, long startTime, long endTime) {
+      final long createdOn = createdOns[edge];
+      final long updatedOn = updatedOns[edge];
+      return (createdOn != NO_TIME && createdOn >= startTime && createdOn <= endTime)
+          || (updatedOn != NO_TIME && updatedOn >= startTime && updatedOn <= endTime)
+          || ((createdOn == NO_TIME || createdOn == 0) && (updatedOn == NO_TIME || updatedOn == 0))
+          || manual.get(edge);
+    }
+
+    @Nonnull
+    private ESGraphQueryDAO.LineageEdge toLineageEdge(int edge) {
+      return new ESGraphQueryDAO.LineageEdge(
+          nodes.get(sources[edge]),
+          nodes.get(destinations[edge]),
+          types.get(edgeTypes[edge]),
+          createdOns[edge] != NO_TIME ? createdOns[edge] : null,
+          createdActors[edge] != NO_ID ? nodes.get(createdActors[edge]) : null,
+          updatedOns[edge] != NO_TIME ? updatedOns[edge] : null,
+          updatedActors[edge] != NO_ID ? nodes.get(updatedActors[edge]) : null,
+          manual.get(edge),
+          vias[edge] != NO_ID ? nodes.get(vias[edge]) : null);
+    }
+  }
+
+  /** Identity of an edge in the graph index. */
+  @Value
+  private static class EdgeKey {
+    int source;
+    int destination;
+    int type;
+    int owner;
+  }
+}
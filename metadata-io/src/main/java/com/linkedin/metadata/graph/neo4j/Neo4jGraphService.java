@@ -33,6 +33,7 @@ import com.linkedin.util.Pair;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -53,7 +54,6 @@ import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
-import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.exceptions.Neo4jException;
@@ -63,9 +63,14 @@ import org.neo4j.driver.types.Relationship;
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  public static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+  private static final Set<String> PRESERVED_PROPERTY_KEYS =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  // Maximum number of edges per transaction of the batch writes, 0 writes edges one by one
+  private final int _writeBatchSize;
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver) {
     this(lineageRegistry, driver, SessionConfig.defaultConfig());
@@ -75,9 +80,18 @@ public class Neo4jGraphService implements GraphService {
       @Nonnull LineageRegistry lineageRegistry,
       @Nonnull Driver driver,
       @Nonnull SessionConfig sessionConfig) {
+    this(lineageRegistry, driver, sessionConfig, DEFAULT_WRITE_BATCH_SIZE);
+  }
+
+  public Neo4jGraphService(
+      @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig,
+      int writeBatchSize) {
     this._lineageRegistry = lineageRegistry;
     this._driver = driver;
     this._sessionConfig = sessionConfig;
+    this._writeBatchSize = writeBatchSize;
   }
 
   @Override
@@ -168,9 +182,7 @@ public class Neo4jGraphService implements GraphService {
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
         // Make sure extra keys in properties are not preserved
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_PROPERTY_KEYS.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
@@ -204,6 +216,190 @@ public class Neo4jGraphService implements GraphService {
     addEdge(edge);
   }
 
+  /**
+   * Adds the edges with one transaction per batch of edges. The edges of a batch sharing their
+   * source type, destination type and relationship type are merged by a single UNWIND statement.
+   */
+  @Override
+  public void addEdges(@Nonnull final Collection<Edge> edges) {
+    if (_writeBatchSize <= 0) {
+      edges.forEach(this::addEdge);
+      return;
+    }
+    for (List<Edge> batch : Iterables.partition(edges, _writeBatchSize)) {
+      final List<Statement> statements = new ArrayList<>();
+      groupByTypes(batch)
+          .forEach((types, typeEdges) -> statements.add(mergeEdges(types, typeEdges)));
+      executeStatements(statements);
+    }
+  }
+
+  @Override
+  public void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    addEdges(edges);
+  }
+
+  /**
+   * Removes the edges with one transaction per batch of edges, see {@link #addEdges(Collection)}.
+   */
+  @Override
+  public void removeEdges(@Nonnull final Collection<Edge> edges) {
+    if (_writeBatchSize <= 0) {
+      edges.forEach(this::removeEdge);
+      return;
+    }
+    for (List<Edge> batch : Iterables.partition(edges, _writeBatchSize)) {
+      final List<Statement> statements = new ArrayList<>();
+      groupByTypes(batch)
+          .forEach((types, typeEdges) -> statements.addAll(deleteEdges(types, typeEdges)));
+      executeStatements(statements);
+    }
+  }
+
+  @AllArgsConstructor
+  @Data
+  private static final class EdgeTypes {
+    private String sourceType;
+    private String destinationType;
+    private String relationshipType;
+  }
+
+  @Nonnull
+  private static Map<EdgeTypes, List<Edge>> groupByTypes(@Nonnull List<Edge> edges) {
+    return edges.stream()
+        .collect(
+            Collectors.groupingBy(
+                edge ->
+                    new EdgeTypes(
+                        edge.getSource().getEntityType(),
+                        edge.getDestination().getEntityType(),
+                        edge.getRelationshipType())));
+  }
+
+  /** Same as {@link #addEdge(Edge)}, for all the edges at once. */
+  @Nonnull
+  private Statement mergeEdges(@Nonnull EdgeTypes types, @Nonnull List<Edge> edges) {
+    final boolean reversed =
+        isSourceDestReversed(types.getSourceType(), types.getRelationshipType());
+    final String statement =
+        String.format(
+            "UNWIND $edges AS edge "
+                + "MERGE (source:%s {urn: edge.source}) "
+                + "MERGE (destination:%s {urn: edge.destination}) "
+                + "MERGE (source)-[:%s]->(destination) "
+                + "MERGE (%s)-[r:r_%s]->(%s) "
+                + "SET r += edge.properties",
+            types.getSourceType(),
+            types.getDestinationType(),
+            types.getRelationshipType(),
+            reversed ? "destination" : "source",
+            types.getRelationshipType(),
+            reversed ? "source" : "destination");
+
+    final List<Map<String, Object>> edgeParams = new ArrayList<>(edges.size());
+    for (Edge edge : edges) {
+      final String sourceUrn = edge.getSource().toString();
+      final String destinationUrn = edge.getDestination().toString();
+      final Map<String, Object> edgeParam = new HashMap<>();
+      edgeParam.put("source", sourceUrn);
+      edgeParam.put("destination", destinationUrn);
+      edgeParam.put(
+          "properties",
+          reversed
+              ? getRelationshipProperties(edge, destinationUrn, sourceUrn)
+              : getRelationshipProperties(edge, sourceUrn, destinationUrn));
+      edgeParams.add(edgeParam);
+    }
+    return buildStatement(statement, new HashMap<>(Map.of("edges", edgeParams)));
+  }
+
+  /** Same as {@link #removeEdge(Edge)}, for all the edges at once. */
+  @Nonnull
+  private List<Statement> deleteEdges(@Nonnull EdgeTypes types, @Nonnull List<Edge> edges) {
+    final boolean reversed =
+        isSourceDestReversed(types.getSourceType(), types.getRelationshipType());
+    final String deleteTemplate =
+        "UNWIND $edges AS edge MATCH (start:%s {urn: edge.%s})-[r:%s]->(end:%s {urn: edge.%s}) "
+            + "DELETE r";
+    final String statement =
+        String.format(
+            deleteTemplate,
+            types.getSourceType(),
+            "source",
+            types.getRelationshipType(),
+            types.getDestinationType(),
+            "destination");
+    final String statementR =
+        reversed
+            ? String.format(
+                deleteTemplate,
+                types.getDestinationType(),
+                "destination",
+                "r_" + types.getRelationshipType(),
+                types.getSourceType(),
+                "source")
+            : String.format(
+                deleteTemplate,
+                types.getSourceType(),
+                "source",
+                "r_" + types.getRelationshipType(),
+                types.getDestinationType(),
+                "destination");
+
+    final List<Map<String, Object>> edgeParams =
+        edges.stream()
+            .map(
+                edge ->
+                    Map.<String, Object>of(
+                        "source",
+                        edge.getSource().toString(),
+                        "destination",
+                        edge.getDestination().toString()))
+            .collect(Collectors.toList());
+    return List.of(
+        buildStatement(statement, new HashMap<>(Map.of("edges", edgeParams))),
+        buildStatement(statementR, new HashMap<>(Map.of("edges", edgeParams))));
+  }
+
+  /** Properties of the reverse relationship of the edge, as set by {@link #addEdge(Edge)}. */
+  @Nonnull
+  private static Map<String, Object> getRelationshipProperties(
+      @Nonnull Edge edge, @Nonnull String startUrn, @Nonnull String endUrn) {
+    final Map<String, Object> properties = new HashMap<>();
+    if (edge.getCreatedOn() != null) {
+      properties.put("createdOn", edge.getCreatedOn());
+    }
+    if (edge.getCreatedActor() != null) {
+      properties.put("createdActor", edge.getCreatedActor().toString());
+    }
+    if (edge.getUpdatedOn() != null) {
+      properties.put("updatedOn", edge.getUpdatedOn());
+    }
+    if (edge.getUpdatedActor() != null) {
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
+    }
+    if (edge.getProperties() != null) {
+      for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
+        if (PRESERVED_PROPERTY_KEYS.contains(entry.getKey())) {
+          throw new UnsupportedOperationException(
+              String.format(
+                  "Tried setting properties on graph edge but property key is preserved. Key: %s",
+                  entry.getKey()));
+        }
+        if (!(entry.getValue() instanceof String)) {
+          throw new UnsupportedOperationException(
+              String.format(
+                  "Tried setting properties on graph edge but property value type is not supported. Key: %s, Value: %s ",
+                  entry.getKey(), entry.getValue()));
+        }
+        properties.put(entry.getKey(), entry.getValue());
+      }
+    }
+    properties.put("startUrn", startUrn);
+    properties.put("endUrn", endUrn);
+    return properties;
+  }
+
   @Override
   public void removeEdge(final Edge edge) {
     log.debug(
@@ -289,9 +485,7 @@ public class Neo4jGraphService implements GraphService {
     final var parameters = statementAndParams.getSecond();
 
     List<Record> neo4jResult =
-        statement != null
-            ? runQuery(buildStatement(statement, parameters)).list()
-            : new ArrayList<>();
+        statement != null ? runQuery(buildStatement(statement, parameters)) : new ArrayList<>();
 
     LineageRelationshipArray relations = new LineageRelationshipArray();
     neo4jResult.stream()
@@ -518,6 +712,8 @@ public class Neo4jGraphService implements GraphService {
 
     log.info(baseStatementString);
 
+    // The page is streamed with SKIP / LIMIT rather than collecting every match to slice it, so
+    // the total needs its own query
     final String resultStatementString =
         String.format("%s %s SKIP $offset LIMIT $count", baseStatementString, returnNodes);
     final String countStatementString = String.format("%s %s", baseStatementString, returnCount);
@@ -529,19 +725,15 @@ public class Neo4jGraphService implements GraphService {
 
     // Execute Queries
     final List<RelatedEntity> relatedEntities =
-        runQuery(resultStatement)
-            .list(
+        runQuery(resultStatement).stream()
+            .map(
                 record ->
                     new RelatedEntity(
-                        record.values().get(1).asString(), // Relationship Type
-                        record
-                            .values()
-                            .get(0)
-                            .asNode()
-                            .get("urn")
-                            .asString(), // Urn TODO: Validate this works against Neo4j.
-                        null));
-    final int totalCount = runQuery(countStatement).single().get(0).asInt();
+                        record.get(1).asString(), // Relationship Type
+                        record.get(0).asNode().get("urn").asString(), // Urn
+                        null))
+            .collect(Collectors.toList());
+    final int totalCount = runQuery(countStatement).get(0).get(0).asInt();
     return new RelatedEntitiesResult(offset, relatedEntities.size(), totalCount, relatedEntities);
   }
 
@@ -586,7 +778,7 @@ public class Neo4jGraphService implements GraphService {
     final Map<String, Object> params = new HashMap<>();
     params.put("urn", urn.toString());
 
-    runQuery(buildStatement(statement, params)).consume();
+    executeStatements(List.of(buildStatement(statement, params)));
   }
 
   /**
@@ -629,7 +821,7 @@ public class Neo4jGraphService implements GraphService {
     final Map<String, Object> params = new HashMap<>();
     params.put("urn", urn.toString());
     List<Record> neo4jResult =
-        statement != null ? runQuery(buildStatement(statement, params)).list() : new ArrayList<>();
+        statement != null ? runQuery(buildStatement(statement, params)) : new ArrayList<>();
     if (!neo4jResult.isEmpty()) {
       String removeMode = neo4jResult.get(0).values().get(2).toString();
       if (removeMode.equals("2")) {
@@ -644,18 +836,20 @@ public class Neo4jGraphService implements GraphService {
         }
         final String statementNoDirection =
             String.format(matchDeleteTemplate, relationshipTypeFilter);
-        runQuery(buildStatement(statementNoDirection, params)).consume();
+        executeStatements(List.of(buildStatement(statementNoDirection, params)));
       } else {
+        final List<Edge> edges = new ArrayList<>(neo4jResult.size());
         for (Record typeDest : neo4jResult) {
           String relationshipType = typeDest.values().get(0).asString();
           String destUrnString = typeDest.values().get(1).asNode().get("urn").asString();
           Urn destUrn = createFromString(destUrnString);
           if (removeMode.equals("0")) {
-            removeEdge(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
           } else {
-            removeEdge(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
           }
         }
+        removeEdges(edges);
       }
     }
   }
@@ -668,7 +862,7 @@ public class Neo4jGraphService implements GraphService {
 
     final Map<String, Object> params = new HashMap<>();
 
-    runQuery(buildStatement(statement, params)).consume();
+    executeStatements(List.of(buildStatement(statement, params)));
   }
 
   @Override
@@ -683,7 +877,7 @@ public class Neo4jGraphService implements GraphService {
 
   @VisibleForTesting
   public void wipe() {
-    runQuery(new Statement("MATCH (n) DETACH DELETE n", Map.of())).consume();
+    executeStatements(List.of(new Statement("MATCH (n) DETACH DELETE n", Map.of())));
   }
 
   // visible for testing
@@ -751,16 +945,18 @@ public class Neo4jGraphService implements GraphService {
   }
 
   /**
-   * Runs a query statement with parameters and return StatementResult.
+   * Runs a query statement with parameters and returns its records. The session is closed once the
+   * records are read, returning its connection to the pool of the driver.
    *
    * @param statement a statement with parameters to be executed
    * @return list of elements in the query result
    */
   @Nonnull
-  private Result runQuery(@Nonnull Statement statement) {
+  private List<Record> runQuery(@Nonnull Statement statement) {
     log.debug(String.format("Running Neo4j query %s", statement.toString()));
-    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time()) {
-      return _driver.session(_sessionConfig).run(statement.getCommandText(), statement.getParams());
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time();
+        Session session = _driver.session(_sessionConfig)) {
+      return session.run(statement.getCommandText(), statement.getParams()).list();
     }
   }
 
@@ -0,0 +1,93 @@
+package com.linkedin.metadata.search.cache;
+
+import com.datahub.util.RecordUtils;
+import com.datahub.util.exception.ModelConversionException;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import java.io.IOException;
+import java.util.Locale;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.cache.Cache;
+
+/**
+ * Encoding of the {@link RecordTemplate} values stored in the search caches.
+ *
+ * <p>Decoding does not depend on the configured codec, values written by either codec are read
+ * back. This keeps shared caches, such as Hazelcast, readable while instances switch codecs.
+ */
+public enum CacheValueCodec {
+  /** Values are stored as JSON strings */
+  JSON {
+    @Nonnull
+    @Override
+    public Object encode(@Nonnull RecordTemplate record) {
+      return RecordUtils.toJsonString(record);
+    }
+  },
+
+  /** Values are stored as protobuf encoded data maps, smaller and cheaper to decode than JSON */
+  BINARY {
+    @Nonnull
+    @Override
+    public Object encode(@Nonnull RecordTemplate record) {
+      try {
+        return BINARY_CODEC.mapToBytes(record.data());
+      } catch (IOException e) {
+        throw new ModelConversionException("Failed to serialize RecordTemplate: " + record, e);
+      }
+    }
+  };
+
+  private static final DataCodec BINARY_CODEC = new ProtobufDataCodec();
+
+  /** Encodes the record into the value to put in the cache. */
+  @Nonnull
+  public abstract Object encode(@Nonnull RecordTemplate record);
+
+  /**
+   * Decodes a cached value written by any codec.
+   *
+   * @param value the cached value, a JSON string or binary encoded bytes
+   * @param type the type of {@link RecordTemplate} to create
+   * @return the decoded record, null if there is no cached value
+   */
+  @Nullable
+  public static <T extends RecordTemplate> T decode(
+      @Nullable Object value, @Nonnull Class<T> type) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof String) {
+      return RecordUtils.toRecordTemplate(type, (String) value);
+    }
+    if (value instanceof byte[]) {
+      try {
+        return RecordUtils.toRecordTemplate(type, BINARY_CODEC.bytesToMap((byte[]) value));
+      } catch (IOException e) {
+        throw new ModelConversionException(
+            "Failed to deserialize DataMap for " + type.getCanonicalName(), e);
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unsupported cached value type " + value.getClass().getCanonicalName());
+  }
+
+  /** Reads and decodes the value cached under the given key. */
+  @Nullable
+  public static <T extends RecordTemplate> T get(
+      @Nonnull Cache cache, @Nonnull Object key, @Nonnull Class<T> type) {
+    return decode(cache.get(key, Object.class), type);
+  }
+
+  /** Encodes and caches the value under the given key. */
+  public void put(@Nonnull Cache cache, @Nonnull Object key, @Nonnull RecordTemplate record) {
+    cache.put(key, encode(record));
+  }
+
+  @Nonnull
+  public static CacheValueCodec fromString(@Nonnull String codec) {
+    return valueOf(codec.trim().toUpperCase(Locale.ROOT));
+  }
+}
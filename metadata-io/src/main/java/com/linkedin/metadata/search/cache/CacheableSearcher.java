@@ -1,7 +1,5 @@
 package com.linkedin.metadata.search.cache;
 
-import static com.datahub.util.RecordUtils.*;
-
 import com.codahale.metrics.Timer;
 import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.SearchEntityArray;
@@ -10,15 +8,15 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.Nullable;
 import lombok.Value;
 import org.springframework.cache.Cache;
 
 /** Wrapper class to allow searching in batches and caching the results. */
-@RequiredArgsConstructor
 public class CacheableSearcher<K> {
   @Nonnull private final Cache cache;
   private final int batchSize;
@@ -28,6 +26,54 @@ public class CacheableSearcher<K> {
   // Function that generates the cache key given the query batch (from, size)
   private final Function<QueryPagination, K> cacheKeyGenerator;
   private final boolean enableCache;
+  private final CacheValueCodec codec;
+  // Sizes of the batches seen so far for a query, keyed by the cache key of its first batch
+  @Nullable private final Cache batchIndexCache;
+  private final long batchIndexTtlMillis;
+
+  public CacheableSearcher(
+      @Nonnull Cache cache,
+      int batchSize,
+      Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator,
+      boolean enableCache) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, enableCache, CacheValueCodec.JSON);
+  }
+
+  public CacheableSearcher(
+      @Nonnull Cache cache,
+      int batchSize,
+      Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator,
+      boolean enableCache,
+      @Nonnull CacheValueCodec codec) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, enableCache, codec, null, 0);
+  }
+
+  /**
+   * @param batchIndexCache when set, the sizes of the batches of each query are remembered so later
+   *     pages start at the batch containing "from" instead of replaying every earlier batch
+   * @param batchIndexTtlMillis how long the sizes of a query are used after they were first
+   *     recorded, the idle time after which the search cache drops a batch
+   */
+  public CacheableSearcher(
+      @Nonnull Cache cache,
+      int batchSize,
+      Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator,
+      boolean enableCache,
+      @Nonnull CacheValueCodec codec,
+      @Nullable Cache batchIndexCache,
+      long batchIndexTtlMillis) {
+    this.cache = cache;
+    this.batchSize = batchSize;
+    this.searcher = searcher;
+    this.cacheKeyGenerator = cacheKeyGenerator;
+    this.enableCache = enableCache;
+    this.codec = codec;
+    this.batchIndexCache = batchIndexCache;
+    this.batchIndexTtlMillis = batchIndexTtlMillis;
+  }
 
   @Value
   public static class QueryPagination implements Serializable {
@@ -35,16 +81,53 @@ public class CacheableSearcher<K> {
     int size;
   }
 
+  @Value
+  public static class BatchIndex implements Serializable {
+    int[] batchSizes;
+    long createdAtMillis;
+  }
+
   /**
    * Get search results corresponding to the input "from" and "size" It goes through batches,
    * starting from the beginning, until we get enough results to return This let's us have batches
    * that return a variable number of results (we have no idea which batch the "from" "size" page
    * corresponds to)
+   *
+   * <p>With a batch index, the sizes of the batches fetched for a query are recorded. Full batches
+   * known to end before "from" are skipped, so a deep page only fetches the batches it overlaps
+   * once the query has been paged through.
    */
   public SearchResult getSearchResults(@Nonnull OperationContext opContext, int from, int size) {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getSearchResults").time()) {
+      final K indexKey =
+          batchIndexCache != null && isCacheEnabled(opContext)
+              ? cacheKeyGenerator.apply(getBatchQuerySize(0))
+              : null;
+      final BatchIndex knownIndex =
+          indexKey != null ? batchIndexCache.get(indexKey, BatchIndex.class) : null;
+      // Every batch of an index was read after the index was created, so the search cache keeps
+      // it at least until the index expires. Past that the batches may be searched again, with
+      // different sizes, and the index starts over.
+      final long now = System.currentTimeMillis();
+      final boolean indexValid =
+          knownIndex != null && now - knownIndex.getCreatedAtMillis() < batchIndexTtlMillis;
+      final int[] knownSizes = indexValid ? knownIndex.getBatchSizes() : null;
+      final long indexCreatedAtMillis = indexValid ? knownIndex.getCreatedAtMillis() : now;
+      int[] batchSizes = knownSizes != null ? knownSizes : new int[0];
+
       int resultsSoFar = 0;
       int batchId = 0;
+      // A batch smaller than the batch size is the last one, never skip it
+      while (batchId < batchSizes.length
+          && batchSizes[batchId] >= batchSize
+          && resultsSoFar + batchSizes[batchId] <= from) {
+        resultsSoFar += batchSizes[batchId];
+        batchId++;
+      }
+      if (batchId > 0) {
+        MetricUtils.counter(this.getClass(), "getSearchResults_skipped_batches").inc(batchId);
+      }
+
       boolean foundStart = false;
       List<SearchEntity> resultEntities = new ArrayList<>();
       SearchResult batchedResult;
@@ -52,6 +135,9 @@ public class CacheableSearcher<K> {
       do {
         batchedResult = getBatch(opContext, batchId);
         int currentBatchSize = batchedResult.getEntities().size();
+        if (indexKey != null) {
+          batchSizes = withBatchSize(batchSizes, batchId, currentBatchSize);
+        }
         // If the number of results in this batch is 0, no need to continue
         if (currentBatchSize == 0) {
           break;
@@ -70,6 +156,10 @@ public class CacheableSearcher<K> {
         resultsSoFar += currentBatchSize;
         batchId++;
       } while (resultsSoFar < from + size);
+
+      if (indexKey != null && !Arrays.equals(batchSizes, knownSizes)) {
+        batchIndexCache.put(indexKey, new BatchIndex(batchSizes, indexCreatedAtMillis));
+      }
       return new SearchResult()
           .setEntities(new SearchEntityArray(resultEntities))
           .setMetadata(batchedResult.getMetadata())
@@ -83,33 +173,51 @@ public class CacheableSearcher<K> {
     return new QueryPagination(batchId * batchSize, batchSize);
   }
 
+  /**
+   * Records the size of a batch. Sizes are only kept contiguously from the first batch, a changed
+   * size drops the sizes of all later batches since their offsets moved.
+   */
+  private static int[] withBatchSize(int[] batchSizes, int batchId, int size) {
+    if (batchId > batchSizes.length
+        || (batchId < batchSizes.length && batchSizes[batchId] == size)) {
+      return batchSizes;
+    }
+    final int[] updated = Arrays.copyOf(batchSizes, batchId + 1);
+    updated[batchId] = size;
+    return updated;
+  }
+
+  private boolean isCacheEnabled(@Nonnull OperationContext opContext) {
+    return enableCache
+        && (opContext.getSearchContext().getSearchFlags().isSkipCache() == null
+            || !opContext.getSearchContext().getSearchFlags().isSkipCache());
+  }
+
   private SearchResult getBatch(@Nonnull OperationContext opContext, int batchId) {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getBatch").time()) {
       QueryPagination batch = getBatchQuerySize(batchId);
       SearchResult result;
       if (enableCache) {
         K cacheKey = cacheKeyGenerator.apply(batch);
-        if ((opContext.getSearchContext().getSearchFlags().isSkipCache() == null
-            || !opContext.getSearchContext().getSearchFlags().isSkipCache())) {
+        if (isCacheEnabled(opContext)) {
           try (Timer.Context ignored2 =
               MetricUtils.timer(this.getClass(), "getBatch_cache").time()) {
             Timer.Context cacheAccess =
                 MetricUtils.timer(this.getClass(), "getBatch_cache_access").time();
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(SearchResult.class, json) : null;
+            result = CacheValueCodec.get(cache, cacheKey, SearchResult.class);
             cacheAccess.stop();
             if (result == null) {
               Timer.Context cacheMiss =
                   MetricUtils.timer(this.getClass(), "getBatch_cache_miss").time();
               result = searcher.apply(batch);
-              cache.put(cacheKey, toJsonString(result));
+              codec.put(cache, cacheKey, result);
               cacheMiss.stop();
               MetricUtils.counter(this.getClass(), "getBatch_cache_miss_count").inc();
             }
           }
         } else {
           result = searcher.apply(batch);
-          cache.put(cacheKey, toJsonString(result));
+          codec.put(cache, cacheKey, result);
         }
       } else {
         result = searcher.apply(batch);
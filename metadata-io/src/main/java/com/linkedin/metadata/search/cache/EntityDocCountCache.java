@@ -1,49 +1,103 @@
 package com.linkedin.metadata.search.cache;
 
-import com.google.common.base.Suppliers;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
 
-public class EntityDocCountCache {
+/**
+ * Number of searchable documents of each entity type, shared by all search contexts.
+ *
+ * <p>The counts are seeded from the search indices on first use and then kept current from the
+ * entities created and deleted through {@link com.linkedin.metadata.service.UpdateIndicesService}.
+ * Once they are older than {@code ttlSeconds} they are reconciled against the search indices in
+ * the background, which also picks up changes indexed by other instances. Soft deleted entities
+ * are not counted.
+ *
+ * <p>The counts are global, so they are always fetched with the system operation context rather
+ * than the context of the request which happens to trigger a reconciliation.
+ */
+@Slf4j
+public class EntityDocCountCache implements Closeable {
+  private final OperationContext systemOperationContext;
   private final EntityRegistry entityRegistry;
   private final EntitySearchService entitySearchService;
   private final EntityDocCountCacheConfiguration config;
-  private final Map<String, Supplier<Map<String, Long>>> entityDocCounts;
+  private final Map<String, AtomicLong> entityDocCounts;
+  private final AtomicBoolean reconciling = new AtomicBoolean(false);
+  private final ExecutorService reconciliationExecutor =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("entity-doc-count-reconciliation-%d")
+              .build());
+  // 0 until the counts are seeded
+  private volatile long lastReconciledMillis = 0;
 
   public EntityDocCountCache(
+      @Nonnull OperationContext systemOperationContext,
       EntityRegistry entityRegistry,
       EntitySearchService entitySearchService,
       EntityDocCountCacheConfiguration config) {
+    this.systemOperationContext = systemOperationContext;
     this.config = config;
     this.entityRegistry = entityRegistry;
     this.entitySearchService = entitySearchService;
     this.entityDocCounts = new ConcurrentHashMap<>();
   }
 
-  private Map<String, Long> fetchEntityDocCount(@Nonnull OperationContext opContext) {
+  private Map<String, Long> fetchEntityDocCount() {
+    final OperationContext countContext =
+        systemOperationContext.withSearchFlags(flags -> flags.setIncludeSoftDeleted(false));
     return ConcurrencyUtils.transformAndCollectAsync(
         entityRegistry.getEntitySpecs().keySet(),
         Function.identity(),
-        Collectors.toMap(Function.identity(), v -> entitySearchService.docCount(opContext, v)));
+        Collectors.toMap(
+            Function.identity(), v -> entitySearchService.docCount(countContext, v)));
   }
 
   @WithSpan
   public Map<String, Long> getEntityDocCount(@Nonnull OperationContext opContext) {
-    return entityDocCounts
-        .computeIfAbsent(opContext.getSearchContextId(), k -> buildSupplier(opContext))
-        .get();
+    if (lastReconciledMillis == 0) {
+      synchronized (this) {
+        if (lastReconciledMillis == 0) {
+          reconcile();
+        }
+      }
+    } else if (System.currentTimeMillis() - lastReconciledMillis
+            >= TimeUnit.SECONDS.toMillis(config.getTtlSeconds())
+        && reconciling.compareAndSet(false, true)) {
+      reconciliationExecutor.execute(
+          () -> {
+            try {
+              reconcile();
+            } catch (Exception e) {
+              log.error("Failed to reconcile the entity document counts", e);
+            } finally {
+              reconciling.set(false);
+            }
+          });
+    }
+    return entityDocCounts.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
   }
 
   public List<String> getNonEmptyEntities(@Nonnull OperationContext opContext) {
@@ -53,8 +107,40 @@ public class EntityDocCountCache {
         .collect(Collectors.toList());
   }
 
-  private Supplier<Map<String, Long>> buildSupplier(@Nonnull OperationContext opContext) {
-    return Suppliers.memoizeWithExpiration(
-        () -> fetchEntityDocCount(opContext), config.getTtlSeconds(), TimeUnit.SECONDS);
+  /** Counts an entity of the type which was created, or restored from a soft delete. */
+  public void increment(@Nonnull String entityName) {
+    adjust(entityName, 1);
+  }
+
+  /** Uncounts an entity of the type which was deleted, or soft deleted. */
+  public void decrement(@Nonnull String entityName) {
+    adjust(entityName, -1);
+  }
+
+  private void adjust(@Nonnull String entityName, long delta) {
+    // Before seeding, the change is counted by the seed itself
+    final AtomicLong count = entityDocCounts.get(entityName);
+    if (count != null) {
+      count.updateAndGet(value -> Math.max(0, value + delta));
+    }
+  }
+
+  @Override
+  public void close() {
+    reconciliationExecutor.shutdownNow();
+  }
+
+  /**
+   * Replaces the counts with the ones of the search indices. Changes applied while counting may be
+   * lost, until the next reconciliation.
+   */
+  @VisibleForTesting
+  void reconcile() {
+    fetchEntityDocCount()
+        .forEach(
+            (entityName, count) ->
+                entityDocCounts.computeIfAbsent(entityName, key -> new AtomicLong()).set(count));
+    lastReconciledMillis = System.currentTimeMillis();
+    MetricUtils.counter(this.getClass(), "reconcile").inc();
   }
 }
@@ -1,7 +1,6 @@
 package com.linkedin.metadata.search.client;
 
 import static com.datahub.util.RecordUtils.toJsonString;
-import static com.datahub.util.RecordUtils.toRecordTemplate;
 
 import com.codahale.metrics.Timer;
 import com.linkedin.metadata.browse.BrowseResult;
@@ -12,32 +11,73 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.cache.CacheValueCodec;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import org.javatuples.Septet;
 import org.javatuples.Sextet;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
-@RequiredArgsConstructor
 public class CachingEntitySearchService {
-  private static final String ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME = "entitySearchServiceSearch";
-  private static final String ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME =
+  public static final String ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME = "entitySearchServiceSearch";
+  public static final String ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME =
       "entitySearchServiceAutoComplete";
-  private static final String ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME = "entitySearchServiceBrowse";
+  public static final String ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME = "entitySearchServiceBrowse";
   public static final String ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME = "entitySearchServiceScroll";
+  // Sizes of the search batches fetched per query, lets deep pages skip the batches before them
+  public static final String ENTITY_SEARCH_SERVICE_SEARCH_BATCH_INDEX_CACHE_NAME =
+      "entitySearchServiceSearchBatchIndex";
 
   private final CacheManager cacheManager;
   private final EntitySearchService
       entitySearchService; // This is a shared component, also used in search aggregation
   private final int batchSize;
   private final boolean enableCache;
+  // Cache name to value codec, JSON when absent
+  private final Map<String, CacheValueCodec> cacheCodecs;
+  // Idle time after which the search cache drops a batch, the search batch index is not used when
+  // not positive
+  private final long searchCacheTtlSeconds;
+
+  public CachingEntitySearchService(
+      CacheManager cacheManager,
+      EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache) {
+    this(cacheManager, entitySearchService, batchSize, enableCache, Map.of());
+  }
+
+  public CachingEntitySearchService(
+      CacheManager cacheManager,
+      EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache,
+      @Nonnull Map<String, CacheValueCodec> cacheCodecs) {
+    this(cacheManager, entitySearchService, batchSize, enableCache, cacheCodecs, 0);
+  }
+
+  public CachingEntitySearchService(
+      CacheManager cacheManager,
+      EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache,
+      @Nonnull Map<String, CacheValueCodec> cacheCodecs,
+      long searchCacheTtlSeconds) {
+    this.cacheManager = cacheManager;
+    this.entitySearchService = entitySearchService;
+    this.batchSize = batchSize;
+    this.enableCache = enableCache;
+    this.cacheCodecs = cacheCodecs;
+    this.searchCacheTtlSeconds = searchCacheTtlSeconds;
+  }
 
   /**
    * Retrieves cached search results. If the query has been cached, this will return quickly. If
@@ -149,6 +189,11 @@ public class CachingEntitySearchService {
       int from,
       int size,
       @Nullable List<String> facets) {
+    // Null when the cache manager has no such cache, every batch before "from" is then read
+    final Cache batchIndexCache =
+        searchCacheTtlSeconds > 0
+            ? cacheManager.getCache(ENTITY_SEARCH_SERVICE_SEARCH_BATCH_INDEX_CACHE_NAME)
+            : null;
     return new CacheableSearcher<>(
             cacheManager.getCache(ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME),
             batchSize,
@@ -171,7 +216,10 @@ public class CachingEntitySearchService {
                     sortCriterion != null ? toJsonString(sortCriterion) : null,
                     facets,
                     querySize),
-            enableCache)
+            enableCache,
+            codec(ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME),
+            batchIndexCache,
+            TimeUnit.SECONDS.toMillis(searchCacheTtlSeconds))
         .getSearchResults(opContext, from, size);
   }
 
@@ -200,14 +248,13 @@ public class CachingEntitySearchService {
                   field,
                   filters != null ? toJsonString(filters) : null,
                   limit);
-          String json = cache.get(cacheKey, String.class);
-          result = json != null ? toRecordTemplate(AutoCompleteResult.class, json) : null;
+          result = CacheValueCodec.get(cache, cacheKey, AutoCompleteResult.class);
           cacheAccess.stop();
           if (result == null) {
             Timer.Context cacheMiss =
                 MetricUtils.timer(this.getClass(), "autocomplete_cache_miss").time();
             result = getRawAutoCompleteResults(opContext, entityName, input, field, filters, limit);
-            cache.put(cacheKey, toJsonString(result));
+            codec(ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME).put(cache, cacheKey, result);
             cacheMiss.stop();
             MetricUtils.counter(this.getClass(), "autocomplete_cache_miss_count").inc();
           }
@@ -244,14 +291,13 @@ public class CachingEntitySearchService {
                   filters != null ? toJsonString(filters) : null,
                   from,
                   size);
-          String json = cache.get(cacheKey, String.class);
-          result = json != null ? toRecordTemplate(BrowseResult.class, json) : null;
+          result = CacheValueCodec.get(cache, cacheKey, BrowseResult.class);
           cacheAccess.stop();
           if (result == null) {
             Timer.Context cacheMiss =
                 MetricUtils.timer(this.getClass(), "browse_cache_miss").time();
             result = getRawBrowseResults(opContext, entityName, path, filters, from, size);
-            cache.put(cacheKey, toJsonString(result));
+            codec(ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME).put(cache, cacheKey, result);
             cacheMiss.stop();
             MetricUtils.counter(this.getClass(), "browse_cache_miss_count").inc();
           }
@@ -294,8 +340,7 @@ public class CachingEntitySearchService {
                 sortCriterion != null ? toJsonString(sortCriterion) : null,
                 scrollId,
                 size);
-        String json = cache.get(cacheKey, String.class);
-        result = json != null ? toRecordTemplate(ScrollResult.class, json) : null;
+        result = CacheValueCodec.get(cache, cacheKey, ScrollResult.class);
         cacheAccess.stop();
         if (result == null) {
           Timer.Context cacheMiss = MetricUtils.timer(this.getClass(), "scroll_cache_miss").time();
@@ -310,7 +355,7 @@ public class CachingEntitySearchService {
                   keepAlive,
                   size,
                   isFullText);
-          cache.put(cacheKey, toJsonString(result));
+          codec(ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME).put(cache, cacheKey, result);
           cacheMiss.stop();
           MetricUtils.counter(this.getClass(), "scroll_cache_miss_count").inc();
         }
@@ -387,6 +432,11 @@ public class CachingEntitySearchService {
     }
   }
 
+  @Nonnull
+  private CacheValueCodec codec(@Nonnull String cacheName) {
+    return cacheCodecs.getOrDefault(cacheName, CacheValueCodec.JSON);
+  }
+
   /** Returns true if the cache should be used or skipped when fetching search results */
   private boolean enableCache(@Nullable final SearchFlags searchFlags) {
     return enableCache && (searchFlags == null || !searchFlags.isSkipCache());
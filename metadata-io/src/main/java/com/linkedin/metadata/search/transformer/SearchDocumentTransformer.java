@@ -19,10 +19,12 @@ import com.linkedin.metadata.aspect.AspectRetriever;
 import com.linkedin.metadata.aspect.validation.StructuredPropertiesValidator;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.LogicalValueType;
 import com.linkedin.metadata.models.SearchScoreFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
 import com.linkedin.metadata.models.annotation.SearchableAnnotation.FieldType;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.structured.StructuredProperties;
@@ -61,6 +63,9 @@ public class SearchDocumentTransformer {
 
   private static final String BROWSE_PATH_V2_DELIMITER = "␟";
 
+  private static final List<Class<? extends FieldSpec>> SEARCH_FIELD_SPEC_TYPES =
+      List.of(SearchableFieldSpec.class, SearchScoreFieldSpec.class);
+
   public Optional<String> transformSnapshot(
       final RecordTemplate snapshot, final EntitySpec entitySpec, final Boolean forDelete) {
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
@@ -110,10 +115,14 @@ public class SearchDocumentTransformer {
       final @Nonnull AspectSpec aspectSpec,
       final Boolean forDelete)
       throws RemoteInvocationException, URISyntaxException {
+    final FieldExtractionPlan.ExtractedValues extractedValues =
+        aspectSpec.getFieldExtractionPlan().extract(aspect, SEARCH_FIELD_SPEC_TYPES);
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
+        FieldExtractor.extractFields(
+            extractedValues, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
     final Map<SearchScoreFieldSpec, List<Object>> extractedSearchScoreFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength);
+        FieldExtractor.extractFields(
+            extractedValues, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength);
 
     Optional<ObjectNode> result = Optional.empty();
 
@@ -40,6 +40,7 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.search.utils.SearchUtils;
@@ -83,6 +84,7 @@ public class UpdateIndicesService implements SearchIndicesService {
 
   private AspectRetriever aspectRetriever;
   private EntityRegistry _entityRegistry;
+  @Nullable private EntityDocCountCache _entityDocCountCache;
 
   @Value("${featureFlags.graphServiceDiffModeEnabled:true}")
   private boolean _graphDiffMode;
@@ -104,6 +106,10 @@ public class UpdateIndicesService implements SearchIndicesService {
           ChangeType.RESTATE,
           ChangeType.PATCH);
 
+  // Restating an aspect does not create the entity, even without a previous value
+  private static final Set<ChangeType> CREATE_CHANGE_TYPES =
+      ImmutableSet.of(ChangeType.CREATE, ChangeType.CREATE_ENTITY, ChangeType.UPSERT);
+
   @VisibleForTesting
   public void setGraphDiffMode(boolean graphDiffMode) {
     _graphDiffMode = graphDiffMode;
@@ -114,6 +120,11 @@ public class UpdateIndicesService implements SearchIndicesService {
     _searchDiffMode = searchDiffMode;
   }
 
+  /** Keeps the entity document counts current with the entities created and deleted. */
+  public void setEntityDocCountCache(@Nullable EntityDocCountCache entityDocCountCache) {
+    _entityDocCountCache = entityDocCountCache;
+  }
+
   public UpdateIndicesService(
       GraphService graphService,
       EntitySearchService entitySearchService,
@@ -190,6 +201,7 @@ public class UpdateIndicesService implements SearchIndicesService {
 
     // Step 2. For all aspects, attempt to update Search
     updateSearchService(event);
+    updateEntityDocCount(event, aspect, previousAspect);
 
     // Step 3. For all aspects, attempt to update Graph
     SystemMetadata systemMetadata = event.getSystemMetadata();
@@ -273,10 +285,16 @@ public class UpdateIndicesService implements SearchIndicesService {
     Boolean isDeletingKey = event.getAspectName().equals(entitySpec.getKeyAspectName());
 
     if (!aspectSpec.isTimeseries()) {
+      // A soft deleted entity was already uncounted when its status flipped to removed
+      final boolean uncount =
+          isDeletingKey && _entityDocCountCache != null && !wasSoftDeleted(event);
       deleteSystemMetadata(urn, aspectSpec, isDeletingKey);
       deleteGraphData(urn, aspectSpec, aspect, isDeletingKey, event.getMetadataChangeLog());
       deleteSearchData(
           _entitySearchService, urn, entitySpec.getName(), aspectSpec, aspect, isDeletingKey);
+      if (uncount) {
+        _entityDocCountCache.decrement(entitySpec.getName());
+      }
     }
   }
 
@@ -399,7 +417,11 @@ public class UpdateIndicesService implements SearchIndicesService {
     }
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs());
+        FieldExtractor.extractFields(
+            aspectSpec
+                .getFieldExtractionPlan()
+                .extract(aspect, Collections.singletonList(RelationshipFieldSpec.class)),
+            aspectSpec.getRelationshipFieldSpecs());
 
     for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
       Set<String> relationshipTypes =
@@ -436,7 +458,7 @@ public class UpdateIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(_graphService::addEdge);
+      _graphService.addEdges(edgesToAdd);
     }
   }
 
@@ -478,19 +500,19 @@ public class UpdateIndicesService implements SearchIndicesService {
     // Remove any old edges that no longer exist first
     if (subtractiveDifference.size() > 0) {
       log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(_graphService::removeEdge);
+      _graphService.removeEdges(subtractiveDifference);
     }
 
     // Then add new edges
     if (additiveDifference.size() > 0) {
       log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(_graphService::addEdge);
+      _graphService.addEdges(additiveDifference);
     }
 
     // Then update existing edges
     if (mergedEdges.size() > 0) {
       log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(_graphService::upsertEdge);
+      _graphService.upsertEdges(mergedEdges);
     }
   }
 
@@ -586,6 +608,38 @@ public class UpdateIndicesService implements SearchIndicesService {
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId.get());
   }
 
+  /** Whether the entity was soft deleted before its key aspect was hard deleted. */
+  private static boolean wasSoftDeleted(@Nonnull MCLItem event) {
+    final SystemMetadata previousSystemMetadata =
+        event.getMetadataChangeLog().getPreviousSystemMetadata();
+    return previousSystemMetadata != null
+        && previousSystemMetadata.hasProperties()
+        && Boolean.parseBoolean(previousSystemMetadata.getProperties().get(SOFT_DELETED_KEY));
+  }
+
+  /** Counts the entities created, and the entities soft deleted or restored */
+  private void updateEntityDocCount(
+      MCLItem event, RecordTemplate aspect, @Nullable RecordTemplate previousAspect) {
+    if (_entityDocCountCache == null) {
+      return;
+    }
+    final String entityName = event.getEntitySpec().getName();
+    if (event.getAspectName().equals(event.getEntitySpec().getKeyAspectName())) {
+      if (previousAspect == null && CREATE_CHANGE_TYPES.contains(event.getChangeType())) {
+        _entityDocCountCache.increment(entityName);
+      }
+    } else if (STATUS_ASPECT_NAME.equals(event.getAspectName())) {
+      final boolean removed = new Status(aspect.data()).isRemoved();
+      final boolean previouslyRemoved =
+          previousAspect != null && new Status(previousAspect.data()).isRemoved();
+      if (removed && !previouslyRemoved) {
+        _entityDocCountCache.decrement(entityName);
+      } else if (!removed && previouslyRemoved) {
+        _entityDocCountCache.increment(entityName);
+      }
+    }
+  }
+
   /** Process snapshot and update time-series index */
   private void updateTimeseriesFields(
       String entityType,
@@ -16,8 +16,10 @@ import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
 import com.linkedin.metadata.models.TimeseriesFieldSpec;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
 import com.linkedin.mxe.SystemMetadata;
@@ -38,6 +40,9 @@ import org.apache.commons.codec.digest.DigestUtils;
 public class TimeseriesAspectTransformer {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+  private static final List<Class<? extends FieldSpec>> TIMESERIES_FIELD_SPEC_TYPES =
+      List.of(TimeseriesFieldSpec.class, TimeseriesFieldCollectionSpec.class);
+
   static {
     int maxSize =
         Integer.parseInt(
@@ -71,15 +76,17 @@ public class TimeseriesAspectTransformer {
           MappingsBuilder.SYSTEM_METADATA_FIELD,
           OBJECT_MAPPER.readTree(RecordUtils.toJsonString(systemMetadata)));
     }
+    final FieldExtractionPlan.ExtractedValues extractedValues =
+        aspectSpec.getFieldExtractionPlan().extract(timeseriesAspect, TIMESERIES_FIELD_SPEC_TYPES);
     final Map<TimeseriesFieldSpec, List<Object>> timeseriesFieldValueMap =
-        FieldExtractor.extractFields(timeseriesAspect, aspectSpec.getTimeseriesFieldSpecs());
+        FieldExtractor.extractFields(extractedValues, aspectSpec.getTimeseriesFieldSpecs());
     timeseriesFieldValueMap.forEach((k, v) -> setTimeseriesField(document, k, v));
     finalDocuments.put(getDocId(document, null), document);
 
     // Create new rows for the member collection fields.
     final Map<TimeseriesFieldCollectionSpec, List<Object>> timeseriesFieldCollectionValueMap =
         FieldExtractor.extractFields(
-            timeseriesAspect, aspectSpec.getTimeseriesFieldCollectionSpecs());
+            extractedValues, aspectSpec.getTimeseriesFieldCollectionSpecs());
     timeseriesFieldCollectionValueMap.forEach(
         (key, values) ->
             finalDocuments.putAll(
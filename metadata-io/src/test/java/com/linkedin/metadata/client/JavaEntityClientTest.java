@@ -3,20 +3,41 @@ package com.linkedin.metadata.client;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 import com.codahale.metrics.Counter;
+import com.datahub.authentication.Actor;
+import com.datahub.authentication.ActorType;
+import com.datahub.authentication.Authentication;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RequiredFieldNotPresentException;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.entity.DeleteEntityService;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.MCLEmissionException;
 import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.key.DatasetKey;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.service.RollbackService;
+import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.SystemMetadata;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
@@ -25,6 +46,12 @@ import org.testng.annotations.Test;
 
 public class JavaEntityClientTest {
 
+  private static final EntityRegistry ENTITY_REGISTRY =
+      new ConfigEntityRegistry(
+          Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+  private static final Authentication AUTHENTICATION =
+      new Authentication(new Actor(ActorType.USER, "datahub"), "");
+
   private EntityService _entityService;
   private DeleteEntityService _deleteEntityService;
   private EntitySearchService _entitySearchService;
@@ -53,6 +80,7 @@ public class JavaEntityClientTest {
     _counter = mock(Counter.class);
     when(MetricUtils.counter(any(), any())).thenReturn(_counter);
     opContext = mock(OperationContext.class);
+    when(_entityService.getEntityRegistry()).thenReturn(ENTITY_REGISTRY);
   }
 
   @AfterMethod
@@ -131,4 +159,79 @@ public class JavaEntityClientTest {
         () -> MetricUtils.counter(client.getClass(), "exception_" + e.getClass().getName()),
         times(1));
   }
+
+  @Test
+  void testIngestProposalBatchInOneBatch() {
+    JavaEntityClient client = getJavaEntityClient();
+    List<MetadataChangeProposal> proposals =
+        List.of(datasetProposal("first", false), datasetProposal("second", true));
+
+    Map<Integer, Exception> failures = client.ingestProposalBatch(proposals, AUTHENTICATION);
+
+    assertTrue(failures.isEmpty());
+    verify(_entityService, times(1)).ingestProposal(any(AspectsBatch.class), eq(false));
+    // The urn of the key only proposal is derived from its key aspect
+    verify(_entitySearchService).appendRunId("dataset", datasetUrn("first"), "run");
+    verify(_entitySearchService).appendRunId("dataset", datasetUrn("second"), "run");
+  }
+
+  @Test
+  void testIngestProposalBatchFallsBackWhenNotCommitted() {
+    JavaEntityClient client = getJavaEntityClient();
+    List<MetadataChangeProposal> proposals =
+        List.of(datasetProposal("first", false), datasetProposal("second", false));
+    RuntimeException failure = new RuntimeException("invalid");
+    when(_entityService.ingestProposal(any(AspectsBatch.class), eq(false)))
+        .thenThrow(new RuntimeException("rolled back"))
+        .thenReturn(Set.of())
+        .thenThrow(failure);
+
+    Map<Integer, Exception> failures = client.ingestProposalBatch(proposals, AUTHENTICATION);
+
+    assertEquals(failures, Map.of(1, failure));
+    verify(_entityService, times(3)).ingestProposal(any(AspectsBatch.class), eq(false));
+  }
+
+  @Test
+  void testIngestProposalBatchDoesNotRetryOnceCommitted() {
+    JavaEntityClient client = getJavaEntityClient();
+    List<MetadataChangeProposal> proposals =
+        List.of(datasetProposal("first", false), datasetProposal("second", false));
+    MCLEmissionException failure =
+        new MCLEmissionException("Failed to produce MCLs", List.of(proposals.get(1)), null);
+    when(_entityService.ingestProposal(any(AspectsBatch.class), eq(false))).thenThrow(failure);
+
+    Map<Integer, Exception> failures = client.ingestProposalBatch(proposals, AUTHENTICATION);
+
+    assertEquals(failures, Map.of(1, failure));
+    verify(_entityService, times(1)).ingestProposal(any(AspectsBatch.class), eq(false));
+    verify(_entitySearchService).appendRunId("dataset", datasetUrn("first"), "run");
+    verify(_entitySearchService, never())
+        .appendRunId("dataset", datasetUrn("second"), "run");
+  }
+
+  private static Urn datasetUrn(String name) {
+    return UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive," + name + ",PROD)");
+  }
+
+  private static MetadataChangeProposal datasetProposal(String name, boolean keyOnly) {
+    MetadataChangeProposal proposal =
+        new MetadataChangeProposal()
+            .setEntityType("dataset")
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName("datasetProperties")
+            .setAspect(GenericRecordUtils.serializeAspect(new DatasetProperties().setName(name)))
+            .setSystemMetadata(new SystemMetadata().setRunId("run"));
+    if (keyOnly) {
+      proposal.setEntityKeyAspect(
+          GenericRecordUtils.serializeAspect(
+              new DatasetKey()
+                  .setPlatform(UrnUtils.getUrn("urn:li:dataPlatform:hive"))
+                  .setName(name)
+                  .setOrigin(FabricType.PROD)));
+    } else {
+      proposal.setEntityUrn(datasetUrn(name));
+    }
+    return proposal;
+  }
 }
@@ -0,0 +1,125 @@
+package com.linkedin.metadata.entity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import io.ebean.Transaction;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CachingAspectDaoTest {
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT = "corpUserInfo";
+  private static final Map<String, Set<String>> URN_ASPECTS =
+      Map.of(URN, Set.of(ASPECT, "status"));
+
+  private AspectDao aspectDao;
+  private CachingAspectDao cachingAspectDao;
+
+  @BeforeMethod
+  public void setup() {
+    aspectDao = mock(AspectDao.class);
+    when(aspectDao.getLatestAspects(any()))
+        .thenAnswer(i -> Map.of(URN, Map.of(ASPECT, aspect("{}"))));
+    when(aspectDao.runInTransactionWithRetry(any(), anyInt()))
+        .thenAnswer(i -> ((Function<Transaction, ?>) i.getArgument(0)).apply(null));
+    cachingAspectDao = new CachingAspectDao(aspectDao, 100, 1024 * 1024, 300);
+  }
+
+  @Test
+  public void testLatestAspectsAreCached() {
+    Map<String, Map<String, EntityAspect>> first = cachingAspectDao.getLatestAspects(URN_ASPECTS);
+    Map<String, Map<String, EntityAspect>> second = cachingAspectDao.getLatestAspects(URN_ASPECTS);
+
+    assertEquals(second, first);
+    assertEquals(first.get(URN).keySet(), Set.of(ASPECT));
+    // The absent status aspect is cached too
+    verify(aspectDao, times(1)).getLatestAspects(any());
+    assertEquals(cachingAspectDao.size(), 2);
+    assertNull(cachingAspectDao.getLatestAspect(URN, "status"));
+    verify(aspectDao, times(1)).getLatestAspects(any());
+  }
+
+  @Test
+  public void testWriteInvalidates() {
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+
+    cachingAspectDao.runInTransactionWithRetry(
+        tx -> {
+          cachingAspectDao.saveAspect(tx, aspect("{\"title\":\"new\"}"), false);
+          // Reads within the transaction are not served from the cache
+          cachingAspectDao.getLatestAspects(URN_ASPECTS);
+          return null;
+        },
+        1);
+
+    assertEquals(cachingAspectDao.size(), 1);
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+    verify(aspectDao, times(3)).getLatestAspects(any());
+  }
+
+  @Test
+  public void testDeleteUrnInvalidatesAllAspects() {
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+    cachingAspectDao.getLatestAspects(Map.of("urn:li:corpuser:other", Set.of(ASPECT)));
+
+    cachingAspectDao.runInTransactionWithRetry(tx -> cachingAspectDao.deleteUrn(tx, URN), 1);
+
+    assertEquals(cachingAspectDao.size(), 1);
+  }
+
+  @Test
+  public void testInvalidationDuringReadIsNotOverwritten() {
+    when(aspectDao.getLatestAspects(any()))
+        .thenAnswer(
+            i -> {
+              // Another writer commits and invalidates while the read is in flight
+              cachingAspectDao.invalidate(URN, ASPECT);
+              return Map.of(URN, Map.of(ASPECT, aspect("{}")));
+            });
+
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+
+    assertEquals(cachingAspectDao.size(), 0);
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+    verify(aspectDao, times(2)).getLatestAspects(any());
+  }
+
+  @Test
+  public void testBypassCache() {
+    cachingAspectDao.getLatestAspects(URN_ASPECTS);
+    CachingAspectDao.bypassCache(() -> cachingAspectDao.getLatestAspects(URN_ASPECTS));
+
+    verify(aspectDao, times(2)).getLatestAspects(any());
+  }
+
+  @Test
+  public void testBatchGetServesLatestVersionsFromCache() {
+    EntityAspectIdentifier latest = new EntityAspectIdentifier(URN, ASPECT, 0);
+    EntityAspectIdentifier previous = new EntityAspectIdentifier(URN, ASPECT, 1);
+    when(aspectDao.batchGet(Set.of(previous))).thenReturn(Map.of());
+
+    cachingAspectDao.batchGet(Set.of(latest, previous));
+    Map<EntityAspectIdentifier, EntityAspect> result =
+        cachingAspectDao.batchGet(Set.of(latest, previous));
+
+    assertEquals(result.keySet(), Set.of(latest));
+    verify(aspectDao, times(1)).getLatestAspects(any());
+    verify(aspectDao, times(2)).batchGet(Set.of(previous));
+  }
+
+  private static EntityAspect aspect(String metadata) {
+    return new EntityAspect(
+        URN, ASPECT, 0, metadata, "{}", new Timestamp(0), "urn:li:corpuser:actor", null);
+  }
+}
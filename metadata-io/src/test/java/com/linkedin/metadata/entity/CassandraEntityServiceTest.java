@@ -19,11 +19,13 @@ import com.linkedin.metadata.models.registry.EntityRegistryException;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ListUrnsResult;
 import com.linkedin.metadata.service.UpdateIndicesService;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.testcontainers.containers.CassandraContainer;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -202,6 +204,48 @@ public class CassandraEntityServiceTest
     }
   }
 
+  @Test
+  public void testBatchedTransactionWrites() {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final String actor = "urn:li:corpuser:tester";
+    final List<String> urns = List.of("urn:li:corpuser:batched1", "urn:li:corpuser:batched2");
+    // Already present, so the conditional insert of the same row below is not applied
+    _aspectDao.saveAspect(
+        null, urns.get(0), "corpUserInfo", "{\"v\":0}", actor, null, now, "{}", 0, true);
+
+    _aspectDao.runInTransactionWithRetry(
+        tx -> {
+          for (String urn : urns) {
+            _aspectDao.saveAspect(
+                tx, urn, "corpUserInfo", "{\"v\":1}", actor, null, now, "{}", 0, true);
+            _aspectDao.saveAspect(
+                tx, urn, "corpUserKey", "{\"v\":1}", actor, null, now, "{}", 0, true);
+          }
+          return null;
+        },
+        0);
+
+    final Set<EntityAspectIdentifier> keys =
+        urns.stream()
+            .flatMap(
+                urn ->
+                    Stream.of(
+                        new EntityAspectIdentifier(urn, "corpUserInfo", 0),
+                        new EntityAspectIdentifier(urn, "corpUserKey", 0)))
+            .collect(Collectors.toSet());
+    final Map<EntityAspectIdentifier, EntityAspect> aspects = _aspectDao.batchGet(keys);
+    assertEquals(aspects.keySet(), keys);
+    assertEquals(
+        aspects.get(new EntityAspectIdentifier(urns.get(0), "corpUserInfo", 0)).getMetadata(),
+        "{\"v\":0}");
+    assertEquals(
+        aspects.get(new EntityAspectIdentifier(urns.get(0), "corpUserKey", 0)).getMetadata(),
+        "{\"v\":1}");
+    assertEquals(
+        aspects.get(new EntityAspectIdentifier(urns.get(1), "corpUserInfo", 0)).getMetadata(),
+        "{\"v\":1}");
+  }
+
   @Override
   @Test
   public void testNestedTransactions() {
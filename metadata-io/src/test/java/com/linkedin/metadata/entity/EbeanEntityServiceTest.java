@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity;
 
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 import com.linkedin.common.AuditStamp;
@@ -232,6 +233,104 @@ public class EbeanEntityServiceTest
     assertEquals(entityUrn3.toString(), batch2.getEntities().get(0).toString());
   }
 
+  @Test
+  public void testParallelBatchGet() throws AssertionError {
+    EbeanAspectDao parallelAspectDao =
+        new EbeanAspectDao(
+            _aspectDao.getServer(),
+            EbeanConfiguration.builder()
+                .locking(EbeanConfiguration.LockingConfiguration.testDefault)
+                .batchGet(
+                    EbeanConfiguration.BatchGetConfiguration.builder()
+                        .parallelEnabled(true)
+                        .maxThreads(4)
+                        .build())
+                .build());
+    // Force several pages
+    parallelAspectDao.setQueryKeysCount(2);
+
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    List<ChangeItemImpl> items =
+        IntStream.range(0, 7)
+            .mapToObj(
+                i ->
+                    ChangeItemImpl.builder()
+                        .urn(UrnUtils.getUrn("urn:li:corpuser:parallel" + i))
+                        .aspectName(aspectName)
+                        .recordTemplate(
+                            AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com"))
+                        .systemMetadata(AspectGenerationUtils.createSystemMetadata())
+                        .auditStamp(TEST_AUDIT_STAMP)
+                        .build(_entityServiceImpl))
+            .collect(Collectors.toList());
+    _entityServiceImpl.ingestAspects(
+        AspectsBatchImpl.builder().aspectRetriever(_entityServiceImpl).items(items).build(),
+        true,
+        true);
+
+    // Includes a key which does not exist
+    Set<EntityAspectIdentifier> keys =
+        IntStream.range(0, 8)
+            .mapToObj(
+                i -> new EntityAspectIdentifier("urn:li:corpuser:parallel" + i, aspectName, 0))
+            .collect(Collectors.toSet());
+    Map<EntityAspectIdentifier, EntityAspect> expected = _aspectDao.batchGet(keys);
+    assertEquals(expected.size(), 7);
+    assertEquals(parallelAspectDao.batchGet(keys), expected);
+
+    Map<String, Set<String>> urnAspects =
+        keys.stream()
+            .collect(
+                Collectors.toMap(EntityAspectIdentifier::getUrn, key -> Set.of(key.getAspect())));
+    assertEquals(
+        parallelAspectDao.getLatestAspects(urnAspects), _aspectDao.getLatestAspects(urnAspects));
+  }
+
+  @Test
+  public void testDeleteUrnReadsKeyFromStorage() throws AssertionError {
+    CachingAspectDao cachingAspectDao = new CachingAspectDao(_aspectDao, 100, 1024 * 1024, 300);
+    PreProcessHooks preProcessHooks = new PreProcessHooks();
+    preProcessHooks.setUiEnabled(true);
+    EntityServiceImpl cachingEntityService =
+        new EntityServiceImpl(
+            cachingAspectDao, _mockProducer, _testEntityRegistry, false, preProcessHooks, true);
+    cachingEntityService.setUpdateIndicesService(_mockUpdateIndicesService);
+    cachingEntityService.setRetentionService(_retentionService);
+
+    // The entity does not exist yet, its key is cached as absent
+    Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:cached");
+    assertNull(
+        cachingAspectDao.getLatestAspect(
+            entityUrn.toString(), Constants.CORP_USER_KEY_ASPECT_NAME));
+    assertEquals(cachingAspectDao.size(), 1);
+
+    // Another instance creates the entity
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    _entityServiceImpl.ingestAspects(
+        AspectsBatchImpl.builder()
+            .aspectRetriever(_entityServiceImpl)
+            .items(
+                List.of(
+                    ChangeItemImpl.builder()
+                        .urn(entityUrn)
+                        .aspectName(aspectName)
+                        .recordTemplate(AspectGenerationUtils.createCorpUserInfo("email@test.com"))
+                        .systemMetadata(AspectGenerationUtils.createSystemMetadata())
+                        .auditStamp(TEST_AUDIT_STAMP)
+                        .build(_entityServiceImpl)))
+            .build(),
+        true,
+        true);
+
+    // The delete does not trust the cached absent key
+    RollbackRunResult result = cachingEntityService.deleteUrn(entityUrn);
+
+    assertEquals(result.getRowsRolledBack().size(), 1);
+    assertNull(
+        _aspectDao.getLatestAspect(entityUrn.toString(), Constants.CORP_USER_KEY_ASPECT_NAME));
+    assertNull(_aspectDao.getLatestAspect(entityUrn.toString(), aspectName));
+  }
+
   @Override
   @Test
   public void testNestedTransactions() throws AssertionError {
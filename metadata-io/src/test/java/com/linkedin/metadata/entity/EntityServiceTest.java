@@ -45,6 +45,7 @@ import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.entity.ebean.batch.ChangeItemImpl;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.entity.validation.ValidationException;
 import com.linkedin.metadata.entity.validation.ValidationUtils;
 import com.linkedin.metadata.event.EventProducer;
@@ -491,6 +492,39 @@ public abstract class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
     verifyNoMoreInteractions(_mockProducer);
   }
 
+  @Test
+  public void testGetLatestAspectsAndNextVersions() throws Exception {
+    Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test");
+    SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata();
+
+    Status writeAspect1 = new Status().setRemoved(false);
+    String aspectName1 = AspectGenerationUtils.getAspectName(writeAspect1);
+    _entityServiceImpl.ingestAspects(
+        entityUrn,
+        List.of(getAspectRecordPair(writeAspect1, Status.class)),
+        TEST_AUDIT_STAMP,
+        metadata1);
+    Status writeAspect2 = new Status().setRemoved(true);
+    _entityServiceImpl.ingestAspects(
+        entityUrn,
+        List.of(getAspectRecordPair(writeAspect2, Status.class)),
+        TEST_AUDIT_STAMP,
+        metadata1);
+
+    Map<String, Set<String>> urnAspects =
+        Map.of(entityUrn.toString(), Set.of(aspectName1, "corpUserInfo"));
+    Pair<Map<String, Map<String, EntityAspect>>, Map<String, Map<String, Long>>> combined =
+        _aspectDao.getLatestAspectsAndNextVersions(urnAspects);
+
+    assertEquals(combined.getFirst(), _aspectDao.getLatestAspects(urnAspects));
+    assertEquals(combined.getSecond(), _aspectDao.getNextVersions(urnAspects));
+    assertEquals(
+        combined.getFirst().get(entityUrn.toString()).get(aspectName1).getVersion(),
+        ASPECT_LATEST_VERSION);
+    assertEquals(combined.getSecond().get(entityUrn.toString()).get(aspectName1), 2L);
+    assertEquals(combined.getSecond().get(entityUrn.toString()).get("corpUserInfo"), 0L);
+  }
+
   @Test
   public void testReingestAspectsGetLatestAspects() throws Exception {
 
@@ -1599,6 +1633,49 @@ public abstract class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
     }
   }
 
+  @Test
+  public void testRestoreIndicesDirect() throws Exception {
+    if (this instanceof EbeanEntityServiceTest) {
+      String urnStr = "urn:li:dataset:(urn:li:dataPlatform:looker,sample_dataset_direct,PROD)";
+      Urn entityUrn = UrnUtils.getUrn(urnStr);
+      List<Pair<String, RecordTemplate>> pairToIngest = new ArrayList<>();
+
+      final UpstreamLineage upstreamLineage = AspectGenerationUtils.createUpstreamLineage();
+      pairToIngest.add(getAspectRecordPair(upstreamLineage, UpstreamLineage.class));
+
+      SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata();
+
+      _entityServiceImpl.ingestAspects(entityUrn, pairToIngest, TEST_AUDIT_STAMP, metadata1);
+
+      clearInvocations(_mockProducer, _mockUpdateIndicesService);
+
+      RestoreIndicesArgs args = new RestoreIndicesArgs();
+      args.aspectName(UPSTREAM_LINEAGE_ASPECT_NAME);
+      args.batchSize(1);
+      args.start(0);
+      args.batchDelayMs(1L);
+      args.urn(urnStr);
+      args.direct(true);
+      args.indexingThreads(2);
+      List<RestoreIndicesResult> results =
+          _entityServiceImpl.streamRestoreIndices(args, obj -> {}).collect(Collectors.toList());
+
+      assertEquals(results.get(0).rowsMigrated, 1);
+      assertEquals(results.get(0).lastUrn, urnStr);
+      // The key aspect already exists, nothing is written and nothing is sent to Kafka
+      assertEquals(results.get(0).defaultAspectsCreated, 0);
+      verifyNoMoreInteractions(_mockProducer);
+
+      ArgumentCaptor<MetadataChangeLog> mclCaptor =
+          ArgumentCaptor.forClass(MetadataChangeLog.class);
+      verify(_mockUpdateIndicesService, times(1)).handleChangeEvent(mclCaptor.capture());
+      MetadataChangeLog mcl = mclCaptor.getValue();
+      assertEquals(mcl.getEntityUrn(), entityUrn);
+      assertEquals(mcl.getChangeType(), ChangeType.RESTATE);
+      assertEquals(mcl.getSystemMetadata().getProperties().get(FORCE_INDEXING_KEY), "true");
+    }
+  }
+
   @Test
   public void testValidateUrn() throws Exception {
     // Valid URN
@@ -8,7 +8,10 @@ import com.linkedin.metadata.TestEntitySpecBuilder;
 import com.linkedin.metadata.TestEntityUtil;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
+import com.linkedin.metadata.models.SearchScoreFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
 import java.util.List;
 import java.util.Map;
@@ -104,4 +107,48 @@ public class FieldExtractorTest {
         ImmutableList.of(),
         "Expected no matching values because of value limit of 1");
   }
+
+  @Test
+  public void testExtractionPlanMatchesExtractor() {
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    AspectSpec testEntityInfoSpec = testEntitySpec.getAspectSpec("testEntityInfo");
+    TestEntityInfo testEntityInfo =
+        TestEntityUtil.getTestEntityInfo(TestEntityUtil.getTestEntityUrn());
+
+    FieldExtractionPlan.ExtractedValues extractedValues =
+        testEntityInfoSpec
+            .getFieldExtractionPlan()
+            .extract(
+                testEntityInfo,
+                List.of(
+                    SearchableFieldSpec.class,
+                    SearchScoreFieldSpec.class,
+                    RelationshipFieldSpec.class));
+
+    assertEquals(
+        FieldExtractor.extractFields(
+            extractedValues, testEntityInfoSpec.getSearchableFieldSpecs(), 1),
+        FieldExtractor.extractFields(
+            testEntityInfo, testEntityInfoSpec.getSearchableFieldSpecs(), 1));
+    assertEquals(
+        FieldExtractor.extractFields(
+            extractedValues, testEntityInfoSpec.getSearchScoreFieldSpecs()),
+        FieldExtractor.extractFields(
+            testEntityInfo, testEntityInfoSpec.getSearchScoreFieldSpecs()));
+    assertEquals(
+        FieldExtractor.extractFields(
+            extractedValues, testEntityInfoSpec.getRelationshipFieldSpecs()),
+        FieldExtractor.extractFields(
+            testEntityInfo, testEntityInfoSpec.getRelationshipFieldSpecs()));
+
+    // Empty aspect
+    TestEntityInfo emptyInfo = new TestEntityInfo();
+    assertEquals(
+        FieldExtractor.extractFields(
+            testEntityInfoSpec
+                .getFieldExtractionPlan()
+                .extract(emptyInfo, List.of(SearchableFieldSpec.class)),
+            testEntityInfoSpec.getSearchableFieldSpecs()),
+        FieldExtractor.extractFields(emptyInfo, testEntityInfoSpec.getSearchableFieldSpecs()));
+  }
 }
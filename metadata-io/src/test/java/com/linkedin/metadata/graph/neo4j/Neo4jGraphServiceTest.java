@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -365,6 +366,56 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
         Set.of(new UrnArray(dataset1Urn, dataJobOneUrn)));
   }
 
+  @Test
+  public void testBatchedEdgeWrites() {
+    GraphService service =
+        new Neo4jGraphService(
+            new LineageRegistry(SnapshotEntityRegistry.getInstance()),
+            _driver,
+            SessionConfig.defaultConfig(),
+            2);
+
+    List<Edge> edges =
+        Arrays.asList(
+            // d1 <-Consumes- dj1 -Produces-> d2 <-DownstreamOf- d3 <-DownstreamOf- d4
+            new Edge(dataJobOneUrn, dataset1Urn, consumes, 1L, null, 3L, null, null),
+            new Edge(dataJobOneUrn, dataset2Urn, produces, 5L, null, 7L, null, null),
+            new Edge(dataset3Urn, dataset2Urn, downstreamOf, 9L, null, null, null, null),
+            new Edge(dataset4Urn, dataset3Urn, downstreamOf, 11L, null, null, null, null));
+    service.addEdges(edges);
+
+    EntityLineageResult upstreamLineage =
+        service.getLineage(dataset4Urn, LineageDirection.UPSTREAM, 0, 1000, 4);
+    assertEquals(
+        getPathUrnArraysFromLineageResult(upstreamLineage),
+        Set.of(
+            new UrnArray(dataset4Urn, dataset3Urn),
+            new UrnArray(dataset4Urn, dataset3Urn, dataset2Urn),
+            new UrnArray(dataset4Urn, dataset3Urn, dataset2Urn, dataJobOneUrn),
+            new UrnArray(dataset4Urn, dataset3Urn, dataset2Urn, dataJobOneUrn, dataset1Urn)));
+
+    // The time filtering relies on the properties of the reverse relationships
+    EntityLineageResult upstreamLineageTimeFilter =
+        service.getLineage(
+            dataset2Urn,
+            LineageDirection.UPSTREAM,
+            0,
+            1000,
+            4,
+            new LineageFlags().setStartTimeMillis(2L).setEndTimeMillis(6L));
+    assertEquals(
+        getPathUrnArraysFromLineageResult(upstreamLineageTimeFilter),
+        Set.of(
+            new UrnArray(dataset2Urn, dataJobOneUrn),
+            new UrnArray(dataset2Urn, dataJobOneUrn, dataset1Urn)));
+
+    service.removeEdges(edges.subList(2, 4));
+    assertEquals(
+        service.getLineage(dataset4Urn, LineageDirection.UPSTREAM, 0, 1000, 4).getTotal(), 0);
+    assertEquals(
+        service.getLineage(dataset2Urn, LineageDirection.UPSTREAM, 0, 1000, 4).getTotal(), 2);
+  }
+
   @Test
   public void testGetLineageTimeFilteringSkipsShorterButNonMatchingPaths() {
     GraphService service = getGraphService();
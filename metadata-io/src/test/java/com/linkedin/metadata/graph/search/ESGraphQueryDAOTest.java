@@ -1,5 +1,13 @@
 package com.linkedin.metadata.graph.search;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Resources;
 import com.linkedin.common.UrnArray;
@@ -9,17 +17,29 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.config.search.GraphQueryConfiguration;
 import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
 import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.query.LineageFlags;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -244,4 +264,153 @@ public class ESGraphQueryDAOTest {
                 new UrnArray(ImmutableList.of(testParent, testChild))));
     Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
   }
+
+  @Test
+  public void testGetLineageEarlyTermination() throws Exception {
+    Urn root = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,root,PROD)");
+    Urn child = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,child,PROD)");
+    Urn grandChild = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,grandChild,PROD)");
+
+    LineageRegistry lineageRegistry = mock(LineageRegistry.class);
+    when(lineageRegistry.getLineageRelationships(
+            Constants.DATASET_ENTITY_NAME, LineageDirection.DOWNSTREAM))
+        .thenReturn(
+            List.of(
+                new LineageRegistry.EdgeInfo(
+                    "DownstreamOf",
+                    RelationshipDirection.INCOMING,
+                    Constants.DATASET_ENTITY_NAME)));
+    RestHighLevelClient client = mock(RestHighLevelClient.class);
+    when(client.search(any(), eq(RequestOptions.DEFAULT)))
+        .thenReturn(
+            downstreamOfResponse(child, root),
+            downstreamOfResponse(grandChild, child),
+            downstreamOfResponse(null, null));
+
+    GraphQueryConfiguration config = new GraphQueryConfiguration();
+    config.setBatchSize(1000);
+    config.setTimeoutSeconds(10);
+    config.setMaxResult(100);
+    config.setQueryThreads(2);
+    ESGraphQueryDAO graphQueryDAO =
+        new ESGraphQueryDAO(client, lineageRegistry, new IndexConventionImpl(null), config);
+
+    // The full walk reaches the grand child
+    ESGraphQueryDAO.LineageResponse response =
+        graphQueryDAO.getLineage(
+            root, LineageDirection.DOWNSTREAM, GraphFilters.emptyGraphFilters, 0, 1, 3, null);
+    Assert.assertEquals(response.getTotal(), 2);
+    Assert.assertEquals(response.getLineageRelationships().size(), 1);
+    verify(client, times(3)).search(any(), eq(RequestOptions.DEFAULT));
+
+    // With early termination the walk stops once the requested page is found
+    config.setEarlyTermination(true);
+    reset(client);
+    when(client.search(any(), eq(RequestOptions.DEFAULT)))
+        .thenReturn(downstreamOfResponse(child, root));
+    response =
+        graphQueryDAO.getLineage(
+            root, LineageDirection.DOWNSTREAM, GraphFilters.emptyGraphFilters, 0, 1, 3, null);
+    Assert.assertEquals(response.getTotal(), 1);
+    Assert.assertEquals(response.getLineageRelationships().get(0).getEntity(), child);
+    verify(client, times(1)).search(any(), eq(RequestOptions.DEFAULT));
+  }
+
+  @Test
+  public void testGetLineageEarlyTerminationWithinHop() throws Exception {
+    Urn root = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,root,PROD)");
+    Urn child1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,child1,PROD)");
+    Urn child2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,child2,PROD)");
+    Urn grandChild1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,grandChild1,PROD)");
+    Urn grandChild2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,grandChild2,PROD)");
+    Map<Urn, SearchResponse> responses =
+        Map.of(
+            root, downstreamsResponse(root, child1, child2),
+            child1, downstreamsResponse(child1, grandChild1),
+            child2, downstreamsResponse(child2, grandChild2));
+
+    LineageRegistry lineageRegistry = mock(LineageRegistry.class);
+    when(lineageRegistry.getLineageRelationships(
+            Constants.DATASET_ENTITY_NAME, LineageDirection.DOWNSTREAM))
+        .thenReturn(
+            List.of(
+                new LineageRegistry.EdgeInfo(
+                    "DownstreamOf",
+                    RelationshipDirection.INCOMING,
+                    Constants.DATASET_ENTITY_NAME)));
+    // Each search is for a single urn, answered with its downstreams
+    List<Urn> searchedUrns = Collections.synchronizedList(new ArrayList<>());
+    RestHighLevelClient client = mock(RestHighLevelClient.class);
+    when(client.search(any(), eq(RequestOptions.DEFAULT)))
+        .thenAnswer(
+            invocation -> {
+              String query = invocation.<SearchRequest>getArgument(0).source().toString();
+              Urn searchedUrn =
+                  Stream.of(root, child1, child2, grandChild1, grandChild2)
+                      .filter(urn -> query.contains(urn.toString()))
+                      .findFirst()
+                      .orElseThrow();
+              searchedUrns.add(searchedUrn);
+              return responses.getOrDefault(searchedUrn, downstreamsResponse(searchedUrn));
+            });
+
+    GraphQueryConfiguration config = new GraphQueryConfiguration();
+    config.setBatchSize(1);
+    config.setTimeoutSeconds(10);
+    config.setMaxResult(100);
+    config.setQueryThreads(1);
+    ESGraphQueryDAO graphQueryDAO =
+        new ESGraphQueryDAO(client, lineageRegistry, new IndexConventionImpl(null), config);
+
+    ESGraphQueryDAO.LineageResponse fullResponse =
+        graphQueryDAO.getLineage(
+            root, LineageDirection.DOWNSTREAM, GraphFilters.emptyGraphFilters, 0, 3, 3, null);
+    Assert.assertEquals(fullResponse.getTotal(), 4);
+    Assert.assertTrue(searchedUrns.contains(grandChild1));
+
+    // The second hop stops after the search of child1, the third hop is skipped
+    config.setEarlyTermination(true);
+    searchedUrns.clear();
+    ESGraphQueryDAO.LineageResponse response =
+        graphQueryDAO.getLineage(
+            root, LineageDirection.DOWNSTREAM, GraphFilters.emptyGraphFilters, 0, 3, 3, null);
+    Assert.assertEquals(response.getTotal(), 3);
+    Assert.assertEquals(
+        response.getLineageRelationships().stream()
+            .map(LineageRelationship::getEntity)
+            .collect(Collectors.toList()),
+        fullResponse.getLineageRelationships().stream()
+            .map(LineageRelationship::getEntity)
+            .collect(Collectors.toList()));
+    Assert.assertFalse(searchedUrns.contains(grandChild1));
+    Assert.assertFalse(searchedUrns.contains(grandChild2));
+
+    graphQueryDAO.close();
+  }
+
+  private static SearchResponse downstreamOfResponse(Urn source, Urn destination) {
+    return source == null
+        ? downstreamsResponse(destination)
+        : downstreamsResponse(destination, source);
+  }
+
+  // The response of a downstream search for the destination, finding the sources
+  private static SearchResponse downstreamsResponse(Urn destination, Urn... sources) {
+    SearchHit[] hits = new SearchHit[sources.length];
+    for (int i = 0; i < sources.length; i++) {
+      SearchHit hit = mock(SearchHit.class);
+      when(hit.getSourceAsMap())
+          .thenReturn(
+              Map.of(
+                  "source", Map.of("urn", sources[i].toString()),
+                  "destination", Map.of("urn", destination.toString()),
+                  "relationshipType", "DownstreamOf"));
+      hits[i] = hit;
+    }
+    SearchHits searchHits = mock(SearchHits.class);
+    when(searchHits.getHits()).thenReturn(hits);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    return searchResponse;
+  }
 }
@@ -0,0 +1,180 @@
+package com.linkedin.metadata.graph.search;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
+import com.linkedin.metadata.graph.elastic.LineageAdjacencyIndex;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.query.LineageFlags;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.query.filter.RelationshipFilter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class LineageAdjacencyIndexTest {
+  private static final String DOWNSTREAM_OF = "DownstreamOf";
+  private static final GraphFilters DATASETS =
+      new GraphFilters(List.of(Constants.DATASET_ENTITY_NAME));
+
+  private final Urn root = dataset("root");
+  private final Urn child = dataset("child");
+  private final Urn grandChild = dataset("grandChild");
+
+  private LineageAdjacencyIndex lineageIndex;
+  private ESGraphQueryDAO graphQueryDAO;
+
+  @BeforeMethod
+  public void setup() {
+    LineageRegistry lineageRegistry = mock(LineageRegistry.class);
+    when(lineageRegistry.getLineageRelationshipTypes()).thenReturn(Set.of(DOWNSTREAM_OF));
+    when(lineageRegistry.getLineageRelationships(
+            Constants.DATASET_ENTITY_NAME, LineageDirection.DOWNSTREAM))
+        .thenReturn(
+            List.of(
+                new LineageRegistry.EdgeInfo(
+                    DOWNSTREAM_OF,
+                    RelationshipDirection.INCOMING,
+                    Constants.DATASET_ENTITY_NAME)));
+    when(lineageRegistry.getLineageRelationships(
+            Constants.DATASET_ENTITY_NAME, LineageDirection.UPSTREAM))
+        .thenReturn(
+            List.of(
+                new LineageRegistry.EdgeInfo(
+                    DOWNSTREAM_OF,
+                    RelationshipDirection.OUTGOING,
+                    Constants.DATASET_ENTITY_NAME)));
+
+    GraphQueryConfiguration config = new GraphQueryConfiguration();
+    config.setBatchSize(1000);
+    config.setTimeoutSeconds(10);
+    config.setMaxResult(100);
+    lineageIndex = new LineageAdjacencyIndex(lineageRegistry, config.getLineageIndex());
+    // Without a search client, every lineage search must be answered by the index
+    graphQueryDAO = new ESGraphQueryDAO(null, lineageRegistry, null, config, lineageIndex);
+
+    lineageIndex.rebuild(
+        consumer -> {
+          consumer.accept(downstreamOf(child, root, 10L));
+          consumer.accept(downstreamOf(grandChild, child, 20L));
+          // Not a lineage edge
+          Urn owner = UrnUtils.getUrn("urn:li:corpuser:owner");
+          consumer.accept(new Edge(root, owner, "OwnedBy", 0L, null, 0L, null, null));
+        });
+  }
+
+  @Test
+  public void testLineageFromIndex() {
+    assertTrue(lineageIndex.isReady());
+    assertEquals(lineageIndex.getEdgeCount(), 2);
+
+    Map<Urn, Integer> downstreams = lineage(root, LineageDirection.DOWNSTREAM, null);
+    assertEquals(downstreams, Map.of(child, 1, grandChild, 2));
+    Map<Urn, Integer> upstreams = lineage(grandChild, LineageDirection.UPSTREAM, null);
+    assertEquals(upstreams, Map.of(child, 1, root, 2));
+
+    // Only the edges updated within the time window are followed
+    LineageFlags lineageFlags = new LineageFlags().setStartTimeMillis(0L).setEndTimeMillis(15L);
+    assertEquals(lineage(root, LineageDirection.DOWNSTREAM, lineageFlags), Map.of(child, 1));
+  }
+
+  @Test
+  public void testWritesUpdateIndex() {
+    Urn greatGrandChild = dataset("greatGrandChild");
+    lineageIndex.upsertEdge(downstreamOf(greatGrandChild, grandChild, 30L));
+    // Upserting an existing edge does not add another one
+    lineageIndex.upsertEdge(downstreamOf(greatGrandChild, grandChild, 40L));
+    assertEquals(lineageIndex.getEdgeCount(), 3);
+    assertEquals(
+        lineage(root, LineageDirection.DOWNSTREAM, null),
+        Map.of(child, 1, grandChild, 2, greatGrandChild, 3));
+
+    lineageIndex.removeEdge(downstreamOf(grandChild, child, 20L));
+    assertEquals(lineage(root, LineageDirection.DOWNSTREAM, null), Map.of(child, 1));
+
+    lineageIndex.removeNode(child);
+    assertEquals(lineageIndex.getEdgeCount(), 1);
+    assertEquals(lineage(root, LineageDirection.DOWNSTREAM, null), Map.of());
+
+    lineageIndex.removeEdgesFromNode(
+        greatGrandChild,
+        List.of(DOWNSTREAM_OF),
+        new RelationshipFilter().setDirection(RelationshipDirection.OUTGOING));
+    assertEquals(lineageIndex.getEdgeCount(), 0);
+  }
+
+  @Test
+  public void testCompactionReclaimsNodes() {
+    final int count = 5000;
+    for (int i = 0; i < count; i++) {
+      lineageIndex.upsertEdge(downstreamOf(dataset("leaf" + i), grandChild, 30L));
+    }
+    assertEquals(lineageIndex.getNodeCount(), count + 3);
+
+    // Removing enough edges compacts the index, dropping the urns no edge refers to
+    for (int i = 0; i < count; i++) {
+      lineageIndex.removeNode(dataset("leaf" + i));
+    }
+    assertTrue(lineageIndex.getNodeCount() < count);
+    assertEquals(lineageIndex.getEdgeCount(), 2);
+    assertEquals(
+        lineage(root, LineageDirection.DOWNSTREAM, null), Map.of(child, 1, grandChild, 2));
+
+    // Urns are mapped to ids again when they are written again
+    lineageIndex.upsertEdge(downstreamOf(dataset("leaf0"), grandChild, 30L));
+    assertEquals(
+        lineage(root, LineageDirection.DOWNSTREAM, null),
+        Map.of(child, 1, grandChild, 2, dataset("leaf0"), 3));
+  }
+
+  @Test
+  public void testUnsupportedWriteMakesIndexStale() {
+    lineageIndex.removeEdgesFromNode(
+        child,
+        List.of(DOWNSTREAM_OF),
+        new RelationshipFilter()
+            .setDirection(RelationshipDirection.OUTGOING)
+            .setOr(new ConjunctiveCriterionArray(List.of(new ConjunctiveCriterion()))));
+    assertFalse(lineageIndex.isReady());
+
+    lineageIndex.rebuild(consumer -> consumer.accept(downstreamOf(child, root, 10L)));
+    assertTrue(lineageIndex.isReady());
+    assertEquals(lineage(root, LineageDirection.DOWNSTREAM, null), Map.of(child, 1));
+  }
+
+  private Map<Urn, Integer> lineage(
+      Urn urn, LineageDirection direction, LineageFlags lineageFlags) {
+    return graphQueryDAO
+        .getLineage(urn, direction, DATASETS, 0, 100, 5, lineageFlags)
+        .getLineageRelationships()
+        .stream()
+        .collect(
+            Collectors.toMap(LineageRelationship::getEntity, LineageRelationship::getDegree));
+  }
+
+  private static Edge downstreamOf(Urn source, Urn destination, Long updatedOn) {
+    return new Edge(source, destination, DOWNSTREAM_OF, updatedOn, null, updatedOn, null, null);
+  }
+
+  private static Urn dataset(String name) {
+    return UrnUtils.getUrn(
+        String.format("urn:li:dataset:(urn:li:dataPlatform:hive,%s,PROD)", name));
+  }
+}
@@ -165,6 +165,7 @@ public abstract class LineageServiceTestBase extends AbstractTestNGSpringContext
             new LineageSearchService(
                 new SearchService(
                     new EntityDocCountCache(
+                        operationContext,
                         aspectRetriever.getEntityRegistry(),
                         elasticSearchService,
                         entityDocCountCacheConfiguration),
@@ -110,6 +110,7 @@ public abstract class SearchServiceTestBase extends AbstractTestNGSpringContextT
     searchService =
         new SearchService(
             new EntityDocCountCache(
+                operationContext,
                 aspectRetriever.getEntityRegistry(),
                 elasticSearchService,
                 entityDocCountCacheConfiguration),
@@ -0,0 +1,62 @@
+package com.linkedin.metadata.search.cache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.browse.BrowseResult;
+import com.linkedin.metadata.browse.BrowseResultEntity;
+import com.linkedin.metadata.browse.BrowseResultEntityArray;
+import com.linkedin.metadata.browse.BrowseResultGroupArray;
+import com.linkedin.metadata.browse.BrowseResultMetadata;
+import com.linkedin.metadata.query.AutoCompleteEntityArray;
+import com.linkedin.metadata.query.AutoCompleteResult;
+import org.testng.annotations.Test;
+
+public class CacheValueCodecTest {
+
+  @Test
+  public void testRoundTrip() {
+    AutoCompleteResult autoComplete =
+        new AutoCompleteResult()
+            .setQuery("hive")
+            .setSuggestions(new StringArray("hive_table", "hive_view"))
+            .setEntities(new AutoCompleteEntityArray());
+    BrowseResult browse =
+        new BrowseResult()
+            .setEntities(
+                new BrowseResultEntityArray(
+                    new BrowseResultEntity()
+                        .setName("table")
+                        .setUrn(
+                            UrnUtils.getUrn(
+                                "urn:li:dataset:(urn:li:dataPlatform:hive,table,PROD)"))))
+            .setGroups(new BrowseResultGroupArray())
+            .setMetadata(new BrowseResultMetadata().setPath("/prod").setTotalNumEntities(1))
+            .setFrom(0)
+            .setPageSize(10)
+            .setNumEntities(1);
+
+    for (CacheValueCodec codec : CacheValueCodec.values()) {
+      assertEquals(
+          CacheValueCodec.decode(codec.encode(autoComplete), AutoCompleteResult.class),
+          autoComplete);
+      assertEquals(CacheValueCodec.decode(codec.encode(browse), BrowseResult.class), browse);
+    }
+  }
+
+  @Test
+  public void testEncodedTypes() {
+    AutoCompleteResult result =
+        new AutoCompleteResult()
+            .setQuery("q")
+            .setSuggestions(new StringArray())
+            .setEntities(new AutoCompleteEntityArray());
+    assertTrue(CacheValueCodec.JSON.encode(result) instanceof String);
+    assertTrue(CacheValueCodec.BINARY.encode(result) instanceof byte[]);
+    assertNull(CacheValueCodec.decode(null, AutoCompleteResult.class));
+    assertEquals(CacheValueCodec.fromString(" binary "), CacheValueCodec.BINARY);
+  }
+}
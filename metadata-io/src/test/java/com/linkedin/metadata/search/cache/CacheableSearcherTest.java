@@ -16,6 +16,7 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -202,6 +203,102 @@ public class CacheableSearcherTest {
     Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
   }
 
+  @Test
+  public void testCacheableSearcherWithBinaryCodec() {
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+    Cache cache = cacheManager.getCache("binarySearcher");
+    CacheableSearcher<Integer> binarySearcher =
+        new CacheableSearcher<>(
+            cache,
+            10,
+            qs -> getSearchResult(qs, 10),
+            CacheableSearcher.QueryPagination::getFrom,
+            true,
+            CacheValueCodec.BINARY);
+
+    SearchResult result = binarySearcher.getSearchResults(opContext, 0, 10);
+    assertTrue(cache.get(0).get() instanceof byte[]);
+    // Served from the cache
+    assertEquals(binarySearcher.getSearchResults(opContext, 0, 10), result);
+    assertEquals(
+        result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        getUrns(0, 10));
+  }
+
+  @Test
+  public void testCacheableSearcherWithBatchIndex() {
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+    List<Integer> fetchedBatches = new ArrayList<>();
+    CacheableSearcher<Integer> indexedSearcher =
+        new CacheableSearcher<>(
+            cacheManager.getCache("indexedSearcher"),
+            10,
+            qs -> {
+              fetchedBatches.add(qs.getFrom());
+              return getSearchResult(qs, qs.getFrom() < 30 ? 10 : 5);
+            },
+            CacheableSearcher.QueryPagination::getFrom,
+            true,
+            CacheValueCodec.JSON,
+            cacheManager.getCache("indexedSearcherBatchIndex"),
+            60000);
+
+    // The first visit walks through every batch and records their sizes
+    SearchResult result = indexedSearcher.getSearchResults(opContext, 25, 10);
+    assertEquals(fetchedBatches, List.of(0, 10, 20, 30));
+    assertEquals(
+        result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        Streams.concat(getUrns(5, 10).stream(), getUrns(0, 5).stream())
+            .collect(Collectors.toList()));
+
+    // Full batches ending before "from" are skipped
+    cacheManager.getCache("indexedSearcher").clear();
+    fetchedBatches.clear();
+    assertEquals(indexedSearcher.getSearchResults(opContext, 25, 10), result);
+    assertEquals(fetchedBatches, List.of(20, 30));
+
+    // The last, partial batch is never skipped
+    cacheManager.getCache("indexedSearcher").clear();
+    fetchedBatches.clear();
+    result = indexedSearcher.getSearchResults(opContext, 32, 10);
+    assertEquals(fetchedBatches, List.of(30));
+    assertEquals(
+        result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        getUrns(2, 5));
+  }
+
+  @Test
+  public void testCacheableSearcherWithExpiredBatchIndex() {
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+    List<Integer> fetchedBatches = new ArrayList<>();
+    // The index expires right away, as if the search cache could have dropped its batches
+    CacheableSearcher<Integer> indexedSearcher =
+        new CacheableSearcher<>(
+            cacheManager.getCache("expiredIndexSearcher"),
+            10,
+            qs -> {
+              fetchedBatches.add(qs.getFrom());
+              return getSearchResult(qs, qs.getFrom() < 30 ? 10 : 5);
+            },
+            CacheableSearcher.QueryPagination::getFrom,
+            true,
+            CacheValueCodec.JSON,
+            cacheManager.getCache("expiredIndexSearcherBatchIndex"),
+            0);
+
+    SearchResult result = indexedSearcher.getSearchResults(opContext, 25, 10);
+    assertEquals(fetchedBatches, List.of(0, 10, 20, 30));
+
+    // Every batch is read again instead of trusting the expired sizes
+    cacheManager.getCache("expiredIndexSearcher").clear();
+    fetchedBatches.clear();
+    assertEquals(indexedSearcher.getSearchResults(opContext, 25, 10), result);
+    assertEquals(fetchedBatches, List.of(0, 10, 20, 30));
+  }
+
   private SearchResult getEmptySearchResult(CacheableSearcher.QueryPagination queryPagination) {
     return new SearchResult()
         .setEntities(new SearchEntityArray())
@@ -0,0 +1,59 @@
+package com.linkedin.metadata.search.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class EntityDocCountCacheTest {
+
+  @Test
+  public void testIncrementalCounts() {
+    EntityRegistry entityRegistry = mock(EntityRegistry.class);
+    when(entityRegistry.getEntitySpecs())
+        .thenReturn(Map.of("dataset", mock(EntitySpec.class), "chart", mock(EntitySpec.class)));
+    EntitySearchService entitySearchService = mock(EntitySearchService.class);
+    when(entitySearchService.docCount(any(OperationContext.class), eq("dataset"))).thenReturn(3L);
+    when(entitySearchService.docCount(any(OperationContext.class), eq("chart"))).thenReturn(0L);
+    EntityDocCountCacheConfiguration config = new EntityDocCountCacheConfiguration();
+    config.setTtlSeconds(600L);
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+
+    EntityDocCountCache cache =
+        new EntityDocCountCache(opContext, entityRegistry, entitySearchService, config);
+    assertEquals(cache.getEntityDocCount(opContext), Map.of("dataset", 3L, "chart", 0L));
+    assertEquals(cache.getNonEmptyEntities(opContext), List.of("dataset"));
+
+    cache.increment("chart");
+    cache.decrement("dataset");
+    assertEquals(cache.getEntityDocCount(opContext), Map.of("dataset", 2L, "chart", 1L));
+
+    // Counts never go negative
+    cache.decrement("chart");
+    cache.decrement("chart");
+    assertEquals(cache.getEntityDocCount(opContext).get("chart").longValue(), 0L);
+
+    // Seeded once, for all the search contexts
+    cache.getEntityDocCount(
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class)));
+    verify(entitySearchService, times(1)).docCount(any(OperationContext.class), eq("dataset"));
+
+    cache.reconcile();
+    assertEquals(cache.getEntityDocCount(opContext), Map.of("dataset", 3L, "chart", 0L));
+    verify(entitySearchService, times(2)).docCount(any(OperationContext.class), eq("dataset"));
+  }
+}
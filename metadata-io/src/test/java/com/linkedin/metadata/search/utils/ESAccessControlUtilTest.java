@@ -54,6 +54,7 @@ import io.datahubproject.metadata.context.RequestContext;
 import io.datahubproject.metadata.context.ServicesRegistryContext;
 import io.datahubproject.metadata.services.RestrictedService;
 import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -495,20 +496,12 @@ public class ESAccessControlUtilTest {
       when(ctx.getEntitySpecResolver()).thenReturn(specResolver);
       init(Map.of(), ctx);
 
-      readWriteLock.writeLock().lock();
-      try {
-        policyCache.clear();
-        Map<String, List<DataHubPolicyInfo>> byPrivilegeName =
-            policies.stream()
-                .flatMap(
-                    policy -> policy.getPrivileges().stream().map(priv -> Pair.of(priv, policy)))
-                .collect(
-                    Collectors.groupingBy(
-                        Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toList())));
-        policyCache.putAll(byPrivilegeName);
-      } finally {
-        readWriteLock.writeLock().unlock();
+      Map<Urn, DataHubPolicyInfo> policiesByUrn = new LinkedHashMap<>();
+      int policyId = 0;
+      for (DataHubPolicyInfo policy : policies) {
+        policiesByUrn.put(UrnUtils.getUrn("urn:li:dataHubPolicy:" + policyId++), policy);
       }
+      setPolicies(policiesByUrn);
     }
 
     private static EntityClient mockUserGroupEntityClient(
@@ -37,6 +37,9 @@ public class KafkaHealthIndicator extends AbstractHealthIndicator {
             .filter(
                 container ->
                     !DataHubUpgradeKafkaListener.CONSUMER_GROUP.equals(container.getGroupId()))
+            // Listeners disabled through configuration (e.g. single vs batch consumption) are
+            // never started
+            .filter(MessageListenerContainer::isAutoStartup)
             .anyMatch(container -> !container.isRunning());
     Map<String, ConsumerDetails> details =
         listenerRegistry.getAllListenerContainers().stream()
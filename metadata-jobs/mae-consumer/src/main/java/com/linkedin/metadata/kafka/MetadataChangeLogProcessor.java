@@ -3,10 +3,14 @@ package com.linkedin.metadata.kafka;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
 import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.config.kafka.BatchConsumerConfiguration;
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.ParallelHookExecutor;
 import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
 import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
 import com.linkedin.metadata.kafka.hook.form.FormAssignmentHook;
@@ -16,18 +20,28 @@ import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.Topics;
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -45,12 +59,28 @@ import org.springframework.stereotype.Component;
 @EnableKafka
 public class MetadataChangeLogProcessor {
 
+  private static final String CONSUMER_GROUP_ID =
+      "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}";
+  private static final String BATCH_ENABLED = "${kafka.consumer.mcl.batchEnabled:false}";
+
   @Getter private final List<MetadataChangeLogHook> hooks;
   private final Histogram kafkaLagStats =
       MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+
+  // Only used in batch mode, converts the Avro records of a poll to Pegasus concurrently
+  private final ExecutorService conversionExecutor;
+
+  // When enabled, the hooks run concurrently, each in its own per-urn lanes
+  private final ParallelHookExecutor hookExecutor;
 
   @Autowired
-  public MetadataChangeLogProcessor(List<MetadataChangeLogHook> metadataChangeLogHooks) {
+  public MetadataChangeLogProcessor(
+      List<MetadataChangeLogHook> metadataChangeLogHooks,
+      @Qualifier("configurationProvider") ConfigurationProvider configurationProvider,
+      @Value("${kafka.consumer.mcl.parallelHooks.enabled:false}") boolean parallelHooksEnabled,
+      @Value("${kafka.consumer.mcl.parallelHooks.lanes:4}") int hookLanes) {
     this.hooks =
         metadataChangeLogHooks.stream()
             .filter(MetadataChangeLogHook::isEnabled)
@@ -62,19 +92,46 @@ public class MetadataChangeLogProcessor {
             .map(hook -> hook.getClass().getSimpleName())
             .collect(Collectors.toList()));
     this.hooks.forEach(MetadataChangeLogHook::init);
+    final BatchConsumerConfiguration batchConfig =
+        configurationProvider.getKafka().getConsumer().getMcl();
+    this.conversionExecutor =
+        batchConfig.isBatchEnabled()
+            ? Executors.newFixedThreadPool(
+                Math.max(1, batchConfig.getParallelism()),
+                new ThreadFactoryBuilder()
+                    .setNameFormat("mcl-conversion-%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
+    this.hookExecutor =
+        parallelHooksEnabled ? new ParallelHookExecutor(this.hooks, hookLanes) : null;
+    log.info(
+        "MCL batch consumption enabled: {}, parallel hooks enabled: {}",
+        batchConfig.isBatchEnabled(),
+        parallelHooksEnabled);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (conversionExecutor != null) {
+      conversionExecutor.shutdown();
+    }
+    if (hookExecutor != null) {
+      hookExecutor.shutdown();
+    }
   }
 
   @KafkaListener(
-      id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}",
+      id = CONSUMER_GROUP_ID,
       topics = {
         "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
         "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}"
       },
-      containerFactory = "kafkaEventConsumer")
+      containerFactory = "kafkaEventConsumer",
+      autoStartup = "#{!" + BATCH_ENABLED + "}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     try (Timer.Context i = MetricUtils.timer(this.getClass(), "consume").time()) {
       kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-      final GenericRecord record = consumerRecord.value();
       log.info(
           "Got MCL event key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
           consumerRecord.key(),
@@ -85,19 +142,11 @@ public class MetadataChangeLogProcessor {
           consumerRecord.timestamp());
       MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
 
-      MetadataChangeLog event;
-      try {
-        event = EventUtils.avroToPegasusMCL(record);
-        log.debug(
-            "Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}",
-            event.getEntityUrn(),
-            event.getEntityKeyAspect());
-      } catch (Exception e) {
-        MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
-        log.error("Error deserializing message due to: ", e);
-        log.error("Message: {}", record.toString());
+      Optional<MetadataChangeLog> maybeEvent = convert(consumerRecord.value());
+      if (maybeEvent.isEmpty()) {
         return;
       }
+      final MetadataChangeLog event = maybeEvent.get();
 
       log.info(
           "Invoking MCL hooks for urn: {}, aspect name: {}, entity type: {}, change type: {}",
@@ -106,6 +155,13 @@ public class MetadataChangeLogProcessor {
           event.hasEntityType() ? event.getEntityType() : null,
           event.hasChangeType() ? event.getChangeType() : null);
 
+      if (hookExecutor != null) {
+        hookExecutor.execute(Collections.singletonList(event));
+        MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc();
+        log.info("Successfully completed MCL hooks for urn: {}", event.getEntityUrn());
+        return;
+      }
+
       // Here - plug in additional "custom processor hooks"
       for (MetadataChangeLogHook hook : this.hooks) {
         if (!hook.isEnabled()) {
@@ -128,9 +184,118 @@ public class MetadataChangeLogProcessor {
               "Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
         }
       }
-      // TODO: Manually commit kafka offsets after full processing.
+      // Offsets are auto committed in this mode, see consumeBatch for commit after processing.
       MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc();
       log.info("Successfully completed MCL hooks for urn: {}", event.getEntityUrn());
     }
   }
+
+  /**
+   * Batch mode equivalent of {@link #consume(ConsumerRecord)}, enabled with
+   * kafka.consumer.mcl.batchEnabled. Records of a poll are converted in parallel and handed to each
+   * hook at once via {@link MetadataChangeLogHook#invokeBatch(List)}. Offsets are committed only
+   * after every hook has processed the batch.
+   */
+  @KafkaListener(
+      id = CONSUMER_GROUP_ID + "-batch",
+      groupId = CONSUMER_GROUP_ID,
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+        "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      autoStartup = BATCH_ENABLED)
+  public void consumeBatch(
+      final List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      final Acknowledgment acknowledgment) {
+    try (Timer.Context i = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      log.info("Got MCL batch of {} records", consumerRecords.size());
+      batchSizeStats.update(consumerRecords.size());
+      MetricUtils.counter(this.getClass(), "received_mcl_count").inc(consumerRecords.size());
+
+      final List<MetadataChangeLog> events = convertBatch(consumerRecords);
+
+      if (hookExecutor != null) {
+        hookExecutor.execute(events);
+      } else if (!events.isEmpty()) {
+        for (MetadataChangeLogHook hook : this.hooks) {
+          log.debug(
+              "Invoking MCL hook {} for batch of {} events",
+              hook.getClass().getSimpleName(),
+              events.size());
+          try (Timer.Context ignored =
+              MetricUtils.timer(
+                      this.getClass(), hook.getClass().getSimpleName() + "_batch_latency")
+                  .time()) {
+            hook.invokeBatch(events);
+          } catch (Exception e) {
+            // Same "at most once" semantics as single record consumption, failed events are
+            // skipped for this hook only.
+            MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure")
+                .inc();
+            log.error(
+                "Failed to execute MCL hook with name {} for batch",
+                hook.getClass().getCanonicalName(),
+                e);
+          }
+        }
+      }
+
+      acknowledgment.acknowledge();
+      MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+      log.info("Successfully completed MCL hooks for batch of {} events", events.size());
+    }
+  }
+
+  /** Converts a poll of records concurrently, preserving record order and dropping failures. */
+  private List<MetadataChangeLog> convertBatch(
+      @Nonnull List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final long now = System.currentTimeMillis();
+    final List<CompletableFuture<Optional<MetadataChangeLog>>> futures =
+        consumerRecords.stream()
+            .map(
+                consumerRecord -> {
+                  kafkaLagStats.update(now - consumerRecord.timestamp());
+                  log.debug(
+                      "Got MCL event key: {}, topic: {}, partition: {}, offset: {}",
+                      consumerRecord.key(),
+                      consumerRecord.topic(),
+                      consumerRecord.partition(),
+                      consumerRecord.offset());
+                  return CompletableFuture.supplyAsync(
+                      () -> convert(consumerRecord.value()), conversionExecutor);
+                })
+            .collect(Collectors.toList());
+
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), "avro_to_pegasus_batch_conversion").time()) {
+      return futures.stream()
+          .map(CompletableFuture::join)
+          .filter(Optional::isPresent)
+          .map(Optional::get)
+          .collect(Collectors.toList());
+    }
+  }
+
+  private Optional<MetadataChangeLog> convert(final GenericRecord record) {
+    if (record == null) {
+      // Value failed to deserialize and the container was configured to continue
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Skipping MCL record with a null value");
+      return Optional.empty();
+    }
+    try {
+      MetadataChangeLog event = EventUtils.avroToPegasusMCL(record);
+      log.debug(
+          "Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}",
+          event.getEntityUrn(),
+          event.getEntityKeyAspect());
+      return Optional.of(event);
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return Optional.empty();
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.kafka.hook;
 
 import com.linkedin.mxe.MetadataChangeLog;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
@@ -26,6 +27,33 @@ public interface MetadataChangeLogHook {
   /** Invoke the hook when a MetadataChangeLog is received */
   void invoke(@Nonnull MetadataChangeLog log) throws Exception;
 
+  /**
+   * Invoke the hook for a batch of MetadataChangeLogs received in a single poll. Events are
+   * provided in the order they were read from their partitions.
+   *
+   * <p>The default implementation invokes {@link #invoke(MetadataChangeLog)} for every event. A
+   * failing event does not prevent the remaining events from being processed, the first failure
+   * is rethrown once the whole batch has been attempted. Hooks which can amortize work across
+   * events (bulk writes, batched lookups) should override this.
+   */
+  default void invokeBatch(@Nonnull List<MetadataChangeLog> events) throws Exception {
+    Exception failure = null;
+    for (MetadataChangeLog event : events) {
+      try {
+        invoke(event);
+      } catch (Exception e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
   /**
    * Controls hook execution ordering
    *
@@ -0,0 +1,157 @@
+package com.linkedin.metadata.kafka.hook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs {@link MetadataChangeLogHook}s concurrently instead of one after another on the Kafka
+ * listener thread.
+ *
+ * <p>Every hook has its own lanes, single threaded executors to which events are assigned by
+ * hashing their entity urn. A hook therefore sees the events of a given urn in the order they were
+ * consumed, while independent hooks and different urns make progress at the same time: a slow hook
+ * only delays itself. Hooks with the same {@link MetadataChangeLogHook#executionOrder()} are
+ * independent, hooks with a later order only start once the earlier ones have processed the
+ * events. The thread count is the lane count times the number of hooks.
+ *
+ * <p>{@link #execute(List)} blocks until every hook has processed the events, which keeps offset
+ * commits of the calling consumer after processing.
+ */
+@Slf4j
+public class ParallelHookExecutor {
+
+  // Hooks grouped by execution order, the hooks of a stage run concurrently
+  private final List<List<HookLanes>> stages;
+  private final int laneCount;
+
+  public ParallelHookExecutor(@Nonnull List<MetadataChangeLogHook> hooks, int laneCount) {
+    this.laneCount = Math.max(1, laneCount);
+    this.stages =
+        new ArrayList<>(
+            hooks.stream()
+                .collect(
+                    Collectors.groupingBy(
+                        MetadataChangeLogHook::executionOrder,
+                        TreeMap::new,
+                        Collectors.mapping(
+                            hook -> new HookLanes(hook, this.laneCount), Collectors.toList())))
+                .values());
+    log.info(
+        "Parallel hook execution enabled with {} lanes for each of {} hooks",
+        this.laneCount,
+        hooks.size());
+  }
+
+  /** Invokes all hooks for the given events, returning once every hook has completed. */
+  public void execute(@Nonnull List<MetadataChangeLog> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    // Group events by lane while keeping consumption order within each lane
+    final Map<Integer, List<MetadataChangeLog>> eventsByLane = new LinkedHashMap<>();
+    for (MetadataChangeLog event : events) {
+      eventsByLane.computeIfAbsent(laneOf(event, laneCount), lane -> new ArrayList<>()).add(event);
+    }
+
+    for (List<HookLanes> stage : stages) {
+      if (stage.size() == 1 && eventsByLane.size() == 1) {
+        // A single lane of a single hook, nothing to run concurrently
+        stage.get(0).invoke(events);
+        continue;
+      }
+
+      final List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (HookLanes hookLanes : stage) {
+        eventsByLane.forEach((lane, laneEvents) -> futures.add(hookLanes.submit(lane, laneEvents)));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+  }
+
+  public void shutdown() {
+    stages.forEach(stage -> stage.forEach(HookLanes::shutdown));
+  }
+
+  static int laneOf(@Nonnull MetadataChangeLog event, int laneCount) {
+    final Object key =
+        event.getEntityUrn() != null ? event.getEntityUrn() : event.getEntityKeyAspect();
+    return Math.floorMod(Objects.hashCode(key), laneCount);
+  }
+
+  /** The lanes of a single hook, with its queue depth and latency metrics. */
+  private static class HookLanes {
+    private final MetadataChangeLogHook hook;
+    private final String hookName;
+    private final ExecutorService[] lanes;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    HookLanes(@Nonnull MetadataChangeLogHook hook, int laneCount) {
+      this.hook = hook;
+      this.hookName = hook.getClass().getSimpleName();
+      this.lanes = new ExecutorService[laneCount];
+      for (int i = 0; i < lanes.length; i++) {
+        lanes[i] =
+            Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("mcl-hook-" + hookName + "-lane-" + i)
+                    .setDaemon(true)
+                    .build());
+      }
+      MetricUtils.gauge(
+          ParallelHookExecutor.class,
+          hookName + "_queue_depth",
+          () -> (Gauge<Integer>) queueDepth::get);
+    }
+
+    CompletableFuture<Void> submit(int lane, @Nonnull List<MetadataChangeLog> laneEvents) {
+      queueDepth.addAndGet(laneEvents.size());
+      final Timer.Context queueTime =
+          MetricUtils.timer(ParallelHookExecutor.class, hookName + "_queue_time").time();
+      return CompletableFuture.runAsync(
+          () -> {
+            queueTime.stop();
+            try {
+              invoke(laneEvents);
+            } finally {
+              queueDepth.addAndGet(-laneEvents.size());
+            }
+          },
+          lanes[lane]);
+    }
+
+    void invoke(@Nonnull List<MetadataChangeLog> events) {
+      try (Timer.Context ignored =
+          MetricUtils.timer(ParallelHookExecutor.class, hookName + "_latency").time()) {
+        hook.invokeBatch(events);
+      } catch (Exception e) {
+        // Just skip this hook and continue. - Note that this represents "at most once"
+        // processing.
+        MetricUtils.counter(ParallelHookExecutor.class, hookName + "_failure").inc();
+        log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+      }
+    }
+
+    void shutdown() {
+      for (ExecutorService lane : lanes) {
+        lane.shutdown();
+      }
+    }
+  }
+}
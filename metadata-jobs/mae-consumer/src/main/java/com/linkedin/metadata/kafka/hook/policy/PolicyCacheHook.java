@@ -0,0 +1,112 @@
+package com.linkedin.metadata.kafka.hook.policy;
+
+import static com.linkedin.metadata.Constants.DATAHUB_POLICY_INFO_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.DATAHUB_POLICY_KEY_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.POLICY_ENTITY_NAME;
+
+import com.datahub.authorization.DataHubAuthorizer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook keeps the policy cache of the {@link DataHubAuthorizer} up to date with the policies
+ * changed elsewhere, updating only the changed policy instead of re-fetching all the policies.
+ *
+ * <p>The hook is disabled when there is no {@link DataHubAuthorizer} in the application context.
+ * Policies changed while it is disabled are picked up by the periodic refresh of the cache.
+ */
+@Slf4j
+@Component
+@Import({EntityRegistryFactory.class})
+public class PolicyCacheHook implements MetadataChangeLogHook {
+
+  private static final Set<ChangeType> SUPPORTED_UPDATE_TYPES =
+      ImmutableSet.of(
+          ChangeType.UPSERT, ChangeType.CREATE, ChangeType.CREATE_ENTITY, ChangeType.RESTATE);
+
+  private final EntityRegistry _entityRegistry;
+  @Nullable private final DataHubAuthorizer _authorizer;
+  private final boolean _isEnabled;
+
+  @Autowired
+  public PolicyCacheHook(
+      @Nonnull final EntityRegistry entityRegistry,
+      @Nonnull final ObjectProvider<DataHubAuthorizer> authorizer,
+      @Nonnull @Value("${authorization.defaultAuthorizer.cacheHookEnabled:true}")
+          Boolean isEnabled) {
+    this(entityRegistry, authorizer.getIfAvailable(), isEnabled);
+  }
+
+  @VisibleForTesting
+  PolicyCacheHook(
+      @Nonnull final EntityRegistry entityRegistry,
+      @Nullable final DataHubAuthorizer authorizer,
+      final boolean isEnabled) {
+    _entityRegistry = entityRegistry;
+    _authorizer = authorizer;
+    _isEnabled = isEnabled && authorizer != null;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return _isEnabled;
+  }
+
+  @Override
+  public void invoke(@Nonnull final MetadataChangeLog event) {
+    if (!_isEnabled || !POLICY_ENTITY_NAME.equals(event.getEntityType())) {
+      return;
+    }
+    if (isPolicyDeleted(event)) {
+      final Urn urn = getUrnFromEvent(event);
+      log.debug("Removing policy {} from the policy cache.", urn);
+      _authorizer.removePolicy(urn);
+    } else if (isPolicyUpdated(event)) {
+      final Urn urn = getUrnFromEvent(event);
+      log.debug("Updating policy {} in the policy cache.", urn);
+      _authorizer.upsertPolicy(
+          urn,
+          GenericRecordUtils.deserializeAspect(
+              event.getAspect().getValue(),
+              event.getAspect().getContentType(),
+              DataHubPolicyInfo.class));
+    }
+  }
+
+  private boolean isPolicyUpdated(@Nonnull final MetadataChangeLog event) {
+    return DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+        && SUPPORTED_UPDATE_TYPES.contains(event.getChangeType())
+        && event.hasAspect();
+  }
+
+  private boolean isPolicyDeleted(@Nonnull final MetadataChangeLog event) {
+    return (DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+            || DATAHUB_POLICY_KEY_ASPECT_NAME.equals(event.getAspectName()))
+        && ChangeType.DELETE.equals(event.getChangeType());
+  }
+
+  @Nonnull
+  private Urn getUrnFromEvent(@Nonnull final MetadataChangeLog event) {
+    return event.hasEntityUrn()
+        ? event.getEntityUrn()
+        : HookUtils.getUrnFromEvent(event, _entityRegistry);
+  }
+}
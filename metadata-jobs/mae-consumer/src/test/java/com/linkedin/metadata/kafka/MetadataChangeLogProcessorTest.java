@@ -0,0 +1,145 @@
+package com.linkedin.metadata.kafka;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.config.kafka.BatchConsumerConfiguration;
+import com.linkedin.metadata.config.kafka.ConsumerConfiguration;
+import com.linkedin.metadata.config.kafka.KafkaConfiguration;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class MetadataChangeLogProcessorTest {
+  private static final String TOPIC = "MetadataChangeLog_Versioned_v1";
+
+  private RecordingHook first;
+  private RecordingHook failing;
+  private RecordingHook last;
+  private MetadataChangeLogProcessor processor;
+
+  @BeforeMethod
+  public void setup() {
+    first = new RecordingHook(10, null);
+    failing = new RecordingHook(20, "table1");
+    last = new RecordingHook(30, null);
+    processor =
+        new MetadataChangeLogProcessor(List.of(last, failing, first), configuration(), false, 1);
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    processor.shutdown();
+  }
+
+  @Test
+  public void testBatchRunsThroughAllHooks() throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      records.add(record(i, EventUtils.pegasusToAvroMCL(event("table" + i))));
+    }
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    processor.consumeBatch(records, acknowledgment);
+
+    List<String> expected = List.of("table0", "table1", "table2");
+    assertEquals(first.tables(), expected);
+    assertEquals(failing.tables(), expected);
+    assertEquals(last.tables(), expected);
+    verify(acknowledgment, times(1)).acknowledge();
+  }
+
+  @Test
+  public void testBatchSkipsFailuresAndAcknowledges() throws Exception {
+    // A record which failed to deserialize and a hook failing on one event
+    List<ConsumerRecord<String, GenericRecord>> records =
+        List.of(
+            record(0, EventUtils.pegasusToAvroMCL(event("table0"))),
+            record(1, null),
+            record(2, EventUtils.pegasusToAvroMCL(event("table1"))),
+            record(3, EventUtils.pegasusToAvroMCL(event("table2"))));
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    processor.consumeBatch(records, acknowledgment);
+
+    // The failing hook still sees the rest of the batch and the later hooks are not affected
+    List<String> expected = List.of("table0", "table1", "table2");
+    assertEquals(failing.tables(), expected);
+    assertEquals(last.tables(), expected);
+    verify(acknowledgment, times(1)).acknowledge();
+  }
+
+  private static ConfigurationProvider configuration() {
+    BatchConsumerConfiguration mcl = new BatchConsumerConfiguration();
+    mcl.setBatchEnabled(true);
+    mcl.setMaxPollRecords(500);
+    mcl.setParallelism(2);
+    ConsumerConfiguration consumer = new ConsumerConfiguration();
+    consumer.setMcl(mcl);
+    KafkaConfiguration kafka = new KafkaConfiguration();
+    kafka.setConsumer(consumer);
+    ConfigurationProvider configurationProvider = new ConfigurationProvider();
+    configurationProvider.setKafka(kafka);
+    return configurationProvider;
+  }
+
+  private static ConsumerRecord<String, GenericRecord> record(int offset, GenericRecord value) {
+    return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+  }
+
+  private static MetadataChangeLog event(String table) {
+    return new MetadataChangeLog()
+        .setEntityType("dataset")
+        .setEntityUrn(
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive," + table + ",PROD)"))
+        .setAspectName("status")
+        .setChangeType(ChangeType.UPSERT);
+  }
+
+  private static class RecordingHook implements MetadataChangeLogHook {
+    private final int order;
+    private final String failOn;
+    private final List<MetadataChangeLog> invoked = new CopyOnWriteArrayList<>();
+
+    RecordingHook(int order, String failOn) {
+      this.order = order;
+      this.failOn = failOn;
+    }
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog log) {
+      invoked.add(log);
+      if (log.getEntityUrn().toString().contains("," + failOn + ",")) {
+        throw new IllegalStateException("boom");
+      }
+    }
+
+    @Override
+    public int executionOrder() {
+      return order;
+    }
+
+    List<String> tables() {
+      List<String> tables = new ArrayList<>();
+      for (MetadataChangeLog event : invoked) {
+        tables.add(event.getEntityUrn().getEntityKey().get(1));
+      }
+      return tables;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.linkedin.metadata.kafka.hook;
+
+import static org.testng.Assert.*;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import org.testng.annotations.Test;
+
+public class ParallelHookExecutorTest {
+
+  @Test
+  public void testPerUrnOrderingIsPreserved() {
+    RecordingHook hookA = new RecordingHook(100);
+    RecordingHook hookB = new RecordingHook(100);
+    ParallelHookExecutor executor = new ParallelHookExecutor(List.of(hookA, hookB), 3);
+
+    List<MetadataChangeLog> events = new ArrayList<>();
+    for (int version = 0; version < 20; version++) {
+      for (int entity = 0; entity < 5; entity++) {
+        events.add(event(entity, version));
+      }
+    }
+
+    try {
+      executor.execute(events);
+    } finally {
+      executor.shutdown();
+    }
+
+    for (RecordingHook hook : List.of(hookA, hookB)) {
+      assertEquals(hook.invoked.size(), events.size());
+      Map<Urn, List<String>> byUrn =
+          hook.invoked.stream()
+              .collect(
+                  Collectors.groupingBy(
+                      MetadataChangeLog::getEntityUrn,
+                      Collectors.mapping(MetadataChangeLog::getAspectName, Collectors.toList())));
+      byUrn.values()
+          .forEach(
+              aspects ->
+                  assertEquals(
+                      aspects,
+                      IntStream.range(0, 20)
+                          .mapToObj(String::valueOf)
+                          .collect(Collectors.toList())));
+    }
+  }
+
+  @Test
+  public void testHooksRunInExecutionOrderPerUrn() {
+    List<String> invocations = new CopyOnWriteArrayList<>();
+    MetadataChangeLogHook late =
+        new RecordingHook(200) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) {
+            invocations.add("late-" + log.getEntityUrn());
+          }
+        };
+    MetadataChangeLogHook early =
+        new RecordingHook(10) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) {
+            invocations.add("early-" + log.getEntityUrn());
+          }
+        };
+    ParallelHookExecutor executor = new ParallelHookExecutor(List.of(late, early), 2);
+    List<MetadataChangeLog> events = List.of(event(0, 0), event(1, 0), event(2, 0));
+    try {
+      executor.execute(events);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(invocations.size(), 6);
+    for (MetadataChangeLog event : events) {
+      assertTrue(
+          invocations.indexOf("early-" + event.getEntityUrn())
+              < invocations.indexOf("late-" + event.getEntityUrn()));
+    }
+  }
+
+  @Test
+  public void testLanesRunConcurrently() throws Exception {
+    MetadataChangeLog first = event(0, 0);
+    MetadataChangeLog second =
+        IntStream.range(1, 100)
+            .mapToObj(entity -> event(entity, 0))
+            .filter(
+                event ->
+                    ParallelHookExecutor.laneOf(event, 2) != ParallelHookExecutor.laneOf(first, 2))
+            .findFirst()
+            .orElseThrow();
+    CountDownLatch secondProcessed = new CountDownLatch(1);
+    AtomicBoolean firstUnblocked = new AtomicBoolean();
+    MetadataChangeLogHook hook =
+        new RecordingHook(100) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) throws Exception {
+            if (log.equals(first)) {
+              // Only returns in time if the other lane makes progress meanwhile
+              firstUnblocked.set(secondProcessed.await(10, TimeUnit.SECONDS));
+            } else {
+              secondProcessed.countDown();
+            }
+          }
+        };
+    ParallelHookExecutor executor = new ParallelHookExecutor(List.of(hook), 2);
+    try {
+      executor.execute(List.of(first, second));
+    } finally {
+      executor.shutdown();
+    }
+
+    assertTrue(firstUnblocked.get());
+  }
+
+  @Test
+  public void testIndependentHooksRunConcurrently() {
+    MetadataChangeLog event = event(0, 0);
+    CountDownLatch fastProcessed = new CountDownLatch(1);
+    AtomicBoolean slowUnblocked = new AtomicBoolean();
+    MetadataChangeLogHook slow =
+        new RecordingHook(100) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) throws Exception {
+            // Only returns in time if the other hook processes the same event meanwhile
+            slowUnblocked.set(fastProcessed.await(10, TimeUnit.SECONDS));
+          }
+        };
+    MetadataChangeLogHook fast =
+        new RecordingHook(100) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) {
+            fastProcessed.countDown();
+          }
+        };
+    ParallelHookExecutor executor = new ParallelHookExecutor(List.of(slow, fast), 2);
+    try {
+      executor.execute(List.of(event));
+    } finally {
+      executor.shutdown();
+    }
+
+    assertTrue(slowUnblocked.get());
+  }
+
+  @Test
+  public void testFailingHookDoesNotAffectOthers() {
+    RecordingHook healthy = new RecordingHook(100);
+    MetadataChangeLogHook failing =
+        new RecordingHook(100) {
+          @Override
+          public void invoke(@Nonnull MetadataChangeLog log) {
+            throw new IllegalStateException("boom");
+          }
+        };
+    ParallelHookExecutor executor = new ParallelHookExecutor(List.of(failing, healthy), 2);
+    try {
+      executor.execute(List.of(event(0, 0), event(1, 0)));
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(healthy.invoked.size(), 2);
+  }
+
+  private static MetadataChangeLog event(int entity, int version) {
+    return new MetadataChangeLog()
+        .setEntityType("dataset")
+        .setEntityUrn(
+            UrnUtils.getUrn(
+                "urn:li:dataset:(urn:li:dataPlatform:hive,table" + entity + ",PROD)"))
+        .setAspectName(String.valueOf(version))
+        .setChangeType(ChangeType.UPSERT);
+  }
+
+  private static class RecordingHook implements MetadataChangeLogHook {
+    private final int order;
+    final List<MetadataChangeLog> invoked = new CopyOnWriteArrayList<>();
+
+    RecordingHook(int order) {
+      this.order = order;
+    }
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog log) throws Exception {
+      invoked.add(log);
+    }
+
+    @Override
+    public int executionOrder() {
+      return order;
+    }
+  }
+}
@@ -35,13 +35,16 @@ import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
 import com.linkedin.metadata.key.ChartKey;
+import com.linkedin.metadata.key.DatasetKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -58,6 +61,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Map;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Value;
 import org.testng.annotations.BeforeMethod;
@@ -104,6 +108,10 @@ public class UpdateIndicesHookTest {
   public void setupTest() {
     actorUrn = UrnUtils.getUrn(TEST_ACTOR_URN);
     mockGraphService = Mockito.mock(ElasticSearchGraphService.class);
+    // Batch writes fall back to the single edge writes verified by the tests
+    Mockito.doCallRealMethod().when(mockGraphService).addEdges(Mockito.any());
+    Mockito.doCallRealMethod().when(mockGraphService).upsertEdges(Mockito.any());
+    Mockito.doCallRealMethod().when(mockGraphService).removeEdges(Mockito.any());
     mockEntitySearchService = Mockito.mock(EntitySearchService.class);
     mockTimeseriesAspectService = Mockito.mock(TimeseriesAspectService.class);
     mockSystemMetadataService = Mockito.mock(SystemMetadataService.class);
@@ -467,6 +475,20 @@ public class UpdateIndicesHookTest {
         .upsertDocument(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
+  @Test
+  public void testHardDeleteOfSoftDeletedEntityIsNotUncounted() throws Exception {
+    EntityDocCountCache mockEntityDocCountCache = Mockito.mock(EntityDocCountCache.class);
+    updateIndicesService.setEntityDocCountCache(mockEntityDocCountCache);
+
+    updateIndicesHook.invoke(createDatasetKeyDeleteMCL(false));
+    Mockito.verify(mockEntityDocCountCache, Mockito.times(1)).decrement(DATASET_ENTITY_NAME);
+
+    // Already uncounted when its status was set to removed
+    Mockito.clearInvocations(mockEntityDocCountCache);
+    updateIndicesHook.invoke(createDatasetKeyDeleteMCL(true));
+    Mockito.verify(mockEntityDocCountCache, Mockito.never()).decrement(Mockito.any());
+  }
+
   private EntityRegistry createMockEntityRegistry() {
     // need to mock this registry instead of using test-entity-registry.yml because inputFields does
     // not work due to a known bug
@@ -501,9 +523,35 @@ public class UpdateIndicesHookTest {
     AspectSpec mockSpec = Mockito.mock(AspectSpec.class);
     Mockito.when(mockSpec.getDataTemplateClass()).thenReturn((Class<RecordTemplate>) clazz);
     Mockito.when(mockSpec.getPegasusSchema()).thenReturn(schema);
+    Mockito.when(mockSpec.getFieldExtractionPlan())
+        .thenReturn(new FieldExtractionPlan(Collections.emptyList()));
     return mockSpec;
   }
 
+  private MetadataChangeLog createDatasetKeyDeleteMCL(boolean softDeleted)
+      throws URISyntaxException {
+    DatasetUrn datasetUrn = DatasetUrn.createFromString(TEST_DATASET_URN);
+    DatasetKey datasetKey =
+        new DatasetKey()
+            .setPlatform(datasetUrn.getPlatformEntity())
+            .setName(datasetUrn.getDatasetNameEntity())
+            .setOrigin(datasetUrn.getOriginEntity());
+    SystemMetadata previousSystemMetadata = new SystemMetadata().setRunId(RUN_ID_1);
+    if (softDeleted) {
+      previousSystemMetadata.setProperties(new StringMap(Map.of(SOFT_DELETED_KEY, "true")));
+    }
+
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(datasetUrn);
+    event.setChangeType(ChangeType.DELETE);
+    event.setAspectName(DATASET_KEY_ASPECT_NAME);
+    event.setPreviousAspectValue(GenericRecordUtils.serializeAspect(datasetKey));
+    event.setPreviousSystemMetadata(previousSystemMetadata);
+    event.setCreated(new AuditStamp().setActor(actorUrn).setTime(EVENT_TIME));
+    return event;
+  }
+
   private MetadataChangeLog createUpstreamLineageMCL(Urn upstreamUrn, Urn downstreamUrn)
       throws Exception {
     return createUpstreamLineageMCL(upstreamUrn, downstreamUrn, ChangeType.UPSERT);
@@ -0,0 +1,78 @@
+package com.linkedin.metadata.kafka.hook.policy;
+
+import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.kafka.hook.EntityRegistryTestUtil.ENTITY_REGISTRY;
+import static org.testng.Assert.assertFalse;
+
+import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.List;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PolicyCacheHookTest {
+  private static final Urn POLICY_URN = UrnUtils.getUrn("urn:li:dataHubPolicy:0");
+
+  private DataHubAuthorizer _authorizer;
+  private PolicyCacheHook _policyCacheHook;
+
+  @BeforeMethod
+  public void setupTest() {
+    _authorizer = Mockito.mock(DataHubAuthorizer.class);
+    _policyCacheHook = new PolicyCacheHook(ENTITY_REGISTRY, _authorizer, true);
+  }
+
+  @Test
+  public void testInvokeUpsert() {
+    final DataHubPolicyInfo info =
+        new DataHubPolicyInfo()
+            .setDisplayName("Test Policy")
+            .setDescription("Test policy")
+            .setType("METADATA")
+            .setState("ACTIVE")
+            .setPrivileges(new StringArray(List.of("EDIT_ENTITY_TAGS")))
+            .setActors(new DataHubActorFilter().setAllUsers(true));
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(POLICY_ENTITY_NAME);
+    event.setAspectName(DATAHUB_POLICY_INFO_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setAspect(GenericRecordUtils.serializeAspect(info));
+    event.setEntityUrn(POLICY_URN);
+    _policyCacheHook.invoke(event);
+    Mockito.verify(_authorizer, Mockito.times(1)).upsertPolicy(POLICY_URN, info);
+  }
+
+  @Test
+  public void testInvokeDeleteKeyAspect() {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(POLICY_ENTITY_NAME);
+    event.setAspectName(DATAHUB_POLICY_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.DELETE);
+    event.setEntityUrn(POLICY_URN);
+    _policyCacheHook.invoke(event);
+    Mockito.verify(_authorizer, Mockito.times(1)).removePolicy(POLICY_URN);
+  }
+
+  @Test
+  public void testInvokeWrongAspect() {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(INGESTION_SOURCE_ENTITY_NAME);
+    event.setAspectName(INGESTION_INFO_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    _policyCacheHook.invoke(event);
+    Mockito.verifyNoInteractions(_authorizer);
+  }
+
+  @Test
+  public void testDisabledWithoutAuthorizer() {
+    assertFalse(new PolicyCacheHook(ENTITY_REGISTRY, null, true).isEnabled());
+  }
+}
@@ -14,6 +14,9 @@ import com.linkedin.mxe.FailedMetadataChangeProposal;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -45,8 +49,14 @@ public class MetadataChangeProposalsProcessor {
   private final SystemEntityClient entityClient;
   private final Producer<String, IndexedRecord> kafkaProducer;
 
+  private static final String CONSUMER_GROUP_ID =
+      "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}";
+  private static final String BATCH_ENABLED = "${kafka.consumer.mcp.batchEnabled:false}";
+
   private final Histogram kafkaLagStats =
       MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
 
   @Value(
       "${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:"
@@ -55,9 +65,10 @@ public class MetadataChangeProposalsProcessor {
   private String fmcpTopicName;
 
   @KafkaListener(
-      id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}",
+      id = CONSUMER_GROUP_ID,
       topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
-      containerFactory = "kafkaEventConsumer")
+      containerFactory = "kafkaEventConsumer",
+      autoStartup = "#{!" + BATCH_ENABLED + "}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consume").time()) {
       kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
@@ -89,6 +100,66 @@ public class MetadataChangeProposalsProcessor {
     }
   }
 
+  /**
+   * Batch mode equivalent of {@link #consume(ConsumerRecord)}, enabled with
+   * kafka.consumer.mcp.batchEnabled. The proposals of a poll are ingested together, sharing one
+   * database transaction where the entity client supports it, and only the failing ones are sent
+   * to the FailedMetadataChangeProposal topic. Offsets are committed once the whole poll has been
+   * handled.
+   */
+  @KafkaListener(
+      id = CONSUMER_GROUP_ID + "-batch",
+      groupId = CONSUMER_GROUP_ID,
+      topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
+      containerFactory = "mcpKafkaEventBatchConsumer",
+      autoStartup = BATCH_ENABLED)
+  public void consumeBatch(
+      final List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      final Acknowledgment acknowledgment) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      log.info("Got MCP batch of {} records", consumerRecords.size());
+      batchSizeStats.update(consumerRecords.size());
+
+      final long now = System.currentTimeMillis();
+      final List<MetadataChangeProposal> events = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        kafkaLagStats.update(now - consumerRecord.timestamp());
+        final GenericRecord record = consumerRecord.value();
+        try {
+          events.add(EventUtils.avroToPegasusMCP(record));
+        } catch (Throwable throwable) {
+          log.error("MCP Processor Error", throwable);
+          log.error("Message: {}", record);
+          sendFailedMCP(new MetadataChangeProposal(), throwable);
+        }
+      }
+
+      if (!events.isEmpty()) {
+        ingestBatch(events);
+      }
+      acknowledgment.acknowledge();
+    }
+  }
+
+  private void ingestBatch(@Nonnull List<MetadataChangeProposal> events) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "ingestBatch").time()) {
+      Map<Integer, Exception> failures = entityClient.ingestProposalBatch(events);
+      failures.forEach(
+          (index, exception) -> {
+            log.error("MCP Processor Error", exception);
+            log.error("Message: {}", events.get(index));
+            sendFailedMCP(events.get(index), exception);
+          });
+      log.info(
+          "Successfully processed {} of MCP batch of {} events",
+          events.size() - failures.size(),
+          events.size());
+    } catch (Throwable throwable) {
+      log.error("MCP Processor Error", throwable);
+      events.forEach(event -> sendFailedMCP(event, throwable));
+    }
+  }
+
   private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
     final FailedMetadataChangeProposal failedMetadataChangeProposal =
         createFailedMCPEvent(event, throwable);
@@ -0,0 +1,124 @@
+package com.datahub.authorization;
+
+import com.datahub.plugins.auth.authorization.Authorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authorization state of a single request, shared by all its authorization checks, for instance
+ * the checks on the entities of a search result page or a lineage view.
+ *
+ * <p>Actors are resolved once per session, along with their groups and roles. Resources are
+ * resolved once too, and the resources of a {@link #batchAuthorize(List)} are resolved at once,
+ * fetching their fields with one call per entity type. The resolved fields are never refreshed, a
+ * session must not outlive the request it was created for.
+ *
+ * <p>The other methods are handled by the {@link DataHubAuthorizer} the session was created by.
+ */
+@Slf4j
+public class AuthorizationSession implements Authorizer {
+
+  private final DataHubAuthorizer authorizer;
+  private final EntitySpecResolver entitySpecResolver;
+  private final Map<String, Optional<ResolvedEntitySpec>> actors = new ConcurrentHashMap<>();
+  private final Map<String, PolicyEngine.PolicyEvaluationContext> actorContexts =
+      new ConcurrentHashMap<>();
+  private final Map<EntitySpec, ResolvedEntitySpec> resources = new ConcurrentHashMap<>();
+
+  AuthorizationSession(
+      @Nonnull final DataHubAuthorizer authorizer,
+      @Nonnull final EntitySpecResolver entitySpecResolver) {
+    this.authorizer = authorizer;
+    this.entitySpecResolver = entitySpecResolver;
+  }
+
+  @Override
+  public AuthorizationResult authorize(@Nonnull final AuthorizationRequest request) {
+    return authorizer.authorize(request, this);
+  }
+
+  /**
+   * Authorizes many actions, resolving all their resources at once first. The results are in the
+   * order of the requests.
+   */
+  @Override
+  public List<AuthorizationResult> batchAuthorize(
+      @Nonnull final List<AuthorizationRequest> requests) {
+    final Set<EntitySpec> unresolvedResources =
+        requests.stream()
+            .filter(authorizer::isEvaluated)
+            .map(AuthorizationRequest::getResourceSpec)
+            .flatMap(Optional::stream)
+            .filter(resourceSpec -> !resources.containsKey(resourceSpec))
+            .collect(Collectors.toSet());
+    if (unresolvedResources.size() > 1) {
+      resources.putAll(entitySpecResolver.resolveAll(unresolvedResources));
+    }
+    return requests.stream().map(this::authorize).collect(Collectors.toList());
+  }
+
+  @Override
+  public AuthorizedActors authorizedActors(
+      final String privilege, final Optional<EntitySpec> resourceSpec) {
+    return authorizer.authorizedActors(privilege, resourceSpec);
+  }
+
+  @Override
+  public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull final Urn actorUrn) {
+    return authorizer.getActorPolicies(actorUrn);
+  }
+
+  @Override
+  public Collection<Urn> getActorGroups(@Nonnull final Urn actorUrn) {
+    return authorizer.getActorGroups(actorUrn);
+  }
+
+  @Override
+  public Collection<Urn> getActorPeers(@Nonnull final Urn actorUrn) {
+    return authorizer.getActorPeers(actorUrn);
+  }
+
+  /** Resolves the actor, empty if the actor is not an urn. */
+  Optional<ResolvedEntitySpec> resolveActor(@Nonnull final String actor) {
+    return actors.computeIfAbsent(
+        actor,
+        key ->
+            getUrnFromRequestActor(actor)
+                .map(
+                    actorUrn ->
+                        entitySpecResolver.resolve(
+                            new EntitySpec(actorUrn.getEntityType(), actor))));
+  }
+
+  /** Returns the context of the policy evaluations for the actor. */
+  PolicyEngine.PolicyEvaluationContext getActorContext(@Nonnull final String actor) {
+    return actorContexts.computeIfAbsent(
+        actor, key -> new PolicyEngine.PolicyEvaluationContext());
+  }
+
+  ResolvedEntitySpec resolveResource(@Nonnull final EntitySpec resourceSpec) {
+    return resources.computeIfAbsent(resourceSpec, entitySpecResolver::resolve);
+  }
+
+  private static Optional<Urn> getUrnFromRequestActor(String actor) {
+    try {
+      return Optional.of(Urn.createFromString(actor));
+    } catch (URISyntaxException e) {
+      log.error(
+          String.format(
+              "Failed to bind actor %s to an URN. Actors must be URNs. Denying the authorization request",
+              actor));
+      return Optional.empty();
+    }
+  }
+}
@@ -92,6 +92,73 @@ public class AuthorizerChain implements Authorizer {
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
   }
 
+  /**
+   * Executes the {@link Authorizer}s in series on the requests which have not been allowed yet.
+   * Each authorizer receives all these requests at once, so it can resolve them in batch.
+   *
+   * <p>Returns the results in the order of the requests.
+   */
+  @Override
+  public List<AuthorizationResult> batchAuthorize(
+      @Nonnull final List<AuthorizationRequest> requests) {
+    Objects.requireNonNull(requests);
+    final AuthorizationResult[] results = new AuthorizationResult[requests.size()];
+    // Save contextClassLoader
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+    for (final Authorizer authorizer : this.authorizers) {
+      final List<Integer> pendingIndexes = new ArrayList<>();
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] == null) {
+          pendingIndexes.add(i);
+        }
+      }
+      if (pendingIndexes.isEmpty()) {
+        break;
+      }
+      try {
+        log.debug(
+            "Executing Authorizer with class name {} on {} requests",
+            authorizer.getClass().getCanonicalName(),
+            pendingIndexes.size());
+        Thread.currentThread().setContextClassLoader(authorizer.getClass().getClassLoader());
+        final List<AuthorizationResult> authorizerResults =
+            authorizer.batchAuthorize(
+                pendingIndexes.stream().map(requests::get).collect(Collectors.toList()));
+        for (int i = 0; i < pendingIndexes.size(); i++) {
+          if (AuthorizationResult.Type.ALLOW.equals(authorizerResults.get(i).type)) {
+            results[pendingIndexes.get(i)] = authorizerResults.get(i);
+          }
+        }
+      } catch (Exception e) {
+        log.error(
+            "Caught exception while attempting to authorize requests using Authorizer {}. Skipping authorizer.",
+            authorizer.getClass().getCanonicalName(),
+            e);
+      } finally {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+      }
+    }
+
+    // Return failed Authorization results for the requests no authorizer allowed.
+    final List<AuthorizationResult> finalResults = new ArrayList<>(results.length);
+    for (int i = 0; i < results.length; i++) {
+      finalResults.add(
+          results[i] != null
+              ? results[i]
+              : new AuthorizationResult(requests.get(i), AuthorizationResult.Type.DENY, null));
+    }
+    return finalResults;
+  }
+
+  /** Returns a chain of the authorizers to use for the checks of a single request. */
+  @Override
+  public Authorizer forRequest() {
+    return new AuthorizerChain(
+        authorizers.stream().map(Authorizer::forRequest).collect(Collectors.toList()),
+        defaultAuthorizer);
+  }
+
   @Override
   public AuthorizedActors authorizedActors(String privilege, Optional<EntitySpec> resourceSpec) {
     if (this.authorizers.isEmpty()) {
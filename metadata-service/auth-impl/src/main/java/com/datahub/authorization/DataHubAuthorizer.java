@@ -9,10 +9,9 @@ import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.policy.DataHubPolicyInfo;
 import io.datahubproject.metadata.context.OperationContext;
-import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,11 +21,9 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,12 +48,14 @@ public class DataHubAuthorizer implements Authorizer {
     ALLOW_ALL
   }
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  protected final Map<String, List<DataHubPolicyInfo>> policyCache =
-      new HashMap<>(); // Shared Policy Cache.
-  protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  protected final Lock readLock = readWriteLock.readLock();
+  // Snapshot of the policies, indexed by privilege, resource type and actor for fast access.
+  // Replaced as a whole on every update, so reads never lock.
+  protected volatile PolicyIndex policyIndex = PolicyIndex.EMPTY; // Shared Policy Cache.
+
+  // Guards the updates of the policy index.
+  private final Object policyUpdateLock = new Object();
+  // Policies updated while a refresh is fetching the policies, re-applied to the fetched policies.
+  @Nullable private Map<Urn, Optional<DataHubPolicyInfo>> updatesDuringRefresh;
 
   private final ScheduledExecutorService refreshExecutorService =
       Executors.newScheduledThreadPool(1);
@@ -82,11 +81,7 @@ public class DataHubAuthorizer implements Authorizer {
     if (refreshIntervalSeconds > 0) {
       policyRefreshRunnable =
           new PolicyRefreshRunnable(
-              systemOpContext,
-              new PolicyFetcher(entityClient),
-              policyCache,
-              readWriteLock.writeLock(),
-              policyFetchSize);
+              systemOpContext, new PolicyFetcher(entityClient), this, policyFetchSize);
       refreshExecutorService.scheduleAtFixedRate(
           policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
     } else {
@@ -101,6 +96,31 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   public AuthorizationResult authorize(@Nonnull final AuthorizationRequest request) {
+    return forRequest().authorize(request);
+  }
+
+  /**
+   * Authorizes many actions within a single {@link AuthorizationSession}, resolving their actors
+   * once and their resources in batch. Prefer it to {@link #authorize(AuthorizationRequest)} for
+   * the entities of list views.
+   */
+  @Override
+  public List<AuthorizationResult> batchAuthorize(
+      @Nonnull final List<AuthorizationRequest> requests) {
+    return forRequest().batchAuthorize(requests);
+  }
+
+  /**
+   * Starts a session memoizing the actors and resources resolved by the authorization checks of
+   * the request.
+   */
+  @Override
+  public AuthorizationSession forRequest() {
+    return new AuthorizationSession(this, entitySpecResolver);
+  }
+
+  AuthorizationResult authorize(
+      @Nonnull final AuthorizationRequest request, @Nonnull final AuthorizationSession session) {
 
     // 0. Short circuit: If the action is being performed by the system (root), always allow it.
     if (isSystemRequest(request, systemOpContext.getAuthentication())) {
@@ -108,17 +128,20 @@ public class DataHubAuthorizer implements Authorizer {
     }
 
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
-        request.getResourceSpec().map(entitySpecResolver::resolve);
+        request.getResourceSpec().map(session::resolveResource);
+
+    // Resolved once per session, its fields are resolved lazily and shared by all the policies.
+    Optional<ResolvedEntitySpec> resolvedActorSpec = session.resolveActor(request.getActorUrn());
 
-    // 1. Fetch the policies relevant to the requested privilege.
+    // 1. Fetch the policies which may grant the requested privilege.
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(request.getPrivilege(), new ArrayList<>()));
+        new LinkedList<>(getCandidatePolicies(request, resolvedActorSpec));
     policiesToEvaluate.addAll(
         PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn())));
 
     // 2. Evaluate each policy.
     for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
+      if (isRequestGranted(policy, request, resolvedActorSpec, resolvedResourceSpec, session)) {
         // Short circuit if policy has granted privileges to this actor.
         return new AuthorizationResult(
             request,
@@ -136,7 +159,7 @@ public class DataHubAuthorizer implements Authorizer {
 
     // 1. Fetch all policies
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+        new LinkedList<>(policyIndex.getPolicies(ALL));
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     final ResolvedEntitySpec resolvedActorSpec =
@@ -153,7 +176,7 @@ public class DataHubAuthorizer implements Authorizer {
   public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull Urn actorUrn) {
     // 1. Fetch all policies
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+        new LinkedList<>(policyIndex.getPolicies(ALL));
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     // 2. Actor identity
@@ -204,7 +227,7 @@ public class DataHubAuthorizer implements Authorizer {
     boolean allGroups = false;
 
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = policyIndex.getPolicies(privilege);
 
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
         resourceSpec.map(entitySpecResolver::resolve);
@@ -237,8 +260,8 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   /**
-   * Invalidates the policy cache and fires off a refresh thread. Should be invoked when a policy is
-   * created, modified, or deleted.
+   * Invalidates the policy cache and fires off a refresh thread. Prefer {@link #upsertPolicy} and
+   * {@link #removePolicy} when the changed policy is known, they do not re-fetch all the policies.
    */
   public void invalidateCache() {
     if (policyRefreshRunnable != null) {
@@ -246,6 +269,70 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
+  /**
+   * Adds or replaces a single policy in the policy cache. Should be invoked when a policy is
+   * created or modified.
+   */
+  public void upsertPolicy(@Nonnull final Urn policyUrn, @Nonnull final DataHubPolicyInfo policy) {
+    updatePolicy(policyUrn, Optional.of(policy));
+  }
+
+  /** Removes a single policy from the policy cache. Should be invoked when a policy is deleted. */
+  public void removePolicy(@Nonnull final Urn policyUrn) {
+    updatePolicy(policyUrn, Optional.empty());
+  }
+
+  /** Replaces all the policies of the policy cache. */
+  protected void setPolicies(@Nonnull final Map<Urn, DataHubPolicyInfo> policies) {
+    synchronized (policyUpdateLock) {
+      policyIndex = PolicyIndex.of(policies);
+    }
+  }
+
+  private void updatePolicy(
+      @Nonnull final Urn policyUrn, @Nonnull final Optional<DataHubPolicyInfo> policy) {
+    synchronized (policyUpdateLock) {
+      policyIndex = applyUpdate(policyIndex, policyUrn, policy);
+      if (updatesDuringRefresh != null) {
+        updatesDuringRefresh.put(policyUrn, policy);
+      }
+    }
+  }
+
+  private static PolicyIndex applyUpdate(
+      @Nonnull final PolicyIndex index,
+      @Nonnull final Urn policyUrn,
+      @Nonnull final Optional<DataHubPolicyInfo> policy) {
+    return policy
+        .map(policyInfo -> index.withPolicy(policyUrn, policyInfo))
+        .orElseGet(() -> index.withoutPolicy(policyUrn));
+  }
+
+  /** Starts recording the updates to re-apply once the refreshed policies are fetched. */
+  private void beginRefresh() {
+    synchronized (policyUpdateLock) {
+      updatesDuringRefresh = new LinkedHashMap<>();
+    }
+  }
+
+  /**
+   * Swaps in the refreshed policies. The fetched policies may miss updates made while they were
+   * fetched, as the search index is eventually consistent, so these updates are applied again.
+   */
+  private void completeRefresh(@Nullable final Map<Urn, DataHubPolicyInfo> policies) {
+    synchronized (policyUpdateLock) {
+      if (policies != null) {
+        PolicyIndex newIndex = PolicyIndex.of(policies);
+        for (Map.Entry<Urn, Optional<DataHubPolicyInfo>> update :
+            updatesDuringRefresh.entrySet()) {
+          newIndex = applyUpdate(newIndex, update.getKey(), update.getValue());
+        }
+        policyIndex = newIndex;
+      }
+      updatesDuringRefresh = null;
+    }
+  }
+
   public AuthorizationMode mode() {
     return mode;
   }
@@ -263,56 +350,59 @@ public class DataHubAuthorizer implements Authorizer {
     return systemAuthentication.getActor().toUrnStr().equals(request.getActorUrn());
   }
 
+  /** Returns true if the policies are evaluated for the request, which is not always allowed. */
+  boolean isEvaluated(final AuthorizationRequest request) {
+    return !AuthorizationMode.ALLOW_ALL.equals(mode())
+        && !isSystemRequest(request, systemOpContext.getAuthentication());
+  }
+
+  /**
+   * Returns the policies which may grant the requested privilege, narrowed down by the type of the
+   * resource and the actor unless all the policies grant it.
+   */
+  private List<DataHubPolicyInfo> getCandidatePolicies(
+      final AuthorizationRequest request, final Optional<ResolvedEntitySpec> resolvedActorSpec) {
+    final PolicyIndex index = policyIndex;
+    if (AuthorizationMode.ALLOW_ALL.equals(mode()) || resolvedActorSpec.isEmpty()) {
+      return index.getPolicies(request.getPrivilege());
+    }
+    return index.getCandidates(
+        request.getPrivilege(),
+        request.getResourceSpec().map(EntitySpec::getType),
+        request.getActorUrn(),
+        () -> resolvedActorSpec.get().getGroupMembership());
+  }
+
   /** Returns true if a policy grants the requested privilege for a given actor and resource. */
   private boolean isRequestGranted(
       final DataHubPolicyInfo policy,
       final AuthorizationRequest request,
-      final Optional<ResolvedEntitySpec> resourceSpec) {
+      final Optional<ResolvedEntitySpec> resolvedActorSpec,
+      final Optional<ResolvedEntitySpec> resourceSpec,
+      final AuthorizationSession session) {
     if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
       return true;
     }
 
-    Optional<Urn> actorUrn = getUrnFromRequestActor(request.getActorUrn());
-    if (actorUrn.isEmpty()) {
+    if (resolvedActorSpec.isEmpty()) {
       return false;
     }
 
-    final ResolvedEntitySpec resolvedActorSpec =
-        entitySpecResolver.resolve(
-            new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
     final PolicyEngine.PolicyEvaluationResult result =
         policyEngine.evaluatePolicy(
-            policy, resolvedActorSpec, request.getPrivilege(), resourceSpec);
+            policy,
+            resolvedActorSpec.get(),
+            request.getPrivilege(),
+            resourceSpec,
+            session.getActorContext(request.getActorUrn()));
     return result.isGranted();
   }
 
-  private Optional<Urn> getUrnFromRequestActor(String actor) {
-    try {
-      return Optional.of(Urn.createFromString(actor));
-    } catch (URISyntaxException e) {
-      log.error(
-          String.format(
-              "Failed to bind actor %s to an URN. Actors must be URNs. Denying the authorization request",
-              actor));
-      return Optional.empty();
-    }
-  }
-
-  private List<DataHubPolicyInfo> getOrDefault(String key, List<DataHubPolicyInfo> defaultValue) {
-    readLock.lock();
-    try {
-      return policyCache.getOrDefault(key, defaultValue);
-    } finally {
-      // To unlock the acquired read thread
-      readLock.unlock();
-    }
-  }
-
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
-   * <p>Currently, the refresh logic is not very smart. When the cache is invalidated, we simply
-   * re-fetch the entire cache using Policies stored in the backend.
+   * <p>Policies changed through {@link #upsertPolicy} and {@link #removePolicy} are updated in
+   * place, the periodic refresh catches up with changes made elsewhere.
    */
   @VisibleForTesting
   @RequiredArgsConstructor
@@ -320,75 +410,55 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final OperationContext systemOpContext;
     private final PolicyFetcher policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> policyCache;
-    private final Lock writeLock;
+    private final DataHubAuthorizer authorizer;
     private final int count;
 
     @Override
     public void run() {
+      authorizer.beginRefresh();
+      Map<Urn, DataHubPolicyInfo> newPolicies = null;
       try {
-        // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
-        Integer total = null;
-        String scrollId = null;
-
-        while (total == null || scrollId != null) {
-          try {
-            final PolicyFetcher.PolicyFetchResult policyFetchResult =
-                policyFetcher.fetchPolicies(systemOpContext, count, scrollId, null);
-
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
-
-            total = policyFetchResult.getTotal();
-            scrollId = policyFetchResult.getScrollId();
-          } catch (Exception e) {
-            log.error(
-                "Failed to retrieve policy urns! Skipping updating policy cache until next refresh. count: {}, scrollId: {}",
-                count,
-                scrollId,
-                e);
-            return;
-          }
-        }
-
-        writeLock.lock();
-        try {
-          policyCache.clear();
-          policyCache.putAll(newCache);
-        } finally {
-          // To unlock the acquired write thread
-          writeLock.unlock();
-        }
-
-        log.debug(String.format("Successfully fetched %s policies.", total));
+        newPolicies = fetchPolicies();
       } catch (Exception e) {
         log.error(
             "Caught exception while loading Policy cache. Will retry on next scheduled attempt.",
             e);
+      } finally {
+        authorizer.completeRefresh(newPolicies);
       }
     }
 
-    private void addPoliciesToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
+    /** Fetches all the policies, null if they could not be fetched. */
+    @Nullable
+    private Map<Urn, DataHubPolicyInfo> fetchPolicies() {
+      // Populate new cache and swap.
+      Map<Urn, DataHubPolicyInfo> newPolicies = new LinkedHashMap<>();
+      Integer total = null;
+      String scrollId = null;
 
-    private void addPolicyToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies =
-            cache.containsKey(privilege)
-                ? new ArrayList<>(cache.get(privilege))
-                : new ArrayList<>();
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
+      while (total == null || scrollId != null) {
+        try {
+          final PolicyFetcher.PolicyFetchResult policyFetchResult =
+              policyFetcher.fetchPolicies(systemOpContext, count, scrollId, null);
+
+          policyFetchResult
+              .getPolicies()
+              .forEach(policy -> newPolicies.put(policy.getUrn(), policy.getPolicyInfo()));
+
+          total = policyFetchResult.getTotal();
+          scrollId = policyFetchResult.getScrollId();
+        } catch (Exception e) {
+          log.error(
+              "Failed to retrieve policy urns! Skipping updating policy cache until next refresh. count: {}, scrollId: {}",
+              count,
+              scrollId,
+              e);
+          return null;
+        }
       }
-      List<DataHubPolicyInfo> existingPolicies =
-          cache.containsKey(ALL) ? new ArrayList<>(cache.get(ALL)) : new ArrayList<>();
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
+
+      log.debug(String.format("Successfully fetched %s policies.", total));
+      return newPolicies;
     }
   }
 }
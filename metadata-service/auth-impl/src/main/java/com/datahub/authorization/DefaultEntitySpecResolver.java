@@ -10,14 +10,28 @@ import com.datahub.authorization.fieldresolverprovider.GroupMembershipFieldResol
 import com.datahub.authorization.fieldresolverprovider.OwnerFieldResolverProvider;
 import com.datahub.authorization.fieldresolverprovider.TagFieldResolverProvider;
 import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.util.Pair;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 public class DefaultEntitySpecResolver implements EntitySpecResolver {
   private final List<EntityFieldResolverProvider> _entityFieldResolverProviders;
+  private final EntityClient _entityClient;
+  private final Authentication _systemAuthentication;
+  // Aspects all the field values are resolved from, fetched at once by resolveAll
+  private final Set<String> _aspectNames;
 
   public DefaultEntitySpecResolver(Authentication systemAuthentication, EntityClient entityClient) {
     _entityFieldResolverProviders =
@@ -29,6 +43,12 @@ public class DefaultEntitySpecResolver implements EntitySpecResolver {
             new DataPlatformInstanceFieldResolverProvider(entityClient, systemAuthentication),
             new GroupMembershipFieldResolverProvider(entityClient, systemAuthentication),
             new TagFieldResolverProvider(entityClient, systemAuthentication));
+    _entityClient = entityClient;
+    _systemAuthentication = systemAuthentication;
+    _aspectNames =
+        _entityFieldResolverProviders.stream()
+            .flatMap(provider -> provider.getAspectNames().stream())
+            .collect(Collectors.toSet());
   }
 
   @Override
@@ -36,6 +56,42 @@ public class DefaultEntitySpecResolver implements EntitySpecResolver {
     return new ResolvedEntitySpec(entitySpec, getFieldResolvers(entitySpec));
   }
 
+  /**
+   * Resolves the entity specs, fetching the aspects the field values are resolved from with one
+   * call per entity type. Entity specs which are not URNs, or whose aspects cannot be fetched, are
+   * resolved on their own.
+   */
+  @Override
+  public Map<EntitySpec, ResolvedEntitySpec> resolveAll(Collection<EntitySpec> entitySpecs) {
+    final Map<EntitySpec, ResolvedEntitySpec> resolved = new HashMap<>();
+    final Map<String, Map<EntitySpec, Urn>> urnsByEntityType = new HashMap<>();
+    for (EntitySpec entitySpec : entitySpecs) {
+      final Urn urn = getUrn(entitySpec);
+      if (urn == null) {
+        resolved.put(entitySpec, resolve(entitySpec));
+      } else {
+        urnsByEntityType
+            .computeIfAbsent(urn.getEntityType(), key -> new HashMap<>())
+            .put(entitySpec, urn);
+      }
+    }
+
+    urnsByEntityType.forEach(
+        (entityType, urns) -> {
+          final Map<Urn, EntityResponse> responses =
+              batchGetAspects(entityType, new HashSet<>(urns.values()));
+          urns.forEach(
+              (entitySpec, urn) ->
+                  resolved.put(
+                      entitySpec,
+                      responses == null
+                          ? resolve(entitySpec)
+                          : new ResolvedEntitySpec(
+                              entitySpec, getFieldResolvers(entitySpec, responses.get(urn)))));
+        });
+    return resolved;
+  }
+
   private Map<EntityFieldType, FieldResolver> getFieldResolvers(EntitySpec entitySpec) {
     return _entityFieldResolverProviders.stream()
         .flatMap(
@@ -44,4 +100,43 @@ public class DefaultEntitySpecResolver implements EntitySpecResolver {
         .collect(
             Collectors.toMap(Pair::getKey, pair -> pair.getValue().getFieldResolver(entitySpec)));
   }
+
+  private Map<EntityFieldType, FieldResolver> getFieldResolvers(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return _entityFieldResolverProviders.stream()
+        .flatMap(
+            resolver ->
+                resolver.getFieldTypes().stream().map(fieldType -> Pair.of(fieldType, resolver)))
+        .collect(
+            Collectors.toMap(
+                Pair::getKey,
+                pair -> pair.getValue().getFieldResolver(entitySpec, entityResponse)));
+  }
+
+  /** Fetches the aspects of the entities, null if they could not be fetched. */
+  @Nullable
+  private Map<Urn, EntityResponse> batchGetAspects(String entityType, Set<Urn> urns) {
+    try {
+      return _entityClient.batchGetV2(entityType, urns, _aspectNames, _systemAuthentication);
+    } catch (Exception e) {
+      log.error(
+          "Error while retrieving aspects of {} {} entities, resolving them one by one",
+          urns.size(),
+          entityType,
+          e);
+      return null;
+    }
+  }
+
+  @Nullable
+  private static Urn getUrn(EntitySpec entitySpec) {
+    if (entitySpec.getEntity().isEmpty()) {
+      return null;
+    }
+    try {
+      return Urn.createFromString(entitySpec.getEntity());
+    } catch (URISyntaxException e) {
+      return null;
+    }
+  }
 }
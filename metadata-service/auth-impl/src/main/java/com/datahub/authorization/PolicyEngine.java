@@ -34,8 +34,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -56,8 +56,21 @@ public class PolicyEngine {
       final ResolvedEntitySpec resolvedActorSpec,
       final String privilege,
       final Optional<ResolvedEntitySpec> resource) {
+    return evaluatePolicy(
+        policy, resolvedActorSpec, privilege, resource, new PolicyEvaluationContext());
+  }
+
+  /**
+   * Evaluates a policy, reusing the groups, roles and resource owners resolved in the context by
+   * the previous evaluations for the same actor.
+   */
+  PolicyEvaluationResult evaluatePolicy(
+      final DataHubPolicyInfo policy,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final String privilege,
+      final Optional<ResolvedEntitySpec> resource,
+      final PolicyEvaluationContext context) {
 
-    final PolicyEvaluationContext context = new PolicyEvaluationContext();
     log.debug("Evaluating policy {}", policy.getDisplayName());
 
     // If the privilege is not in scope, deny the request.
@@ -204,7 +217,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by
    * constructing PolicyMatchFilter object from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -328,35 +341,45 @@ public class PolicyEngine {
   }
 
   private Set<String> getOwnersForType(
-      @Nonnull EntitySpec resourceSpec, @Nonnull List<Urn> ownershipTypes) {
-    if (resourceSpec.getEntity().isEmpty()) {
+      @Nonnull ResolvedEntitySpec resourceSpec,
+      @Nullable List<Urn> ownershipTypes,
+      @Nonnull PolicyEvaluationContext context) {
+    if (resourceSpec.getSpec().getEntity().isEmpty()) {
       return Set.of();
-    } else {
-      Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
-      EnvelopedAspect ownershipAspect;
-      try {
-        EntityResponse response =
-            _entityClient.getV2(
-                entityUrn.getEntityType(),
-                entityUrn,
-                Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME),
-                _systemAuthentication);
-        if (response == null
-            || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
-          return Collections.emptySet();
-        }
-        ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
-      } catch (Exception e) {
-        log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
-        return Collections.emptySet();
-      }
-      Ownership ownership = new Ownership(ownershipAspect.getValue().data());
-      Stream<Owner> ownersStream = ownership.getOwners().stream();
-      if (ownershipTypes != null) {
-        ownersStream = ownersStream.filter(owner -> ownershipTypes.contains(owner.getTypeUrn()));
+    }
+    if (ownershipTypes == null) {
+      // Owners of any type are resolved with the other fields of the resource
+      return resourceSpec.getOwners();
+    }
+    final List<Owner> owners =
+        context.owners.computeIfAbsent(
+            resourceSpec.getSpec().getEntity(), entity -> getOwners(resourceSpec.getSpec()));
+    return owners.stream()
+        .filter(owner -> ownershipTypes.contains(owner.getTypeUrn()))
+        .map(owner -> owner.getOwner().toString())
+        .collect(Collectors.toSet());
+  }
+
+  private List<Owner> getOwners(@Nonnull EntitySpec resourceSpec) {
+    Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
+    EnvelopedAspect ownershipAspect;
+    try {
+      EntityResponse response =
+          _entityClient.getV2(
+              entityUrn.getEntityType(),
+              entityUrn,
+              Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME),
+              _systemAuthentication);
+      if (response == null
+          || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+        return Collections.emptyList();
       }
-      return ownersStream.map(owner -> owner.getOwner().toString()).collect(Collectors.toSet());
+      ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
+    } catch (Exception e) {
+      log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
+      return Collections.emptyList();
     }
+    return new Ownership(ownershipAspect.getValue().data()).getOwners();
   }
 
   private boolean isActorOwner(
@@ -364,7 +387,7 @@ public class PolicyEngine {
       ResolvedEntitySpec resourceSpec,
       List<Urn> ownershipTypes,
       PolicyEvaluationContext context) {
-    Set<String> owners = this.getOwnersForType(resourceSpec.getSpec(), ownershipTypes);
+    Set<String> owners = this.getOwnersForType(resourceSpec, ownershipTypes, context);
     if (isUserOwner(resolvedActorSpec, owners)) {
       return true;
     }
@@ -418,6 +441,7 @@ public class PolicyEngine {
                   _systemAuthentication)
               .get(actorUrn);
       if (corpUser == null || !corpUser.hasAspects()) {
+        context.setRoles(roles);
         return roles;
       }
       aspectMap = corpUser.getAspects();
@@ -453,9 +477,7 @@ public class PolicyEngine {
       roles.addAll(getRolesFromGroups(memberships));
     }
 
-    if (!roles.isEmpty()) {
-      context.setRoles(roles);
-    }
+    context.setRoles(roles);
 
     return roles;
   }
@@ -504,10 +526,15 @@ public class PolicyEngine {
     return groups;
   }
 
-  /** Class used to store state across a single Policy evaluation. */
+  /**
+   * Class used to store state across Policy evaluations for a single actor. Shared by the
+   * evaluations of a request, it must not outlive it.
+   */
   static class PolicyEvaluationContext {
-    private Set<String> groups;
-    private Set<Urn> roles;
+    private volatile Set<String> groups;
+    private volatile Set<Urn> roles;
+    // Owners of the resources, by resource urn.
+    private final Map<String, List<Owner>> owners = new ConcurrentHashMap<>();
 
     public void setGroups(Set<String> groups) {
       this.groups = groups;
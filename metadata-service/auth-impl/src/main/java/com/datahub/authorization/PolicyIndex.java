@@ -0,0 +1,229 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Immutable snapshot of the DataHub policies, indexed for authorization.
+ *
+ * <p>Policies are indexed by privilege, then by the resource types they are restricted to and by
+ * the users & groups they are granted to. The candidates of a request are the policies which may
+ * grant it; they still need to be evaluated by the {@link PolicyEngine}. Candidates are returned
+ * in the order the policies were added, the order they would be evaluated in without the index.
+ *
+ * <p>Updates return a new snapshot, so readers never lock.
+ */
+public final class PolicyIndex {
+
+  public static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyMap());
+
+  private final Map<Urn, DataHubPolicyInfo> policies;
+  private final Map<String, List<DataHubPolicyInfo>> byPrivilege = new HashMap<>();
+  private final Map<String, PrivilegeIndex> privilegeIndexes = new HashMap<>();
+
+  private PolicyIndex(@Nonnull Map<Urn, DataHubPolicyInfo> policies) {
+    this.policies = Collections.unmodifiableMap(policies);
+    int ordinal = 0;
+    for (DataHubPolicyInfo policy : policies.values()) {
+      final IndexedPolicy indexedPolicy = new IndexedPolicy(ordinal++, policy);
+      for (String privilege : policy.getPrivileges()) {
+        byPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+        privilegeIndexes.computeIfAbsent(privilege, key -> new PrivilegeIndex()).add(indexedPolicy);
+      }
+      byPrivilege.computeIfAbsent(DataHubAuthorizer.ALL, key -> new ArrayList<>()).add(policy);
+    }
+  }
+
+  /** Builds an index of the policies, keeping their order. */
+  @Nonnull
+  public static PolicyIndex of(@Nonnull Map<Urn, DataHubPolicyInfo> policies) {
+    return new PolicyIndex(new LinkedHashMap<>(policies));
+  }
+
+  /** Returns a new index with the policy added, or replaced if it already exists. */
+  @Nonnull
+  public PolicyIndex withPolicy(@Nonnull Urn urn, @Nonnull DataHubPolicyInfo policy) {
+    final Map<Urn, DataHubPolicyInfo> newPolicies = new LinkedHashMap<>(policies);
+    newPolicies.put(urn, policy);
+    return new PolicyIndex(newPolicies);
+  }
+
+  /** Returns a new index without the policy. */
+  @Nonnull
+  public PolicyIndex withoutPolicy(@Nonnull Urn urn) {
+    if (!policies.containsKey(urn)) {
+      return this;
+    }
+    final Map<Urn, DataHubPolicyInfo> newPolicies = new LinkedHashMap<>(policies);
+    newPolicies.remove(urn);
+    return new PolicyIndex(newPolicies);
+  }
+
+  @Nonnull
+  public Map<Urn, DataHubPolicyInfo> getPolicies() {
+    return policies;
+  }
+
+  /**
+   * Returns the policies including a privilege, or all the policies for {@link
+   * DataHubAuthorizer#ALL}.
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getPolicies(@Nonnull String privilege) {
+    return Collections.unmodifiableList(
+        byPrivilege.getOrDefault(privilege, Collections.emptyList()));
+  }
+
+  /**
+   * Returns the policies which may grant the privilege to the actor on the resource.
+   *
+   * @param privilege the requested privilege
+   * @param resourceType the type of the resource, empty if there is no resource
+   * @param actor the urn of the actor
+   * @param actorGroups the groups of the actor, only resolved if a policy is granted to a group
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getCandidates(
+      @Nonnull String privilege,
+      @Nonnull Optional<String> resourceType,
+      @Nonnull String actor,
+      @Nonnull Supplier<Set<String>> actorGroups) {
+    final PrivilegeIndex privilegeIndex = privilegeIndexes.get(privilege);
+    if (privilegeIndex == null) {
+      return Collections.emptyList();
+    }
+    final TreeMap<Integer, DataHubPolicyInfo> candidates = new TreeMap<>();
+    privilegeIndex.addCandidates(null, actor, actorGroups, candidates);
+    resourceType.ifPresent(
+        type -> privilegeIndex.addCandidates(type, actor, actorGroups, candidates));
+    return new ArrayList<>(candidates.values());
+  }
+
+  /** The resource types a policy is restricted to, null if it is not restricted by type. */
+  @Nullable
+  private static Set<String> getResourceTypes(@Nonnull DataHubPolicyInfo policy) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType())
+        || policy.getResources() == null) {
+      return null;
+    }
+    // A criterion on the type must match, as all the criteria of the filter must match
+    for (PolicyMatchCriterion criterion :
+        PolicyEngine.getFilter(policy.getResources()).getCriteria()) {
+      final String field = criterion.getField().toUpperCase();
+      if ((EntityFieldType.TYPE.name().equals(field)
+              || EntityFieldType.RESOURCE_TYPE.name().equals(field))
+          && criterion.getCondition() == PolicyMatchCondition.EQUALS) {
+        return new HashSet<>(criterion.getValues());
+      }
+    }
+    return null;
+  }
+
+  private static final class IndexedPolicy {
+    private final int ordinal;
+    private final DataHubPolicyInfo policy;
+
+    private IndexedPolicy(int ordinal, @Nonnull DataHubPolicyInfo policy) {
+      this.ordinal = ordinal;
+      this.policy = policy;
+    }
+  }
+
+  /** Policies of a privilege, by resource type, null for policies not restricted by type. */
+  private static final class PrivilegeIndex {
+    private final Map<String, ActorIndex> byResourceType = new HashMap<>();
+
+    private void add(@Nonnull IndexedPolicy policy) {
+      final Set<String> resourceTypes = getResourceTypes(policy.policy);
+      if (resourceTypes == null) {
+        byResourceType.computeIfAbsent(null, key -> new ActorIndex()).add(policy);
+      } else {
+        for (String resourceType : resourceTypes) {
+          byResourceType.computeIfAbsent(resourceType, key -> new ActorIndex()).add(policy);
+        }
+      }
+    }
+
+    private void addCandidates(
+        @Nullable String resourceType,
+        @Nonnull String actor,
+        @Nonnull Supplier<Set<String>> actorGroups,
+        @Nonnull Map<Integer, DataHubPolicyInfo> candidates) {
+      final ActorIndex actorIndex = byResourceType.get(resourceType);
+      if (actorIndex != null) {
+        actorIndex.addCandidates(actor, actorGroups, candidates);
+      }
+    }
+  }
+
+  /**
+   * Policies by the users & groups they are granted to. Policies granted to all users or groups,
+   * to owners or to roles need the actor to be resolved, they are always candidates.
+   */
+  private static final class ActorIndex {
+    private final List<IndexedPolicy> anyActor = new ArrayList<>();
+    private final Map<String, List<IndexedPolicy>> byUser = new HashMap<>();
+    private final Map<String, List<IndexedPolicy>> byGroup = new HashMap<>();
+
+    private void add(@Nonnull IndexedPolicy policy) {
+      final DataHubActorFilter actors = policy.policy.getActors();
+      if (actors.isAllUsers()
+          || actors.isAllGroups()
+          || actors.isResourceOwners()
+          || actors.hasRoles()) {
+        anyActor.add(policy);
+        return;
+      }
+      if (actors.hasUsers()) {
+        addByUrn(byUser, actors.getUsers(), policy);
+      }
+      if (actors.hasGroups()) {
+        addByUrn(byGroup, actors.getGroups(), policy);
+      }
+    }
+
+    private static void addByUrn(
+        @Nonnull Map<String, List<IndexedPolicy>> index,
+        @Nonnull Collection<Urn> urns,
+        @Nonnull IndexedPolicy policy) {
+      for (Urn urn : urns) {
+        index.computeIfAbsent(urn.toString(), key -> new ArrayList<>()).add(policy);
+      }
+    }
+
+    private void addCandidates(
+        @Nonnull String actor,
+        @Nonnull Supplier<Set<String>> actorGroups,
+        @Nonnull Map<Integer, DataHubPolicyInfo> candidates) {
+      anyActor.forEach(policy -> candidates.put(policy.ordinal, policy.policy));
+      byUser
+          .getOrDefault(actor, Collections.emptyList())
+          .forEach(policy -> candidates.put(policy.ordinal, policy.policy));
+      if (!byGroup.isEmpty()) {
+        for (String group : actorGroups.get()) {
+          byGroup
+              .getOrDefault(group, Collections.emptyList())
+              .forEach(policy -> candidates.put(policy.ordinal, policy.policy));
+        }
+      }
+    }
+  }
+}
@@ -15,6 +15,8 @@ import com.linkedin.entity.client.EntityClient;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,33 +38,55 @@ public class DataPlatformInstanceFieldResolverProvider implements EntityFieldRes
     return FieldResolver.getResolverFromFunction(entitySpec, this::getDataPlatformInstance);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(DATA_PLATFORM_INSTANCE_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return FieldResolver.getResolverFromFunction(
+        entitySpec, spec -> getDataPlatformInstance(spec, entityResponse));
+  }
+
   private FieldResolver.FieldValue getDataPlatformInstance(EntitySpec entitySpec) {
     Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
-    // In the case that the entity is a platform instance, the associated platform instance entity
-    // is the instance itself
     if (entityUrn.getEntityType().equals(DATA_PLATFORM_INSTANCE_ENTITY_NAME)) {
-      return FieldResolver.FieldValue.builder()
-          .values(Collections.singleton(entityUrn.toString()))
-          .build();
+      return getDataPlatformInstance(entitySpec, null);
     }
 
-    EnvelopedAspect dataPlatformInstanceAspect;
+    EntityResponse response;
     try {
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(DATA_PLATFORM_INSTANCE_ASPECT_NAME),
               _systemAuthentication);
-      if (response == null
-          || !response.getAspects().containsKey(DATA_PLATFORM_INSTANCE_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      dataPlatformInstanceAspect = response.getAspects().get(DATA_PLATFORM_INSTANCE_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving platform instance aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getDataPlatformInstance(entitySpec, response);
+  }
+
+  private FieldResolver.FieldValue getDataPlatformInstance(
+      EntitySpec entitySpec, @Nullable EntityResponse response) {
+    Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
+    // In the case that the entity is a platform instance, the associated platform instance entity
+    // is the instance itself
+    if (entityUrn.getEntityType().equals(DATA_PLATFORM_INSTANCE_ENTITY_NAME)) {
+      return FieldResolver.FieldValue.builder()
+          .values(Collections.singleton(entityUrn.toString()))
+          .build();
+    }
+    if (response == null
+        || !response.getAspects().containsKey(DATA_PLATFORM_INSTANCE_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    EnvelopedAspect dataPlatformInstanceAspect =
+        response.getAspects().get(DATA_PLATFORM_INSTANCE_ASPECT_NAME);
     DataPlatformInstance dataPlatformInstance =
         new DataPlatformInstance(dataPlatformInstanceAspect.getValue().data());
     if (dataPlatformInstance.getInstance() == null) {
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,6 +42,18 @@ public class DomainFieldResolverProvider implements EntityFieldResolverProvider
     return FieldResolver.getResolverFromFunction(entitySpec, this::getDomains);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(DOMAINS_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return FieldResolver.getResolverFromFunction(
+        entitySpec, spec -> getDomains(spec, entityResponse));
+  }
+
   private Set<Urn> getBatchedParentDomains(@Nonnull final Set<Urn> urns) {
     final Set<Urn> parentUrns = new HashSet<>();
 
@@ -81,29 +94,38 @@ public class DomainFieldResolverProvider implements EntityFieldResolverProvider
 
   private FieldResolver.FieldValue getDomains(EntitySpec entitySpec) {
     final Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
-    // In the case that the entity is a domain, the associated domain is the domain itself
     if (entityUrn.getEntityType().equals(DOMAIN_ENTITY_NAME)) {
-      return FieldResolver.FieldValue.builder()
-          .values(Collections.singleton(entityUrn.toString()))
-          .build();
+      return getDomains(entitySpec, null);
     }
 
-    final EnvelopedAspect domainsAspect;
+    final EntityResponse response;
     try {
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(DOMAINS_ASPECT_NAME),
               _systemAuthentication);
-      if (response == null || !response.getAspects().containsKey(DOMAINS_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      domainsAspect = response.getAspects().get(DOMAINS_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving domains aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getDomains(entitySpec, response);
+  }
+
+  private FieldResolver.FieldValue getDomains(
+      EntitySpec entitySpec, @Nullable EntityResponse response) {
+    final Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
+    // In the case that the entity is a domain, the associated domain is the domain itself
+    if (entityUrn.getEntityType().equals(DOMAIN_ENTITY_NAME)) {
+      return FieldResolver.FieldValue.builder()
+          .values(Collections.singleton(entityUrn.toString()))
+          .build();
+    }
+    if (response == null || !response.getAspects().containsKey(DOMAINS_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    final EnvelopedAspect domainsAspect = response.getAspects().get(DOMAINS_ASPECT_NAME);
 
     /*
      * Build up a set of all directly referenced domains and any of the domains' parent domains.
@@ -3,7 +3,11 @@ package com.datahub.authorization.fieldresolverprovider;
 import com.datahub.authorization.EntityFieldType;
 import com.datahub.authorization.EntitySpec;
 import com.datahub.authorization.FieldResolver;
+import com.linkedin.entity.EntityResponse;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
 
 /** Base class for defining a class that provides the field resolver for the given field type */
 public interface EntityFieldResolverProvider {
@@ -17,4 +21,22 @@ public interface EntityFieldResolverProvider {
 
   /** Return resolver for fetching the field values given the entity */
   FieldResolver getFieldResolver(EntitySpec entitySpec);
+
+  /**
+   * Aspects of the entity the field values are resolved from, fetched in batch for many entities
+   * before calling {@link #getFieldResolver(EntitySpec, EntityResponse)}. Empty if the field values
+   * are not resolved from the aspects of the entity.
+   */
+  default Set<String> getAspectNames() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Return resolver for the field values given the entity and its prefetched aspects, null if the
+   * entity has none of the aspects.
+   */
+  default FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return getFieldResolver(entitySpec);
+  }
 }
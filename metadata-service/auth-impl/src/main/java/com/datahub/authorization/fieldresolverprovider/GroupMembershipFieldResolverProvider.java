@@ -19,7 +19,9 @@ import com.linkedin.metadata.Constants;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class GroupMembershipFieldResolverProvider implements EntityFieldResolverProvider {
 
+  private static final Set<String> GROUP_MEMBERSHIP_ASPECT_NAMES =
+      ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME);
+
   private final EntityClient _entityClient;
   private final Authentication _systemAuthentication;
 
@@ -41,42 +46,56 @@ public class GroupMembershipFieldResolverProvider implements EntityFieldResolver
     return FieldResolver.getResolverFromFunction(entitySpec, this::getGroupMembership);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return GROUP_MEMBERSHIP_ASPECT_NAMES;
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return FieldResolver.getResolverFromFunction(
+        entitySpec, spec -> getGroupMembership(entityResponse));
+  }
+
   private FieldResolver.FieldValue getGroupMembership(EntitySpec entitySpec) {
     Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
-    EnvelopedAspect groupMembershipAspect;
-    EnvelopedAspect nativeGroupMembershipAspect;
-    List<Urn> groups = new ArrayList<>();
     try {
       EntityResponse response =
           _entityClient.getV2(
               entityUrn.getEntityType(),
               entityUrn,
-              ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME),
+              GROUP_MEMBERSHIP_ASPECT_NAMES,
               _systemAuthentication);
-      if (response == null
-          || !(response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)
-              || response
-                  .getAspects()
-                  .containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME))) {
-        return FieldResolver.emptyFieldValue();
-      }
-      if (response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)) {
-        groupMembershipAspect = response.getAspects().get(Constants.GROUP_MEMBERSHIP_ASPECT_NAME);
-        GroupMembership groupMembership =
-            new GroupMembership(groupMembershipAspect.getValue().data());
-        groups.addAll(groupMembership.getGroups());
-      }
-      if (response.getAspects().containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)) {
-        nativeGroupMembershipAspect =
-            response.getAspects().get(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME);
-        NativeGroupMembership nativeGroupMembership =
-            new NativeGroupMembership(nativeGroupMembershipAspect.getValue().data());
-        groups.addAll(nativeGroupMembership.getNativeGroups());
-      }
+      return getGroupMembership(response);
     } catch (Exception e) {
       log.error("Error while retrieving group membership aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+  }
+
+  private FieldResolver.FieldValue getGroupMembership(@Nullable EntityResponse response) {
+    EnvelopedAspect groupMembershipAspect;
+    EnvelopedAspect nativeGroupMembershipAspect;
+    List<Urn> groups = new ArrayList<>();
+    if (response == null
+        || !(response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)
+            || response.getAspects().containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME))) {
+      return FieldResolver.emptyFieldValue();
+    }
+    if (response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      groupMembershipAspect = response.getAspects().get(Constants.GROUP_MEMBERSHIP_ASPECT_NAME);
+      GroupMembership groupMembership =
+          new GroupMembership(groupMembershipAspect.getValue().data());
+      groups.addAll(groupMembership.getGroups());
+    }
+    if (response.getAspects().containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      nativeGroupMembershipAspect =
+          response.getAspects().get(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME);
+      NativeGroupMembership nativeGroupMembership =
+          new NativeGroupMembership(nativeGroupMembershipAspect.getValue().data());
+      groups.addAll(nativeGroupMembership.getNativeGroups());
+    }
     return FieldResolver.FieldValue.builder()
         .values(groups.stream().map(Urn::toString).collect(Collectors.toSet()))
         .build();
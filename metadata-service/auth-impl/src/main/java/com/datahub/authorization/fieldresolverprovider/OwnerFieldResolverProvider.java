@@ -13,7 +13,9 @@ import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,24 +37,39 @@ public class OwnerFieldResolverProvider implements EntityFieldResolverProvider {
     return FieldResolver.getResolverFromFunction(entitySpec, this::getOwners);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return FieldResolver.getResolverFromFunction(entitySpec, spec -> getOwners(entityResponse));
+  }
+
   private FieldResolver.FieldValue getOwners(EntitySpec entitySpec) {
     Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
-    EnvelopedAspect ownershipAspect;
+    EntityResponse response;
     try {
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME),
               _systemAuthentication);
-      if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving domains aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getOwners(response);
+  }
+
+  private FieldResolver.FieldValue getOwners(@Nullable EntityResponse response) {
+    if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    EnvelopedAspect ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
     Ownership ownership = new Ownership(ownershipAspect.getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(
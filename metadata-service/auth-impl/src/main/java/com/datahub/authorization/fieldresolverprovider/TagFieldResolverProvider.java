@@ -13,7 +13,9 @@ import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,25 +37,40 @@ public class TagFieldResolverProvider implements EntityFieldResolverProvider {
     return FieldResolver.getResolverFromFunction(entitySpec, this::getTags);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.GLOBAL_TAGS_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      EntitySpec entitySpec, @Nullable EntityResponse entityResponse) {
+    return FieldResolver.getResolverFromFunction(entitySpec, spec -> getTags(entityResponse));
+  }
+
   private FieldResolver.FieldValue getTags(EntitySpec entitySpec) {
     Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
-    EnvelopedAspect globalTagsAspect;
+    EntityResponse response;
     try {
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(Constants.GLOBAL_TAGS_ASPECT_NAME),
               _systemAuthentication);
-      if (response == null
-          || !response.getAspects().containsKey(Constants.GLOBAL_TAGS_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      globalTagsAspect = response.getAspects().get(Constants.GLOBAL_TAGS_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving tags aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getTags(response);
+  }
+
+  private FieldResolver.FieldValue getTags(@Nullable EntityResponse response) {
+    if (response == null
+        || !response.getAspects().containsKey(Constants.GLOBAL_TAGS_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    EnvelopedAspect globalTagsAspect = response.getAspects().get(Constants.GLOBAL_TAGS_ASPECT_NAME);
     GlobalTags globalTags = new GlobalTags(globalTagsAspect.getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(
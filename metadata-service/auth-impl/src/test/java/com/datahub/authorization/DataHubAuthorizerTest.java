@@ -9,6 +9,9 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -17,6 +20,7 @@ import static org.testng.Assert.assertTrue;
 import com.datahub.authentication.Actor;
 import com.datahub.authentication.ActorType;
 import com.datahub.authentication.Authentication;
+import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -384,6 +388,106 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
   }
 
+  @Test
+  public void testUpsertPolicy() throws Exception {
+
+    EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
+
+    // Previously inactive policy.
+    AuthorizationRequest request =
+        new AuthorizationRequest(
+            "urn:li:corpuser:test", "EDIT_ENTITY_OWNERS", Optional.of(resourceSpec));
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+
+    // Activate the policy, without refreshing the cache.
+    _dataHubAuthorizer.upsertPolicy(
+        Urn.createFromString("urn:li:dataHubPolicy:1"),
+        createDataHubPolicyInfo(true, ImmutableList.of("EDIT_ENTITY_OWNERS"), null));
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+  }
+
+  @Test
+  public void testRemovePolicy() throws Exception {
+
+    EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
+
+    AuthorizationRequest request =
+        new AuthorizationRequest(
+            "urn:li:corpuser:test", "EDIT_ENTITY_TAGS", Optional.of(resourceSpec));
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+
+    // Remove the policy, without refreshing the cache.
+    _dataHubAuthorizer.removePolicy(Urn.createFromString("urn:li:dataHubPolicy:0"));
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+  }
+
+  @Test
+  public void testBatchAuthorize() throws Exception {
+    final Urn inDomainUrn = UrnUtils.getUrn("urn:li:dataset:inDomain");
+    final Urn noDomainUrn = UrnUtils.getUrn("urn:li:dataset:noDomain");
+
+    // The resources are resolved in batch.
+    when(_entityClient.batchGetV2(
+            eq("dataset"), eq(ImmutableSet.of(inDomainUrn, noDomainUrn)), any(), any()))
+        .thenReturn(
+            Map.of(
+                inDomainUrn,
+                createDomainsResponse(CHILD_DOMAIN_URN),
+                noDomainUrn,
+                new EntityResponse().setUrn(noDomainUrn).setAspects(new EnvelopedAspectMap())));
+
+    final List<AuthorizationResult> results =
+        _dataHubAuthorizer.batchAuthorize(
+            ImmutableList.of(
+                new AuthorizationRequest(
+                    "urn:li:corpuser:test",
+                    "EDIT_ENTITY_DOCS",
+                    Optional.of(new EntitySpec("dataset", inDomainUrn.toString()))),
+                new AuthorizationRequest(
+                    "urn:li:corpuser:test",
+                    "EDIT_ENTITY_DOCS",
+                    Optional.of(new EntitySpec("dataset", noDomainUrn.toString())))));
+
+    assertEquals(results.size(), 2);
+    assertEquals(results.get(0).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(results.get(1).getType(), AuthorizationResult.Type.DENY);
+    verify(_entityClient, times(1))
+        .batchGetV2(eq("dataset"), eq(ImmutableSet.of(inDomainUrn, noDomainUrn)), any(), any());
+    verify(_entityClient, never())
+        .getV2(any(), any(), eq(Collections.singleton(DOMAINS_ASPECT_NAME)), any());
+  }
+
+  @Test
+  public void testRequestScopedAuthorizer() throws Exception {
+    final EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
+    final AuthorizationRequest docsRequest =
+        new AuthorizationRequest(
+            "urn:li:corpuser:test", "EDIT_ENTITY_DOCS", Optional.of(resourceSpec));
+    final AuthorizationRequest statusRequest =
+        new AuthorizationRequest(
+            "urn:li:corpuser:test", "EDIT_ENTITY_STATUS", Optional.of(resourceSpec));
+
+    // The checks of a request share the resolved resource.
+    final Authorizer requestAuthorizer = _dataHubAuthorizer.forRequest();
+    assertEquals(
+        requestAuthorizer.authorize(docsRequest).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(
+        requestAuthorizer.authorize(statusRequest).getType(), AuthorizationResult.Type.ALLOW);
+    verify(_entityClient, times(1))
+        .getV2(any(), any(), eq(Collections.singleton(DOMAINS_ASPECT_NAME)), any());
+
+    // Another request resolves it again.
+    assertEquals(
+        _dataHubAuthorizer.forRequest().authorize(docsRequest).getType(),
+        AuthorizationResult.Type.ALLOW);
+    verify(_entityClient, times(2))
+        .getV2(any(), any(), eq(Collections.singleton(DOMAINS_ASPECT_NAME)), any());
+  }
+
   @Test
   public void testAuthorizedActorsActivePolicy() throws Exception {
     final AuthorizedActors actors =
@@ -466,6 +466,55 @@ public class PolicyEngineTest {
             any());
   }
 
+  @Test
+  public void testEvaluatePolicySharedContextResolvesRolesOnce() throws Exception {
+
+    final DataHubPolicyInfo dataHubPolicyInfo = new DataHubPolicyInfo();
+    dataHubPolicyInfo.setType(METADATA_POLICY_TYPE);
+    dataHubPolicyInfo.setState(ACTIVE_POLICY_STATE);
+    dataHubPolicyInfo.setPrivileges(new StringArray("EDIT_ENTITY_TAGS"));
+    dataHubPolicyInfo.setDisplayName("My Test Display");
+    dataHubPolicyInfo.setDescription("My test display!");
+    dataHubPolicyInfo.setEditable(true);
+
+    final DataHubActorFilter actorFilter = new DataHubActorFilter();
+    final UrnArray rolesUrnArray = new UrnArray();
+    rolesUrnArray.add(Urn.createFromString("urn:li:dataHubRole:admin"));
+    actorFilter.setRoles(rolesUrnArray);
+    actorFilter.setResourceOwners(false);
+    actorFilter.setAllUsers(false);
+    actorFilter.setAllGroups(false);
+    dataHubPolicyInfo.setActors(actorFilter);
+
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter();
+    resourceFilter.setAllResources(true);
+    resourceFilter.setType("dataset");
+    dataHubPolicyInfo.setResources(resourceFilter);
+
+    // Evaluate the policy on two resources, sharing the context of the actor.
+    final PolicyEngine.PolicyEvaluationContext context =
+        new PolicyEngine.PolicyEvaluationContext();
+    for (String resourceUrn : ImmutableList.of(RESOURCE_URN, "urn:li:dataset:other")) {
+      PolicyEngine.PolicyEvaluationResult unauthorizedResult =
+          _policyEngine.evaluatePolicy(
+              dataHubPolicyInfo,
+              resolvedUnauthorizedUserSpec,
+              "EDIT_ENTITY_TAGS",
+              Optional.of(buildEntityResolvers("dataset", resourceUrn)),
+              context);
+
+      assertFalse(unauthorizedResult.isGranted());
+    }
+
+    // Verify the roles of the actor are fetched once, even though the actor has none.
+    verify(_entityClient, times(1))
+        .batchGetV2(
+            eq(CORP_USER_ENTITY_NAME),
+            eq(Collections.singleton(unauthorizedUserUrn)),
+            any(),
+            any());
+  }
+
   @Test
   public void testEvaluatePolicyActorFilterAllUsersMatch() throws Exception {
 
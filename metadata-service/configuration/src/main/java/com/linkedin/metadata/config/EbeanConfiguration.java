@@ -23,6 +23,7 @@ public class EbeanConfiguration {
   private boolean autoCreateDdl;
   private boolean postgresUseIamAuth;
   private LockingConfiguration locking;
+  private BatchGetConfiguration batchGet;
 
   public static final EbeanConfiguration testDefault =
       EbeanConfiguration.builder().locking(LockingConfiguration.testDefault).build();
@@ -43,4 +44,16 @@ public class EbeanConfiguration {
             .maximumLocks(10000)
             .build();
   }
+
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class BatchGetConfiguration {
+    /** Run the paged sub queries of a batch get concurrently */
+    private boolean parallelEnabled;
+
+    /** Upper bound for the query threads, further capped at half of the connection pool */
+    private int maxThreads;
+  }
 }
@@ -5,4 +5,5 @@ import lombok.Data;
 @Data
 public class GraphQLConfiguration {
   private GraphQLQueryConfiguration query;
+  private GraphQLDataLoaderConfiguration dataLoader;
 }
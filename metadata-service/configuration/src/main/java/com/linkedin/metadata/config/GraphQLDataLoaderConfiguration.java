@@ -0,0 +1,22 @@
+package com.linkedin.metadata.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class GraphQLDataLoaderConfiguration {
+  /** Executor of batch loads: fixed, virtual or common */
+  private String executor;
+
+  private int threadCount;
+  private int queueSize;
+
+  /** Maximum number of keys per batch load, unlimited if not positive */
+  private int maxBatchSize;
+
+  /** Maximum number of keys per batch load by GraphQL type name, overriding maxBatchSize */
+  private Map<String, Integer> maxBatchSizes = new HashMap<>();
+
+  private boolean cachingEnabled;
+}
@@ -6,4 +6,6 @@ import lombok.Data;
 public class GraphQLQueryConfiguration {
   private int complexityLimit;
   private int depthLimit;
+  private int preparsedDocumentCacheSize;
+  private double tracingSampleRate;
 }
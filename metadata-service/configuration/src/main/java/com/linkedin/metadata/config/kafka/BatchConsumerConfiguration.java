@@ -0,0 +1,16 @@
+package com.linkedin.metadata.config.kafka;
+
+import lombok.Data;
+
+/** Settings for consumers which can optionally receive a whole poll of records at once. */
+@Data
+public class BatchConsumerConfiguration {
+
+  private boolean batchEnabled;
+
+  // Upper bound on the number of records handed to the listener per poll
+  private int maxPollRecords;
+
+  // Number of threads used to deserialize the records of a batch, where supported
+  private int parallelism;
+}
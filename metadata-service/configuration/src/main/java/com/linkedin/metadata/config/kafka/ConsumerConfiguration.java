@@ -8,4 +8,8 @@ public class ConsumerConfiguration {
   private int maxPartitionFetchBytes;
   private boolean stopOnDeserializationError;
   private boolean healthCheckEnabled;
+
+  private BatchConsumerConfiguration mcl;
+
+  private BatchConsumerConfiguration mcp;
 }
@@ -18,6 +18,22 @@ public class GraphQueryConfiguration {
    */
   private boolean boostViaNodes;
 
+  /**
+   * Number of threads running the lineage searches of a hop concurrently, the common pool is used
+   * when not positive
+   */
+  private int queryThreads;
+
+  /**
+   * Stops the lineage walk once the requested page of results was reached, skipping the remaining
+   * searches of the hop and the remaining hops. The returned total is then a lower bound of the
+   * lineage size.
+   */
+  private boolean earlyTermination;
+
+  /** Optional in-memory index of the lineage edges, answering lineage walks without searches */
+  private LineageIndexConfiguration lineageIndex = new LineageIndexConfiguration();
+
   public static GraphQueryConfiguration testDefaults;
 
   static {
@@ -27,5 +43,21 @@ public class GraphQueryConfiguration {
     testDefaults.setMaxResult(10000);
     testDefaults.setEnableMultiPathSearch(true);
     testDefaults.setBoostViaNodes(true);
+    testDefaults.setQueryThreads(4);
+  }
+
+  @Data
+  public static class LineageIndexConfiguration {
+    private boolean enabled;
+
+    /**
+     * Interval of the full rebuilds from the graph index, these pick up the edges written by other
+     * instances, such as a standalone MCL consumer. Lineage walks may miss these edges for up to
+     * this interval. Not rebuilt periodically when not positive.
+     */
+    private long refreshIntervalSeconds = 60;
+
+    /** Number of edges read per search while building */
+    private int loadBatchSize = 10000;
   }
 }
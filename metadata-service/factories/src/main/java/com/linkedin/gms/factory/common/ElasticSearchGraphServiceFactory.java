@@ -3,12 +3,16 @@ package com.linkedin.gms.factory.common;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
 import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
 import com.linkedin.metadata.graph.elastic.ESGraphWriteDAO;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
+import com.linkedin.metadata.graph.elastic.LineageAdjacencyIndex;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.spring.YamlPropertySourceFactory;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -35,6 +39,25 @@ public class ElasticSearchGraphServiceFactory {
   @Nonnull
   protected ElasticSearchGraphService getInstance() {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
+    GraphQueryConfiguration graphConfiguration =
+        configurationProvider.getElasticSearch().getSearch().getGraph();
+    LineageAdjacencyIndex lineageIndex =
+        graphConfiguration.getLineageIndex().isEnabled()
+            ? new LineageAdjacencyIndex(lineageRegistry, graphConfiguration.getLineageIndex())
+            : null;
+    ESGraphQueryDAO graphQueryDAO =
+        new ESGraphQueryDAO(
+            components.getSearchClient(),
+            lineageRegistry,
+            components.getIndexConvention(),
+            graphConfiguration,
+            lineageIndex);
+    if (lineageIndex != null) {
+      List<String> relationshipTypes = new ArrayList<>(lineageIndex.getRelationshipTypes());
+      int loadBatchSize = graphConfiguration.getLineageIndex().getLoadBatchSize();
+      lineageIndex.start(
+          consumer -> graphQueryDAO.scrollEdges(relationshipTypes, loadBatchSize, consumer));
+    }
     return new ElasticSearchGraphService(
         lineageRegistry,
         components.getBulkProcessor(),
@@ -43,11 +66,8 @@ public class ElasticSearchGraphServiceFactory {
             components.getIndexConvention(),
             components.getBulkProcessor(),
             components.getNumRetries()),
-        new ESGraphQueryDAO(
-            components.getSearchClient(),
-            lineageRegistry,
-            components.getIndexConvention(),
-            configurationProvider.getElasticSearch().getSearch().getGraph()),
-        components.getIndexBuilder());
+        graphQueryDAO,
+        components.getIndexBuilder(),
+        lineageIndex);
   }
 }
@@ -28,11 +28,14 @@ public class Neo4jGraphServiceFactory {
   @Value("${neo4j.database}")
   private String neo4jDatabase;
 
+  @Value("${neo4j.writeBatchSize:" + Neo4jGraphService.DEFAULT_WRITE_BATCH_SIZE + "}")
+  private int writeBatchSize;
+
   @Bean(name = "neo4jGraphService")
   @Nonnull
   protected Neo4jGraphService getInstance() {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
     return new Neo4jGraphService(
-        lineageRegistry, neo4jDriver, SessionConfig.forDatabase(neo4jDatabase));
+        lineageRegistry, neo4jDriver, SessionConfig.forDatabase(neo4jDatabase), writeBatchSize);
   }
 }
@@ -0,0 +1,63 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.entity.CachingAspectDao;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.Topics;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * Invalidates the local aspect cache for writes made by other instances. Every instance consumes
+ * the versioned MetadataChangeLog topic with a consumer group of its own, named after the host, so
+ * each one sees every change. The group is kept across restarts, a new group starts at the latest
+ * offset. Registered by {@link EntityAspectDaoFactory} when the cache is enabled.
+ */
+@Slf4j
+public class AspectCacheInvalidationListener {
+
+  private static final String CONSUMER_GROUP_ID =
+      "#{'${entityService.aspectCache.invalidationConsumerGroupPrefix:aspect-cache-invalidation}-'"
+          + " + T(java.net.InetAddress).getLocalHost().getHostName()}";
+
+  private final CachingAspectDao cachingAspectDao;
+
+  public AspectCacheInvalidationListener(@Nonnull CachingAspectDao cachingAspectDao) {
+    this.cachingAspectDao = cachingAspectDao;
+  }
+
+  @KafkaListener(
+      id = "aspect-cache-invalidation",
+      groupId = CONSUMER_GROUP_ID,
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"
+      },
+      containerFactory = "kafkaEventConsumer",
+      concurrency = "1",
+      properties = {"auto.offset.reset=latest"})
+  public void invalidate(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final GenericRecord record = consumerRecord.value();
+    if (record == null) {
+      return;
+    }
+
+    // Only the keys are needed, skip the conversion to a MetadataChangeLog
+    final Object entityUrn = record.get("entityUrn");
+    if (entityUrn == null) {
+      return;
+    }
+    final Object aspectName = record.get("aspectName");
+    final String changeType = Objects.toString(record.get("changeType"), null);
+    if (aspectName == null || ChangeType.DELETE.name().equals(changeType)) {
+      // Deleting a key aspect removes every aspect of the entity
+      cachingAspectDao.invalidateUrn(entityUrn.toString());
+    } else {
+      cachingAspectDao.invalidate(entityUrn.toString(), aspectName.toString());
+    }
+    MetricUtils.counter(this.getClass(), "invalidation").inc();
+  }
+}
@@ -3,25 +3,45 @@ package com.linkedin.gms.factory.entity;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.Database;
 import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.kafka.annotation.EnableKafka;
 
 @Configuration
+@EnableKafka
 public class EntityAspectDaoFactory {
 
+  @Value("${entityService.aspectCache.enabled:false}")
+  private boolean aspectCacheEnabled;
+
+  @Value("${entityService.aspectCache.maxEntries:100000}")
+  private long aspectCacheMaxEntries;
+
+  @Value("${entityService.aspectCache.maxWeightBytes:268435456}")
+  private long aspectCacheMaxWeightBytes;
+
+  @Value("${entityService.aspectCache.ttlSeconds:300}")
+  private long aspectCacheTtlSeconds;
+
+  @Value("${cassandra.maxConcurrentReads:64}")
+  private int cassandraMaxConcurrentReads;
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
   @Nonnull
   protected AspectDao createEbeanInstance(
       Database server, final ConfigurationProvider configurationProvider) {
-    return new EbeanAspectDao(server, configurationProvider.getEbean());
+    return withAspectCache(new EbeanAspectDao(server, configurationProvider.getEbean()));
   }
 
   @Bean(name = "entityAspectDao")
@@ -29,6 +49,23 @@ public class EntityAspectDaoFactory {
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
   protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+    return withAspectCache(new CassandraAspectDao(session, cassandraMaxConcurrentReads));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "entityService.aspectCache.enabled", havingValue = "true")
+  @Nonnull
+  protected AspectCacheInvalidationListener aspectCacheInvalidationListener(
+      @Qualifier("entityAspectDao") AspectDao aspectDao) {
+    return new AspectCacheInvalidationListener((CachingAspectDao) aspectDao);
+  }
+
+  @Nonnull
+  private AspectDao withAspectCache(@Nonnull AspectDao aspectDao) {
+    if (!aspectCacheEnabled) {
+      return aspectDao;
+    }
+    return new CachingAspectDao(
+        aspectDao, aspectCacheMaxEntries, aspectCacheMaxWeightBytes, aspectCacheTtlSeconds);
   }
 }
@@ -5,11 +5,13 @@ import com.linkedin.metadata.aspect.CachingAspectRetriever;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -57,7 +59,8 @@ public class UpdateIndicesServiceFactory {
       final SystemMetadataService systemMetadataService,
       final SearchDocumentTransformer searchDocumentTransformer,
       final EntityIndexBuilders entityIndexBuilders,
-      final EntityService<?> entityService) {
+      final EntityService<?> entityService,
+      final ObjectProvider<EntityDocCountCache> entityDocCountCache) {
 
     UpdateIndicesService updateIndicesService =
         new UpdateIndicesService(
@@ -70,6 +73,8 @@ public class UpdateIndicesServiceFactory {
 
     updateIndicesService.initializeAspectRetriever(entityService);
     entityService.setUpdateIndicesService(updateIndicesService);
+    // The counts of the search service of this instance, when it serves search
+    updateIndicesService.setEntityDocCountCache(entityDocCountCache.getIfAvailable());
 
     return updateIndicesService;
   }
@@ -9,6 +9,7 @@ import com.datahub.authorization.role.RoleService;
 import com.linkedin.datahub.graphql.GmsGraphQLEngine;
 import com.linkedin.datahub.graphql.GmsGraphQLEngineArgs;
 import com.linkedin.datahub.graphql.GraphQLEngine;
+import com.linkedin.datahub.graphql.LoadableTypeDataLoaders;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.entity.client.SystemEntityClient;
@@ -20,6 +21,7 @@ import com.linkedin.gms.factory.common.SiblingGraphServiceFactory;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.recommendation.RecommendationServiceFactory;
+import com.linkedin.metadata.config.GraphQLDataLoaderConfiguration;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphClient;
 import com.linkedin.metadata.graph.GraphService;
@@ -41,7 +43,9 @@ import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.RestliUsageClient;
 import io.datahubproject.metadata.services.RestrictedService;
 import io.datahubproject.metadata.services.SecretService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opensearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -180,11 +184,24 @@ public class GraphQLEngineFactory {
   @Value("${platformAnalytics.enabled}") // TODO: Migrate to DATAHUB_ANALYTICS_ENABLED
   private Boolean isAnalyticsEnabled;
 
+  /** Executor of the data loader batch loads, shut down with the context. */
+  @Bean(name = "graphQLDataLoaderExecutor", destroyMethod = "shutdown")
+  @Nullable
+  protected ExecutorService graphQLDataLoaderExecutor() {
+    final GraphQLDataLoaderConfiguration dataLoaderConfiguration =
+        configProvider.getGraphQL().getDataLoader();
+    return LoadableTypeDataLoaders.buildExecutor(
+        dataLoaderConfiguration.getExecutor(),
+        dataLoaderConfiguration.getThreadCount(),
+        dataLoaderConfiguration.getQueueSize());
+  }
+
   @Bean(name = "graphQLEngine")
   @Nonnull
   protected GraphQLEngine graphQLEngine(
       @Qualifier("entityClient") final EntityClient entityClient,
-      @Qualifier("systemEntityClient") final SystemEntityClient systemEntityClient) {
+      @Qualifier("systemEntityClient") final SystemEntityClient systemEntityClient,
+      @Qualifier("graphQLDataLoaderExecutor") @Nullable final ExecutorService dataLoaderExecutor) {
     GmsGraphQLEngineArgs args = new GmsGraphQLEngineArgs();
     args.setEntityClient(entityClient);
     args.setSystemEntityClient(systemEntityClient);
@@ -229,6 +246,16 @@ public class GraphQLEngineFactory {
     args.setGraphQLQueryComplexityLimit(
         configProvider.getGraphQL().getQuery().getComplexityLimit());
     args.setGraphQLQueryDepthLimit(configProvider.getGraphQL().getQuery().getDepthLimit());
+    args.setGraphQLPreparsedDocumentCacheSize(
+        configProvider.getGraphQL().getQuery().getPreparsedDocumentCacheSize());
+    args.setGraphQLQueryTracingSampleRate(
+        configProvider.getGraphQL().getQuery().getTracingSampleRate());
+    final GraphQLDataLoaderConfiguration dataLoaderConfiguration =
+        configProvider.getGraphQL().getDataLoader();
+    args.setDataLoaderExecutor(dataLoaderExecutor);
+    args.setDataLoaderMaxBatchSize(dataLoaderConfiguration.getMaxBatchSize());
+    args.setDataLoaderMaxBatchSizes(dataLoaderConfiguration.getMaxBatchSizes());
+    args.setDataLoaderCachingEnabled(dataLoaderConfiguration.isCachingEnabled());
     return new GmsGraphQLEngine(args).builder().build();
   }
 }
@@ -5,10 +5,12 @@ import com.linkedin.gms.factory.kafka.schemaregistry.AwsGlueSchemaRegistryFactor
 import com.linkedin.gms.factory.kafka.schemaregistry.InternalSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.KafkaSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.SchemaRegistryConfig;
+import com.linkedin.metadata.config.kafka.BatchConsumerConfiguration;
 import com.linkedin.metadata.config.kafka.KafkaConfiguration;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -23,6 +25,8 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.CommonContainerStoppingErrorHandler;
 import org.springframework.kafka.listener.CommonDelegatingErrorHandler;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
@@ -121,11 +125,7 @@ public class KafkaEventConsumerFactory {
      prevents lost messages until the error can be examined, disabling this will allow progress, but may lose data
     */
     if (configurationProvider.getKafka().getConsumer().isStopOnDeserializationError()) {
-      CommonDelegatingErrorHandler delegatingErrorHandler =
-          new CommonDelegatingErrorHandler(new DefaultErrorHandler());
-      delegatingErrorHandler.addDelegate(
-          DeserializationException.class, new CommonContainerStoppingErrorHandler());
-      factory.setCommonErrorHandler(delegatingErrorHandler);
+      factory.setCommonErrorHandler(buildDeserializationErrorHandler());
     }
     log.info(
         String.format(
@@ -135,6 +135,70 @@ public class KafkaEventConsumerFactory {
     return factory;
   }
 
+  /**
+   * Batch variant of the event consumer used by the MCL processor. Listeners receive a whole poll
+   * of records and are responsible for acknowledging it once every record has been processed, at
+   * which point the offsets are committed. Kafka auto commit is disabled for these consumers only.
+   */
+  @Bean(name = "kafkaEventBatchConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(
+      @Qualifier("kafkaConsumerFactory")
+          DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory,
+      @Qualifier("configurationProvider") ConfigurationProvider configurationProvider) {
+    return buildBatchInstance(
+        kafkaConsumerFactory,
+        configurationProvider,
+        configurationProvider.getKafka().getConsumer().getMcl());
+  }
+
+  /** Batch variant of the event consumer used by the MCP processor, see the MCL variant. */
+  @Bean(name = "mcpKafkaEventBatchConsumer")
+  protected KafkaListenerContainerFactory<?> createMcpBatchInstance(
+      @Qualifier("kafkaConsumerFactory")
+          DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory,
+      @Qualifier("configurationProvider") ConfigurationProvider configurationProvider) {
+    return buildBatchInstance(
+        kafkaConsumerFactory,
+        configurationProvider,
+        configurationProvider.getKafka().getConsumer().getMcp());
+  }
+
+  private KafkaListenerContainerFactory<?> buildBatchInstance(
+      DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory,
+      ConfigurationProvider configurationProvider,
+      BatchConsumerConfiguration batchConfig) {
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(kafkaConsumerFactory);
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(kafkaEventConsumerConcurrency);
+    factory.setBatchListener(true);
+
+    Properties consumerOverrides = new Properties();
+    consumerOverrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    consumerOverrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchConfig.getMaxPollRecords());
+    factory.getContainerProperties().setKafkaConsumerProperties(consumerOverrides);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+    if (configurationProvider.getKafka().getConsumer().isStopOnDeserializationError()) {
+      factory.setCommonErrorHandler(buildDeserializationErrorHandler());
+    }
+    log.info(
+        String.format(
+            "Event-based batch KafkaListenerContainerFactory built successfully. Consumer concurrency = %s, max poll records = %s",
+            kafkaEventConsumerConcurrency, batchConfig.getMaxPollRecords()));
+
+    return factory;
+  }
+
+  private static CommonErrorHandler buildDeserializationErrorHandler() {
+    CommonDelegatingErrorHandler delegatingErrorHandler =
+        new CommonDelegatingErrorHandler(new DefaultErrorHandler());
+    delegatingErrorHandler.addDelegate(
+        DeserializationException.class, new CommonContainerStoppingErrorHandler());
+    return delegatingErrorHandler;
+  }
+
   @Bean(name = "duheKafkaEventConsumer")
   protected KafkaListenerContainerFactory<?> duheKafkaEventConsumer(
       @Qualifier("duheKafkaConsumerFactory")
@@ -1,8 +1,15 @@
 package com.linkedin.gms.factory.search;
 
+import static com.linkedin.metadata.search.client.CachingEntitySearchService.ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME;
+import static com.linkedin.metadata.search.client.CachingEntitySearchService.ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME;
+import static com.linkedin.metadata.search.client.CachingEntitySearchService.ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME;
+import static com.linkedin.metadata.search.client.CachingEntitySearchService.ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME;
+
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.CacheValueCodec;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.spring.YamlPropertySourceFactory;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -29,11 +36,40 @@ public class CachingEntitySearchServiceFactory {
   @Value("${searchService.enableCache}")
   private Boolean enableCache;
 
+  @Value("${searchService.cache.codec.search:json}")
+  private String searchCodec;
+
+  @Value("${searchService.cache.codec.autoComplete:json}")
+  private String autoCompleteCodec;
+
+  @Value("${searchService.cache.codec.browse:json}")
+  private String browseCodec;
+
+  @Value("${searchService.cache.codec.scroll:json}")
+  private String scrollCodec;
+
+  // The idle expiry of every cache of the cache manager, see CacheConfig
+  @Value("${cache.primary.ttlSeconds:600}")
+  private long searchCacheTtlSeconds;
+
   @Bean(name = "cachingEntitySearchService")
   @Primary
   @Nonnull
   protected CachingEntitySearchService getInstance() {
     return new CachingEntitySearchService(
-        cacheManager, entitySearchService, batchSize, enableCache);
+        cacheManager,
+        entitySearchService,
+        batchSize,
+        enableCache,
+        Map.of(
+            ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME,
+            CacheValueCodec.fromString(searchCodec),
+            ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME,
+            CacheValueCodec.fromString(autoCompleteCodec),
+            ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME,
+            CacheValueCodec.fromString(browseCodec),
+            ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME,
+            CacheValueCodec.fromString(scrollCodec)),
+        searchCacheTtlSeconds);
   }
 }
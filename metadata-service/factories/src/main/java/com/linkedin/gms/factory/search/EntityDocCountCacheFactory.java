@@ -0,0 +1,33 @@
+package com.linkedin.gms.factory.search;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import io.datahubproject.metadata.context.OperationContext;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EntityDocCountCacheFactory {
+
+  /**
+   * Shared by the search service and the updates of the search indices of this instance. Closed
+   * with the context, which stops its reconciliation thread.
+   */
+  @Bean(name = "entityDocCountCache")
+  @Nonnull
+  protected EntityDocCountCache getInstance(
+      @Qualifier("systemOperationContext") final OperationContext systemOperationContext,
+      @Qualifier("entityRegistry") final EntityRegistry entityRegistry,
+      @Qualifier("entitySearchService") final EntitySearchService entitySearchService,
+      final ConfigurationProvider configurationProvider) {
+    return new EntityDocCountCache(
+        systemOperationContext,
+        entityRegistry,
+        entitySearchService,
+        configurationProvider.getCache().getHomepage().getEntityCounts());
+  }
+}
@@ -1,8 +1,5 @@
 package com.linkedin.gms.factory.search;
 
-import com.linkedin.gms.factory.config.ConfigurationProvider;
-import com.linkedin.metadata.models.registry.EntityRegistry;
-import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
@@ -13,20 +10,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 
 @Configuration
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import(EntityDocCountCacheFactory.class)
 public class SearchServiceFactory {
 
   @Autowired
-  @Qualifier("entityRegistry")
-  private EntityRegistry entityRegistry;
-
-  @Autowired
-  @Qualifier("entitySearchService")
-  private EntitySearchService entitySearchService;
+  @Qualifier("entityDocCountCache")
+  private EntityDocCountCache entityDocCountCache;
 
   @Autowired
   @Qualifier("cachingEntitySearchService")
@@ -39,13 +34,7 @@ public class SearchServiceFactory {
   @Bean(name = "searchService")
   @Primary
   @Nonnull
-  protected SearchService getInstance(ConfigurationProvider configurationProvider) {
-    return new SearchService(
-        new EntityDocCountCache(
-            entityRegistry,
-            entitySearchService,
-            configurationProvider.getCache().getHomepage().getEntityCounts()),
-        cachingEntitySearchService,
-        searchRanker);
+  protected SearchService getInstance() {
+    return new SearchService(entityDocCountCache, cachingEntitySearchService, searchRanker);
   }
 }
@@ -4,6 +4,7 @@ import static com.linkedin.metadata.Constants.*;
 
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.linkedin.data.codec.AbstractJacksonDataCodec;
+import com.linkedin.metadata.filter.GzipRequestFilter;
 import com.linkedin.metadata.filter.RestliLoggingFilter;
 import com.linkedin.parseq.Engine;
 import com.linkedin.parseq.EngineBuilder;
@@ -66,8 +67,10 @@ public class RAPServletFactory {
     config.addFilter(new RestliLoggingFilter());
 
     RestLiServer restLiServer = new RestLiServer(config, springInjectResourceFactory, parseqEngine);
+    // Inflates gzip request bodies, responses are not compressed
     return new RAPJakartaServlet(
         new FilterChainDispatcher(
-            new DelegatingTransportDispatcher(restLiServer, restLiServer), FilterChains.empty()));
+            new DelegatingTransportDispatcher(restLiServer, restLiServer),
+            FilterChains.createRestChain(new GzipRequestFilter())));
   }
 }
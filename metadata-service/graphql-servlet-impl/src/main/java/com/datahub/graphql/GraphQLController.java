@@ -139,7 +139,9 @@ public class GraphQLController {
           try {
             submitMetrics(executionResult);
             // Remove tracing from response to reduce bulk, not used by the frontend
-            executionResult.getExtensions().remove("tracing");
+            if (executionResult.getExtensions() != null) {
+              executionResult.getExtensions().remove("tracing");
+            }
             String responseBodyStr =
                 new ObjectMapper().writeValueAsString(executionResult.toSpecification());
             return new ResponseEntity<>(responseBodyStr, HttpStatus.OK);
@@ -191,7 +193,11 @@ public class GraphQLController {
     try {
       observeErrors(executionResult);
       MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "call")).inc();
-      Object tracingInstrumentation = executionResult.getExtensions().get("tracing");
+      // Only sampled executions are traced
+      Object tracingInstrumentation =
+          executionResult.getExtensions() != null
+              ? executionResult.getExtensions().get("tracing")
+              : null;
       if (tracingInstrumentation instanceof Map) {
         Map<String, Object> tracingMap = (Map<String, Object>) tracingInstrumentation;
         long totalDuration = TimeUnit.NANOSECONDS.toMillis((long) tracingMap.get("duration"));
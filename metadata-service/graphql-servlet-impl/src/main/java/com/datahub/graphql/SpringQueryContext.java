@@ -28,7 +28,9 @@ public class SpringQueryContext implements QueryContext {
       Map<String, Object> variables) {
     this.isAuthenticated = isAuthenticated;
     this.authentication = authentication;
-    this.authorizer = authorizer;
+    // Scoped to the query and shared with its operation context, so that all the authorization
+    // checks of the query share what they resolve
+    this.authorizer = authorizer.forRequest();
 
     String queryName =
         new Parser()
@@ -44,7 +46,7 @@ public class SpringQueryContext implements QueryContext {
         OperationContext.asSession(
             systemOperationContext,
             RequestContext.builder().buildGraphql(queryName, variables),
-            authorizer,
+            this.authorizer,
             authentication,
             true);
   }
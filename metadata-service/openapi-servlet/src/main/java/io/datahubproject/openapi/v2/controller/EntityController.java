@@ -13,6 +13,7 @@ import com.datahub.authorization.AuthUtil;
 import com.datahub.authorization.AuthorizerChain;
 import com.datahub.util.RecordUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.ByteString;
@@ -50,6 +51,9 @@ import io.datahubproject.openapi.v2.models.GenericEntity;
 import io.datahubproject.openapi.v2.models.GenericScrollResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -59,12 +63,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
@@ -84,9 +95,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/v2/entity")
 @Slf4j
-public class EntityController {
+public class EntityController implements DisposableBean {
+  private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+  // Exports beyond this many wait for a thread to read their next page
+  private static final int EXPORT_THREADS = 8;
   private static final SearchFlags DEFAULT_SEARCH_FLAGS =
       new SearchFlags().setFulltext(false).setSkipAggregates(true).setSkipHighlighting(true);
+  // Searches and hydrates the page following the one being written by each export
+  private final ExecutorService exportExecutor =
+      Executors.newFixedThreadPool(
+          EXPORT_THREADS,
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("entity-export-%d").build());
   @Autowired private EntityRegistry entityRegistry;
   @Autowired private SearchService searchService;
   @Autowired private EntityService<?> entityService;
@@ -97,6 +116,11 @@ public class EntityController {
   @Autowired
   private OperationContext systemOperationContext;
 
+  @Override
+  public void destroy() {
+    exportExecutor.shutdownNow();
+  }
+
   @Tag(name = "Generic Entities", description = "API for interacting with generic entities.")
   @GetMapping(value = "/{entityName}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Scroll entities")
@@ -155,6 +179,105 @@ public class EntityController {
             .build());
   }
 
+  /**
+   * Streams every matching entity as one JSON object per line. The next scroll page is searched
+   * and hydrated while the current one is written, so at most two pages are held in memory and a
+   * slow reader slows the export down instead of buffering it. When a page after the first one
+   * fails the response is already committed, the export then ends with an error record: a line
+   * with a single "error" field.
+   */
+  @Tag(name = "Generic Entities")
+  @GetMapping(value = "/export/{entityName}", produces = NDJSON_MEDIA_TYPE)
+  @Operation(summary = "Export entities as newline delimited JSON")
+  public void exportEntities(
+      @PathVariable("entityName") String entityName,
+      @RequestParam(value = "aspectNames", defaultValue = "") Set<String> aspectNames,
+      @RequestParam(value = "count", defaultValue = "100") Integer count,
+      @RequestParam(value = "query", defaultValue = "*") String query,
+      @RequestParam(value = "systemMetadata", required = false, defaultValue = "false")
+          Boolean withSystemMetadata,
+      HttpServletResponse response)
+      throws IOException {
+
+    EntitySpec entitySpec = entityRegistry.getEntitySpec(entityName);
+    Authentication authentication = AuthenticationContext.getAuthentication();
+
+    if (!AuthUtil.isAPIAuthorizedEntityType(authentication, authorizationChain, READ, entityName)) {
+      throw new UnauthorizedException(
+          authentication.getActor().toUrnStr() + " is unauthorized to " + READ + "  entities.");
+    }
+
+    OperationContext opContext =
+        OperationContext.asSession(
+            systemOperationContext,
+            RequestContext.builder().buildOpenapi("exportEntities", entityName),
+            authorizationChain,
+            authentication,
+            true);
+
+    // Scrolling by urn keeps the order stable while the index is being updated
+    Function<String, ExportPage> readPage =
+        scrollId -> {
+          ScrollResult result =
+              searchService.scrollAcrossEntities(
+                  opContext.withSearchFlags(flags -> DEFAULT_SEARCH_FLAGS),
+                  List.of(entitySpec.getName()),
+                  query,
+                  null,
+                  SearchUtil.sortBy("urn", SortOrder.ASCENDING),
+                  scrollId,
+                  null,
+                  count);
+          if (!AuthUtil.isAPIAuthorizedResult(authentication, authorizationChain, result)) {
+            throw new UnauthorizedException(
+                authentication.getActor().toUrnStr()
+                    + " is unauthorized to "
+                    + READ
+                    + " entities.");
+          }
+          return new ExportPage(
+              result.getScrollId(), hydrate(result, aspectNames, withSystemMetadata));
+        };
+
+    // The first page is read before responding, so that its errors get a proper status
+    ExportPage current = readPage.apply(null);
+
+    response.setContentType(NDJSON_MEDIA_TYPE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    OutputStream out = response.getOutputStream();
+    while (current != null) {
+      final String scrollId = current.getScrollId();
+      final Future<ExportPage> next =
+          scrollId == null ? null : exportExecutor.submit(() -> readPage.apply(scrollId));
+      try {
+        for (GenericEntity entity : current.getEntities()) {
+          out.write(objectMapper.writeValueAsBytes(entity));
+          out.write('\n');
+        }
+        out.flush();
+      } catch (IOException e) {
+        // The client went away, there is no one left to read the next page
+        if (next != null) {
+          next.cancel(true);
+        }
+        throw e;
+      }
+
+      try {
+        current = next == null ? null : next.get();
+      } catch (ExecutionException e) {
+        log.error("Export of {} entities failed", entityName, e.getCause());
+        writeExportError(out);
+        return;
+      } catch (InterruptedException e) {
+        next.cancel(true);
+        Thread.currentThread().interrupt();
+        writeExportError(out);
+        return;
+      }
+    }
+  }
+
   @Tag(name = "Generic Entities")
   @PostMapping(value = "/batch/{entityName}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a batch of entities")
@@ -447,6 +570,27 @@ public class EntityController {
         withSystemMetadata);
   }
 
+  private void writeExportError(OutputStream out) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(Map.of("error", "Export failed, it is incomplete")));
+    out.write('\n');
+    out.flush();
+  }
+
+  private List<GenericEntity> hydrate(
+      ScrollResult result, Set<String> aspectNames, boolean withSystemMetadata) {
+    try {
+      return toRecordTemplates(result.getEntities(), aspectNames, withSystemMetadata);
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Value
+  private static class ExportPage {
+    @Nullable String scrollId;
+    List<GenericEntity> entities;
+  }
+
   private Boolean exists(Urn urn, @Nullable String aspect) {
     return aspect == null
         ? entityService.exists(urn, true)
@@ -76,6 +76,7 @@ public class EntitiesControllerTest {
                 List.of(
                     ((Function<Transaction, List<UpdateAspectResult>>) i.getArgument(0))
                         .apply(Mockito.mock(Transaction.class))));
+    when(aspectDao.getLatestAspectsAndNextVersions(any())).thenCallRealMethod();
 
     EventProducer mockEntityEventProducer = Mockito.mock(EventProducer.class);
     PreProcessHooks preProcessHooks = new PreProcessHooks();
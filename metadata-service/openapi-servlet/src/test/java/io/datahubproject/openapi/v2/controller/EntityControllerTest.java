@@ -0,0 +1,142 @@
+package io.datahubproject.openapi.v2.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.datahub.authentication.Actor;
+import com.datahub.authentication.ActorType;
+import com.datahub.authentication.Authentication;
+import com.datahub.authentication.AuthenticationContext;
+import com.datahub.authorization.AuthorizationResult;
+import com.datahub.authorization.AuthorizerChain;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.ScrollResult;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchService;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class EntityControllerTest {
+  private static final String DATASET_URN_1 =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,first,PROD)";
+  private static final String DATASET_URN_2 =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,second,PROD)";
+
+  private EntityController entityController;
+  private SearchService searchService;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    EntitySpec datasetSpec = mock(EntitySpec.class);
+    when(datasetSpec.getName()).thenReturn("dataset");
+    when(datasetSpec.getKeyAspectName()).thenReturn("datasetKey");
+    EntityRegistry entityRegistry = mock(EntityRegistry.class);
+    when(entityRegistry.getEntitySpec("dataset")).thenReturn(datasetSpec);
+
+    EntityService<?> entityService = mock(EntityService.class);
+    when(entityService.getLatestEnvelopedAspects(anySet(), anySet())).thenReturn(Map.of());
+
+    AuthorizerChain authorizerChain = mock(AuthorizerChain.class);
+    when(authorizerChain.authorize(any()))
+        .thenReturn(new AuthorizationResult(null, AuthorizationResult.Type.ALLOW, ""));
+    AuthenticationContext.setAuthentication(
+        new Authentication(new Actor(ActorType.USER, "datahub"), ""));
+
+    searchService = mock(SearchService.class);
+    entityController = new EntityController();
+    ReflectionTestUtils.setField(entityController, "entityRegistry", entityRegistry);
+    ReflectionTestUtils.setField(entityController, "searchService", searchService);
+    ReflectionTestUtils.setField(entityController, "entityService", entityService);
+    ReflectionTestUtils.setField(entityController, "authorizationChain", authorizerChain);
+    ReflectionTestUtils.setField(entityController, "objectMapper", objectMapper);
+    ReflectionTestUtils.setField(
+        entityController,
+        "systemOperationContext",
+        TestOperationContexts.systemContextNoSearchAuthorization());
+  }
+
+  @AfterMethod
+  public void teardown() {
+    entityController.destroy();
+  }
+
+  @Test
+  public void testExportWritesEveryPage() throws Exception {
+    when(searchService.scrollAcrossEntities(
+            any(), any(), any(), any(), any(), isNull(), any(), anyInt()))
+        .thenReturn(scrollResult("second-page", DATASET_URN_1));
+    when(searchService.scrollAcrossEntities(
+            any(), any(), any(), any(), any(), eq("second-page"), any(), anyInt()))
+        .thenReturn(scrollResult(null, DATASET_URN_2));
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    entityController.exportEntities("dataset", Set.of("status"), 1, "*", false, response);
+
+    assertEquals(response.getContentType(), "application/x-ndjson;charset=UTF-8");
+    List<JsonNode> lines = readLines(response);
+    assertEquals(lines.size(), 2);
+    assertEquals(lines.get(0).get("urn").asText(), DATASET_URN_1);
+    assertEquals(lines.get(1).get("urn").asText(), DATASET_URN_2);
+  }
+
+  @Test
+  public void testExportEndsWithErrorRecordWhenLaterPageFails() throws Exception {
+    when(searchService.scrollAcrossEntities(
+            any(), any(), any(), any(), any(), isNull(), any(), anyInt()))
+        .thenReturn(scrollResult("second-page", DATASET_URN_1));
+    when(searchService.scrollAcrossEntities(
+            any(), any(), any(), any(), any(), eq("second-page"), any(), anyInt()))
+        .thenThrow(new IllegalStateException("search unavailable"));
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    entityController.exportEntities("dataset", Set.of("status"), 1, "*", false, response);
+
+    List<JsonNode> lines = readLines(response);
+    assertEquals(lines.size(), 2);
+    assertEquals(lines.get(0).get("urn").asText(), DATASET_URN_1);
+    assertEquals(lines.get(1).size(), 1);
+    assertEquals(lines.get(1).get("error").asText(), "Export failed, it is incomplete");
+  }
+
+  private static ScrollResult scrollResult(String scrollId, String... urns) {
+    SearchEntityArray entities = new SearchEntityArray();
+    for (String urn : urns) {
+      entities.add(new SearchEntity().setEntity(UrnUtils.getUrn(urn)));
+    }
+    ScrollResult result =
+        new ScrollResult().setEntities(entities).setNumEntities(urns.length).setPageSize(1);
+    if (scrollId != null) {
+      result.setScrollId(scrollId);
+    }
+    return result;
+  }
+
+  private List<JsonNode> readLines(MockHttpServletResponse response) throws Exception {
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : response.getContentAsString().split("\n")) {
+      lines.add(objectMapper.readTree(line));
+    }
+    return lines;
+  }
+}
@@ -34,6 +34,7 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -558,6 +559,28 @@ public interface EntityClient {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Synchronously ingests the proposals, sharing a single database transaction where the client
+   * supports it. Unlike {@link #batchIngestProposals}, a failed proposal does not stop the others
+   * from being ingested, and no proposal is written twice. By default, the proposals are ingested
+   * one at a time.
+   *
+   * @return the exception each failed proposal failed with, keyed by its index in the list
+   */
+  default Map<Integer, Exception> ingestProposalBatch(
+      @Nonnull final List<MetadataChangeProposal> metadataChangeProposals,
+      @Nonnull final Authentication authentication) {
+    final Map<Integer, Exception> failures = new LinkedHashMap<>();
+    for (int i = 0; i < metadataChangeProposals.size(); i++) {
+      try {
+        ingestProposal(metadataChangeProposals.get(i), authentication, false);
+      } catch (Exception e) {
+        failures.put(i, e);
+      }
+    }
+    return failures;
+  }
+
   @Deprecated
   <T extends RecordTemplate> Optional<T> getVersionedAspect(
       @Nonnull String urn,
@@ -10,6 +10,7 @@ import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -109,6 +110,11 @@ public interface SystemEntityClient extends EntityClient {
     return ingestProposal(metadataChangeProposal, getSystemAuthentication(), async);
   }
 
+  default Map<Integer, Exception> ingestProposalBatch(
+      @Nonnull final List<MetadataChangeProposal> metadataChangeProposals) {
+    return ingestProposalBatch(metadataChangeProposals, getSystemAuthentication());
+  }
+
   default void setWritable(boolean canWrite) throws RemoteInvocationException {
     setWritable(canWrite, getSystemAuthentication());
   }
@@ -0,0 +1,57 @@
+package com.linkedin.metadata.filter;
+
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestStatus;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inflates gzip encoded request bodies, such as the proposal batches of the Java RestEmitter.
+ *
+ * <p>Unlike the r2 ServerCompressionFilter it leaves responses untouched, so clients sending an
+ * Accept-Encoding header keep receiving uncompressed responses.
+ */
+@Slf4j
+public class GzipRequestFilter implements RestFilter {
+
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String GZIP = "gzip";
+
+  @Override
+  public void onRestRequest(
+      RestRequest req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter) {
+    final String encoding = req.getHeader(CONTENT_ENCODING);
+    if (encoding == null || !GZIP.equalsIgnoreCase(encoding.trim())) {
+      nextFilter.onRequest(req, requestContext, wireAttrs);
+      return;
+    }
+
+    final byte[] entity;
+    try (InputStream inflater = new GZIPInputStream(req.getEntity().asInputStream())) {
+      entity = inflater.readAllBytes();
+    } catch (IOException e) {
+      log.warn("Failed to inflate the gzip request body of {}", req.getURI(), e);
+      nextFilter.onError(
+          new RestException(
+              RestStatus.responseForStatus(RestStatus.BAD_REQUEST, "Invalid gzip request body")),
+          requestContext,
+          wireAttrs);
+      return;
+    }
+    nextFilter.onRequest(
+        req.builder().removeHeader(CONTENT_ENCODING).setEntity(entity).build(),
+        requestContext,
+        wireAttrs);
+  }
+}
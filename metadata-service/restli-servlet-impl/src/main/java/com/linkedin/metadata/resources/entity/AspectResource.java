@@ -51,6 +51,7 @@ import com.linkedin.util.Pair;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -67,10 +68,12 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
+  private static final String ACTION_INGEST_PROPOSAL_BATCH = "ingestProposalBatch";
   private static final String ACTION_GET_COUNT = "getCount";
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ASPECT = "aspect";
   private static final String PARAM_PROPOSAL = "proposal";
+  private static final String PARAM_PROPOSALS = "proposals";
   private static final String PARAM_START_TIME_MILLIS = "startTimeMillis";
   private static final String PARAM_END_TIME_MILLIS = "endTimeMillis";
   private static final String PARAM_LATEST_VALUE = "latestValue";
@@ -269,6 +272,76 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
         MetricRegistry.name(this.getClass(), "ingestProposal"));
   }
 
+  /** Ingests the proposals as a single batch. Returns the urns of the proposals, in order. */
+  @Action(name = ACTION_INGEST_PROPOSAL_BATCH)
+  @Nonnull
+  @WithSpan
+  public Task<String[]> ingestProposalBatch(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals,
+      @ActionParam(PARAM_ASYNC) @Optional(UNSET) String async)
+      throws URISyntaxException {
+    log.info("INGEST PROPOSAL BATCH proposals: {}", metadataChangeProposals.length);
+
+    final boolean asyncBool;
+    if (UNSET.equals(async)) {
+      asyncBool = Boolean.parseBoolean(System.getenv(ASYNC_INGEST_DEFAULT_NAME));
+    } else {
+      asyncBool = Boolean.parseBoolean(async);
+    }
+
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    final List<MetadataChangeProposal> proposals = Arrays.asList(metadataChangeProposals);
+
+    List<Pair<MetadataChangeProposal, Integer>> exceptions =
+        isAPIAuthorized(
+                authentication, _authorizer, ENTITY, _entityService.getEntityRegistry(), proposals)
+            .stream()
+            .filter(p -> p.getSecond() != HttpStatus.S_200_OK.getCode())
+            .collect(Collectors.toList());
+    if (!exceptions.isEmpty()) {
+      throw new RestLiServiceException(
+          HttpStatus.S_403_FORBIDDEN,
+          "User is unauthorized to modify entity: "
+              + exceptions.stream()
+                  .map(
+                      ex ->
+                          String.format(
+                              "HttpStatus: %s Urn: %s",
+                              ex.getSecond(), ex.getFirst().getEntityUrn()))
+                  .collect(Collectors.toList()));
+    }
+
+    String actorUrnStr = authentication.getActor().toUrnStr();
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(actorUrnStr));
+
+    return RestliUtil.toTask(
+        () -> {
+          try {
+            final AspectsBatch batch =
+                AspectsBatchImpl.builder().mcps(proposals, auditStamp, _entityService).build();
+
+            Set<IngestResult> results = _entityService.ingestProposal(batch, asyncBool);
+
+            // Update runIds, only works for existing documents, so ES document must exist
+            results.stream()
+                .filter(result -> result.isProcessedMCL() || result.isUpdate())
+                .forEach(
+                    result ->
+                        tryIndexRunId(
+                            result.getUrn(),
+                            result.getRequest().getSystemMetadata(),
+                            entitySearchService));
+            return batch.getItems().stream()
+                .map(item -> item.getUrn().toString())
+                .toArray(String[]::new);
+          } catch (ValidationException e) {
+            throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
+          }
+        },
+        MetricRegistry.name(this.getClass(), "ingestProposalBatch"));
+  }
+
   @Action(name = ACTION_GET_COUNT)
   @Nonnull
   @WithSpan
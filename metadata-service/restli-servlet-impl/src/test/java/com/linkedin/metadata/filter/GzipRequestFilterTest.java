@@ -0,0 +1,83 @@
+package com.linkedin.metadata.filter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class GzipRequestFilterTest {
+  private static final String BODY = "{\"proposals\":[]}";
+
+  private final GzipRequestFilter filter = new GzipRequestFilter();
+  private NextFilter<RestRequest, RestResponse> nextFilter;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    nextFilter = mock(NextFilter.class);
+  }
+
+  @Test
+  public void testInflatesGzipBody() throws Exception {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+    }
+    RestRequest request =
+        request().setHeader("Content-Encoding", "gzip").setEntity(compressed.toByteArray()).build();
+
+    filter.onRestRequest(request, new RequestContext(), Map.of(), nextFilter);
+
+    ArgumentCaptor<RestRequest> forwarded = ArgumentCaptor.forClass(RestRequest.class);
+    verify(nextFilter).onRequest(forwarded.capture(), any(), any());
+    assertEquals(forwarded.getValue().getEntity().asString(StandardCharsets.UTF_8), BODY);
+    assertNull(forwarded.getValue().getHeader("Content-Encoding"));
+  }
+
+  @Test
+  public void testPassesPlainBodyThrough() {
+    RestRequest request = request().setEntity(BODY.getBytes(StandardCharsets.UTF_8)).build();
+
+    filter.onRestRequest(request, new RequestContext(), Map.of(), nextFilter);
+
+    verify(nextFilter).onRequest(eq(request), any(), any());
+  }
+
+  @Test
+  public void testRejectsInvalidGzipBody() {
+    RestRequest request =
+        request()
+            .setHeader("Content-Encoding", "gzip")
+            .setEntity(BODY.getBytes(StandardCharsets.UTF_8))
+            .build();
+
+    filter.onRestRequest(request, new RequestContext(), Map.of(), nextFilter);
+
+    verify(nextFilter).onError(any(RestException.class), any(), any());
+    verify(nextFilter, never()).onRequest(any(), any(), any());
+  }
+
+  private static RestRequestBuilder request() {
+    return new RestRequestBuilder(
+            URI.create("http://localhost:8080/aspects?action=ingestProposalBatch"))
+        .setMethod("POST");
+  }
+}
@@ -0,0 +1,25 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.mxe.MetadataChangeProposal;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+
+/**
+ * Thrown once aspects have been committed to the database but some of their change logs could not
+ * be produced. Ingesting the proposals again would write them a second time.
+ */
+@Getter
+public class MCLEmissionException extends RuntimeException {
+
+  /** Proposals whose change log was not produced. */
+  @Nonnull private final List<MetadataChangeProposal> failedProposals;
+
+  public MCLEmissionException(
+      @Nonnull String message,
+      @Nonnull List<MetadataChangeProposal> failedProposals,
+      Throwable cause) {
+    super(message, cause);
+    this.failedProposals = failedProposals;
+  }
+}
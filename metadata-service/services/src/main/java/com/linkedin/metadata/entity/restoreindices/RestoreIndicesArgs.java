@@ -25,6 +25,10 @@ public class RestoreIndicesArgs implements Cloneable {
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  // Apply the change logs directly to the indices instead of producing MCLs
+  public boolean direct = false;
+  // Number of workers applying a batch to the indices in direct mode
+  public int indexingThreads = DEFAULT_NUM_THREADS;
 
   @Override
   public RestoreIndicesArgs clone() {
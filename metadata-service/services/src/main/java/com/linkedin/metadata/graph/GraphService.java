@@ -10,6 +10,7 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,21 @@ public interface GraphService {
    */
   void removeEdge(final Edge edge);
 
+  /** Adds edges to the graph, in as few writes as the implementation allows. */
+  default void addEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
+  /** Adds or updates edges of the graph, in as few writes as the implementation allows. */
+  default void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::upsertEdge);
+  }
+
+  /** Removes edges from the graph, in as few writes as the implementation allows. */
+  default void removeEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::removeEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship
    * types. Related entities can be filtered by source and destination type (use `null` for any